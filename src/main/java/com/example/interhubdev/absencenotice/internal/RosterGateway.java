@@ -1,11 +1,9 @@
 package com.example.interhubdev.absencenotice.internal;
 
 import com.example.interhubdev.student.StudentApi;
-import com.example.interhubdev.student.StudentDto;
 
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Gateway for roster (group membership) information.
@@ -19,12 +17,10 @@ final class RosterGateway {
     }
 
     Set<UUID> getStudentIdsByGroupId(UUID groupId) {
-        return studentApi.findByGroupId(groupId).stream()
-                .map(StudentDto::id)
-                .collect(Collectors.toSet());
+        return studentApi.findStudentIdsByGroupId(groupId);
     }
 
     boolean isStudentInGroup(UUID studentId, UUID groupId) {
-        return getStudentIdsByGroupId(groupId).contains(studentId);
+        return studentApi.isGroupMember(studentId, groupId);
     }
 }
@@ -4,12 +4,15 @@ import com.example.interhubdev.student.CreateStudentRequest;
 import com.example.interhubdev.student.StudentDto;
 import com.example.interhubdev.teacher.CreateTeacherRequest;
 import com.example.interhubdev.teacher.TeacherDto;
+import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserDto;
 import com.example.interhubdev.user.UserPage;
+import com.example.interhubdev.user.UserStatus;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Public API for the Account module. Manages own profile and user management (list, update, delete).
@@ -23,14 +26,22 @@ public interface AccountApi {
     Optional<UserDto> getCurrentUser(HttpServletRequest request);
 
     /**
-     * List users with cursor-based pagination. Max 30 per page.
+     * List users with keyset (cursor) pagination, ordered by id.
      * Returns plain {@link UserDto} only; no optional profile fields.
      *
      * @param cursor optional cursor (last user id from previous page); null for first page
-     * @param limit  max items (capped at 30)
+     * @param limit  max items (capped at app.account.directory.max-page-size)
+     * @param role   optional role filter; null for any
+     * @param status optional status filter; null for any
      * @return page with items and optional next cursor
      */
-    UserPage listUsers(UUID cursor, int limit);
+    UserPage listUsers(UUID cursor, int limit, Role role, UserStatus status);
+
+    /**
+     * Walk all users matching the filters in id order, page by page, passing each to the consumer.
+     * Each page is read in its own short transaction, so memory stays bounded regardless of directory size.
+     */
+    void exportUsers(Role role, UserStatus status, Consumer<UserDto> consumer);
 
     /**
      * Get user by ID (plain user, no profiles).
@@ -74,9 +85,16 @@ public interface AccountApi {
     // --------------- Teachers (read: mod/admin; edit: only owner) ---------------
 
     /**
-     * List teachers with cursor-based pagination. Items include display name.
+     * List teachers with keyset (cursor) pagination. Items include display name.
+     *
+     * @param faculty optional faculty filter; null for any
      */
-    TeacherListPage listTeachers(UUID cursor, int limit);
+    TeacherListPage listTeachers(UUID cursor, int limit, String faculty);
+
+    /**
+     * Walk all teachers matching the filter in id order, page by page (see {@link #exportUsers}).
+     */
+    void exportTeachers(String faculty, Consumer<TeacherProfileItem> consumer);
 
     /**
      * Get teacher profile by user ID. Includes display name.
@@ -95,9 +113,18 @@ public interface AccountApi {
     // --------------- Students (read: mod/admin; edit: only owner) ---------------
 
     /**
-     * List students with cursor-based pagination. Items include display name.
+     * List students with keyset (cursor) pagination. Items include display name.
+     *
+     * @param faculty   optional faculty filter; null for any
+     * @param groupName optional legacy group name filter; null for any
+     * @param groupId   optional group membership filter; null for any
+     */
+    StudentListPage listStudents(UUID cursor, int limit, String faculty, String groupName, UUID groupId);
+
+    /**
+     * Walk all students matching the filters in id order, page by page (see {@link #exportUsers}).
      */
-    StudentListPage listStudents(UUID cursor, int limit);
+    void exportStudents(String faculty, String groupName, UUID groupId, Consumer<StudentProfileItem> consumer);
 
     /**
      * Get student profile by user ID. Includes display name.
@@ -16,17 +16,22 @@ import com.example.interhubdev.teacher.TeacherDto;
 import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserDto;
 import com.example.interhubdev.user.UserPage;
+import com.example.interhubdev.user.UserStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * REST controller for account management (own profile and user management).
@@ -38,7 +43,7 @@ import java.util.UUID;
 class AccountController {
 
     private static final int DEFAULT_PAGE_SIZE = 30;
-    private static final int MAX_PAGE_SIZE = 30;
+    private static final String CSV_CONTENT_TYPE = "text/csv; charset=UTF-8";
 
     private final AccountApi accountApi;
 
@@ -66,16 +71,35 @@ class AccountController {
 
     @GetMapping("/users")
     @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
-    @Operation(summary = "List users (cursor pagination)", description = "Max 30 per page. MODERATOR, ADMIN, SUPER_ADMIN.")
+    @Operation(summary = "List users (cursor pagination)", description = "Ordered by id; pass nextCursor to get the next page. Default 30, max app.account.directory.max-page-size per page. Optional role and status filters. MODERATOR, ADMIN, SUPER_ADMIN.")
     public ResponseEntity<UserPage> listUsers(
             @RequestParam(required = false) Optional<UUID> cursor,
-            @RequestParam(required = false, defaultValue = "30") int limit
+            @RequestParam(required = false, defaultValue = "30") int limit,
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) UserStatus status
     ) {
-        int size = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
-        UserPage page = accountApi.listUsers(cursor.orElse(null), size);
+        int size = limit <= 0 ? DEFAULT_PAGE_SIZE : limit;
+        UserPage page = accountApi.listUsers(cursor.orElse(null), size, role, status);
         return ResponseEntity.ok(page);
     }
 
+    @GetMapping("/users/export")
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Export users (CSV)", description = "Streams all users matching the optional role and status filters as CSV, read page by page.")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) UserStatus status
+    ) {
+        return csv("users.csv", out -> {
+            DirectoryCsvWriter csv = new DirectoryCsvWriter(out);
+            csv.row("id", "email", "first_name", "last_name", "phone", "roles", "status", "created_at", "last_login_at");
+            accountApi.exportUsers(role, status, u -> csv.row(u.id(), u.email(), u.firstName(), u.lastName(), u.phone(),
+                    u.roles().stream().map(Role::name).collect(Collectors.joining(";")),
+                    u.status(), u.createdAt(), u.lastLoginAt()));
+            csv.flush();
+        });
+    }
+
     @GetMapping("/users/{id}")
     @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
     @Operation(summary = "Get user by ID with all role profiles", description = "Returns user and optional teacher/student profiles. List endpoint /users is unchanged.")
@@ -116,13 +140,27 @@ class AccountController {
 
     @GetMapping("/teachers")
     @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
-    @Operation(summary = "List teachers (cursor pagination)", description = "Max 30 per page. Items include display name.")
+    @Operation(summary = "List teachers (cursor pagination)", description = "Ordered by id. Default 30, max app.account.directory.max-page-size per page. Optional faculty filter. Items include display name.")
     public ResponseEntity<TeacherListPage> listTeachers(
             @RequestParam(required = false) Optional<UUID> cursor,
-            @RequestParam(required = false, defaultValue = "30") int limit
+            @RequestParam(required = false, defaultValue = "30") int limit,
+            @RequestParam(required = false) String faculty
     ) {
-        int size = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
-        return ResponseEntity.ok(accountApi.listTeachers(cursor.orElse(null), size));
+        int size = limit <= 0 ? DEFAULT_PAGE_SIZE : limit;
+        return ResponseEntity.ok(accountApi.listTeachers(cursor.orElse(null), size, faculty));
+    }
+
+    @GetMapping("/teachers/export")
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Export teachers (CSV)", description = "Streams all teachers matching the optional faculty filter as CSV, read page by page.")
+    public ResponseEntity<StreamingResponseBody> exportTeachers(@RequestParam(required = false) String faculty) {
+        return csv("teachers.csv", out -> {
+            DirectoryCsvWriter csv = new DirectoryCsvWriter(out);
+            csv.row("user_id", "teacher_id", "display_name", "faculty", "position");
+            accountApi.exportTeachers(faculty, t -> csv.row(t.profile().userId(), t.profile().teacherId(),
+                    t.displayName(), t.profile().faculty(), t.profile().position()));
+            csv.flush();
+        });
     }
 
     @GetMapping("/teachers/me")
@@ -176,13 +214,34 @@ class AccountController {
 
     @GetMapping("/students")
     @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
-    @Operation(summary = "List students (cursor pagination)", description = "Max 30 per page. Items include display name.")
+    @Operation(summary = "List students (cursor pagination)", description = "Ordered by id. Default 30, max app.account.directory.max-page-size per page. Optional faculty, groupName and groupId (membership) filters. Items include display name.")
     public ResponseEntity<StudentListPage> listStudents(
             @RequestParam(required = false) Optional<UUID> cursor,
-            @RequestParam(required = false, defaultValue = "30") int limit
+            @RequestParam(required = false, defaultValue = "30") int limit,
+            @RequestParam(required = false) String faculty,
+            @RequestParam(required = false) String groupName,
+            @RequestParam(required = false) UUID groupId
     ) {
-        int size = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
-        return ResponseEntity.ok(accountApi.listStudents(cursor.orElse(null), size));
+        int size = limit <= 0 ? DEFAULT_PAGE_SIZE : limit;
+        return ResponseEntity.ok(accountApi.listStudents(cursor.orElse(null), size, faculty, groupName, groupId));
+    }
+
+    @GetMapping("/students/export")
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Export students (CSV)", description = "Streams all students matching the optional faculty, groupName and groupId filters as CSV, read page by page.")
+    public ResponseEntity<StreamingResponseBody> exportStudents(
+            @RequestParam(required = false) String faculty,
+            @RequestParam(required = false) String groupName,
+            @RequestParam(required = false) UUID groupId
+    ) {
+        return csv("students.csv", out -> {
+            DirectoryCsvWriter csv = new DirectoryCsvWriter(out);
+            csv.row("user_id", "student_id", "display_name", "faculty", "course", "enrollment_year", "group_name");
+            accountApi.exportStudents(faculty, groupName, groupId, s -> csv.row(s.profile().userId(),
+                    s.profile().studentId(), s.displayName(), s.profile().faculty(), s.profile().course(),
+                    s.profile().enrollmentYear(), s.profile().groupName()));
+            csv.flush();
+        });
     }
 
     @GetMapping("/students/{userId}")
@@ -210,6 +269,13 @@ class AccountController {
         return ResponseEntity.ok(accountApi.updateMyStudentProfile(current.id(), body));
     }
 
+    private static ResponseEntity<StreamingResponseBody> csv(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(CSV_CONTENT_TYPE))
+                .body(body);
+    }
+
     /**
      * Resolves path segment to user UUID: "me" (case-insensitive) → current user;
      * otherwise parses as UUID. Only MODERATOR/ADMIN/SUPER_ADMIN may use a UUID other than self.
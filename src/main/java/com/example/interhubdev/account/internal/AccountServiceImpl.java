@@ -22,14 +22,18 @@ import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserApi;
 import com.example.interhubdev.user.UserDto;
 import com.example.interhubdev.user.UserPage;
+import com.example.interhubdev.user.UserStatus;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -40,22 +44,37 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 class AccountServiceImpl implements AccountApi {
 
-    private static final int MAX_PAGE_SIZE = 30;
-
     private final UserApi userApi;
     private final AuthApi authApi;
     private final StudentApi studentApi;
     private final TeacherApi teacherApi;
     private final InvitationApi invitationApi;
 
+    @Value("${app.account.directory.max-page-size:100}")
+    private int maxPageSize = 100;
+
+    @Value("${app.account.directory.export-batch-size:500}")
+    private int exportBatchSize = 500;
+
     @Override
     public Optional<UserDto> getCurrentUser(HttpServletRequest request) {
         return authApi.getCurrentUser(request);
     }
 
     @Override
-    public UserPage listUsers(UUID cursor, int limit) {
-        return userApi.listUsers(cursor, Math.min(Math.max(1, limit), MAX_PAGE_SIZE));
+    public UserPage listUsers(UUID cursor, int limit, Role role, UserStatus status) {
+        return userApi.listUsers(cursor, capPageSize(limit), role, status);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportUsers(Role role, UserStatus status, Consumer<UserDto> consumer) {
+        UUID cursor = null;
+        do {
+            UserPage page = userApi.listUsers(cursor, exportBatchSize, role, status);
+            page.items().forEach(consumer);
+            cursor = page.nextCursor();
+        } while (cursor != null);
     }
 
     @Override
@@ -223,9 +242,23 @@ class AccountServiceImpl implements AccountApi {
     }
 
     @Override
-    public TeacherListPage listTeachers(UUID cursor, int limit) {
-        int capped = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
-        TeacherPage page = teacherApi.listTeachers(cursor, capped);
+    public TeacherListPage listTeachers(UUID cursor, int limit, String faculty) {
+        return teacherPage(cursor, capPageSize(limit), faculty);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportTeachers(String faculty, Consumer<TeacherProfileItem> consumer) {
+        UUID cursor = null;
+        do {
+            TeacherListPage page = teacherPage(cursor, exportBatchSize, faculty);
+            page.items().forEach(consumer);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    private TeacherListPage teacherPage(UUID cursor, int size, String faculty) {
+        TeacherPage page = teacherApi.listTeachers(cursor, size, faculty);
         if (page.items().isEmpty()) {
             return new TeacherListPage(List.of(), page.nextCursor());
         }
@@ -261,9 +294,23 @@ class AccountServiceImpl implements AccountApi {
     }
 
     @Override
-    public StudentListPage listStudents(UUID cursor, int limit) {
-        int capped = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
-        StudentPage page = studentApi.listStudents(cursor, capped);
+    public StudentListPage listStudents(UUID cursor, int limit, String faculty, String groupName, UUID groupId) {
+        return studentPage(cursor, capPageSize(limit), faculty, groupName, groupId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportStudents(String faculty, String groupName, UUID groupId, Consumer<StudentProfileItem> consumer) {
+        UUID cursor = null;
+        do {
+            StudentListPage page = studentPage(cursor, exportBatchSize, faculty, groupName, groupId);
+            page.items().forEach(consumer);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    private StudentListPage studentPage(UUID cursor, int size, String faculty, String groupName, UUID groupId) {
+        StudentPage page = studentApi.listStudents(cursor, size, faculty, groupName, groupId);
         if (page.items().isEmpty()) {
             return new StudentListPage(List.of(), page.nextCursor());
         }
@@ -304,4 +351,8 @@ class AccountServiceImpl implements AccountApi {
         }
         return user != null ? user.getFullName() : "";
     }
+
+    private int capPageSize(int limit) {
+        return Math.min(Math.max(1, limit), maxPageSize);
+    }
 }
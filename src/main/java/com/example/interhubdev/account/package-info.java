@@ -11,7 +11,8 @@
  * <h2>Access</h2>
  * <ul>
  *   <li>GET/PATCH /api/account/me - any authenticated user (own profile)</li>
- *   <li>GET /api/account/users (cursor pagination, max 30) - MODERATOR, ADMIN, SUPER_ADMIN</li>
+ *   <li>GET /api/account/users (keyset pagination by id; role/status filters; max app.account.directory.max-page-size) - MODERATOR, ADMIN, SUPER_ADMIN</li>
+ *   <li>GET /api/account/users|teachers|students/export - streamed CSV of the filtered directory, read page by page - MODERATOR, ADMIN, SUPER_ADMIN</li>
  *   <li>GET/PATCH /api/account/users/{id} - MODERATOR, ADMIN, SUPER_ADMIN</li>
  *   <li>DELETE /api/account/users/{id} - only ADMIN, SUPER_ADMIN; SUPER_ADMIN only deletable by another SUPER_ADMIN; nobody can delete self</li>
  * </ul>
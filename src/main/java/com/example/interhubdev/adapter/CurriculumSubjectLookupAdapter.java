@@ -6,6 +6,7 @@ import com.example.interhubdev.program.ProgramApi;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +30,11 @@ public class CurriculumSubjectLookupAdapter implements CurriculumSubjectLookupPo
         return programApi.findCurriculumSubjectById(id);
     }
 
+    @Override
+    public List<CurriculumSubjectDto> findByIds(Collection<UUID> ids) {
+        return programApi.findCurriculumSubjectsByIds(ids);
+    }
+
     @Override
     public Map<UUID, String> getSubjectNamesByCurriculumSubjectIds(List<UUID> curriculumSubjectIds) {
         return programApi.getSubjectNamesByCurriculumSubjectIds(curriculumSubjectIds);
@@ -21,8 +21,9 @@ import org.springframework.stereotype.Component;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,6 +36,9 @@ import java.util.UUID;
  * (submitted/updated): student display name, period, recipients (teachers), params and data for templates.
  * Also resolves homework submission submitted: lesson, subject name, student display name, recipients (teachers).
  * Resolves schedule.lesson.rescheduled and schedule.lesson.deleted: subject name, date/time, recipients (students in group).
+ * <p>
+ * Every event costs a constant number of lookups: lessons, offering teachers and teachers are
+ * fetched with batch APIs rather than per session or per teacher.
  */
 @Component
 @RequiredArgsConstructor
@@ -131,20 +135,14 @@ public class NotificationContentResolverAdapter implements NotificationContentRe
                     .orElse("—");
         }
 
-        Set<UUID> teacherUserIds = new HashSet<>();
         UUID firstSessionId = sessionIds.get(0);
-        for (UUID sessionId : sessionIds) {
-            Optional<LessonDto> lessonOpt = scheduleApi.findLessonById(sessionId);
-            if (lessonOpt.isEmpty()) {
-                continue;
-            }
-            List<OfferingTeacherItemDto> offeringTeachers = offeringApi.findTeachersByOfferingId(lessonOpt.get().offeringId());
-            for (OfferingTeacherItemDto ot : offeringTeachers) {
-                teacherApi.findById(ot.teacherId())
-                        .map(TeacherDto::userId)
-                        .ifPresent(teacherUserIds::add);
+        Set<UUID> offeringIds = new LinkedHashSet<>();
+        for (LessonDto lesson : scheduleApi.findLessonsByIds(sessionIds)) {
+            if (lesson.offeringId() != null) {
+                offeringIds.add(lesson.offeringId());
             }
         }
+        Set<UUID> teacherUserIds = resolveTeacherUserIds(offeringIds);
 
         if (teacherUserIds.isEmpty()) {
             log.warn("No teachers found for notice sessions: noticeId={}", noticeId);
@@ -232,13 +230,7 @@ public class NotificationContentResolverAdapter implements NotificationContentRe
                 .map(s -> studentApi.studentDisplayName(s, userFullName))
                 .orElse(userFullName != null && !userFullName.isBlank() ? userFullName : "—");
 
-        Set<UUID> teacherUserIds = new HashSet<>();
-        List<OfferingTeacherItemDto> offeringTeachers = offeringApi.findTeachersByOfferingId(lesson.offeringId());
-        for (OfferingTeacherItemDto ot : offeringTeachers) {
-            teacherApi.findById(ot.teacherId())
-                    .map(TeacherDto::userId)
-                    .ifPresent(teacherUserIds::add);
-        }
+        Set<UUID> teacherUserIds = resolveTeacherUserIds(List.of(lesson.offeringId()));
         if (teacherUserIds.isEmpty()) {
             log.warn("No teachers found for lesson: lessonId={}", lessonId);
             return Optional.empty();
@@ -377,6 +369,32 @@ public class NotificationContentResolverAdapter implements NotificationContentRe
         return Optional.of(new ResolvedNotificationContent(items, occurred));
     }
 
+    /**
+     * User IDs of all teachers of the given offerings, with one batch lookup of offering teachers
+     * and one of teachers regardless of how many offerings or teachers are involved.
+     */
+    private Set<UUID> resolveTeacherUserIds(Collection<UUID> offeringIds) {
+        if (offeringIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> teacherIds = new LinkedHashSet<>();
+        for (List<OfferingTeacherItemDto> offeringTeachers : offeringApi.findTeachersByOfferingIds(offeringIds).values()) {
+            for (OfferingTeacherItemDto ot : offeringTeachers) {
+                teacherIds.add(ot.teacherId());
+            }
+        }
+        if (teacherIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> teacherUserIds = new LinkedHashSet<>();
+        for (TeacherDto teacher : teacherApi.findByIds(List.copyOf(teacherIds))) {
+            if (teacher.userId() != null) {
+                teacherUserIds.add(teacher.userId());
+            }
+        }
+        return teacherUserIds;
+    }
+
     /** Format "date HH:mm–HH:mm" from date string and time strings (e.g. HH:mm:ss). */
     private static String formatDateTimeRange(String dateStr, String startTime, String endTime) {
         String start = (startTime != null && startTime.length() >= 5) ? startTime.substring(0, 5) : (startTime != null ? startTime : "");
@@ -5,7 +5,9 @@ import com.example.interhubdev.schedule.OfferingLookupPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,4 +34,14 @@ public class OfferingLookupAdapter implements OfferingLookupPort {
     public List<UUID> findOfferingIdsByTeacherId(UUID teacherId) {
         return offeringLookupDataPort.findOfferingIdsByTeacherId(teacherId);
     }
+
+    @Override
+    public Map<UUID, UUID> findTeacherIdsByOfferingIds(Collection<UUID> offeringIds) {
+        return offeringLookupDataPort.findTeacherIdsByOfferingIds(offeringIds);
+    }
+
+    @Override
+    public Map<UUID, UUID> findTeacherIdsBySlotIds(Collection<UUID> slotIds) {
+        return offeringLookupDataPort.findTeacherIdsBySlotIds(slotIds);
+    }
 }
@@ -57,4 +57,9 @@ public class ScheduleLessonCreationAdapter implements LessonCreationPort {
         scheduleApi.deleteLessonsByOfferingIdAndDayOfWeekAndStartTimeAndEndTime(
                 offeringId, dayOfWeek, startTime, endTime);
     }
+
+    @Override
+    public void lessonTeachersChanged(java.util.UUID offeringId) {
+        scheduleApi.lessonTeachersChanged(offeringId);
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.interhubdev.adapter;
+
+import com.example.interhubdev.academic.AcademicApi;
+import com.example.interhubdev.schedule.SemesterLookupPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Adapter: implements Schedule's SemesterLookupPort using Academic module's AcademicApi.
+ * Lets Schedule scope its booking index to the current semester without depending on Academic.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleSemesterLookupAdapter implements SemesterLookupPort {
+
+    private final AcademicApi academicApi;
+
+    @Override
+    public Optional<SemesterRange> findCurrentSemesterRange() {
+        return academicApi.findCurrentSemester()
+                .map(semester -> new SemesterRange(semester.startDate(), semester.endDate()));
+    }
+}
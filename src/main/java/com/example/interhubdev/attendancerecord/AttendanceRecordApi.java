@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Public API for attendance records: mark and query. Does not validate absence notices;
@@ -151,4 +152,20 @@ public interface AttendanceRecordApi {
      * @param sessionId lesson session ID
      */
     void detachNoticeByNoticeIdAndSessionId(UUID noticeId, UUID sessionId);
+
+    /**
+     * Stream all attendance records of an offering's lessons (optionally within lesson dates) to the consumer
+     * (e.g. attendance register export), ordered by student. Rows are read with a server-side cursor and handed
+     * over one by one, so memory does not grow with the offering's size; the consumer runs while the cursor
+     * (and its read-only transaction) is open.
+     *
+     * @param offeringId  offering ID
+     * @param from        optional first lesson date (inclusive)
+     * @param to          optional last lesson date (inclusive)
+     * @param consumer    receives each record
+     * @param requesterId current user ID (same access as the group attendance summary)
+     * @throws AppException NOT_FOUND if offering not found, FORBIDDEN if not allowed
+     */
+    void streamOfferingRecords(UUID offeringId, LocalDate from, LocalDate to,
+                               Consumer<AttendanceRecordDto> consumer, UUID requesterId);
 }
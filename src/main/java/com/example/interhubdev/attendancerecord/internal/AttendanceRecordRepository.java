@@ -1,13 +1,18 @@
 package com.example.interhubdev.attendancerecord.internal;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA repository for attendance_record.
@@ -50,4 +55,16 @@ interface AttendanceRecordRepository extends JpaRepository<AttendanceRecord, UUI
     List<AttendanceRecord> findByAbsenceNoticeId(UUID absenceNoticeId);
 
     List<AttendanceRecord> findByAbsenceNoticeIdAndLessonSessionId(UUID absenceNoticeId, UUID lessonSessionId);
+
+    /**
+     * Records of the lessons ordered by student, read through a server-side cursor (fetch size; requires an open
+     * transaction). Callers must close the stream and detach processed entities.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT ar FROM AttendanceRecord ar WHERE ar.lessonSessionId IN :sessionIds " +
+            "ORDER BY ar.studentId, ar.markedAt")
+    Stream<AttendanceRecord> streamByLessonSessionIdIn(@Param("sessionIds") Collection<UUID> sessionIds);
 }
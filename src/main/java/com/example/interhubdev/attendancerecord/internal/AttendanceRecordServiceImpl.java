@@ -14,13 +14,18 @@ import com.example.interhubdev.teacher.TeacherDto;
 import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserApi;
 import com.example.interhubdev.user.UserDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link AttendanceRecordApi}.
@@ -40,6 +45,9 @@ class AttendanceRecordServiceImpl implements AttendanceRecordApi {
     private final RosterGateway rosterGateway;
     private final AttendanceRecordAccessPolicy accessPolicy;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     @Transactional
     public List<AttendanceRecordDto> markAttendanceBulk(UUID sessionId, List<MarkAttendanceItem> items, UUID markedBy) {
@@ -120,9 +128,7 @@ class AttendanceRecordServiceImpl implements AttendanceRecordApi {
 
         ensureCanMarkAttendance(markedBy, offering);
 
-        List<StudentDto> roster = rosterGateway.getRosterByGroupId(offering.groupId());
-        boolean studentInRoster = roster.stream().anyMatch(s -> s.id().equals(studentId));
-        if (!studentInRoster) {
+        if (!rosterGateway.isStudentInGroup(studentId, offering.groupId())) {
             throw AttendanceRecordErrors.studentNotInGroup(studentId, offering.groupId());
         }
         studentApi.findById(studentId)
@@ -528,6 +534,31 @@ class AttendanceRecordServiceImpl implements AttendanceRecordApi {
         throw AttendanceRecordErrors.forbidden("Only teachers or administrators can mark attendance");
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamOfferingRecords(UUID offeringId, LocalDate from, LocalDate to,
+                                      Consumer<AttendanceRecordDto> consumer, UUID requesterId) {
+        GroupSubjectOfferingDto offering = offeringApi.findOfferingById(offeringId)
+                .orElseThrow(() -> AttendanceRecordErrors.offeringNotFound(offeringId));
+        ensureCanReadGroupAttendance(requesterId, offering.groupId());
+
+        List<UUID> lessonIds = scheduleApi.findLessonsByOfferingId(offeringId).stream()
+                .filter(l -> from == null || !l.date().isBefore(from))
+                .filter(l -> to == null || !l.date().isAfter(to))
+                .map(LessonDto::id)
+                .toList();
+        if (lessonIds.isEmpty()) {
+            return;
+        }
+        try (Stream<AttendanceRecord> records = repository.streamByLessonSessionIdIn(lessonIds)) {
+            records.forEach(record -> {
+                consumer.accept(AttendanceRecordMappers.toDto(record));
+                // Keep the persistence context empty: it would otherwise hold every streamed row
+                entityManager.detach(record);
+            });
+        }
+    }
+
     private void ensureCanReadGroupAttendance(UUID userId, UUID groupId) {
         UserDto user = userApi.findById(userId)
                 .orElseThrow(() -> AttendanceRecordErrors.forbidden("User not found"));
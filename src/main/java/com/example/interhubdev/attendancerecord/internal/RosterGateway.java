@@ -6,7 +6,6 @@ import com.example.interhubdev.student.StudentDto;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Gateway for roster (group membership) information.
@@ -24,8 +23,10 @@ final class RosterGateway {
     }
 
     Set<UUID> getStudentIdsByGroupId(UUID groupId) {
-        return studentApi.findByGroupId(groupId).stream()
-                .map(StudentDto::id)
-                .collect(Collectors.toSet());
+        return studentApi.findStudentIdsByGroupId(groupId);
+    }
+
+    boolean isStudentInGroup(UUID studentId, UUID groupId) {
+        return studentApi.isGroupMember(studentId, groupId);
     }
 }
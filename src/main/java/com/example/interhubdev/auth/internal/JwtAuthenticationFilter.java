@@ -9,9 +9,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.core.Ordered;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,6 +25,8 @@ import java.util.stream.Collectors;
 /**
  * JWT authentication filter.
  * Extracts JWT from cookie and sets authentication in SecurityContext.
+ * The context is also stored as a request attribute, so the async re-dispatch of the same request
+ * (completion of an SSE stream or a streamed export) is authorized with it instead of being anonymous.
  */
 @Component
 @RequiredArgsConstructor
@@ -32,6 +37,7 @@ class JwtAuthenticationFilter extends OncePerRequestFilter implements Ordered {
 
     private final JwtService jwtService;
     private final CookieHelper cookieHelper;
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
 
     @Override
     protected void doFilterInternal(
@@ -64,7 +70,9 @@ class JwtAuthenticationFilter extends OncePerRequestFilter implements Ordered {
                             new WebAuthenticationDetailsSource().buildDetails(request)
                     );
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    SecurityContext context = SecurityContextHolder.getContext();
+                    context.setAuthentication(authentication);
+                    securityContextRepository.saveContext(context, request, response);
                     log.debug("Authenticated user {} with roles {}", claims.email(), claims.roles());
                 });
 
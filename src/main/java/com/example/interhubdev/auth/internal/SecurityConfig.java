@@ -3,6 +3,7 @@ package com.example.interhubdev.auth.internal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -103,6 +104,9 @@ class SecurityConfig {
                 
                 // Public endpoints - invitation acceptance (user activation)
                 .requestMatchers("/api/invitations/validate", "/api/invitations/accept").permitAll()
+
+                // Public endpoints - calendar feeds (authenticated by the token in the URL; calendar apps send no JWT)
+                .requestMatchers(HttpMethod.GET, "/api/schedule/calendar/feed/*").permitAll()
                 
                 // Public endpoints - documentation (incl. default OpenAPI path used by tools / tutorials)
                 .requestMatchers(
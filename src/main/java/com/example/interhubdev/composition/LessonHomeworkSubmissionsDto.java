@@ -5,7 +5,7 @@ import com.example.interhubdev.grades.GradeEntryDto;
 import com.example.interhubdev.group.StudentGroupDto;
 import com.example.interhubdev.schedule.LessonDto;
 import com.example.interhubdev.student.StudentDto;
-import com.example.interhubdev.submission.HomeworkSubmissionDto;
+import com.example.interhubdev.submission.HomeworkSubmissionSummaryDto;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -13,7 +13,7 @@ import java.util.UUID;
 
 /**
  * Aggregated homework submissions for a lesson: all students in the lesson's group
- * with their submissions, points, and files per homework assignment.
+ * with their submissions, points, and file counts per homework assignment.
  * For use on the lesson screen (homework submissions table: students × homeworks).
  */
 public record LessonHomeworkSubmissionsDto(
@@ -52,14 +52,15 @@ public record LessonHomeworkSubmissionsDto(
     }
 
     /**
-     * One cell: one homework — submission (or empty), points, grade entry (if graded), and attached files.
+     * One cell: one homework — submission summary (or empty), points and grade entry (if graded).
      */
     public record StudentHomeworkItemDto(
             UUID homeworkId,
             /**
-             * Submission DTO if student submitted; null otherwise.
+             * Submission summary (attachment count and total size) if student submitted; null otherwise.
+             * File metadata of one submission is loaded on demand via GET /api/submissions/{id}.
              */
-            HomeworkSubmissionDto submission,
+            HomeworkSubmissionSummaryDto submission,
             /**
              * Points given for this submission (from grades). Null if no submission or not yet graded.
              * When {@link #gradeEntry} is present, points equal gradeEntry.points().
@@ -69,12 +70,7 @@ public record LessonHomeworkSubmissionsDto(
              * Grade entry for this submission when one exists (one ACTIVE entry per submission, latest by gradedAt).
              * Null if no submission or not yet graded. Enables frontend to show description and edit by id.
              */
-            GradeEntryDto gradeEntry,
-            /**
-             * File metadata for this submission's attached files (order preserved).
-             * Empty if no submission or no files.
-             */
-            List<com.example.interhubdev.submission.SubmissionAttachmentDto> files
+            GradeEntryDto gradeEntry
     ) {
     }
 }
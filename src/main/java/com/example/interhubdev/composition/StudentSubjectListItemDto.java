@@ -4,7 +4,8 @@ import java.util.UUID;
 
 /**
  * One subject entry for the student dashboard subject list.
- * Includes subject info and the teacher display name (instead of groups as for teacher view).
+ * Includes subject info and the teacher display name (instead of groups as for teacher view),
+ * and the student's statistics for the current semester (null when there is no current semester).
  */
 public record StudentSubjectListItemDto(
     UUID offeringId,
@@ -14,6 +15,7 @@ public record StudentSubjectListItemDto(
     String subjectChineseName,
     String subjectEnglishName,
     String departmentName,
-    String teacherDisplayName
+    String teacherDisplayName,
+    StudentSubjectStatsDto stats
 ) {
 }
@@ -0,0 +1,58 @@
+package com.example.interhubdev.composition.internal.export;
+
+import com.example.interhubdev.error.Errors;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Supported export file formats.
+ */
+enum ExportFormat {
+
+    CSV("text/csv; charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    /**
+     * Open a writer of this format; the header row is written first.
+     */
+    ExportRowWriter open(OutputStream out, String sheetName, List<String> header) {
+        return switch (this) {
+            case CSV -> new CsvExportWriter(out, header);
+            case XLSX -> new XlsxExportWriter(out, sheetName, header);
+        };
+    }
+
+    /**
+     * Parse the {@code format} request parameter (case-insensitive); defaults to CSV.
+     *
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if the format is not supported
+     */
+    static ExportFormat parse(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw Errors.badRequest("Unsupported export format: " + value + " (expected csv or xlsx)");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.interhubdev.composition.internal.export;
+
+/**
+ * Sink for tabular export rows. Rows are written as they are produced and never collected in memory;
+ * IO errors are rethrown unchecked so rows can be written from a {@link java.util.function.Consumer}.
+ */
+interface ExportRowWriter {
+
+    /**
+     * Write one data row. Numbers are kept numeric where the format supports it; {@code null} is an empty cell.
+     */
+    void row(Object... values);
+
+    /**
+     * Complete the document and flush it. Does not close the underlying stream.
+     */
+    void finish();
+}
@@ -0,0 +1,36 @@
+package com.example.interhubdev.composition.internal.export;
+
+import com.example.interhubdev.error.Errors;
+
+import java.util.UUID;
+
+/**
+ * What an export covers: exactly one of an offering, a group (all its offerings) or a faculty
+ * (department: all offerings of the groups of its programs).
+ */
+record ExportScope(UUID offeringId, UUID groupId, UUID facultyId) {
+
+    /**
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST unless exactly one id is given
+     */
+    static ExportScope of(UUID offeringId, UUID groupId, UUID facultyId) {
+        int given = (offeringId != null ? 1 : 0) + (groupId != null ? 1 : 0) + (facultyId != null ? 1 : 0);
+        if (given != 1) {
+            throw Errors.badRequest("Exactly one of offeringId, groupId or facultyId is required");
+        }
+        return new ExportScope(offeringId, groupId, facultyId);
+    }
+
+    /**
+     * File name stem for the export, e.g. {@code gradebook-offering-<id>}.
+     */
+    String fileName(String kind) {
+        if (offeringId != null) {
+            return kind + "-offering-" + offeringId;
+        }
+        if (groupId != null) {
+            return kind + "-group-" + groupId;
+        }
+        return kind + "-faculty-" + facultyId;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.interhubdev.composition.internal.export;
+
+import com.example.interhubdev.auth.AuthApi;
+import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.offering.GroupSubjectOfferingDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for term gradebook and attendance register exports (CSV or XLSX, streamed).
+ */
+@RestController
+@RequestMapping("/api/composition/exports")
+@RequiredArgsConstructor
+@Tag(name = "Composition – Exports", description = "Streaming gradebook and attendance register exports")
+class TermExportController {
+
+    private final TermExportService termExportService;
+    private final AuthApi authApi;
+
+    /** Async timeout of the streamed downloads; zero or negative means no limit. */
+    @Value("${app.composition.export.request-timeout:0}")
+    private Duration requestTimeout = Duration.ZERO;
+
+    @GetMapping("/gradebook")
+    @Operation(summary = "Export gradebook", description = "Grade entries of one offering, a group or a faculty (department) "
+            + "as CSV or XLSX, streamed row by row. Exactly one of offeringId, groupId, facultyId. "
+            + "Teachers: only offerings they teach; admins: any scope.")
+    public ResponseEntity<StreamingResponseBody> exportGradebook(
+            @RequestParam(required = false) UUID offeringId,
+            @RequestParam(required = false) UUID groupId,
+            @RequestParam(required = false) UUID facultyId,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean includeVoided,
+            HttpServletRequest request
+    ) {
+        UUID requesterId = requesterId(request);
+        ExportScope scope = ExportScope.of(offeringId, groupId, facultyId);
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        List<GroupSubjectOfferingDto> offerings = termExportService.resolveOfferings(scope, requesterId);
+        return attachment(request, scope.fileName("gradebook"), exportFormat, out -> termExportService.exportGradebook(
+                offerings, includeVoided,
+                exportFormat.open(out, "Gradebook", TermExportService.GRADEBOOK_HEADER), requesterId));
+    }
+
+    @GetMapping("/attendance")
+    @Operation(summary = "Export attendance register", description = "Attendance records of the lessons of one offering, "
+            + "a group or a faculty (department), optionally within lesson dates, as CSV or XLSX, streamed row by row. "
+            + "Exactly one of offeringId, groupId, facultyId. Teachers: only offerings they teach; admins: any scope.")
+    public ResponseEntity<StreamingResponseBody> exportAttendance(
+            @RequestParam(required = false) UUID offeringId,
+            @RequestParam(required = false) UUID groupId,
+            @RequestParam(required = false) UUID facultyId,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request
+    ) {
+        UUID requesterId = requesterId(request);
+        ExportScope scope = ExportScope.of(offeringId, groupId, facultyId);
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw Errors.badRequest("from must not be after to");
+        }
+        List<GroupSubjectOfferingDto> offerings = termExportService.resolveOfferings(scope, requesterId);
+        return attachment(request, scope.fileName("attendance"), exportFormat, out -> termExportService.exportAttendance(
+                offerings, from, to,
+                exportFormat.open(out, "Attendance", TermExportService.ATTENDANCE_HEADER), requesterId));
+    }
+
+    private UUID requesterId(HttpServletRequest request) {
+        return authApi.getCurrentUser(request)
+                .map(u -> u.id())
+                .orElseThrow(() -> Errors.unauthorized("Authentication required"));
+    }
+
+    /**
+     * Streamed download with this endpoint's own async timeout (applied when the body starts streaming)
+     * instead of the container default, which would cut long exports.
+     */
+    private ResponseEntity<StreamingResponseBody> attachment(HttpServletRequest request, String name,
+                                                             ExportFormat format, StreamingResponseBody body) {
+        long timeoutMillis = requestTimeout.isNegative() || requestTimeout.isZero() ? -1 : requestTimeout.toMillis();
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(timeoutMillis);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.extension() + "\"")
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .body(body);
+    }
+}
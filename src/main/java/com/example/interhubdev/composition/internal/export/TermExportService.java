@@ -0,0 +1,251 @@
+package com.example.interhubdev.composition.internal.export;
+
+import com.example.interhubdev.attendancerecord.AttendanceRecordApi;
+import com.example.interhubdev.composition.internal.shared.SubjectNameResolver;
+import com.example.interhubdev.department.DepartmentApi;
+import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.grades.GradesApi;
+import com.example.interhubdev.group.GroupApi;
+import com.example.interhubdev.group.StudentGroupDto;
+import com.example.interhubdev.offering.GroupSubjectOfferingDto;
+import com.example.interhubdev.offering.OfferingApi;
+import com.example.interhubdev.offering.OfferingTeacherItemDto;
+import com.example.interhubdev.program.ProgramApi;
+import com.example.interhubdev.program.ProgramDto;
+import com.example.interhubdev.schedule.LessonDto;
+import com.example.interhubdev.schedule.ScheduleApi;
+import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.student.StudentDto;
+import com.example.interhubdev.teacher.TeacherDto;
+import com.example.interhubdev.teacher.TeacherApi;
+import com.example.interhubdev.user.Role;
+import com.example.interhubdev.user.UserApi;
+import com.example.interhubdev.user.UserDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use-case service: streams term gradebooks and attendance registers of an offering, a group or a faculty.
+ * <p>
+ * The scope is resolved and authorized before the response starts. Offerings are then exported one after
+ * another: only the current offering's context (group code, subject name, roster, lessons) is held in memory,
+ * while its grade entries / attendance records come from a server-side cursor in the owning module and are
+ * written as they arrive. Not transactional on purpose: every offering's cursor runs in its own short
+ * read-only transaction instead of one connection being held for the whole export.
+ */
+@Service
+@RequiredArgsConstructor
+class TermExportService {
+
+    static final List<String> GRADEBOOK_HEADER = List.of("Group", "Subject", "Student code", "Student name",
+            "Lesson date", "Type", "Type label", "Points", "Description", "Graded at", "Status");
+    static final List<String> ATTENDANCE_HEADER = List.of("Group", "Subject", "Lesson date", "Lesson start",
+            "Student code", "Student name", "Status", "Minutes late", "Comment", "Marked at");
+
+    private final AttendanceRecordApi recordApi;
+    private final DepartmentApi departmentApi;
+    private final GradesApi gradesApi;
+    private final GroupApi groupApi;
+    private final OfferingApi offeringApi;
+    private final ProgramApi programApi;
+    private final ScheduleApi scheduleApi;
+    private final StudentApi studentApi;
+    private final SubjectNameResolver subjectNameResolver;
+    private final TeacherApi teacherApi;
+    private final UserApi userApi;
+
+    /**
+     * Offerings covered by the scope that the requester may export, ordered by group.
+     * Staff (admin, moderator) may export any scope; teachers only offerings they teach (not a whole faculty).
+     *
+     * @throws com.example.interhubdev.error.AppException UNAUTHORIZED, NOT_FOUND if the offering, group or
+     *                                                    faculty does not exist, FORBIDDEN
+     */
+    List<GroupSubjectOfferingDto> resolveOfferings(ExportScope scope, UUID requesterId) {
+        if (requesterId == null) {
+            throw Errors.unauthorized("Authentication required");
+        }
+        UserDto requester = userApi.findById(requesterId)
+                .orElseThrow(() -> Errors.unauthorized("Authentication required"));
+        boolean staff = requester.hasRole(Role.ADMIN) || requester.hasRole(Role.MODERATOR)
+                || requester.hasRole(Role.SUPER_ADMIN);
+        if (!staff && (!requester.hasRole(Role.TEACHER) || scope.facultyId() != null)) {
+            throw Errors.forbidden("Only administrators or teachers of the offering can export");
+        }
+
+        List<GroupSubjectOfferingDto> offerings = offeringsInScope(scope);
+        if (staff) {
+            return offerings;
+        }
+        TeacherDto teacher = teacherApi.findByUserId(requesterId)
+                .orElseThrow(() -> Errors.forbidden("Only administrators or teachers of the offering can export"));
+        Map<UUID, List<OfferingTeacherItemDto>> teachers = offeringApi.findTeachersByOfferingIds(
+                offerings.stream().map(GroupSubjectOfferingDto::id).toList());
+        List<GroupSubjectOfferingDto> taught = offerings.stream()
+                .filter(o -> Objects.equals(o.teacherId(), teacher.id())
+                        || teachers.getOrDefault(o.id(), List.of()).stream()
+                        .anyMatch(t -> Objects.equals(t.teacherId(), teacher.id())))
+                .toList();
+        if (taught.isEmpty()) {
+            throw Errors.forbidden("Only administrators or teachers of the offering can export");
+        }
+        return taught;
+    }
+
+    /**
+     * Write the grade entries of the offerings, one row per entry, ordered by offering, student and grading time.
+     */
+    void exportGradebook(List<GroupSubjectOfferingDto> offerings, boolean includeVoided, ExportRowWriter writer,
+                         UUID requesterId) {
+        GroupContext group = null;
+        for (GroupSubjectOfferingDto offering : offerings) {
+            group = groupContext(group, offering.groupId());
+            OfferingContext context = offeringContext(group, offering);
+            gradesApi.streamOfferingEntries(offering.id(), includeVoided, e -> {
+                StudentLabel student = context.student(e.studentId());
+                LessonDto lesson = e.lessonSessionId().map(context.lessons()::get).orElse(null);
+                writer.row(context.groupCode(), context.subjectName(), student.code(), student.name(),
+                        lesson != null ? lesson.date() : null,
+                        e.typeCode(), e.typeLabel().orElse(null), e.points(), e.description().orElse(null),
+                        e.gradedAt(), e.status());
+            }, requesterId);
+        }
+        writer.finish();
+    }
+
+    /**
+     * Write the attendance records of the offerings' lessons within the optional date range, one row per record.
+     */
+    void exportAttendance(List<GroupSubjectOfferingDto> offerings, LocalDate from, LocalDate to,
+                          ExportRowWriter writer, UUID requesterId) {
+        GroupContext group = null;
+        for (GroupSubjectOfferingDto offering : offerings) {
+            group = groupContext(group, offering.groupId());
+            OfferingContext context = offeringContext(group, offering);
+            recordApi.streamOfferingRecords(offering.id(), from, to, r -> {
+                StudentLabel student = context.student(r.studentId());
+                LessonDto lesson = context.lessons().get(r.lessonSessionId());
+                writer.row(context.groupCode(), context.subjectName(),
+                        lesson != null ? lesson.date() : null, lesson != null ? lesson.startTime() : null,
+                        student.code(), student.name(), r.status(), r.minutesLate().orElse(null),
+                        r.teacherComment().orElse(null), r.markedAt());
+            }, requesterId);
+        }
+        writer.finish();
+    }
+
+    private List<GroupSubjectOfferingDto> offeringsInScope(ExportScope scope) {
+        if (scope.offeringId() != null) {
+            return List.of(offeringApi.findOfferingById(scope.offeringId())
+                    .orElseThrow(() -> Errors.notFound("Offering not found: " + scope.offeringId())));
+        }
+        if (scope.groupId() != null) {
+            if (groupApi.findGroupById(scope.groupId()).isEmpty()) {
+                throw Errors.notFound("Group not found: " + scope.groupId());
+            }
+            return offeringApi.findOfferingsByGroupId(scope.groupId());
+        }
+        if (departmentApi.findById(scope.facultyId()).isEmpty()) {
+            throw Errors.notFound("Faculty not found: " + scope.facultyId());
+        }
+        List<GroupSubjectOfferingDto> offerings = new ArrayList<>();
+        programApi.findAllPrograms().stream()
+                .filter(p -> scope.facultyId().equals(p.departmentId()))
+                .map(ProgramDto::id)
+                .flatMap(programId -> groupApi.findGroupsByProgramId(programId).stream())
+                .sorted(Comparator.comparing(StudentGroupDto::code, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(g -> offerings.addAll(offeringApi.findOfferingsByGroupId(g.id())));
+        return offerings;
+    }
+
+    /**
+     * Context of the offering's group; reused while consecutive offerings belong to the same group.
+     */
+    private GroupContext groupContext(GroupContext current, UUID groupId) {
+        if (current != null && current.groupId().equals(groupId)) {
+            return current;
+        }
+        String code = groupApi.findGroupById(groupId).map(StudentGroupDto::code).orElse("");
+        List<StudentDto> students = studentApi.findByGroupId(groupId);
+        Map<UUID, UserDto> users = userApi.findByIds(students.stream().map(StudentDto::userId).toList()).stream()
+                .collect(Collectors.toMap(UserDto::id, Function.identity(), (a, b) -> a));
+        Map<UUID, StudentLabel> roster = new HashMap<>();
+        for (StudentDto student : students) {
+            roster.put(student.id(), label(student, users.get(student.userId())));
+        }
+        return new GroupContext(groupId, code, roster);
+    }
+
+    private OfferingContext offeringContext(GroupContext group, GroupSubjectOfferingDto offering) {
+        Map<UUID, LessonDto> lessons = scheduleApi.findLessonsByOfferingId(offering.id()).stream()
+                .collect(Collectors.toMap(LessonDto::id, Function.identity(), (a, b) -> a));
+        return new OfferingContext(group.code(), subjectNameResolver.resolve(offering.curriculumSubjectId()),
+                new HashMap<>(group.roster()), lessons);
+    }
+
+    private StudentLabel label(StudentDto student, UserDto user) {
+        return new StudentLabel(student.studentId(),
+                studentApi.studentDisplayName(student, user != null ? user.getFullName() : null));
+    }
+
+    /**
+     * Students who left the group still have entries; they are looked up once per offering.
+     */
+    private StudentLabel formerMember(UUID studentId) {
+        Optional<StudentDto> student = studentApi.findById(studentId);
+        if (student.isEmpty()) {
+            return new StudentLabel(null, null);
+        }
+        return label(student.get(), userApi.findById(student.get().userId()).orElse(null));
+    }
+
+    private record GroupContext(UUID groupId, String code, Map<UUID, StudentLabel> roster) {
+    }
+
+    private record StudentLabel(String code, String name) {
+    }
+
+    private final class OfferingContext {
+
+        private final String groupCode;
+        private final String subjectName;
+        private final Map<UUID, StudentLabel> students;
+        private final Map<UUID, LessonDto> lessons;
+
+        private OfferingContext(String groupCode, String subjectName, Map<UUID, StudentLabel> students,
+                                Map<UUID, LessonDto> lessons) {
+            this.groupCode = groupCode;
+            this.subjectName = subjectName;
+            this.students = students;
+            this.lessons = lessons;
+        }
+
+        String groupCode() {
+            return groupCode;
+        }
+
+        String subjectName() {
+            return subjectName;
+        }
+
+        Map<UUID, LessonDto> lessons() {
+            return lessons;
+        }
+
+        StudentLabel student(UUID studentId) {
+            return students.computeIfAbsent(studentId, TermExportService.this::formerMember);
+        }
+    }
+}
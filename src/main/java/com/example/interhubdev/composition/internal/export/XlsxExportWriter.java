@@ -0,0 +1,216 @@
+package com.example.interhubdev.composition.internal.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal streaming XLSX (SpreadsheetML) writer. Worksheet XML is written straight into the zip entry as rows
+ * arrive, with inline strings instead of a shared-strings table, so memory stays constant however many rows
+ * are exported. When a sheet reaches Excel's row limit the writer continues on a new sheet (header repeated).
+ * Workbook parts listing the sheets are written on {@link #finish()}.
+ */
+final class XlsxExportWriter implements ExportRowWriter {
+
+    /** Excel's maximum number of rows per worksheet (header included). */
+    static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    /** Excel's maximum number of characters in a cell. */
+    private static final int MAX_CELL_LENGTH = 32_767;
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_REL_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private final OutputStream out;
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String sheetName;
+    private final List<String> header;
+    private final int maxRowsPerSheet;
+    private int sheets;
+    private int rowInSheet;
+
+    XlsxExportWriter(OutputStream out, String sheetName, List<String> header) {
+        this(out, sheetName, header, MAX_ROWS_PER_SHEET);
+    }
+
+    XlsxExportWriter(OutputStream out, String sheetName, List<String> header, int maxRowsPerSheet) {
+        this.out = out;
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        this.sheetName = sheetName;
+        this.header = List.copyOf(header);
+        this.maxRowsPerSheet = maxRowsPerSheet;
+    }
+
+    @Override
+    public void row(Object... values) {
+        if (sheets == 0 || rowInSheet >= maxRowsPerSheet) {
+            startSheet();
+        }
+        writeRow(values);
+    }
+
+    @Override
+    public void finish() {
+        if (sheets == 0) {
+            startSheet();
+        }
+        endSheet();
+        writeEntry("[Content_Types].xml", contentTypes());
+        writeEntry("_rels/.rels", XML_DECLARATION
+                + "<Relationships xmlns=\"" + PACKAGE_REL_NS + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>");
+        writeEntry("xl/workbook.xml", workbook());
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRels());
+        try {
+            // Completes the archive without closing the response stream underneath
+            zip.finish();
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void startSheet() {
+        if (sheets > 0) {
+            endSheet();
+        }
+        sheets++;
+        rowInSheet = 0;
+        try {
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheets + ".xml"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(XML_DECLARATION + "<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>");
+        writeRow(header.toArray());
+    }
+
+    private void endSheet() {
+        write("</sheetData></worksheet>");
+        try {
+            writer.flush();
+            zip.closeEntry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow(Object[] values) {
+        rowInSheet++;
+        StringBuilder row = new StringBuilder(256).append("<row r=\"").append(rowInSheet).append("\">");
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            String ref = columnName(i) + rowInSheet;
+            if (value instanceof Number number) {
+                String text = number instanceof BigDecimal decimal ? decimal.toPlainString() : number.toString();
+                row.append("<c r=\"").append(ref).append("\"><v>").append(text).append("</v></c>");
+            } else {
+                row.append("<c r=\"").append(ref).append("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                appendEscaped(row, value.toString());
+                row.append("</t></is></c>");
+            }
+        }
+        write(row.append("</row>").toString());
+    }
+
+    /**
+     * Spreadsheet column name for a zero-based index: 0 → A, 25 → Z, 26 → AA.
+     */
+    static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int n = index + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Escape markup characters and drop characters not allowed in XML 1.0; text is cut to Excel's cell limit.
+     */
+    static void appendEscaped(StringBuilder target, String text) {
+        int length = Math.min(text.length(), MAX_CELL_LENGTH);
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> target.append("&amp;");
+                case '<' -> target.append("&lt;");
+                case '>' -> target.append("&gt;");
+                case '"' -> target.append("&quot;");
+                default -> {
+                    if (c >= 0x20 && c != 0xFFFE && c != 0xFFFF || c == '\t' || c == '\n' || c == '\r') {
+                        target.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private String contentTypes() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>");
+        for (int i = 1; i <= sheets; i++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String workbook() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(MAIN_NS).append("\" xmlns:r=\"").append(REL_NS).append("\"><sheets>");
+        for (int i = 1; i <= sheets; i++) {
+            xml.append("<sheet name=\"");
+            appendEscaped(xml, i == 1 ? sheetName : sheetName + " (" + i + ")");
+            xml.append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRels() {
+        StringBuilder xml = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"").append(PACKAGE_REL_NS).append("\">");
+        for (int i = 1; i <= sheets; i++) {
+            xml.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(REL_NS)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        return xml.append("</Relationships>").toString();
+    }
+
+    private void writeEntry(String name, String content) {
+        try {
+            zip.putNextEntry(new ZipEntry(name));
+            writer.write(content);
+            writer.flush();
+            zip.closeEntry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -9,8 +9,9 @@ import com.example.interhubdev.group.GroupApi;
 import com.example.interhubdev.offering.OfferingApi;
 import com.example.interhubdev.student.StudentApi;
 import com.example.interhubdev.student.StudentDto;
-import com.example.interhubdev.submission.HomeworkSubmissionDto;
+import com.example.interhubdev.submission.HomeworkSubmissionSummaryDto;
 import com.example.interhubdev.submission.SubmissionApi;
+import com.example.interhubdev.submission.SubmissionSummaryPage;
 import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.schedule.ScheduleApi;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +27,11 @@ import java.util.Objects;
 import java.util.UUID;
 
 /**
- * Use-case service: aggregates homework submissions for a lesson (students × homeworks with submission/points/files).
+ * Use-case service: aggregates homework submissions for a lesson (students × homeworks with submission/points/file counts).
+ * <p>
+ * Submissions are read as summaries for all homeworks at once. At most one submission exists per student per
+ * homework, so a page of roster × homeworks rows normally covers the whole table in one query; further pages are
+ * only needed when students who left the group still have submissions.
  */
 @Service
 @RequiredArgsConstructor
@@ -58,17 +63,23 @@ class LessonHomeworkSubmissionsService {
         List<StudentDto> roster = studentApi.findByGroupId(offering.groupId());
         List<HomeworkDto> homeworks = homeworkApi.listByLesson(lessonId, requesterId);
 
-        Map<UUID, Map<UUID, HomeworkSubmissionDto>> submissionByUserAndHomework = new LinkedHashMap<>();
+        Map<UUID, Map<UUID, HomeworkSubmissionSummaryDto>> submissionByUserAndHomework = new LinkedHashMap<>();
         List<UUID> allSubmissionIds = new ArrayList<>();
 
-        for (var hw : homeworks) {
-            List<HomeworkSubmissionDto> submissions = submissionApi.listByHomework(hw.id(), requesterId);
-            for (HomeworkSubmissionDto s : submissions) {
-                submissionByUserAndHomework
-                        .computeIfAbsent(s.authorId(), k -> new LinkedHashMap<>())
-                        .put(hw.id(), s);
-                allSubmissionIds.add(s.id());
-            }
+        if (!homeworks.isEmpty() && !roster.isEmpty()) {
+            List<UUID> homeworkIds = homeworks.stream().map(HomeworkDto::id).toList();
+            int pageSize = Math.min(SubmissionApi.MAX_SUMMARY_PAGE_SIZE, roster.size() * homeworks.size());
+            String cursor = null;
+            do {
+                SubmissionSummaryPage page = submissionApi.listSummariesByHomeworkIds(homeworkIds, cursor, pageSize, requesterId);
+                for (HomeworkSubmissionSummaryDto s : page.items()) {
+                    submissionByUserAndHomework
+                            .computeIfAbsent(s.authorId(), k -> new LinkedHashMap<>())
+                            .putIfAbsent(s.homeworkId(), s);
+                    allSubmissionIds.add(s.id());
+                }
+                cursor = page.nextCursor();
+            } while (cursor != null);
         }
 
         Map<UUID, GradeEntryDto> gradeEntryBySubmissionId = gradesApi.getGradeEntriesByHomeworkSubmissionIds(allSubmissionIds, requesterId, null);
@@ -77,17 +88,17 @@ class LessonHomeworkSubmissionsService {
                 .map(student -> {
                     List<LessonHomeworkSubmissionsDto.StudentHomeworkItemDto> items = homeworks.stream()
                             .map(hw -> {
-                                HomeworkSubmissionDto sub = submissionByUserAndHomework
+                                HomeworkSubmissionSummaryDto sub = submissionByUserAndHomework
                                         .getOrDefault(student.userId(), Map.of())
                                         .get(hw.id());
                                 if (sub == null) {
                                     return new LessonHomeworkSubmissionsDto.StudentHomeworkItemDto(
-                                            hw.id(), null, null, null, List.of());
+                                            hw.id(), null, null, null);
                                 }
                                 GradeEntryDto gradeEntry = gradeEntryBySubmissionId.get(sub.id());
                                 BigDecimal points = gradeEntry != null ? gradeEntry.points() : null;
                                 return new LessonHomeworkSubmissionsDto.StudentHomeworkItemDto(
-                                        hw.id(), sub, points, gradeEntry, sub.attachments());
+                                        hw.id(), sub, points, gradeEntry);
                             })
                             .toList();
                     return new LessonHomeworkSubmissionsDto.StudentHomeworkRowDto(student, items);
@@ -35,4 +35,13 @@ public class SemesterResolver {
         return academicApi.findSemesterByDate(LocalDate.now())
                 .orElseThrow(() -> Errors.notFound("Current semester not found"));
     }
+
+    /**
+     * Current semester by today's date, if any.
+     *
+     * @return current semester or empty when today is outside every semester
+     */
+    public Optional<SemesterDto> findCurrent() {
+        return academicApi.findSemesterByDate(LocalDate.now());
+    }
 }
@@ -1,9 +1,6 @@
 package com.example.interhubdev.composition.internal.student;
 
 import com.example.interhubdev.academic.SemesterDto;
-import com.example.interhubdev.attendancerecord.AttendanceRecordApi;
-import com.example.interhubdev.attendancerecord.AttendanceStatus;
-import com.example.interhubdev.attendancerecord.StudentAttendanceDto;
 import com.example.interhubdev.composition.StudentSubjectInfoDto;
 import com.example.interhubdev.composition.StudentSubjectStatsDto;
 import com.example.interhubdev.composition.StudentSubjectTeacherItemDto;
@@ -12,22 +9,17 @@ import com.example.interhubdev.department.DepartmentApi;
 import com.example.interhubdev.department.DepartmentDto;
 import com.example.interhubdev.document.CourseMaterialApi;
 import com.example.interhubdev.document.CourseMaterialDto;
-import com.example.interhubdev.document.HomeworkApi;
 import com.example.interhubdev.error.Errors;
-import com.example.interhubdev.grades.GradesApi;
 import com.example.interhubdev.offering.GroupSubjectOfferingDto;
 import com.example.interhubdev.offering.OfferingApi;
 import com.example.interhubdev.offering.OfferingSlotDto;
 import com.example.interhubdev.offering.OfferingTeacherItemDto;
 import com.example.interhubdev.program.CurriculumSubjectDto;
 import com.example.interhubdev.program.ProgramApi;
-import com.example.interhubdev.schedule.LessonDto;
-import com.example.interhubdev.schedule.ScheduleApi;
 import com.example.interhubdev.student.StudentApi;
 import com.example.interhubdev.student.StudentDto;
 import com.example.interhubdev.subject.SubjectApi;
 import com.example.interhubdev.subject.SubjectDto;
-import com.example.interhubdev.submission.SubmissionApi;
 import com.example.interhubdev.teacher.TeacherApi;
 import com.example.interhubdev.teacher.TeacherDto;
 import com.example.interhubdev.user.Role;
@@ -50,25 +42,21 @@ import java.util.stream.Collectors;
 
 /**
  * Use-case service: aggregates subject detail for a student's "Subject detail" screen.
- * Uses SemesterResolver for semester resolution.
+ * Uses SemesterResolver for semester resolution; statistics come from {@link StudentSubjectStatsProjection}.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 class StudentSubjectInfoService {
 
-    private final AttendanceRecordApi recordApi;
     private final CourseMaterialApi courseMaterialApi;
     private final DepartmentApi departmentApi;
-    private final GradesApi gradesApi;
-    private final HomeworkApi homeworkApi;
     private final OfferingApi offeringApi;
     private final ProgramApi programApi;
-    private final ScheduleApi scheduleApi;
     private final SemesterResolver semesterResolver;
+    private final StudentSubjectStatsProjection statsProjection;
     private final StudentApi studentApi;
     private final SubjectApi subjectApi;
-    private final SubmissionApi submissionApi;
     private final TeacherApi teacherApi;
     private final UserApi userApi;
 
@@ -194,53 +182,12 @@ class StudentSubjectInfoService {
         return result;
     }
 
-    private StudentSubjectStatsDto computeStats(
-            StudentDto student, UserDto requester,
-            GroupSubjectOfferingDto offering, SemesterDto semester) {
-
+    private StudentSubjectStatsDto computeStats(StudentDto student, UserDto requester,
+                                                GroupSubjectOfferingDto offering, SemesterDto semester) {
         if (student == null) {
             return new StudentSubjectStatsDto(null, 0, 0, BigDecimal.ZERO);
         }
-
-        var from = semester.startDate();
-        var to = semester.endDate();
-
-        Double attendancePercent = computeAttendancePercent(student, offering, from, to, requester.id());
-
-        List<LessonDto> lessons = scheduleApi.findLessonsByOfferingId(offering.id());
-        List<UUID> lessonIdsInRange = lessons.stream()
-                .filter(l -> !l.date().isBefore(from) && !l.date().isAfter(to))
-                .map(LessonDto::id)
-                .toList();
-        List<UUID> homeworkIds = homeworkApi.listHomeworkIdsByLessonIds(lessonIdsInRange, requester.id());
-        int totalHomeworkCount = homeworkIds.size();
-        int submittedHomeworkCount = submissionApi.countSubmittedByAuthorForHomeworkIds(
-                requester.id(), homeworkIds, requester.id());
-
-        BigDecimal totalPoints = gradesApi.getStudentTotalPoints(
-                student.id(), offering.id(), requester.id());
-
-        return new StudentSubjectStatsDto(attendancePercent, submittedHomeworkCount, totalHomeworkCount, totalPoints);
-    }
-
-    private Double computeAttendancePercent(
-            StudentDto student, GroupSubjectOfferingDto offering,
-            java.time.LocalDate from, java.time.LocalDate to, UUID requesterId) {
-        StudentAttendanceDto attendance = recordApi.getStudentAttendance(
-                student.id(),
-                from.atStartOfDay(),
-                to.atTime(23, 59, 59),
-                offering.id(),
-                null,
-                requesterId
-        );
-
-        if (attendance.totalMarked() == null || attendance.totalMarked() == 0) {
-            return null;
-        }
-
-        int present = attendance.summary().getOrDefault(AttendanceStatus.PRESENT, 0);
-        int late = attendance.summary().getOrDefault(AttendanceStatus.LATE, 0);
-        return ((double) (present + late) / attendance.totalMarked()) * 100.0;
+        return statsProjection.getStats(student.id(), requester.id(), List.of(offering.id()), semester)
+                .get(offering.id());
     }
 }
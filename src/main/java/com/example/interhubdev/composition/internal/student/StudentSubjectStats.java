@@ -0,0 +1,71 @@
+package com.example.interhubdev.composition.internal.student;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Precomputed subject statistics of one student in one offering and semester (dashboard read model).
+ * Valid only while {@code computedAt} is after the latest {@link StudentSubjectStatsInvalidation} of the pair.
+ */
+@Entity
+@Table(name = "student_subject_stats")
+@IdClass(StudentSubjectStats.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+class StudentSubjectStats {
+
+    @Id
+    @Column(name = "student_id", nullable = false)
+    private UUID studentId;
+
+    @Id
+    @Column(name = "offering_id", nullable = false)
+    private UUID offeringId;
+
+    @Id
+    @Column(name = "semester_id", nullable = false)
+    private UUID semesterId;
+
+    @Column(name = "attendance_percent")
+    private Double attendancePercent;
+
+    @Column(name = "submitted_homework_count", nullable = false)
+    private int submittedHomeworkCount;
+
+    @Column(name = "total_homework_count", nullable = false)
+    private int totalHomeworkCount;
+
+    @Column(name = "total_points", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPoints;
+
+    /** When the computation started (database time). */
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    /**
+     * Composite key for StudentSubjectStats entity.
+     */
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Key implements Serializable {
+        private UUID studentId;
+        private UUID offeringId;
+        private UUID semesterId;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.interhubdev.composition.internal.student;
+
+import com.example.interhubdev.academic.SemesterDto;
+import com.example.interhubdev.attendancerecord.AttendanceRecordApi;
+import com.example.interhubdev.attendancerecord.AttendanceStatus;
+import com.example.interhubdev.attendancerecord.StudentAttendanceDto;
+import com.example.interhubdev.composition.StudentSubjectStatsDto;
+import com.example.interhubdev.document.HomeworkApi;
+import com.example.interhubdev.grades.GradesApi;
+import com.example.interhubdev.schedule.LessonDto;
+import com.example.interhubdev.schedule.ScheduleApi;
+import com.example.interhubdev.submission.SubmissionApi;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Live computation of a student's subject statistics from the attendance, schedule, homework, submission
+ * and grades modules. Used on read-model misses by {@link StudentSubjectStatsProjection}.
+ */
+@Component
+@RequiredArgsConstructor
+class StudentSubjectStatsCalculator {
+
+    private final AttendanceRecordApi recordApi;
+    private final GradesApi gradesApi;
+    private final HomeworkApi homeworkApi;
+    private final ScheduleApi scheduleApi;
+    private final SubmissionApi submissionApi;
+
+    /**
+     * Compute statistics of the student in the offering within the semester.
+     *
+     * @param studentId   student profile id
+     * @param userId      the student's user id (homework author and requester for access checks)
+     * @param offeringId  offering id
+     * @param semester    semester whose date range bounds attendance and homework
+     */
+    StudentSubjectStatsDto compute(UUID studentId, UUID userId, UUID offeringId, SemesterDto semester) {
+        LocalDate from = semester.startDate();
+        LocalDate to = semester.endDate();
+
+        Double attendancePercent = computeAttendancePercent(studentId, offeringId, from, to, userId);
+
+        List<LessonDto> lessons = scheduleApi.findLessonsByOfferingId(offeringId);
+        List<UUID> lessonIdsInRange = lessons.stream()
+                .filter(l -> !l.date().isBefore(from) && !l.date().isAfter(to))
+                .map(LessonDto::id)
+                .toList();
+        List<UUID> homeworkIds = homeworkApi.listHomeworkIdsByLessonIds(lessonIdsInRange, userId);
+        int totalHomeworkCount = homeworkIds.size();
+        int submittedHomeworkCount = submissionApi.countSubmittedByAuthorForHomeworkIds(
+                userId, homeworkIds, userId);
+
+        BigDecimal totalPoints = gradesApi.getStudentTotalPoints(studentId, offeringId, userId);
+
+        return new StudentSubjectStatsDto(attendancePercent, submittedHomeworkCount, totalHomeworkCount, totalPoints);
+    }
+
+    private Double computeAttendancePercent(
+            UUID studentId, UUID offeringId, LocalDate from, LocalDate to, UUID requesterId) {
+        StudentAttendanceDto attendance = recordApi.getStudentAttendance(
+                studentId,
+                from.atStartOfDay(),
+                to.atTime(23, 59, 59),
+                offeringId,
+                null,
+                requesterId
+        );
+
+        if (attendance.totalMarked() == null || attendance.totalMarked() == 0) {
+            return null;
+        }
+
+        int present = attendance.summary().getOrDefault(AttendanceStatus.PRESENT, 0);
+        int late = attendance.summary().getOrDefault(AttendanceStatus.LATE, 0);
+        return ((double) (present + late) / attendance.totalMarked()) * 100.0;
+    }
+}
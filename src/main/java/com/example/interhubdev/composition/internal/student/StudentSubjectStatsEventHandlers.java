@@ -0,0 +1,100 @@
+package com.example.interhubdev.composition.internal.student;
+
+import com.example.interhubdev.outbox.OutboxEvent;
+import com.example.interhubdev.outbox.OutboxEventHandler;
+import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.student.StudentDto;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Outbox handlers that refresh the student subject statistics read model ({@link StudentSubjectStatsProjection})
+ * when attendance, grades, homework, submissions or lessons change. Handlers recompute the affected rows
+ * (idempotent: the latest computation wins), so the dashboard read does not; rows that cannot be recomputed are
+ * invalidated and recomputed on the next read. They run before other handlers of the same events, so a failing
+ * notification handler does not hold them back.
+ */
+@Configuration
+class StudentSubjectStatsEventHandlers {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    OutboxEventHandler studentStatsAttendanceMarkedHandler(StudentSubjectStatsProjection projection) {
+        return handler("attendance.record.marked", payload -> {
+            UUID studentId = uuid(payload, "studentId");
+            projection.offeringOfLesson(uuid(payload, "sessionId"))
+                    .ifPresent(offeringId -> projection.studentsChanged(List.of(studentId), offeringId));
+        });
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    OutboxEventHandler studentStatsSubmissionHandler(StudentSubjectStatsProjection projection, StudentApi studentApi) {
+        return handler("submission.homework_submission.submitted", payload -> {
+            // authorId is the student's user id
+            UUID studentId = studentApi.findByUserId(uuid(payload, "authorId")).map(StudentDto::id).orElse(null);
+            if (studentId == null) {
+                return;
+            }
+            projection.offeringOfLesson(uuid(payload, "lessonId"))
+                    .ifPresent(offeringId -> projection.studentsChanged(List.of(studentId), offeringId));
+        });
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    OutboxEventHandler studentStatsGradesHandler(StudentSubjectStatsProjection projection) {
+        return handler("grades.grade_entry.changed", payload -> {
+            List<UUID> studentIds = ((Collection<?>) payload.get("studentIds")).stream()
+                    .map(id -> UUID.fromString(id.toString()))
+                    .toList();
+            projection.studentsChanged(studentIds, uuid(payload, "offeringId"));
+        });
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    OutboxEventHandler studentStatsHomeworkCreatedHandler(StudentSubjectStatsProjection projection) {
+        return handler("document.homework.created", payload ->
+                projection.offeringOfLesson(uuid(payload, "lessonId")).ifPresent(projection::offeringChanged));
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    OutboxEventHandler studentStatsHomeworkDeletedHandler(StudentSubjectStatsProjection projection) {
+        return handler("document.homework.deleted", payload ->
+                projection.offeringOfLesson(uuid(payload, "lessonId")).ifPresent(projection::offeringChanged));
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    OutboxEventHandler studentStatsLessonDeletedHandler(StudentSubjectStatsProjection projection) {
+        return handler("schedule.lesson.deleted", payload -> projection.offeringChanged(uuid(payload, "offeringId")));
+    }
+
+    private static UUID uuid(Map<String, Object> payload, String key) {
+        return UUID.fromString(payload.get(key).toString());
+    }
+
+    private static OutboxEventHandler handler(String eventType, Consumer<Map<String, Object>> action) {
+        return new OutboxEventHandler() {
+            @Override
+            public String eventType() {
+                return eventType;
+            }
+
+            @Override
+            public void handle(OutboxEvent event) {
+                action.accept(event.getPayload());
+            }
+        };
+    }
+}
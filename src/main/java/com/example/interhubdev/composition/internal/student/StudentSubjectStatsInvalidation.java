@@ -0,0 +1,52 @@
+package com.example.interhubdev.composition.internal.student;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Latest change affecting a student's statistics in an offering (for every semester).
+ */
+@Entity
+@Table(name = "student_subject_stats_invalidation")
+@IdClass(StudentSubjectStatsInvalidation.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+class StudentSubjectStatsInvalidation {
+
+    @Id
+    @Column(name = "student_id", nullable = false)
+    private UUID studentId;
+
+    @Id
+    @Column(name = "offering_id", nullable = false)
+    private UUID offeringId;
+
+    /** Database time of the latest change. */
+    @Column(name = "invalidated_at", nullable = false)
+    private LocalDateTime invalidatedAt;
+
+    /**
+     * Composite key for StudentSubjectStatsInvalidation entity.
+     */
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Key implements Serializable {
+        private UUID studentId;
+        private UUID offeringId;
+    }
+}
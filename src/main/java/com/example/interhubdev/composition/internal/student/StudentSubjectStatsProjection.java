@@ -0,0 +1,149 @@
+package com.example.interhubdev.composition.internal.student;
+
+import com.example.interhubdev.academic.SemesterDto;
+import com.example.interhubdev.composition.StudentSubjectStatsDto;
+import com.example.interhubdev.composition.internal.shared.SemesterResolver;
+import com.example.interhubdev.offering.GroupSubjectOfferingDto;
+import com.example.interhubdev.offering.OfferingApi;
+import com.example.interhubdev.schedule.LessonDto;
+import com.example.interhubdev.schedule.ScheduleApi;
+import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.student.StudentDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Student dashboard statistics per (student, offering, semester), served from the {@code student_subject_stats}
+ * read model and filled on a miss by live computation.
+ * <p>
+ * Outbox handlers ({@link StudentSubjectStatsEventHandlers}) recompute the current-semester rows of the students
+ * whose data in an offering changed, so the dashboard read finds them valid. When a row cannot be recomputed there,
+ * the change is recorded instead; a row counts only if its computation started after the latest recorded change
+ * (both in database time), so a computation racing with a write is recomputed on the next read. Rows computed on a
+ * read are stored after the reading transaction ends. Rows older than {@code app.composition.student-stats.max-age}
+ * are recomputed as well, as a safety net for changes that publish no event (e.g. semester dates).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class StudentSubjectStatsProjection {
+
+    private final StudentSubjectStatsStore store;
+    private final StudentSubjectStatsCalculator calculator;
+    private final OfferingApi offeringApi;
+    private final ScheduleApi scheduleApi;
+    private final StudentApi studentApi;
+    private final SemesterResolver semesterResolver;
+
+    @Value("${app.composition.student-stats.max-age:PT6H}")
+    private Duration maxAge = Duration.ofHours(6);
+
+    /**
+     * Statistics of the student for each offering in the semester: valid rows are read in one query,
+     * the rest are computed live and stored.
+     *
+     * @param studentId   student profile id
+     * @param userId      the student's user id
+     * @param offeringIds offerings of the student's groups
+     * @param semester    semester bounding the statistics
+     * @return stats by offering id, for every requested offering
+     */
+    Map<UUID, StudentSubjectStatsDto> getStats(UUID studentId, UUID userId, Collection<UUID> offeringIds,
+                                               SemesterDto semester) {
+        Map<UUID, StudentSubjectStatsDto> result = new LinkedHashMap<>();
+        // Taken before any computation below starts, so a write racing with it invalidates the stored row
+        LocalDateTime startedAt = store.now();
+        for (StudentSubjectStats row : store.findValid(studentId, semester.id(), offeringIds, startedAt.minus(maxAge))) {
+            result.put(row.getOfferingId(), toDto(row));
+        }
+
+        List<StudentSubjectStats> computed = new ArrayList<>();
+        for (UUID offeringId : offeringIds) {
+            if (result.containsKey(offeringId)) {
+                continue;
+            }
+            StudentSubjectStatsDto stats = calculator.compute(studentId, userId, offeringId, semester);
+            result.put(offeringId, stats);
+            computed.add(toRow(studentId, offeringId, semester, stats, startedAt));
+        }
+        store.saveAfterRead(computed);
+        return result;
+    }
+
+    /**
+     * Data of the students in the offering changed: recompute and store their current-semester rows in the
+     * current transaction, stamped with its database start time. Students whose row cannot be recomputed
+     * (no current semester, unknown student, computation failed) are invalidated instead.
+     */
+    void studentsChanged(Collection<UUID> studentIds, UUID offeringId) {
+        Optional<SemesterDto> semester = semesterResolver.findCurrent();
+        if (semester.isEmpty()) {
+            store.invalidate(studentIds, offeringId);
+            return;
+        }
+        LocalDateTime startedAt = store.now();
+        List<StudentSubjectStats> computed = new ArrayList<>();
+        List<UUID> notComputed = new ArrayList<>();
+        for (UUID studentId : studentIds.stream().distinct().toList()) {
+            Optional<UUID> userId = studentApi.findById(studentId).map(StudentDto::userId);
+            if (userId.isEmpty()) {
+                notComputed.add(studentId);
+                continue;
+            }
+            try {
+                StudentSubjectStatsDto stats = calculator.compute(studentId, userId.get(), offeringId, semester.get());
+                computed.add(toRow(studentId, offeringId, semester.get(), stats, startedAt));
+            } catch (RuntimeException e) {
+                log.warn("Could not recompute stats of student {} in offering {}; invalidating: {}",
+                        studentId, offeringId, e.getMessage());
+                notComputed.add(studentId);
+            }
+        }
+        store.save(computed);
+        if (!notComputed.isEmpty()) {
+            store.invalidate(notComputed, offeringId);
+        }
+    }
+
+    /**
+     * Data of every student in the offering changed (e.g. homework or a lesson was added or removed).
+     * Affects the current members of the offering's group.
+     */
+    void offeringChanged(UUID offeringId) {
+        Optional<GroupSubjectOfferingDto> offering = offeringApi.findOfferingById(offeringId);
+        if (offering.isEmpty()) {
+            return;
+        }
+        studentsChanged(studentApi.findStudentIdsByGroupId(offering.get().groupId()), offeringId);
+    }
+
+    /**
+     * Offering of the lesson, empty if the lesson no longer exists.
+     */
+    Optional<UUID> offeringOfLesson(UUID lessonId) {
+        return scheduleApi.findLessonById(lessonId).map(LessonDto::offeringId);
+    }
+
+    private static StudentSubjectStats toRow(UUID studentId, UUID offeringId, SemesterDto semester,
+                                             StudentSubjectStatsDto stats, LocalDateTime computedAt) {
+        return new StudentSubjectStats(studentId, offeringId, semester.id(), stats.attendancePercent(),
+                stats.submittedHomeworkCount(), stats.totalHomeworkCount(), stats.totalPoints(), computedAt);
+    }
+
+    private static StudentSubjectStatsDto toDto(StudentSubjectStats row) {
+        return new StudentSubjectStatsDto(row.getAttendancePercent(), row.getSubmittedHomeworkCount(),
+                row.getTotalHomeworkCount(), row.getTotalPoints());
+    }
+}
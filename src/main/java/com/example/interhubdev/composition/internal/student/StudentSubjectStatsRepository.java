@@ -0,0 +1,29 @@
+package com.example.interhubdev.composition.internal.student;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for the student subject statistics read model.
+ */
+interface StudentSubjectStatsRepository extends JpaRepository<StudentSubjectStats, StudentSubjectStats.Key> {
+
+    /**
+     * Rows of the student in the semester for the offerings that are still valid: computed after
+     * {@code notBefore} and after the latest invalidation of the (student, offering). Single query.
+     */
+    @Query("SELECT s FROM StudentSubjectStats s "
+            + "LEFT JOIN StudentSubjectStatsInvalidation i ON i.studentId = s.studentId AND i.offeringId = s.offeringId "
+            + "WHERE s.studentId = :studentId AND s.semesterId = :semesterId AND s.offeringId IN :offeringIds "
+            + "AND s.computedAt > :notBefore AND (i.invalidatedAt IS NULL OR s.computedAt > i.invalidatedAt)")
+    List<StudentSubjectStats> findValid(@Param("studentId") UUID studentId,
+                                        @Param("semesterId") UUID semesterId,
+                                        @Param("offeringIds") Collection<UUID> offeringIds,
+                                        @Param("notBefore") LocalDateTime notBefore);
+}
@@ -0,0 +1,174 @@
+package com.example.interhubdev.composition.internal.student;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistence of the student subject statistics read model.
+ * <p>
+ * Reads happen inside the read-only transactions of the composition use cases, so computed rows are not written
+ * there: once the reading transaction completes they are handed to a single writer thread that upserts them with
+ * one JDBC batch outside any transaction. A request therefore never holds a second connection, and at most one
+ * connection of the pool is used for writes. Rows recomputed by outbox handlers are written in the handler's
+ * transaction instead ({@link #save}). Timestamps are database time ({@code LOCALTIMESTAMP} before a
+ * computation, {@code clock_timestamp()} for invalidations), so clock skew between instances cannot make a stale
+ * row look valid.
+ */
+@Component
+@Slf4j
+class StudentSubjectStatsStore {
+
+    private static final String UPSERT_STATS = """
+            INSERT INTO student_subject_stats (student_id, offering_id, semester_id, attendance_percent,
+                submitted_homework_count, total_homework_count, total_points, computed_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (student_id, semester_id, offering_id) DO UPDATE SET
+                attendance_percent = EXCLUDED.attendance_percent,
+                submitted_homework_count = EXCLUDED.submitted_homework_count,
+                total_homework_count = EXCLUDED.total_homework_count,
+                total_points = EXCLUDED.total_points,
+                computed_at = EXCLUDED.computed_at
+            WHERE student_subject_stats.computed_at < EXCLUDED.computed_at
+            """;
+
+    private static final String UPSERT_INVALIDATION = """
+            INSERT INTO student_subject_stats_invalidation (student_id, offering_id, invalidated_at)
+            VALUES (?, ?, CAST(clock_timestamp() AS TIMESTAMP))
+            ON CONFLICT (student_id, offering_id) DO UPDATE SET invalidated_at = EXCLUDED.invalidated_at
+            """;
+
+    private final StudentSubjectStatsRepository statsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolExecutor writer;
+
+    StudentSubjectStatsStore(
+            StudentSubjectStatsRepository statsRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.composition.student-stats.write-queue-capacity:256}") int writeQueueCapacity
+    ) {
+        this.statsRepository = statsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(writeQueueCapacity), r -> {
+            Thread thread = new Thread(r, "student-stats-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Database time to stamp a computation that starts now. Inside a transaction this is its start time,
+     * which is never after the computation's reads.
+     */
+    LocalDateTime now() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    @Transactional(readOnly = true)
+    List<StudentSubjectStats> findValid(UUID studentId, UUID semesterId, Collection<UUID> offeringIds,
+                                        LocalDateTime notBefore) {
+        if (offeringIds.isEmpty()) {
+            return List.of();
+        }
+        return statsRepository.findValid(studentId, semesterId, offeringIds, notBefore);
+    }
+
+    /**
+     * Store computed rows once the current transaction completes (immediately without one). Never throws:
+     * the rows are a cache and are recomputed on the next read if they cannot be stored.
+     */
+    void saveAfterRead(List<StudentSubjectStats> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    submit(rows);
+                }
+            });
+        } else {
+            submit(rows);
+        }
+    }
+
+    /**
+     * Store rows computed by an outbox handler in the current transaction, with one batch upsert.
+     * Failures propagate, so the event is retried.
+     */
+    @Transactional
+    void save(List<StudentSubjectStats> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        upsert(rows);
+    }
+
+    /**
+     * Mark the students' statistics in the offering as changed now (all semesters), with one batch upsert.
+     */
+    @Transactional
+    void invalidate(Collection<UUID> studentIds, UUID offeringId) {
+        List<UUID> distinct = studentIds.stream().distinct().toList();
+        if (distinct.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_INVALIDATION, distinct, distinct.size(), (ps, studentId) -> {
+            ps.setObject(1, studentId);
+            ps.setObject(2, offeringId);
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.shutdownNow();
+    }
+
+    private void submit(List<StudentSubjectStats> rows) {
+        try {
+            writer.execute(() -> write(rows));
+        } catch (RejectedExecutionException e) {
+            log.warn("Student subject stats write queue is full; {} rows of student {} not stored",
+                    rows.size(), rows.get(0).getStudentId());
+        }
+    }
+
+    private void write(List<StudentSubjectStats> rows) {
+        try {
+            upsert(rows);
+        } catch (RuntimeException e) {
+            log.warn("Could not store {} student subject stats rows of student {}", rows.size(),
+                    rows.get(0).getStudentId(), e);
+        }
+    }
+
+    private void upsert(List<StudentSubjectStats> rows) {
+        jdbcTemplate.batchUpdate(UPSERT_STATS, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, row.getStudentId());
+            ps.setObject(2, row.getOfferingId());
+            ps.setObject(3, row.getSemesterId());
+            ps.setObject(4, row.getAttendancePercent(), Types.DOUBLE);
+            ps.setInt(5, row.getSubmittedHomeworkCount());
+            ps.setInt(6, row.getTotalHomeworkCount());
+            ps.setBigDecimal(7, row.getTotalPoints());
+            ps.setObject(8, row.getComputedAt());
+        });
+    }
+}
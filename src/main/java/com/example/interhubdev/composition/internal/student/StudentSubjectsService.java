@@ -1,7 +1,9 @@
 package com.example.interhubdev.composition.internal.student;
 
 import com.example.interhubdev.composition.StudentSubjectListItemDto;
+import com.example.interhubdev.composition.StudentSubjectStatsDto;
 import com.example.interhubdev.composition.StudentSubjectsDto;
+import com.example.interhubdev.composition.internal.shared.SemesterResolver;
 import com.example.interhubdev.department.DepartmentApi;
 import com.example.interhubdev.department.DepartmentDto;
 import com.example.interhubdev.error.Errors;
@@ -12,6 +14,7 @@ import com.example.interhubdev.program.CurriculumSubjectDto;
 import com.example.interhubdev.program.ProgramApi;
 import com.example.interhubdev.schedule.ScheduleApi;
 import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.student.StudentDto;
 import com.example.interhubdev.subject.SubjectApi;
 import com.example.interhubdev.subject.SubjectDto;
 import com.example.interhubdev.teacher.TeacherApi;
@@ -33,7 +36,8 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
- * Use-case service: aggregates all subjects for which the current student has at least one lesson.
+ * Use-case service: aggregates all subjects for which the current student has at least one lesson,
+ * with the student's current-semester statistics per subject from {@link StudentSubjectStatsProjection}.
  */
 @Service
 @RequiredArgsConstructor
@@ -48,12 +52,14 @@ class StudentSubjectsService {
     private final DepartmentApi departmentApi;
     private final TeacherApi teacherApi;
     private final UserApi userApi;
+    private final SemesterResolver semesterResolver;
+    private final StudentSubjectStatsProjection statsProjection;
 
     StudentSubjectsDto execute(UUID requesterId, Optional<Integer> semesterNo) {
         if (requesterId == null) {
             throw Errors.unauthorized("Authentication required");
         }
-        studentApi.findByUserId(requesterId)
+        StudentDto student = studentApi.findByUserId(requesterId)
                 .orElseThrow(() -> Errors.forbidden("Not a student"));
 
         List<UUID> groupIds = studentApi.getGroupIdsByUserId(requesterId);
@@ -109,6 +115,11 @@ class StudentSubjectsService {
         Map<UUID, SubjectDto> subjectById = subjectsList.stream()
                 .collect(Collectors.toMap(SubjectDto::id, s -> s));
 
+        List<UUID> listedOfferingIds = offeringsWithLessons.stream().map(GroupSubjectOfferingDto::id).toList();
+        Map<UUID, StudentSubjectStatsDto> statsByOffering = semesterResolver.findCurrent()
+                .map(semester -> statsProjection.getStats(student.id(), requesterId, listedOfferingIds, semester))
+                .orElse(Map.of());
+
         List<StudentSubjectListItemDto> items = new ArrayList<>();
         for (GroupSubjectOfferingDto offering : offeringsWithLessons) {
             CurriculumSubjectDto curriculumSubject = curriculumSubjectById.get(offering.curriculumSubjectId());
@@ -150,7 +161,8 @@ class StudentSubjectsService {
                     subject.chineseName(),
                     subject.englishName(),
                     departmentName,
-                    teacherDisplayName
+                    teacherDisplayName,
+                    statsByOffering.get(offering.id())
             ));
         }
 
@@ -48,6 +48,8 @@
  * The module reuses DTOs from other modules (schedule, offering, subject, group, document, teacher, program).
  * It does not create new "view DTOs" except for a container/wrapper that aggregates existing DTOs.
  * Each endpoint represents one use case (one endpoint = one use case).
+ * Student subject statistics are the one stored read model: rows per (student, offering, semester) in
+ * {@code student_subject_stats}, computed live on a miss and invalidated by outbox events (see README).
  *
  * <h2>Use Cases</h2>
  * <ul>
@@ -59,6 +61,7 @@
  *   <li>Use Case #6: Student Attendance History - all lessons for an offering with student's attendance and absence notices per lesson; missed and notices counts</li>
  *   <li>Use Case #7: Student Homework History - all homeworks for an offering with student's submission and grade per assignment; for full student info screen</li>
  *   <li>Use Case #8: Student Subject Info - full subject detail for a student: subject, curriculum, offering, schedule, teachers with profiles, and student statistics (attendance, homework, points)</li>
+ *   <li>Use Case #9: Term Exports - gradebook and attendance register of an offering, group or faculty, streamed as CSV or XLSX</li>
  * </ul>
  *
  * <h2>Dependencies</h2>
@@ -79,16 +82,20 @@
  *   <li>grades - points per student for this lesson</li>
  *   <li>submission - homework submissions by students</li>
  *   <li>user - UserDto for student display in group subject info</li>
+ *   <li>department - faculty scope of term exports</li>
+ *   <li>outbox - attendance, grade, homework, submission and lesson events invalidating student statistics</li>
  * </ul>
  *
  * <h2>Error codes (via {@link com.example.interhubdev.error.Errors})</h2>
  * <ul>
  *   <li>NOT_FOUND (404) - lesson, offering, subject, group, room, teacher, curriculum subject not found</li>
  *   <li>UNAUTHORIZED (401) - authentication required</li>
+ *   <li>FORBIDDEN (403) - requester may not export the scope</li>
+ *   <li>BAD_REQUEST (400) - export scope is not exactly one of offering, group, faculty; unsupported format</li>
  * </ul>
  */
 @org.springframework.modulith.ApplicationModule(
     displayName = "Composition",
-    allowedDependencies = {"academic", "schedule", "offering", "subject", "group", "document", "teacher", "program", "auth", "error", "student", "attendancerecord", "absencenotice", "grades", "submission", "user", "department"}
+    allowedDependencies = {"academic", "schedule", "offering", "subject", "group", "document", "teacher", "program", "auth", "error", "student", "attendancerecord", "absencenotice", "grades", "submission", "user", "department", "outbox"}
 )
 package com.example.interhubdev.composition;
@@ -8,7 +8,8 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * Configuration for task scheduling.
- * Provides TaskScheduler bean for invitation email retry mechanism.
+ * Provides the TaskScheduler bean that runs {@code @Scheduled} background jobs.
+ * Jobs that do slow I/O (e.g. invitation email delivery) hand work off to their own pools.
  */
 @Configuration
 @Slf4j
@@ -17,11 +17,12 @@ import java.util.UUID;
 public interface CourseMaterialApi {
 
     /**
-     * Create a course material with a single uploaded attachment.
+     * Create a course material with a single attachment: either a multipart upload or a completed direct upload.
      * Requires permission: TEACHER or ADMIN role.
      *
      * @param offeringId  group subject offering UUID (must exist)
-     * @param upload      uploaded file
+     * @param upload      uploaded file, or null when {@code directUploadId} is given
+     * @param directUploadId completed direct upload of the author, or null when {@code upload} is given
      * @param title       material title
      * @param description optional description
      * @param authorId    user creating the material (must match current user or be ADMIN)
@@ -29,7 +30,8 @@ public interface CourseMaterialApi {
      * @throws AppException NOT_FOUND if offering not found, FORBIDDEN if permission denied,
      *                      BAD_REQUEST on validation failure
      */
-    CourseMaterialDto createMaterial(UUID offeringId, FileAssetUploadCommand upload, String title, String description, UUID authorId);
+    CourseMaterialDto createMaterial(UUID offeringId, FileAssetUploadCommand upload, UUID directUploadId,
+                                     String title, String description, UUID authorId);
 
     /**
      * List all course materials for an offering.
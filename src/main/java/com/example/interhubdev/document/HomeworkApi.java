@@ -24,13 +24,14 @@ public interface HomeworkApi {
      * @param description   optional description
      * @param points        optional max points
      * @param uploads       optional initial uploads; order preserved
+     * @param directUploadIds optional completed direct uploads of the requester, attached after {@code uploads}
      * @param requesterId   current user (for permission check)
      * @return created homework DTO
      * @throws AppException BAD_REQUEST on validation, NOT_FOUND if lesson not found,
      *                      FORBIDDEN if permission denied
      */
     HomeworkDto create(UUID lessonId, String title, String description, Integer points,
-                       List<FileAssetUploadCommand> uploads, UUID requesterId);
+                       List<FileAssetUploadCommand> uploads, List<UUID> directUploadIds, UUID requesterId);
 
     /**
      * List homeworks for a lesson.
@@ -83,12 +84,14 @@ public interface HomeworkApi {
      * @param clearFiles    if true, clear all existing attachments before adding new uploads
      * @param retainAttachmentIds attachment ids to keep when clearFiles is false
      * @param uploads       new uploads to append
+     * @param directUploadIds completed direct uploads of the requester to append after {@code uploads}
      * @param requesterId   current user (for permission check)
      * @return updated homework DTO
      * @throws AppException NOT_FOUND if homework not found, FORBIDDEN if permission denied, BAD_REQUEST on validation
      */
     HomeworkDto update(UUID homeworkId, String title, String description, Integer points,
-                       boolean clearFiles, List<UUID> retainAttachmentIds, List<FileAssetUploadCommand> uploads, UUID requesterId);
+                       boolean clearFiles, List<UUID> retainAttachmentIds, List<FileAssetUploadCommand> uploads,
+                       List<UUID> directUploadIds, UUID requesterId);
 
     /**
      * Delete homework. Does not delete the attached file (if any).
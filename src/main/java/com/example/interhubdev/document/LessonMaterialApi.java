@@ -25,11 +25,12 @@ public interface LessonMaterialApi {
      * @param authorId      user creating the material
      * @param publishedAt   time of publication
      * @param uploads       initial uploads (order preserved as sort_order); may be empty
+     * @param directUploadIds completed direct uploads of the author, attached after {@code uploads}; may be empty
      * @return created lesson material DTO
      * @throws AppException NOT_FOUND if lesson not found, FORBIDDEN if permission denied, BAD_REQUEST on validation failure
      */
     LessonMaterialDto create(UUID lessonId, String name, String description, UUID authorId,
-                             LocalDateTime publishedAt, List<FileAssetUploadCommand> uploads);
+                             LocalDateTime publishedAt, List<FileAssetUploadCommand> uploads, List<UUID> directUploadIds);
 
     /**
      * List all lesson materials for a lesson, ordered by published_at descending.
@@ -70,10 +71,11 @@ public interface LessonMaterialApi {
      *
      * @param materialId     lesson material UUID
      * @param uploads        uploads to add (order preserved)
+     * @param directUploadIds completed direct uploads of the requester to add after {@code uploads}
      * @param requesterId    current authenticated user id (for permission check)
      * @throws AppException NOT_FOUND if material not found, FORBIDDEN if permission denied
      */
-    void addFiles(UUID materialId, List<FileAssetUploadCommand> uploads, UUID requesterId);
+    void addFiles(UUID materialId, List<FileAssetUploadCommand> uploads, List<UUID> directUploadIds, UUID requesterId);
 
     /**
      * Remove an attachment from a lesson material.
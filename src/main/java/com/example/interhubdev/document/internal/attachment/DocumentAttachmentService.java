@@ -5,8 +5,10 @@ import com.example.interhubdev.document.DocumentAttachmentDto;
 import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.fileasset.FileAssetApi;
 import com.example.interhubdev.fileasset.FileAssetDownloadHandle;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
 import com.example.interhubdev.fileasset.FileAssetUploadCommand;
 import com.example.interhubdev.fileasset.FileAssetView;
+import com.example.interhubdev.fileasset.FilePolicyKey;
 import com.example.interhubdev.user.UserApi;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -36,20 +38,44 @@ public class DocumentAttachmentService implements DocumentAttachmentApi {
         UUID ownerId,
         List<FileAssetUploadCommand> uploads
     ) {
-        if (uploads == null || uploads.isEmpty()) {
+        return createAttachments(ownerType, ownerId, uploads, List.of(), null);
+    }
+
+    /**
+     * Attach multipart uploads (ingested here) followed by completed direct uploads, in the given order.
+     * Direct uploads are checked by fileasset (owner = {@code requesterId}, completed, size within policy,
+     * not bound elsewhere) before they are bound.
+     */
+    public List<DocumentAttachmentDto> createAttachments(
+        DocumentAttachmentOwnerType ownerType,
+        UUID ownerId,
+        List<FileAssetUploadCommand> uploads,
+        List<UUID> directUploadIds,
+        UUID requesterId
+    ) {
+        List<FileAssetUploadCommand> ingested = uploads != null ? uploads : List.of();
+        List<UUID> direct = directUploadIds != null ? directUploadIds : List.of();
+        if (ingested.isEmpty() && direct.isEmpty()) {
             return List.of();
         }
+        if (Set.copyOf(direct).size() != direct.size()) {
+            throw Errors.badRequest("fileAssetIds must not contain duplicates");
+        }
         int nextOrder = documentAttachmentRepository.findByOwnerTypeAndOwnerIdOrderBySortOrderAsc(ownerType, ownerId).size();
-        List<DocumentAttachment> created = new java.util.ArrayList<>(uploads.size());
-        List<UUID> fileAssetIds = new java.util.ArrayList<>(uploads.size());
-        for (FileAssetUploadCommand upload : uploads) {
-            FileAssetView asset = fileAssetApi.ingest(upload);
-            fileAssetIds.add(asset.id());
+        List<UUID> fileAssetIds = new java.util.ArrayList<>(ingested.size() + direct.size());
+        for (FileAssetUploadCommand upload : ingested) {
+            fileAssetIds.add(fileAssetApi.ingest(upload).id());
+        }
+        for (UUID directUploadId : direct) {
+            fileAssetIds.add(fileAssetApi.claimDirectUpload(directUploadId, FilePolicyKey.CONTROLLED_ATTACHMENT, requesterId).id());
+        }
+        List<DocumentAttachment> created = new java.util.ArrayList<>(fileAssetIds.size());
+        for (UUID fileAssetId : fileAssetIds) {
             created.add(documentAttachmentRepository.save(DocumentAttachment.builder()
                 .id(UUID.randomUUID())
                 .ownerType(ownerType)
                 .ownerId(ownerId)
-                .fileAssetId(asset.id())
+                .fileAssetId(fileAssetId)
                 .sortOrder(nextOrder++)
                 .build()));
         }
@@ -62,7 +88,9 @@ public class DocumentAttachmentService implements DocumentAttachmentApi {
         UUID ownerId,
         List<UUID> retainAttachmentIds,
         boolean clearAttachments,
-        List<FileAssetUploadCommand> uploads
+        List<FileAssetUploadCommand> uploads,
+        List<UUID> directUploadIds,
+        UUID requesterId
     ) {
         List<DocumentAttachment> existing = documentAttachmentRepository.findByOwnerTypeAndOwnerIdOrderBySortOrderAsc(ownerType, ownerId);
         Set<UUID> retainedIds = retainAttachmentIds != null ? Set.copyOf(retainAttachmentIds) : Set.of();
@@ -91,10 +119,7 @@ public class DocumentAttachmentService implements DocumentAttachmentApi {
         }
 
         List<DocumentAttachmentDto> result = new java.util.ArrayList<>(mapDtos(kept));
-        if (uploads != null && !uploads.isEmpty()) {
-            List<DocumentAttachmentDto> appended = createAttachments(ownerType, ownerId, uploads);
-            result.addAll(appended);
-        }
+        result.addAll(createAttachments(ownerType, ownerId, uploads, directUploadIds, requesterId));
         return result;
     }
 
@@ -159,6 +184,14 @@ public class DocumentAttachmentService implements DocumentAttachmentApi {
         return fileAssetApi.openDownload(attachment.getFileAssetId());
     }
 
+    @Override
+    public FileAssetDownloadSource openDownloadSource(UUID attachmentId, UUID requesterId) {
+        ensureAuthenticated(requesterId);
+        DocumentAttachment attachment = documentAttachmentRepository.findById(attachmentId)
+            .orElseThrow(() -> Errors.notFound("Document attachment not found: " + attachmentId));
+        return fileAssetApi.openDownloadSource(attachment.getFileAssetId());
+    }
+
     private List<DocumentAttachmentDto> mapDtos(List<DocumentAttachment> attachments) {
         if (attachments == null || attachments.isEmpty()) {
             return List.of();
@@ -3,8 +3,11 @@ package com.example.interhubdev.document.internal.courseMaterial;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.util.UUID;
+
 /**
- * Request body for creating a course material with an uploaded file.
+ * Request body for creating a course material. The file is either the multipart file part or
+ * {@code fileAssetId} of a completed direct upload ({@code POST /api/uploads}).
  */
 public record AddCourseMaterialRequest(
     @NotBlank(message = "title is required")
@@ -12,6 +15,8 @@ public record AddCourseMaterialRequest(
     String title,
 
     @Size(max = 2000)
-    String description
+    String description,
+
+    UUID fileAssetId
 ) {
 }
@@ -37,16 +37,16 @@ class CourseMaterialController {
     private final AuthApi authApi;
 
     /**
-     * Attach an already-uploaded file to the offering as a course material.
-     * File must be uploaded first via POST /api/documents/upload; pass the returned stored file id here.
+     * Add a course material with one file: a multipart file part, or payload.fileAssetId of a completed
+     * direct upload (POST /api/uploads) so large files never pass through the application server.
      * Requires TEACHER or ADMIN role.
      */
     @PostMapping(value = "/{offeringId}/materials", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Add course material", description = "Attach an already-uploaded file (by stored file id) to the offering. Upload file first via POST /api/documents/upload. Requires TEACHER or ADMIN role.")
+    @Operation(summary = "Add course material", description = "Add a material with one file: a multipart file part or payload.fileAssetId of a completed direct upload (POST /api/uploads). Requires TEACHER or ADMIN role.")
     public ResponseEntity<CourseMaterialDto> addMaterial(
             @PathVariable UUID offeringId,
             @Valid @RequestPart("payload") AddCourseMaterialRequest body,
-            @RequestPart("file") MultipartFile file,
+            @RequestPart(value = "file", required = false) MultipartFile file,
             HttpServletRequest request
     ) {
         UUID authorId = authApi.getCurrentUser(request)
@@ -54,12 +54,13 @@ class CourseMaterialController {
                 .orElseThrow(() -> Errors.unauthorized("Authentication required"));
 
         try (var bundle = MultipartUploadSupport.prepareSingle(file, authorId, FilePolicyKey.CONTROLLED_ATTACHMENT)) {
-            if (bundle.uploads().isEmpty()) {
-                throw Errors.badRequest("File is required");
+            if (bundle.uploads().isEmpty() == (body.fileAssetId() == null)) {
+                throw Errors.badRequest("Exactly one file is required: a file part or fileAssetId");
             }
             CourseMaterialDto dto = courseMaterialApi.createMaterial(
                     offeringId,
-                    bundle.uploads().get(0),
+                    bundle.uploads().isEmpty() ? null : bundle.uploads().get(0),
+                    body.fileAssetId(),
                     body.title(),
                     body.description(),
                     authorId
@@ -36,8 +36,12 @@ class CourseMaterialServiceImpl implements CourseMaterialApi {
 
     @Override
     @Transactional
-    public CourseMaterialDto createMaterial(UUID offeringId, FileAssetUploadCommand upload, String title, String description, UUID authorId) {
+    public CourseMaterialDto createMaterial(UUID offeringId, FileAssetUploadCommand upload, UUID directUploadId,
+                                            String title, String description, UUID authorId) {
         validateTitle(title);
+        if ((upload == null) == (directUploadId == null)) {
+            throw Errors.badRequest("Exactly one file is required: a file part or fileAssetId");
+        }
         checkCreatePermission(authorId);
         if (!offeringLookupPort.existsById(offeringId)) {
             throw CourseMaterialErrors.offeringNotFound(offeringId);
@@ -55,7 +59,9 @@ class CourseMaterialServiceImpl implements CourseMaterialApi {
             var attachments = documentAttachmentService.createAttachments(
                 DocumentAttachmentOwnerType.COURSE_MATERIAL,
                 saved.getId(),
-                List.of(upload)
+                upload != null ? List.of(upload) : List.of(),
+                directUploadId != null ? List.of(directUploadId) : List.of(),
+                authorId
             );
             return CourseMaterialMappers.toDto(saved, attachments.isEmpty() ? null : attachments.get(0));
         } catch (PersistenceException | DataIntegrityViolationException e) {
@@ -3,8 +3,12 @@ package com.example.interhubdev.document.internal.homework;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Request body for creating homework (lesson is in path).
+ * Files come from multipart file parts and/or {@code fileAssetIds} of completed direct uploads ({@code POST /api/uploads}).
  */
 public record CreateHomeworkRequest(
     @NotBlank(message = "title is required")
@@ -14,6 +18,9 @@ public record CreateHomeworkRequest(
     @Size(max = 5000)
     String description,
 
-    Integer points
+    Integer points,
+
+    @Size(max = 50, message = "at most 50 fileAssetIds")
+    List<UUID> fileAssetIds
 ) {
 }
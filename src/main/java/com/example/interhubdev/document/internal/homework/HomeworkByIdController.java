@@ -50,7 +50,7 @@ class HomeworkByIdController {
     }
 
     @PutMapping(value = "/{homeworkId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Update homework", description = "Update homework. Use clearFiles=true to remove all file links (files are not deleted). Requires TEACHER or ADMIN role.")
+    @Operation(summary = "Update homework", description = "Update homework. Use clearFiles=true to remove all file links (files are not deleted). New files: multipart parts and/or fileAssetIds of completed direct uploads. Requires TEACHER or ADMIN role.")
     public ResponseEntity<HomeworkDto> update(
             @PathVariable UUID homeworkId,
             @Valid @RequestPart("payload") UpdateHomeworkRequest body,
@@ -71,6 +71,7 @@ class HomeworkByIdController {
                     clearFiles,
                     body.retainAttachmentIds(),
                     bundle.uploads(),
+                    body.fileAssetIds(),
                     requesterId
             );
             return ResponseEntity.ok(dto);
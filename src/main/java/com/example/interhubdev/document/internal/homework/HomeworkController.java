@@ -50,7 +50,7 @@ class HomeworkController {
     }
 
     @PostMapping(value = "/{lessonId}/homework", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Create homework", description = "Create homework for a lesson. Requires TEACHER or ADMIN role.")
+    @Operation(summary = "Create homework", description = "Create homework for a lesson. Files: multipart parts and/or fileAssetIds of completed direct uploads. Requires TEACHER or ADMIN role.")
     public ResponseEntity<HomeworkDto> create(
             @PathVariable UUID lessonId,
             @Valid @RequestPart("payload") CreateHomeworkRequest body,
@@ -68,6 +68,7 @@ class HomeworkController {
                     body.description(),
                     body.points(),
                     bundle.uploads(),
+                    body.fileAssetIds(),
                     requesterId
             );
             return ResponseEntity.status(HttpStatus.CREATED).body(dto);
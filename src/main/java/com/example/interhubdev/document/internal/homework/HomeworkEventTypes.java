@@ -0,0 +1,16 @@
+package com.example.interhubdev.document.internal.homework;
+
+/**
+ * Event type constants for homework integration events (outbox).
+ */
+public final class HomeworkEventTypes {
+
+    private HomeworkEventTypes() {
+    }
+
+    /** Fired when homework is created for a lesson. */
+    public static final String HOMEWORK_CREATED = "document.homework.created";
+
+    /** Fired when homework is deleted. */
+    public static final String HOMEWORK_DELETED = "document.homework.deleted";
+}
@@ -5,8 +5,11 @@ import com.example.interhubdev.document.HomeworkDto;
 import com.example.interhubdev.document.LessonLookupPort;
 import com.example.interhubdev.document.internal.attachment.DocumentAttachmentOwnerType;
 import com.example.interhubdev.document.internal.attachment.DocumentAttachmentService;
+import com.example.interhubdev.document.internal.integration.HomeworkEventPayload;
 import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.fileasset.FileAssetUploadCommand;
+import com.example.interhubdev.outbox.OutboxEventDraft;
+import com.example.interhubdev.outbox.OutboxIntegrationEventPublisher;
 import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserApi;
 import com.example.interhubdev.user.UserDto;
@@ -19,6 +22,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
@@ -38,6 +42,7 @@ class HomeworkServiceImpl implements HomeworkApi {
     private final DocumentAttachmentService documentAttachmentService;
     private final LessonLookupPort lessonLookupPort;
     private final UserApi userApi;
+    private final OutboxIntegrationEventPublisher outboxPublisher;
     
     @PersistenceContext
     private EntityManager entityManager;
@@ -45,7 +50,7 @@ class HomeworkServiceImpl implements HomeworkApi {
     @Override
     @Transactional
     public HomeworkDto create(UUID lessonId, String title, String description, Integer points,
-                              List<FileAssetUploadCommand> uploads, UUID requesterId) {
+                              List<FileAssetUploadCommand> uploads, List<UUID> directUploadIds, UUID requesterId) {
         validateRequester(requesterId);
         checkManagePermission(requesterId);
 
@@ -75,9 +80,11 @@ class HomeworkServiceImpl implements HomeworkApi {
             saved.setLessonHomework(managedInstance != null ? managedInstance : savedLessonHomework);
 
             Homework withFiles = homeworkRepository.findByIdWithLessonAndFiles(saved.getId()).orElse(saved);
+            publishHomeworkEvent(HomeworkEventTypes.HOMEWORK_CREATED, saved.getId(), lessonId);
             return HomeworkMappers.toDto(
                 withFiles,
-                documentAttachmentService.createAttachments(DocumentAttachmentOwnerType.HOMEWORK, saved.getId(), uploads)
+                documentAttachmentService.createAttachments(DocumentAttachmentOwnerType.HOMEWORK, saved.getId(), uploads,
+                    directUploadIds, requesterId)
             );
         } catch (PersistenceException | DataIntegrityViolationException e) {
             log.warn("Failed to save homework (lessonId={}): {}", lessonId, e.getMessage());
@@ -146,7 +153,8 @@ class HomeworkServiceImpl implements HomeworkApi {
     @Override
     @Transactional
     public HomeworkDto update(UUID homeworkId, String title, String description, Integer points,
-                              boolean clearFiles, List<UUID> retainAttachmentIds, List<FileAssetUploadCommand> uploads, UUID requesterId) {
+                              boolean clearFiles, List<UUID> retainAttachmentIds, List<FileAssetUploadCommand> uploads,
+                              List<UUID> directUploadIds, UUID requesterId) {
         validateRequester(requesterId);
         checkManagePermission(requesterId);
 
@@ -173,7 +181,9 @@ class HomeworkServiceImpl implements HomeworkApi {
                 homeworkId,
                 retainAttachmentIds,
                 clearFiles,
-                uploads
+                uploads,
+                directUploadIds,
+                requesterId
             );
             return HomeworkMappers.toDto(saved, attachments);
         } catch (PersistenceException | DataIntegrityViolationException e) {
@@ -190,8 +200,21 @@ class HomeworkServiceImpl implements HomeworkApi {
 
         Homework homework = homeworkRepository.findById(homeworkId)
             .orElseThrow(() -> HomeworkErrors.homeworkNotFound(homeworkId));
+        UUID lessonId = lessonHomeworkRepository.findLessonIdByHomeworkId(homeworkId).orElse(null);
         documentAttachmentService.removeAll(DocumentAttachmentOwnerType.HOMEWORK, homeworkId);
         homeworkRepository.delete(homework);
+        if (lessonId != null) {
+            publishHomeworkEvent(HomeworkEventTypes.HOMEWORK_DELETED, homeworkId, lessonId);
+        }
+    }
+
+    private void publishHomeworkEvent(String eventType, UUID homeworkId, UUID lessonId) {
+        Instant now = Instant.now();
+        outboxPublisher.publish(OutboxEventDraft.builder()
+            .eventType(eventType)
+            .payload(new HomeworkEventPayload(homeworkId, lessonId, now))
+            .occurredAt(now)
+            .build());
     }
 
     private void validateRequester(UUID requesterId) {
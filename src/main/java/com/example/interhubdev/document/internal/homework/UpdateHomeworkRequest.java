@@ -7,7 +7,8 @@ import java.util.UUID;
 
 /**
  * Request body for updating homework. All fields optional.
- * New uploads come from multipart file parts. Existing attachment ids can be retained selectively.
+ * New uploads come from multipart file parts and/or {@code fileAssetIds} of completed direct uploads
+ * ({@code POST /api/uploads}). Existing attachment ids can be retained selectively.
  */
 public record UpdateHomeworkRequest(
     @Size(max = 500, message = "title must not exceed 500 characters")
@@ -20,6 +21,9 @@ public record UpdateHomeworkRequest(
 
     Boolean clearAttachments,
 
-    List<UUID> retainAttachmentIds
+    List<UUID> retainAttachmentIds,
+
+    @Size(max = 50, message = "at most 50 fileAssetIds")
+    List<UUID> fileAssetIds
 ) {
 }
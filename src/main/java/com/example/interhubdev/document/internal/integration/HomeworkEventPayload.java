@@ -0,0 +1,15 @@
+package com.example.interhubdev.document.internal.integration;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Payload for homework created and deleted events.
+ * Contains only IDs; consumers resolve the offering through the lesson.
+ */
+public record HomeworkEventPayload(
+        UUID homeworkId,
+        UUID lessonId,
+        Instant occurredAt
+) {
+}
@@ -5,9 +5,12 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Request body for creating a lesson material (lesson is in path).
+ * Files come from multipart file parts and/or {@code fileAssetIds} of completed direct uploads ({@code POST /api/uploads}).
  */
 public record CreateLessonMaterialRequest(
     @NotBlank(message = "name is required")
@@ -18,6 +21,9 @@ public record CreateLessonMaterialRequest(
     String description,
 
     @NotNull(message = "publishedAt is required")
-    LocalDateTime publishedAt
+    LocalDateTime publishedAt,
+
+    @Size(max = 50, message = "at most 50 fileAssetIds")
+    List<UUID> fileAssetIds
 ) {
 }
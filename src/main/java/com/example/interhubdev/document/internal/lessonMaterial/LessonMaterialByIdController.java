@@ -65,19 +65,23 @@ class LessonMaterialByIdController {
     }
 
     @PostMapping(value = "/{materialId}/attachments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Add files to lesson material", description = "Add stored files to an existing lesson material. Requires material author or ADMIN/MODERATOR role.")
+    @Operation(summary = "Add files to lesson material", description = "Add files to an existing lesson material: multipart parts and/or fileAssetIds of completed direct uploads (POST /api/uploads). Requires material author or ADMIN/MODERATOR role.")
     public ResponseEntity<Void> addFiles(
             @PathVariable UUID lessonId,
             @PathVariable UUID materialId,
-            @RequestPart("files") List<MultipartFile> files,
+            @RequestPart(value = "files", required = false) List<MultipartFile> files,
+            @RequestParam(required = false) List<UUID> fileAssetIds,
             HttpServletRequest request
     ) {
         UUID requesterId = authApi.getCurrentUser(request)
                 .map(u -> u.id())
                 .orElseThrow(() -> Errors.unauthorized("Authentication required"));
 
+        if ((files == null || files.isEmpty()) && (fileAssetIds == null || fileAssetIds.isEmpty())) {
+            throw Errors.badRequest("files or fileAssetIds are required");
+        }
         try (var bundle = MultipartUploadSupport.prepareMany(files, requesterId, FilePolicyKey.CONTROLLED_ATTACHMENT)) {
-            lessonMaterialApi.addFiles(materialId, bundle.uploads(), requesterId);
+            lessonMaterialApi.addFiles(materialId, bundle.uploads(), fileAssetIds, requesterId);
             return ResponseEntity.noContent().build();
         }
     }
@@ -50,7 +50,7 @@ class LessonMaterialController {
     }
 
     @PostMapping(value = "/{lessonId}/materials", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "Create lesson material", description = "Create a material for a lesson. Optionally attach stored file IDs (upload first via POST /api/documents/upload). Requires TEACHER or ADMIN role.")
+    @Operation(summary = "Create lesson material", description = "Create a material for a lesson. Files: multipart parts and/or fileAssetIds of completed direct uploads (POST /api/uploads). Requires TEACHER or ADMIN role.")
     public ResponseEntity<LessonMaterialDto> create(
             @PathVariable UUID lessonId,
             @Valid @RequestPart("payload") CreateLessonMaterialRequest body,
@@ -68,7 +68,8 @@ class LessonMaterialController {
                     body.description(),
                     requesterId,
                     body.publishedAt(),
-                    bundle.uploads()
+                    bundle.uploads(),
+                    body.fileAssetIds()
             );
             return ResponseEntity.status(HttpStatus.CREATED).body(dto);
         }
@@ -40,7 +40,8 @@ class LessonMaterialServiceImpl implements LessonMaterialApi {
     @Override
     @Transactional
     public LessonMaterialDto create(UUID lessonId, String name, String description, UUID authorId,
-                                    LocalDateTime publishedAt, List<FileAssetUploadCommand> uploads) {
+                                    LocalDateTime publishedAt, List<FileAssetUploadCommand> uploads,
+                                    List<UUID> directUploadIds) {
         validateName(name);
         checkCreatePermission(authorId);
 
@@ -61,7 +62,8 @@ class LessonMaterialServiceImpl implements LessonMaterialApi {
             LessonMaterial withFiles = lessonMaterialRepository.findByIdWithFiles(saved.getId()).orElseThrow();
             return LessonMaterialMappers.toDto(
                 withFiles,
-                documentAttachmentService.createAttachments(DocumentAttachmentOwnerType.LESSON_MATERIAL, saved.getId(), uploads)
+                documentAttachmentService.createAttachments(DocumentAttachmentOwnerType.LESSON_MATERIAL, saved.getId(), uploads,
+                    directUploadIds, authorId)
             );
         } catch (PersistenceException | DataIntegrityViolationException e) {
             log.warn("Failed to save lesson material (lessonId={}): {}", lessonId, e.getMessage());
@@ -115,8 +117,9 @@ class LessonMaterialServiceImpl implements LessonMaterialApi {
 
     @Override
     @Transactional
-    public void addFiles(UUID materialId, List<FileAssetUploadCommand> uploads, UUID requesterId) {
-        if (uploads == null || uploads.isEmpty()) {
+    public void addFiles(UUID materialId, List<FileAssetUploadCommand> uploads, List<UUID> directUploadIds,
+                         UUID requesterId) {
+        if ((uploads == null || uploads.isEmpty()) && (directUploadIds == null || directUploadIds.isEmpty())) {
             return;
         }
 
@@ -124,7 +127,8 @@ class LessonMaterialServiceImpl implements LessonMaterialApi {
             .orElseThrow(() -> LessonMaterialErrors.materialNotFound(materialId));
 
         checkModifyPermission(material, requesterId);
-        documentAttachmentService.createAttachments(DocumentAttachmentOwnerType.LESSON_MATERIAL, materialId, uploads);
+        documentAttachmentService.createAttachments(DocumentAttachmentOwnerType.LESSON_MATERIAL, materialId, uploads,
+            directUploadIds, requesterId);
     }
 
     @Override
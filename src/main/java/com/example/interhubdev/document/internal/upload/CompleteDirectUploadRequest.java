@@ -0,0 +1,26 @@
+package com.example.interhubdev.document.internal.upload;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+
+import java.util.List;
+
+/**
+ * Request body for completing a direct upload: part numbers with the ETags returned by storage.
+ */
+public record CompleteDirectUploadRequest(
+    @NotEmpty(message = "parts are required")
+    List<@Valid Part> parts
+) {
+
+    public record Part(
+        @Positive(message = "partNumber must be positive")
+        int partNumber,
+
+        @NotBlank(message = "etag is required")
+        String etag
+    ) {
+    }
+}
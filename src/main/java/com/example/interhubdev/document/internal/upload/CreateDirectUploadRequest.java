@@ -0,0 +1,21 @@
+package com.example.interhubdev.document.internal.upload;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request body for registering a direct (presigned) upload.
+ */
+public record CreateDirectUploadRequest(
+    @NotBlank(message = "fileName is required")
+    @Size(max = 512, message = "fileName must not exceed 512 characters")
+    String fileName,
+
+    @Size(max = 255)
+    String contentType,
+
+    @Positive(message = "sizeBytes must be positive")
+    long sizeBytes
+) {
+}
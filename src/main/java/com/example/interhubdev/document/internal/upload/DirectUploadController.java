@@ -0,0 +1,82 @@
+package com.example.interhubdev.document.internal.upload;
+
+import com.example.interhubdev.auth.AuthApi;
+import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.fileasset.FileAssetApi;
+import com.example.interhubdev.fileasset.FileAssetView;
+import com.example.interhubdev.fileasset.FileDirectUploadSession;
+import com.example.interhubdev.fileasset.FilePolicyKey;
+import com.example.interhubdev.fileasset.FileUploadPart;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Direct-to-storage uploads: the client receives presigned part URLs, uploads bytes straight to
+ * object storage and then completes the upload; application threads never carry file bytes.
+ * The completed asset id is then passed as {@code fileAssetIds} / {@code fileAssetId} to the homework and
+ * material create/update endpoints, which bind it instead of a multipart file part.
+ */
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+@Tag(name = "Direct uploads", description = "Presigned multipart uploads straight to object storage")
+class DirectUploadController {
+
+    private final FileAssetApi fileAssetApi;
+    private final AuthApi authApi;
+
+    @PostMapping
+    @Operation(summary = "Register direct upload", description = "Registers a file and returns presigned part URLs. "
+        + "PUT each byte span to its URL and keep the ETag response header of every part.")
+    public ResponseEntity<FileDirectUploadSession> register(
+        @Valid @RequestBody CreateDirectUploadRequest body,
+        HttpServletRequest request
+    ) {
+        UUID requesterId = requireUserId(request);
+        FileDirectUploadSession session = fileAssetApi.registerDirectUpload(
+            FilePolicyKey.CONTROLLED_ATTACHMENT,
+            body.fileName(),
+            body.contentType(),
+            body.sizeBytes(),
+            requesterId
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(session);
+    }
+
+    @PostMapping("/{fileAssetId}/complete")
+    @Operation(summary = "Complete direct upload", description = "Verifies part ETags and total size against storage, "
+        + "assembles the file and queues it for asynchronous processing (scan and activation).")
+    public ResponseEntity<FileAssetView> complete(
+        @PathVariable UUID fileAssetId,
+        @Valid @RequestBody CompleteDirectUploadRequest body,
+        HttpServletRequest request
+    ) {
+        UUID requesterId = requireUserId(request);
+        FileAssetView view = fileAssetApi.completeDirectUpload(
+            fileAssetId,
+            requesterId,
+            body.parts().stream()
+                .map(part -> new FileUploadPart(part.partNumber(), part.etag()))
+                .toList()
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(view);
+    }
+
+    private UUID requireUserId(HttpServletRequest request) {
+        return authApi.getCurrentUser(request)
+            .map(user -> user.id())
+            .orElseThrow(() -> Errors.unauthorized("Authentication required"));
+    }
+}
@@ -19,9 +19,13 @@
  *   <li>{@link com.example.interhubdev.document.LessonLookupPort}</li>
  *   <li>{@link com.example.interhubdev.document.OfferingLookupPort}</li>
  * </ul>
+ *
+ * <h2>Integration events</h2>
+ * Homework creation and deletion publish {@code document.homework.created} / {@code document.homework.deleted}
+ * (homework and lesson ids) via the outbox.
  */
 @org.springframework.modulith.ApplicationModule(
     displayName = "Document",
-    allowedDependencies = {"error", "auth", "user", "fileasset"}
+    allowedDependencies = {"error", "auth", "user", "fileasset", "outbox"}
 )
 package com.example.interhubdev.document;
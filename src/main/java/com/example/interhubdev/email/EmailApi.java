@@ -1,5 +1,6 @@
 package com.example.interhubdev.email;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -73,8 +74,18 @@ public interface EmailApi {
     EmailResult send(EmailMessage message);
 
     /**
-     * Send an email asynchronously.
-     * Returns immediately with a future that completes when sending is done.
+     * Send many emails over one SMTP connection (no connect/TLS/auth per message).
+     * Blocks until all are sent; a failure of one message does not stop the others.
+     *
+     * @param messages the email messages to send
+     * @return one result per message, in the same order
+     */
+    List<EmailResult> sendBulk(List<EmailMessage> messages);
+
+    /**
+     * Send an email asynchronously on a bounded queue.
+     * Returns with a future that completes when sending is done. When the queue is full, the caller
+     * blocks for up to the configured offer timeout and then gets a failure result (the email is not sent).
      *
      * @param message the email message to send
      * @return future that completes with the send result
@@ -7,6 +7,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for the email service.
  */
@@ -43,4 +45,60 @@ class EmailProperties {
      * Base URL for links in emails (e.g., https://app.interhubdev.com).
      */
     private String baseUrl = "http://localhost:3000";
+
+    /**
+     * Persistent SMTP connection pool.
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * Bounded queue behind {@code sendAsync}.
+     */
+    private Async async = new Async();
+
+    @Getter
+    @Setter
+    static class Pool {
+
+        /**
+         * Maximum concurrent SMTP connections (sessions) to the relay.
+         */
+        private int maxConnections = 4;
+
+        /**
+         * Messages sent over one connection before it is replaced (relays limit messages per session).
+         */
+        private int maxMessagesPerConnection = 100;
+
+        /**
+         * Idle connections older than this are closed instead of reused; keep below the relay's idle timeout.
+         */
+        private Duration maxIdle = Duration.ofSeconds(30);
+
+        /**
+         * How long a send waits for a free connection before failing.
+         */
+        private Duration borrowTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    static class Async {
+
+        /**
+         * Threads sending queued async emails.
+         */
+        private int workers = 4;
+
+        /**
+         * Maximum queued async emails.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * When the queue is full, how long {@code sendAsync} blocks the caller for a free slot
+         * before completing with a failure result.
+         */
+        private Duration offerTimeout = Duration.ofSeconds(5);
+    }
 }
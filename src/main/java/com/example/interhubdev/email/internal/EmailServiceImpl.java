@@ -3,29 +3,43 @@ package com.example.interhubdev.email.internal;
 import com.example.interhubdev.email.EmailApi;
 import com.example.interhubdev.email.EmailMessage;
 import com.example.interhubdev.email.EmailResult;
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.core.env.Environment;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Implementation of the Email API.
  * Handles actual email sending via Spring Mail / JavaMailSender.
+ * <p>
+ * Messages go out over pooled, already authenticated SMTP connections ({@link SmtpConnectionPool}) built
+ * from the JavaMailSender's session and credentials; a bulk send reuses one connection for all its messages.
+ * {@link #sendAsync} runs on a bounded queue of its own: when the queue is full the caller blocks for a
+ * short while, then gets a failure result.
  */
 @Service
-@RequiredArgsConstructor
 @EnableConfigurationProperties(EmailProperties.class)
 @Slf4j
 class EmailServiceImpl implements EmailApi {
@@ -36,38 +50,77 @@ class EmailServiceImpl implements EmailApi {
     private final JavaMailSender mailSender;
     private final EmailProperties properties;
     private final Environment environment;
+    /** Null when the sender is not a JavaMailSenderImpl (no host/credentials to pool); sends then go through the sender. */
+    private final SmtpConnectionPool connectionPool;
+    private final ThreadPoolExecutor asyncExecutor;
+
+    EmailServiceImpl(JavaMailSender mailSender, EmailProperties properties, Environment environment) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.environment = environment;
+        EmailProperties.Pool pool = properties.getPool();
+        this.connectionPool = mailSender instanceof JavaMailSenderImpl sender
+                ? new SmtpConnectionPool(() -> connect(sender), pool.getMaxConnections(),
+                        pool.getMaxMessagesPerConnection(), pool.getMaxIdle(), pool.getBorrowTimeout())
+                : null;
+        this.asyncExecutor = createAsyncExecutor(properties.getAsync());
+    }
 
     @Override
     public EmailResult send(EmailMessage message) {
+        return sendBulk(List.of(message)).get(0);
+    }
+
+    @Override
+    public List<EmailResult> sendBulk(List<EmailMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
         boolean enabled = properties.isEnabled()
                 && !"false".equalsIgnoreCase(environment.getProperty(MAIL_ENABLED, "true"));
         boolean logOnly = properties.isLogOnly()
                 || "true".equalsIgnoreCase(environment.getProperty(MAIL_LOG_ONLY, "false"));
 
         if (!enabled) {
-            log.warn("Email sending is disabled. Would have sent to: {}", message.to());
-            return EmailResult.success(generateMessageId(), message.to());
+            return messages.stream().map(message -> {
+                log.warn("Email sending is disabled. Would have sent to: {}", message.to());
+                return EmailResult.success(generateMessageId(), message.to());
+            }).toList();
         }
 
         if (logOnly) {
-            logEmail(message);
-            return EmailResult.success(generateMessageId(), message.to());
+            return messages.stream().map(message -> {
+                logEmail(message);
+                return EmailResult.success(generateMessageId(), message.to());
+            }).toList();
         }
 
-        try {
-            String messageId = doSend(message);
-            log.info("Email sent successfully to: {} [{}]", message.to(), messageId);
-            return EmailResult.success(messageId, message.to());
-        } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", message.to(), e.getMessage(), e);
-            return EmailResult.failure(message.to(), e);
+        if (connectionPool == null) {
+            return messages.stream().map(message -> sendOne(message, mailSender::send)).toList();
         }
+        List<EmailResult> results = new ArrayList<>(messages.size());
+        try (SmtpConnectionPool.Lease connection = connectionPool.borrow()) {
+            for (EmailMessage message : messages) {
+                results.add(sendOne(message, connection::send));
+            }
+        } catch (MessagingException e) {
+            // No connection: every message not attempted yet fails
+            log.error("Failed to obtain SMTP connection: {}", e.getMessage(), e);
+            for (EmailMessage message : messages.subList(results.size(), messages.size())) {
+                results.add(EmailResult.failure(message.to(), e));
+            }
+        }
+        return results;
     }
 
     @Override
-    @Async
     public CompletableFuture<EmailResult> sendAsync(EmailMessage message) {
-        return CompletableFuture.completedFuture(send(message));
+        try {
+            return CompletableFuture.supplyAsync(() -> send(message), asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Email queue is full, not sending to {}", message.to());
+            return CompletableFuture.completedFuture(EmailResult.failure(message.to(), e));
+        }
     }
 
     @Override
@@ -91,10 +144,98 @@ class EmailServiceImpl implements EmailApi {
         return properties.getFrom();
     }
 
+    @Scheduled(fixedDelayString = "${app.email.pool.eviction-interval:30000}")
+    void evictIdleConnections() {
+        if (connectionPool != null) {
+            int evicted = connectionPool.evictIdle();
+            if (evicted > 0) {
+                log.debug("Closed {} idle SMTP connections", evicted);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        asyncExecutor.shutdown();
+        try {
+            if (!asyncExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("{} queued emails were not sent before shutdown", asyncExecutor.shutdownNow().size());
+            }
+        } catch (InterruptedException e) {
+            asyncExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
+
+    @FunctionalInterface
+    private interface MimeSender {
+        void send(MimeMessage message) throws Exception;
+    }
+
+    private EmailResult sendOne(EmailMessage message, MimeSender sender) {
+        try {
+            MimeMessage mimeMessage = buildMimeMessage(message);
+            sender.send(mimeMessage);
+            String messageId = generateMessageId();
+            log.info("Email sent successfully to: {} [{}]", message.to(), messageId);
+            return EmailResult.success(messageId, message.to());
+        } catch (Exception e) {
+            log.error("Failed to send email to {}: {}", message.to(), e.getMessage(), e);
+            return EmailResult.failure(message.to(), e);
+        }
+    }
+
     /**
-     * Actually send the email via JavaMailSender.
+     * Open an authenticated SMTP connection with the sender's session, host and credentials
+     * (same rules as JavaMailSenderImpl, which would otherwise connect per message).
      */
-    private String doSend(EmailMessage message) throws MessagingException {
+    private static Transport connect(JavaMailSenderImpl sender) throws MessagingException {
+        String username = sender.getUsername();
+        String password = sender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        Transport transport = sender.getSession().getTransport(
+                sender.getProtocol() != null ? sender.getProtocol() : "smtp");
+        transport.connect(sender.getHost(), sender.getPort(), username, password);
+        return transport;
+    }
+
+    private static ThreadPoolExecutor createAsyncExecutor(EmailProperties.Async settings) {
+        int workers = Math.max(1, settings.getWorkers());
+        long offerTimeoutMillis = settings.getOfferTimeout().toMillis();
+        AtomicInteger threadCounter = new AtomicInteger();
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, settings.getQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "email-async-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Back-pressure: wait for a free slot instead of growing the queue
+                (runnable, executor) -> {
+                    try {
+                        if (!executor.isShutdown()
+                                && executor.getQueue().offer(runnable, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                            return;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new RejectedExecutionException("Email queue is full");
+                });
+    }
+
+    /**
+     * Build the MIME message (from, recipients, body) ready to be sent.
+     */
+    private MimeMessage buildMimeMessage(EmailMessage message) throws MessagingException {
         MimeMessage mimeMessage = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
 
@@ -148,10 +289,13 @@ class EmailServiceImpl implements EmailApi {
             helper.setReplyTo(message.replyTo());
         }
 
-        // Send
-        mailSender.send(mimeMessage);
+        // Headers are finalized here because pooled sends call Transport#sendMessage directly
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        mimeMessage.saveChanges();
 
-        return generateMessageId();
+        return mimeMessage;
     }
 
     /**
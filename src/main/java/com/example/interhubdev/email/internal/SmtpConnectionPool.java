@@ -0,0 +1,226 @@
+package com.example.interhubdev.email.internal;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Pool of connected and authenticated SMTP transports, so consecutive sends skip the TCP connect,
+ * STARTTLS handshake and AUTH. At most {@code maxConnections} transports exist at a time; a
+ * borrower waits up to {@code borrowTimeout} for one.
+ * <p>
+ * A connection is closed instead of returned when it failed, reached {@code maxMessagesPerConnection}
+ * (relays limit messages per session) or stayed idle longer than {@code maxIdle} (relays drop idle
+ * sessions). Idle connections are handed out most-recently-used first, so a quiet period lets the
+ * rest expire.
+ */
+@Slf4j
+final class SmtpConnectionPool implements AutoCloseable {
+
+    /**
+     * Opens a new connected (and authenticated) transport.
+     */
+    @FunctionalInterface
+    interface Connector {
+        Transport connect() throws MessagingException;
+    }
+
+    private final Connector connector;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleNanos;
+    private final long borrowTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final Semaphore permits;
+    private final BlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private volatile boolean closed;
+
+    SmtpConnectionPool(Connector connector, int maxConnections, int maxMessagesPerConnection,
+                       Duration maxIdle, Duration borrowTimeout) {
+        this(connector, maxConnections, maxMessagesPerConnection, maxIdle, borrowTimeout, System::nanoTime);
+    }
+
+    SmtpConnectionPool(Connector connector, int maxConnections, int maxMessagesPerConnection,
+                       Duration maxIdle, Duration borrowTimeout, LongSupplier nanoClock) {
+        this.connector = connector;
+        this.maxMessagesPerConnection = Math.max(1, maxMessagesPerConnection);
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.borrowTimeoutNanos = borrowTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.permits = new Semaphore(Math.max(1, maxConnections), true);
+    }
+
+    /**
+     * Borrow a connection; close the returned lease to give it back.
+     *
+     * @throws MessagingException if no connection became available in time or connecting failed
+     */
+    Lease borrow() throws MessagingException {
+        if (closed) {
+            throw new MessagingException("SMTP connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new MessagingException("No SMTP connection available within "
+                        + Duration.ofNanos(borrowTimeoutNanos));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+        try {
+            PooledConnection connection;
+            while ((connection = idle.pollFirst()) != null) {
+                if (isReusable(connection)) {
+                    return new Lease(connection, true);
+                }
+                connection.closeQuietly();
+            }
+            return new Lease(open(), false);
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Close idle connections that exceeded {@code maxIdle}.
+     *
+     * @return number of connections closed
+     */
+    int evictIdle() {
+        int evicted = 0;
+        for (PooledConnection connection : idle) {
+            if (!isReusable(connection) && idle.remove(connection)) {
+                connection.closeQuietly();
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int idleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        PooledConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.closeQuietly();
+        }
+    }
+
+    private boolean isReusable(PooledConnection connection) {
+        return connection.sent < maxMessagesPerConnection
+                && nanoClock.getAsLong() - connection.lastUsedNanos < maxIdleNanos;
+    }
+
+    private PooledConnection open() throws MessagingException {
+        return new PooledConnection(connector.connect(), nanoClock.getAsLong());
+    }
+
+    private static final class PooledConnection {
+
+        private final Transport transport;
+        private long lastUsedNanos;
+        private int sent;
+
+        private PooledConnection(Transport transport, long nowNanos) {
+            this.transport = transport;
+            this.lastUsedNanos = nowNanos;
+        }
+
+        private void closeQuietly() {
+            try {
+                transport.close();
+            } catch (MessagingException | RuntimeException e) {
+                log.debug("Failed to close SMTP connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Exclusive use of one pooled connection.
+     */
+    final class Lease implements AutoCloseable {
+
+        private PooledConnection connection;
+        private boolean reused;
+        private boolean broken;
+        private boolean released;
+
+        private Lease(PooledConnection connection, boolean reused) {
+            this.connection = connection;
+            this.reused = reused;
+        }
+
+        /**
+         * Send one message. A rejected recipient ({@link SendFailedException}) leaves the session usable;
+         * any other failure marks the connection broken. When a connection taken from the pool turns out
+         * to be dropped by the server, the message is retried once on a new connection.
+         */
+        void send(MimeMessage message) throws MessagingException {
+            if (broken || connection.sent >= maxMessagesPerConnection) {
+                reconnect();
+            }
+            try {
+                doSend(message);
+            } catch (SendFailedException e) {
+                throw e;
+            } catch (MessagingException e) {
+                if (!reused) {
+                    broken = true;
+                    throw e;
+                }
+                log.debug("Pooled SMTP connection failed ({}), retrying on a new connection", e.getMessage());
+                reconnect();
+                try {
+                    doSend(message);
+                } catch (SendFailedException retryError) {
+                    throw retryError;
+                } catch (MessagingException retryError) {
+                    broken = true;
+                    throw retryError;
+                }
+            }
+        }
+
+        private void doSend(MimeMessage message) throws MessagingException {
+            connection.transport.sendMessage(message, message.getAllRecipients());
+            connection.sent++;
+            connection.lastUsedNanos = nanoClock.getAsLong();
+        }
+
+        private void reconnect() throws MessagingException {
+            connection.closeQuietly();
+            broken = true;
+            connection = open();
+            reused = false;
+            broken = false;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (broken || closed || connection.sent >= maxMessagesPerConnection) {
+                connection.closeQuietly();
+            } else {
+                idle.offerFirst(connection);
+            }
+            permits.release();
+        }
+    }
+}
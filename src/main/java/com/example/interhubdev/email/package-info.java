@@ -10,7 +10,8 @@
  * 
  * <h2>Features</h2>
  * <ul>
- *   <li>Synchronous and asynchronous sending</li>
+ *   <li>Synchronous, bulk and asynchronous sending (bounded queue with back-pressure)</li>
+ *   <li>Pooled, persistent SMTP connections (no connect/TLS/auth per message)</li>
  *   <li>Plain text and HTML emails</li>
  *   <li>Template support (for invitation emails, etc.)</li>
  *   <li>CC/BCC support</li>
@@ -1,5 +1,6 @@
 package com.example.interhubdev.fileasset;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -25,6 +26,32 @@ public interface FileAssetApi {
 
     FileAssetView markUploaded(UUID fileAssetId, FileUploadReceipt uploadReceipt);
 
+    /**
+     * Register a file asset whose bytes are uploaded directly to storage by the client, bypassing
+     * the application server. Returns presigned part URLs for the asset's temporary object.
+     */
+    FileDirectUploadSession registerDirectUpload(
+        FilePolicyKey policyKey,
+        String originalName,
+        String declaredContentType,
+        long sizeBytes,
+        UUID uploadedBy
+    );
+
+    /**
+     * Complete a direct upload: verifies part ETags and total size against storage, assembles the
+     * object, marks it uploaded and requests asynchronous processing. Idempotent for a completed upload.
+     */
+    FileAssetView completeDirectUpload(UUID fileAssetId, UUID uploadedBy, List<FileUploadPart> parts);
+
+    /**
+     * Check that a direct upload may be bound by a business module: it must have been registered by
+     * {@code claimedBy} under {@code policyKey}, be completed (uploaded, processing or active), still fit the
+     * policy's current size limits and not be bound yet. Locks the asset for the caller's transaction; the caller
+     * stores its binding and confirms it with {@link #confirmBound(UUID)} after commit, as for ingested files.
+     */
+    FileAssetView claimDirectUpload(UUID fileAssetId, FilePolicyKey policyKey, UUID claimedBy);
+
     FileAssetView requestProcessing(UUID fileAssetId);
 
     FileAssetView confirmBound(UUID fileAssetId);
@@ -36,4 +63,10 @@ public interface FileAssetApi {
     FileAssetView markDeleted(UUID fileAssetId);
 
     FileAssetDownloadHandle openDownload(UUID fileAssetId);
+
+    /**
+     * Resolve a range-capable download source for an ACTIVE file asset. Applies the same status and
+     * delivery-profile checks as {@link #openDownload(UUID)} but does not open any stream.
+     */
+    FileAssetDownloadSource openDownloadSource(UUID fileAssetId);
 }
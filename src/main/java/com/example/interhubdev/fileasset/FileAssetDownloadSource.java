@@ -0,0 +1,41 @@
+package com.example.interhubdev.fileasset;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * Range-capable backend download of an ACTIVE file asset.
+ * <p>
+ * Validators are resolved when the source is opened, without reading object bytes, so callers can
+ * answer conditional requests before any data is fetched. Bytes are read lazily through ranged
+ * storage GETs; storage coordinates remain internal to the fileasset module.
+ */
+public interface FileAssetDownloadSource {
+
+    String originalName();
+
+    long sizeBytes();
+
+    /**
+     * Strong entity tag derived from the stored object, already quoted for the {@code ETag} header.
+     */
+    String etag();
+
+    /**
+     * Last modification time of the delivered content, or {@code null} if unknown.
+     */
+    Instant lastModified();
+
+    /**
+     * Open a stream over {@code length} bytes starting at {@code offset}. Caller must close the stream.
+     *
+     * @param offset first byte position (0-based, inclusive)
+     * @param length number of bytes to read; must be positive
+     */
+    InputStream openRange(long offset, long length);
+
+    /**
+     * Open a stream over the whole content. Caller must close the stream.
+     */
+    InputStream openFull();
+}
@@ -0,0 +1,25 @@
+package com.example.interhubdev.fileasset;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Registered file asset plus presigned part URLs for a direct client-to-storage multipart upload.
+ * <p>
+ * The client PUTs each part's byte span to its URL, keeps the returned {@code ETag} headers and
+ * reports them through {@link FileAssetApi#completeDirectUpload}. Part URLs are opaque and carry no
+ * reusable storage coordinates.
+ */
+public record FileDirectUploadSession(
+    FileAssetView asset,
+    long partSizeBytes,
+    List<PartTarget> parts,
+    LocalDateTime urlsExpireAt
+) {
+
+    /**
+     * One part of the upload: bytes {@code [offset, offset + sizeBytes)} of the file go to {@code url}.
+     */
+    public record PartTarget(int partNumber, long offset, long sizeBytes, String url) {
+    }
+}
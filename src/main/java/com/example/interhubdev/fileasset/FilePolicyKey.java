@@ -11,5 +11,10 @@ public enum FilePolicyKey {
     /**
      * Default controlled attachment profile for the initial migration step.
      */
-    CONTROLLED_ATTACHMENT
+    CONTROLLED_ATTACHMENT,
+    /**
+     * Server-generated archive of files that were already accepted under another policy
+     * (e.g. a pre-built ZIP of homework submissions). Kept only for a limited time.
+     */
+    GENERATED_ARCHIVE
 }
@@ -0,0 +1,8 @@
+package com.example.interhubdev.fileasset;
+
+/**
+ * Client-reported result of uploading one part of a direct upload: part number and the
+ * {@code ETag} returned by storage for that part.
+ */
+public record FileUploadPart(int partNumber, String etag) {
+}
@@ -77,6 +77,9 @@ public class FileAsset {
     @Column(name = "upload_receipt_token", length = 255)
     private String uploadReceiptToken;
 
+    @Column(name = "multipart_upload_id", length = 1024)
+    private String multipartUploadId;
+
     @Column(name = "uploaded_by")
     private UUID uploadedBy;
 
@@ -86,6 +89,9 @@ public class FileAsset {
     @Column(name = "final_object_key", length = 1024)
     private String finalObjectKey;
 
+    @Column(name = "final_object_etag", length = 255)
+    private String finalObjectEtag;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "safety_class", length = 64)
     private FileAssetSafetyClass safetyClass;
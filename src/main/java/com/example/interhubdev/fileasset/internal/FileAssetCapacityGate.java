@@ -39,6 +39,25 @@ class FileAssetCapacityGate {
         return effective;
     }
 
+    /**
+     * Ceiling for direct client-to-storage uploads: request-size limits of the application server do
+     * not apply, scanner capacity still does.
+     */
+    long effectiveDirectUploadMaxBytes(FileSecurityPolicy policy) {
+        long effective = policy.maxSizeBytes();
+        if (policy.antivirusMode() == AntivirusMode.REQUIRED_FAIL_CLOSED) {
+            effective = Math.min(effective, antivirusMaxScannableBytes);
+        }
+        return effective;
+    }
+
+    void ensureWithinDirectUploadLimit(FileSecurityPolicy policy, long sizeBytes) {
+        long effectiveMaxBytes = effectiveDirectUploadMaxBytes(policy);
+        if (sizeBytes > effectiveMaxBytes) {
+            throw FileAssetErrors.capacityMismatch(sizeBytes, effectiveMaxBytes, policy.maxSizeBytes());
+        }
+    }
+
     void ensureWithinEffectiveLimit(FileSecurityPolicy policy, long sizeBytes) {
         long effectiveMaxBytes = effectiveMaxBytes(policy);
         if (sizeBytes > effectiveMaxBytes) {
@@ -1,6 +1,8 @@
 package com.example.interhubdev.fileasset.internal;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -8,15 +10,41 @@ import java.time.LocalDateTime;
 
 /**
  * Internal cleanup job for expiring orphaned or unfinished file assets.
+ * <p>
+ * Each run pages through expirable assets in fixed-size batches. Every batch commits its state
+ * transitions in its own short transaction; the released storage objects are then handed to
+ * {@link FileAssetObjectReaper}. A run stops at the first short page or after
+ * {@code fileasset.cleanup.max-batches-per-run} pages, leaving the rest for the next run.
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 class FileAssetCleanupJob {
 
     private final FileAssetServiceImpl fileAssetService;
+    private final FileAssetObjectReaper objectReaper;
+
+    @Value("${fileasset.cleanup.batch-size:200}")
+    private int batchSize;
+
+    @Value("${fileasset.cleanup.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
 
     @Scheduled(fixedDelayString = "${fileasset.cleanup.interval:60000}")
     void cleanupExpiredAssets() {
-        fileAssetService.expireStaleAssets(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            FileAssetObjectReaper.ReleasedObjects released = fileAssetService.expireStaleAssetBatch(now, batchSize);
+            objectReaper.reap(released);
+            int assets = released.assetCount();
+            expired += assets;
+            if (assets < batchSize) {
+                break;
+            }
+        }
+        if (expired > 0) {
+            log.info("Fileasset cleanup expired {} assets", expired);
+        }
     }
 }
@@ -0,0 +1,69 @@
+package com.example.interhubdev.fileasset.internal;
+
+import com.example.interhubdev.fileasset.internal.policy.FileSecurityPolicy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits direct uploads into S3 multipart parts and bounds the lifetime of presigned part URLs.
+ */
+@Component
+class FileAssetDirectUploadPlanner {
+
+    /**
+     * S3 minimum size of every part except the last one.
+     */
+    static final long MIN_PART_SIZE_BYTES = 5L * 1024 * 1024;
+
+    /**
+     * S3 maximum number of parts per multipart upload.
+     */
+    static final int MAX_PARTS = 10_000;
+
+    private final long partSizeBytes;
+    private final Duration urlTtl;
+
+    @Autowired
+    FileAssetDirectUploadPlanner(
+        @Value("${app.fileasset.direct-upload.part-size:16MB}") DataSize partSize,
+        @Value("${app.fileasset.direct-upload.url-ttl:PT2H}") Duration urlTtl
+    ) {
+        this(partSize.toBytes(), urlTtl);
+    }
+
+    FileAssetDirectUploadPlanner(long partSizeBytes, Duration urlTtl) {
+        this.partSizeBytes = Math.max(partSizeBytes, MIN_PART_SIZE_BYTES);
+        this.urlTtl = urlTtl;
+    }
+
+    long partSizeFor(long sizeBytes) {
+        long minimumForPartLimit = (sizeBytes + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(partSizeBytes, minimumForPartLimit);
+    }
+
+    List<PartSpan> plan(long sizeBytes) {
+        long partSize = partSizeFor(sizeBytes);
+        List<PartSpan> parts = new ArrayList<>((int) ((sizeBytes + partSize - 1) / partSize));
+        long offset = 0;
+        int partNumber = 1;
+        while (offset < sizeBytes) {
+            long length = Math.min(partSize, sizeBytes - offset);
+            parts.add(new PartSpan(partNumber++, offset, length));
+            offset += length;
+        }
+        return parts;
+    }
+
+    Duration urlTtl(FileSecurityPolicy policy) {
+        return urlTtl.compareTo(policy.registeredTtl()) < 0 ? urlTtl : policy.registeredTtl();
+    }
+
+    record PartSpan(int partNumber, long offset, long sizeBytes) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.interhubdev.fileasset.internal;
+
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * Implementation of {@link FileAssetDownloadSource} backed by ranged GETs against the final object.
+ */
+class FileAssetDownloadSourceImpl implements FileAssetDownloadSource {
+
+    private final String originalName;
+    private final long sizeBytes;
+    private final String etag;
+    private final Instant lastModified;
+    private final String finalObjectKey;
+    private final FileAssetStoragePort storagePort;
+
+    FileAssetDownloadSourceImpl(
+        String originalName,
+        long sizeBytes,
+        String etag,
+        Instant lastModified,
+        String finalObjectKey,
+        FileAssetStoragePort storagePort
+    ) {
+        this.originalName = originalName;
+        this.sizeBytes = sizeBytes;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.finalObjectKey = finalObjectKey;
+        this.storagePort = storagePort;
+    }
+
+    @Override
+    public String originalName() {
+        return originalName;
+    }
+
+    @Override
+    public long sizeBytes() {
+        return sizeBytes;
+    }
+
+    @Override
+    public String etag() {
+        return etag;
+    }
+
+    @Override
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public InputStream openRange(long offset, long length) {
+        if (offset < 0 || length <= 0 || offset + length > sizeBytes) {
+            throw new IllegalArgumentException(
+                "Invalid range offset=" + offset + " length=" + length + " for size " + sizeBytes);
+        }
+        if (offset == 0 && length == sizeBytes) {
+            return storagePort.openStream(finalObjectKey);
+        }
+        return storagePort.openRangeStream(finalObjectKey, offset, length);
+    }
+
+    @Override
+    public InputStream openFull() {
+        return storagePort.openStream(finalObjectKey);
+    }
+}
@@ -30,6 +30,9 @@ public final class FileAssetErrors {
     public static final String CODE_FILE_ASSET_NOT_ACTIVE = "FILE_ASSET_NOT_ACTIVE";
     public static final String CODE_FILE_ASSET_DELIVERY_NOT_ALLOWED = "FILE_ASSET_DELIVERY_NOT_ALLOWED";
     public static final String CODE_FILE_ASSET_IN_USE = "FILE_ASSET_IN_USE";
+    public static final String CODE_DIRECT_UPLOAD_NOT_OWNER = "FILE_ASSET_DIRECT_UPLOAD_NOT_OWNER";
+    public static final String CODE_DIRECT_UPLOAD_MISMATCH = "FILE_ASSET_DIRECT_UPLOAD_MISMATCH";
+    public static final String CODE_DIRECT_UPLOAD_NOT_COMPLETED = "FILE_ASSET_DIRECT_UPLOAD_NOT_COMPLETED";
 
     private FileAssetErrors() {
     }
@@ -119,4 +122,19 @@ public final class FileAssetErrors {
         return Errors.of(HttpStatus.CONFLICT, CODE_FILE_ASSET_IN_USE,
             "File asset is still bound by a business module: " + id);
     }
+
+    public static AppException directUploadNotOwner(UUID id) {
+        return Errors.of(HttpStatus.FORBIDDEN, CODE_DIRECT_UPLOAD_NOT_OWNER,
+            "Direct upload can only be completed by the user who registered it: " + id);
+    }
+
+    public static AppException directUploadMismatch(UUID id, String reason) {
+        return Errors.of(HttpStatus.CONFLICT, CODE_DIRECT_UPLOAD_MISMATCH,
+            "Uploaded parts do not match file asset " + id + ": " + reason);
+    }
+
+    public static AppException directUploadNotCompleted(UUID id, FileAssetStatus status) {
+        return Errors.of(HttpStatus.CONFLICT, CODE_DIRECT_UPLOAD_NOT_COMPLETED,
+            "File asset " + id + " is not a completed direct upload (status " + status + ")");
+    }
 }
@@ -0,0 +1,89 @@
+package com.example.interhubdev.fileasset.internal;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes physical objects of assets whose state transition has already been committed.
+ * <p>
+ * Work runs on a small bounded executor. When its queue is full the submitting sweep thread runs the
+ * deletion itself, which throttles the sweep instead of piling up unbounded work. Deletion is
+ * best-effort: the database no longer references the keys, so a failed delete only leaves an
+ * orphaned object behind.
+ */
+@Component
+@Slf4j
+class FileAssetObjectReaper {
+
+    private final ThreadPoolExecutor executor;
+    private final FileAssetStoragePort storagePort;
+
+    FileAssetObjectReaper(
+        FileAssetStoragePort storagePort,
+        @Value("${fileasset.cleanup.delete-threads:2}") int threads,
+        @Value("${fileasset.cleanup.delete-queue-capacity:8}") int queueCapacity
+    ) {
+        this.storagePort = storagePort;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "fileasset-reaper-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    /**
+     * Schedule deletion of the objects released by one committed sweep batch.
+     */
+    void reap(ReleasedObjects released) {
+        if (released.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            for (PendingMultipartUpload upload : released.multipartUploads()) {
+                storagePort.abortMultipartUploadQuietly(upload.objectKey(), upload.uploadId());
+            }
+            storagePort.deleteAllQuietly(released.objectKeys());
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Fileasset reaper did not finish pending deletions before shutdown");
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Storage objects no longer referenced by any asset row after a committed transition.
+     *
+     * @param assetCount number of asset rows the batch locked (used by the sweep to detect the last page)
+     */
+    record ReleasedObjects(int assetCount, List<String> objectKeys, List<PendingMultipartUpload> multipartUploads) {
+
+        boolean isEmpty() {
+            return objectKeys.isEmpty() && multipartUploads.isEmpty();
+        }
+    }
+
+    record PendingMultipartUpload(String objectKey, String uploadId) {
+    }
+}
@@ -53,7 +53,8 @@ class FileAssetProcessingEngine {
             policy.forceBinaryObjectMetadata() ? HARDENED_CONTENT_TYPE : detectedContentType,
             HARDENED_CONTENT_DISPOSITION
         );
-        storagePort.promoteToFinal(asset.getTempObjectKey(), finalObjectKey, asset.getSizeBytes(), hardenedMetadata);
+        String finalObjectEtag = storagePort.promoteToFinal(
+            asset.getTempObjectKey(), finalObjectKey, asset.getSizeBytes(), hardenedMetadata);
 
         LocalDateTime nextExpiry = asset.getClaimedAt() == null
             ? LocalDateTime.now().plus(policy.activeUnboundTtl())
@@ -62,6 +63,7 @@ class FileAssetProcessingEngine {
         return new ProcessingResult(
             detectedContentType,
             finalObjectKey,
+            finalObjectEtag,
             policy.classify(asset),
             policy.deliveryProfile(),
             policy.archiveProfile(),
@@ -145,6 +147,7 @@ class FileAssetProcessingEngine {
     record ProcessingResult(
         String detectedContentType,
         String finalObjectKey,
+        String finalObjectEtag,
         FileAssetSafetyClass safetyClass,
         FileDeliveryProfile deliveryProfile,
         FileAssetArchiveProfile archiveProfile,
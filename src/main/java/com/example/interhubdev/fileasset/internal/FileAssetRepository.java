@@ -1,6 +1,5 @@
 package com.example.interhubdev.fileasset.internal;
 
-import com.example.interhubdev.fileasset.FileAssetStatus;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -24,17 +23,31 @@ interface FileAssetRepository extends JpaRepository<FileAsset, UUID> {
     @Query("select fa from FileAsset fa where fa.id = :id")
     Optional<FileAsset> findByIdForUpdate(@Param("id") UUID id);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("""
-        select fa from FileAsset fa
-        where fa.status in :statuses
-          and fa.expiresAt is not null
-          and fa.expiresAt <= :now
-          and (fa.status <> com.example.interhubdev.fileasset.FileAssetStatus.ACTIVE or fa.claimedAt is null)
-        order by fa.expiresAt asc
-        """)
-    List<FileAsset> findExpirableAssetsForUpdate(
-        @Param("statuses") Collection<FileAssetStatus> statuses,
-        @Param("now") LocalDateTime now
+    /**
+     * Lock the next page of expirable assets for the cleanup sweep.
+     * <p>
+     * Uses FOR UPDATE SKIP LOCKED so concurrent sweepers (and request threads holding a row lock)
+     * never block each other; rows locked elsewhere are simply picked up by a later page or run.
+     * Must be called within a transaction that moves the returned rows out of the expirable set.
+     *
+     * @param statuses expirable status names
+     * @param now      expiry threshold
+     * @param limit    page size
+     * @return locked assets, oldest expiry first
+     */
+    @Query(value = """
+        SELECT * FROM file_asset
+        WHERE status IN (:statuses)
+          AND expires_at IS NOT NULL
+          AND expires_at <= :now
+          AND (status <> 'ACTIVE' OR claimed_at IS NULL)
+        ORDER BY expires_at ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<FileAsset> lockNextExpirableBatch(
+        @Param("statuses") Collection<String> statuses,
+        @Param("now") LocalDateTime now,
+        @Param("limit") int limit
     );
 }
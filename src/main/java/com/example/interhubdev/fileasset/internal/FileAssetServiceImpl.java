@@ -3,11 +3,15 @@ package com.example.interhubdev.fileasset.internal;
 import com.example.interhubdev.error.AppException;
 import com.example.interhubdev.fileasset.FileAssetApi;
 import com.example.interhubdev.fileasset.FileAssetDownloadHandle;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
 import com.example.interhubdev.fileasset.FileAssetStatus;
 import com.example.interhubdev.fileasset.FileAssetUploadCommand;
 import com.example.interhubdev.fileasset.FileAssetUsagePort;
 import com.example.interhubdev.fileasset.FileAssetView;
+import com.example.interhubdev.fileasset.FileDeliveryProfile;
+import com.example.interhubdev.fileasset.FileDirectUploadSession;
 import com.example.interhubdev.fileasset.FilePolicyKey;
+import com.example.interhubdev.fileasset.FileUploadPart;
 import com.example.interhubdev.fileasset.FileUploadReceipt;
 import com.example.interhubdev.fileasset.internal.FileAssetProcessingEngine.ProcessingResult;
 import com.example.interhubdev.fileasset.internal.integration.FileAssetProcessingRequestedEventPayload;
@@ -18,12 +22,23 @@ import com.example.interhubdev.outbox.OutboxIntegrationEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -38,6 +53,16 @@ import java.util.stream.Collectors;
 @Slf4j
 class FileAssetServiceImpl implements FileAssetApi {
 
+    private static final String DIRECT_UPLOAD_TOKEN_PREFIX = "direct:";
+    private static final String HARDENED_CONTENT_TYPE = "application/octet-stream";
+    private static final String HARDENED_CONTENT_DISPOSITION = "attachment";
+
+    private static final Set<FileAssetStatus> CLAIMABLE_DIRECT_UPLOAD_STATUSES = Set.of(
+        FileAssetStatus.UPLOADED,
+        FileAssetStatus.PROCESSING,
+        FileAssetStatus.ACTIVE
+    );
+
     private static final Set<FileAssetStatus> EXPIRABLE_STATUSES = Set.of(
         FileAssetStatus.REGISTERED,
         FileAssetStatus.UPLOADED,
@@ -50,7 +75,9 @@ class FileAssetServiceImpl implements FileAssetApi {
     private final FileAssetProcessingEngine processingEngine;
     private final FileAssetStoragePort storagePort;
     private final FileAssetCapacityGate capacityGate;
-    private final java.util.List<FileAssetUsagePort> usagePorts;
+    private final FileAssetDirectUploadPlanner directUploadPlanner;
+    private final List<FileAssetUsagePort> usagePorts;
+    private final TransactionOperations transactions;
 
     @Override
     @Transactional
@@ -67,8 +94,8 @@ class FileAssetServiceImpl implements FileAssetApi {
 
         String tempObjectKey = buildTempObjectKey(registered.id());
         FileAssetStoragePort.HardenedObjectMetadata tempMetadata = new FileAssetStoragePort.HardenedObjectMetadata(
-            "application/octet-stream",
-            "attachment"
+            HARDENED_CONTENT_TYPE,
+            HARDENED_CONTENT_DISPOSITION
         );
 
         try (InputStream inputStream = Files.newInputStream(command.tempFile())) {
@@ -100,25 +127,168 @@ class FileAssetServiceImpl implements FileAssetApi {
         policy.validateRegistration(originalName, declaredContentType, sizeBytes);
         capacityGate.ensureWithinEffectiveLimit(policy, sizeBytes);
 
-        LocalDateTime now = LocalDateTime.now();
-        FileAsset entity = FileAsset.builder()
-            .id(UUID.randomUUID())
-            .policyKey(policy.key())
-            .policyVersion(policy.version())
-            .status(FileAssetStatus.REGISTERED)
-            .originalName(originalName.trim())
-            .declaredContentType(normalizeContentType(declaredContentType))
-            .sizeBytes(sizeBytes)
-            .uploadedBy(uploadedBy)
-            .deliveryProfile(policy.deliveryProfile())
-            .archiveProfile(policy.archiveProfile())
-            .expiresAt(now.plus(policy.registeredTtl()))
-            .createdAt(now)
-            .build();
-
+        FileAsset entity = newRegisteredAsset(policy, originalName, declaredContentType, sizeBytes, uploadedBy);
         return FileAssetMapper.toView(fileAssetRepository.save(entity));
     }
 
+    @Override
+    @Transactional
+    public FileDirectUploadSession registerDirectUpload(
+        FilePolicyKey policyKey,
+        String originalName,
+        String declaredContentType,
+        long sizeBytes,
+        UUID uploadedBy
+    ) {
+        if (uploadedBy == null) {
+            throw FileAssetErrors.invalidRegistration("uploadedBy is required for direct upload");
+        }
+        FileSecurityPolicy policy = filePolicyRegistry.resolveCurrent(policyKey);
+        policy.validateRegistration(originalName, declaredContentType, sizeBytes);
+        capacityGate.ensureWithinDirectUploadLimit(policy, sizeBytes);
+
+        FileAsset entity = newRegisteredAsset(policy, originalName, declaredContentType, sizeBytes, uploadedBy);
+        String tempObjectKey = buildTempObjectKey(entity.getId());
+        String uploadId = storagePort.createMultipartUpload(
+            tempObjectKey,
+            new FileAssetStoragePort.HardenedObjectMetadata(HARDENED_CONTENT_TYPE, HARDENED_CONTENT_DISPOSITION)
+        );
+        try {
+            entity.setTempObjectKey(tempObjectKey);
+            entity.setMultipartUploadId(uploadId);
+            FileAsset saved = fileAssetRepository.save(entity);
+
+            Duration urlTtl = directUploadPlanner.urlTtl(policy);
+            List<FileDirectUploadSession.PartTarget> parts = directUploadPlanner.plan(sizeBytes).stream()
+                .map(span -> new FileDirectUploadSession.PartTarget(
+                    span.partNumber(),
+                    span.offset(),
+                    span.sizeBytes(),
+                    storagePort.presignUploadPart(tempObjectKey, uploadId, span.partNumber(), urlTtl)
+                ))
+                .toList();
+            return new FileDirectUploadSession(
+                FileAssetMapper.toView(saved),
+                directUploadPlanner.partSizeFor(sizeBytes),
+                parts,
+                saved.getCreatedAt().plus(urlTtl)
+            );
+        } catch (RuntimeException ex) {
+            storagePort.abortMultipartUploadQuietly(tempObjectKey, uploadId);
+            throw ex;
+        }
+    }
+
+    /**
+     * Storage round-trips (part listing, assembly, stat) run before any row lock is taken and outside a
+     * transaction; the row is locked afterwards only for the short REGISTERED → UPLOADED → PROCESSING step.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileAssetView completeDirectUpload(UUID fileAssetId, UUID uploadedBy, List<FileUploadPart> parts) {
+        String receiptToken = DIRECT_UPLOAD_TOKEN_PREFIX + fileAssetId;
+        FileAsset snapshot = fileAssetRepository.findById(fileAssetId)
+            .orElseThrow(() -> FileAssetErrors.fileAssetNotFound(fileAssetId));
+        Optional<FileAssetView> settled = settledDirectUpload(snapshot, uploadedBy, receiptToken);
+        if (settled.isPresent()) {
+            return settled.get();
+        }
+        String uploadId = snapshot.getMultipartUploadId();
+        if (uploadId == null || uploadId.isBlank()) {
+            throw FileAssetErrors.invalidTransition(fileAssetId, snapshot.getStatus(), "complete direct upload");
+        }
+
+        String objectEtag;
+        try {
+            List<FileAssetStoragePort.UploadedPart> storedParts = verifyUploadedParts(snapshot, parts);
+            objectEtag = storagePort.completeMultipartUpload(snapshot.getTempObjectKey(), uploadId, storedParts);
+            verifyAssembledObject(snapshot, storedParts, objectEtag);
+        } catch (RuntimeException ex) {
+            // A concurrent completion of the same upload may have won the race; answer it idempotently.
+            return fileAssetRepository.findById(fileAssetId)
+                .filter(current -> !current.getStatus().isTerminal()
+                    && receiptToken.equals(current.getUploadReceiptToken()))
+                .map(FileAssetMapper::toView)
+                .orElseThrow(() -> ex);
+        }
+
+        try {
+            return transactions.execute(status -> finishDirectUpload(fileAssetId, uploadedBy, uploadId, receiptToken, objectEtag));
+        } catch (RuntimeException ex) {
+            // Expired while the parts were being assembled: the reaper has already released the asset's
+            // objects, so the object assembled just now would be orphaned.
+            fileAssetRepository.findById(fileAssetId)
+                .filter(current -> current.getStatus().isTerminal())
+                .ifPresent(current -> storagePort.deleteQuietly(snapshot.getTempObjectKey()));
+            throw ex;
+        }
+    }
+
+    private FileAssetView finishDirectUpload(
+        UUID fileAssetId,
+        UUID uploadedBy,
+        String uploadId,
+        String receiptToken,
+        String objectEtag
+    ) {
+        FileAsset entity = loadForUpdate(fileAssetId);
+        Optional<FileAssetView> settled = settledDirectUpload(entity, uploadedBy, receiptToken);
+        if (settled.isPresent()) {
+            return settled.get();
+        }
+        if (!uploadId.equals(entity.getMultipartUploadId())) {
+            throw FileAssetErrors.invalidTransition(fileAssetId, entity.getStatus(), "complete direct upload");
+        }
+        entity.setMultipartUploadId(null);
+
+        markUploaded(fileAssetId, new FileUploadReceipt(receiptToken, null, objectEtag));
+        return requestProcessing(fileAssetId);
+    }
+
+    /**
+     * Owner check plus the idempotent answer for an upload that is no longer REGISTERED: the current view when
+     * it was already completed through this flow, otherwise an invalid transition. Empty while still REGISTERED.
+     */
+    private static Optional<FileAssetView> settledDirectUpload(FileAsset entity, UUID uploadedBy, String receiptToken) {
+        if (entity.getUploadedBy() == null || !entity.getUploadedBy().equals(uploadedBy)) {
+            throw FileAssetErrors.directUploadNotOwner(entity.getId());
+        }
+        if (entity.getStatus() == FileAssetStatus.REGISTERED) {
+            return Optional.empty();
+        }
+        if (!entity.getStatus().isTerminal() && receiptToken.equals(entity.getUploadReceiptToken())) {
+            return Optional.of(FileAssetMapper.toView(entity));
+        }
+        throw FileAssetErrors.invalidTransition(entity.getId(), entity.getStatus(), "complete direct upload");
+    }
+
+    @Override
+    @Transactional
+    public FileAssetView claimDirectUpload(UUID fileAssetId, FilePolicyKey policyKey, UUID claimedBy) {
+        FileAsset entity = loadForUpdate(fileAssetId);
+        if (claimedBy == null || !claimedBy.equals(entity.getUploadedBy())) {
+            throw FileAssetErrors.directUploadNotOwner(fileAssetId);
+        }
+        boolean completedDirectly = entity.getUploadReceiptToken() != null
+            && entity.getUploadReceiptToken().startsWith(DIRECT_UPLOAD_TOKEN_PREFIX);
+        if (!completedDirectly || !CLAIMABLE_DIRECT_UPLOAD_STATUSES.contains(entity.getStatus())) {
+            throw FileAssetErrors.directUploadNotCompleted(fileAssetId, entity.getStatus());
+        }
+        if (entity.getPolicyKey() != policyKey) {
+            throw FileAssetErrors.unsupportedPolicy(entity.getPolicyKey());
+        }
+        // Limits may have been lowered since registration; the stored size was verified against storage on completion.
+        FileSecurityPolicy policy = filePolicyRegistry.resolveCurrent(policyKey);
+        if (entity.getSizeBytes() > policy.maxSizeBytes()) {
+            throw FileAssetErrors.invalidRegistration("sizeBytes exceeds policy limit");
+        }
+        capacityGate.ensureWithinDirectUploadLimit(policy, entity.getSizeBytes());
+        if (entity.getClaimedAt() != null || usagePorts.stream().anyMatch(port -> port.isFileAssetInUse(fileAssetId))) {
+            throw FileAssetErrors.fileAssetInUse(fileAssetId);
+        }
+        return FileAssetMapper.toView(entity);
+    }
+
     @Override
     @Transactional
     public FileAssetView markUploaded(UUID fileAssetId, FileUploadReceipt uploadReceipt) {
@@ -245,19 +415,7 @@ class FileAssetServiceImpl implements FileAssetApi {
     @Override
     @Transactional(readOnly = true)
     public FileAssetDownloadHandle openDownload(UUID fileAssetId) {
-        FileAsset entity = fileAssetRepository.findById(fileAssetId)
-            .orElseThrow(() -> FileAssetErrors.fileAssetNotFound(fileAssetId));
-        if (entity.getStatus() != FileAssetStatus.ACTIVE) {
-            throw FileAssetErrors.fileNotActive(fileAssetId);
-        }
-        if (entity.getDeliveryProfile() != null
-            && entity.getDeliveryProfile() != com.example.interhubdev.fileasset.FileDeliveryProfile.BACKEND_ATTACHMENT_STREAM_ONLY
-            && entity.getDeliveryProfile() != com.example.interhubdev.fileasset.FileDeliveryProfile.CONTROLLED_ATTACHMENT_ONLY) {
-            throw FileAssetErrors.deliveryNotAllowed(fileAssetId);
-        }
-        if (entity.getFinalObjectKey() == null || entity.getFinalObjectKey().isBlank()) {
-            throw FileAssetErrors.fileNotActive(fileAssetId);
-        }
+        FileAsset entity = loadDeliverable(fileAssetId);
         return new FileAssetDownloadHandle(
             entity.getOriginalName(),
             entity.getSizeBytes(),
@@ -265,6 +423,32 @@ class FileAssetServiceImpl implements FileAssetApi {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FileAssetDownloadSource openDownloadSource(UUID fileAssetId) {
+        FileAsset entity = loadDeliverable(fileAssetId);
+        String storageEtag = entity.getFinalObjectEtag();
+        Instant lastModified = entity.getActivatedAt() != null
+            ? entity.getActivatedAt().atZone(ZoneId.systemDefault()).toInstant()
+            : null;
+        if (storageEtag == null || storageEtag.isBlank()) {
+            // Assets activated before the final ETag was persisted: fall back to a metadata-only HEAD.
+            FileAssetStoragePort.ObjectStat stat = storagePort.stat(entity.getFinalObjectKey());
+            storageEtag = stat.etag();
+            if (lastModified == null) {
+                lastModified = stat.lastModified();
+            }
+        }
+        return new FileAssetDownloadSourceImpl(
+            entity.getOriginalName(),
+            entity.getSizeBytes(),
+            toStrongEtag(storageEtag, entity.getId()),
+            lastModified,
+            entity.getFinalObjectKey(),
+            storagePort
+        );
+    }
+
     @Transactional
     void handleProcessingRequested(UUID fileAssetId) {
         FileAsset entity = loadForUpdate(fileAssetId);
@@ -290,9 +474,19 @@ class FileAssetServiceImpl implements FileAssetApi {
         }
     }
 
+    /**
+     * Expire one page of stale assets and return the storage objects they released.
+     * <p>
+     * Rows are locked with SKIP LOCKED and only their state changes here; the caller deletes the
+     * returned objects after this transaction has committed, so no storage round-trips happen while
+     * row locks are held.
+     */
     @Transactional
-    void expireStaleAssets(LocalDateTime now) {
-        var staleAssets = fileAssetRepository.findExpirableAssetsForUpdate(EXPIRABLE_STATUSES, now);
+    FileAssetObjectReaper.ReleasedObjects expireStaleAssetBatch(LocalDateTime now, int batchSize) {
+        List<String> statuses = EXPIRABLE_STATUSES.stream().map(Enum::name).toList();
+        List<FileAsset> staleAssets = fileAssetRepository.lockNextExpirableBatch(statuses, now, batchSize);
+        List<String> objectKeys = new ArrayList<>();
+        List<FileAssetObjectReaper.PendingMultipartUpload> multipartUploads = new ArrayList<>();
         for (FileAsset entity : staleAssets) {
             if (entity.getStatus().isTerminal()) {
                 continue;
@@ -302,15 +496,36 @@ class FileAssetServiceImpl implements FileAssetApi {
             }
             entity.setStatus(FileAssetStatus.EXPIRED);
             entity.setExpiresAt(now);
-            cleanupPhysical(entity);
-            fileAssetRepository.save(entity);
+            if (entity.getMultipartUploadId() != null) {
+                multipartUploads.add(new FileAssetObjectReaper.PendingMultipartUpload(
+                    entity.getTempObjectKey(),
+                    entity.getMultipartUploadId()
+                ));
+            }
+            if (entity.getTempObjectKey() != null) {
+                objectKeys.add(entity.getTempObjectKey());
+            }
+            if (entity.getFinalObjectKey() != null) {
+                objectKeys.add(entity.getFinalObjectKey());
+            }
+            entity.setMultipartUploadId(null);
+            entity.setTempObjectKey(null);
+            entity.setFinalObjectKey(null);
+            entity.setFinalObjectEtag(null);
         }
+        fileAssetRepository.saveAll(staleAssets);
+        return new FileAssetObjectReaper.ReleasedObjects(
+            staleAssets.size(),
+            List.copyOf(objectKeys),
+            List.copyOf(multipartUploads)
+        );
     }
 
     private void applyProcessingSuccess(FileAsset entity, ProcessingResult result) {
         entity.setStatus(FileAssetStatus.ACTIVE);
         entity.setDetectedContentType(result.detectedContentType());
         entity.setFinalObjectKey(result.finalObjectKey());
+        entity.setFinalObjectEtag(result.finalObjectEtag());
         entity.setSafetyClass(result.safetyClass());
         entity.setDeliveryProfile(result.deliveryProfile());
         entity.setArchiveProfile(result.archiveProfile());
@@ -339,6 +554,140 @@ class FileAssetServiceImpl implements FileAssetApi {
         throw ex;
     }
 
+    private static FileAsset newRegisteredAsset(
+        FileSecurityPolicy policy,
+        String originalName,
+        String declaredContentType,
+        long sizeBytes,
+        UUID uploadedBy
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        return FileAsset.builder()
+            .id(UUID.randomUUID())
+            .policyKey(policy.key())
+            .policyVersion(policy.version())
+            .status(FileAssetStatus.REGISTERED)
+            .originalName(originalName.trim())
+            .declaredContentType(normalizeContentType(declaredContentType))
+            .sizeBytes(sizeBytes)
+            .uploadedBy(uploadedBy)
+            .deliveryProfile(policy.deliveryProfile())
+            .archiveProfile(policy.archiveProfile())
+            .expiresAt(now.plus(policy.registeredTtl()))
+            .createdAt(now)
+            .build();
+    }
+
+    /**
+     * Checks client-reported parts against the parts storage actually received: same part numbers,
+     * matching ETags and a total size equal to the registered size.
+     */
+    private List<FileAssetStoragePort.UploadedPart> verifyUploadedParts(FileAsset entity, List<FileUploadPart> reportedParts) {
+        UUID fileAssetId = entity.getId();
+        if (reportedParts == null || reportedParts.isEmpty()) {
+            throw FileAssetErrors.directUploadMismatch(fileAssetId, "no parts reported");
+        }
+        Map<Integer, String> reportedEtags = new HashMap<>();
+        for (FileUploadPart part : reportedParts) {
+            if (part == null || reportedEtags.put(part.partNumber(), normalizeEtag(part.etag())) != null) {
+                throw FileAssetErrors.directUploadMismatch(fileAssetId, "duplicate or empty part entry");
+            }
+        }
+
+        List<FileAssetStoragePort.UploadedPart> storedParts = storagePort
+            .listUploadedParts(entity.getTempObjectKey(), entity.getMultipartUploadId()).stream()
+            .sorted(Comparator.comparingInt(FileAssetStoragePort.UploadedPart::partNumber))
+            .toList();
+        if (storedParts.size() != reportedEtags.size()) {
+            throw FileAssetErrors.directUploadMismatch(fileAssetId,
+                "storage holds " + storedParts.size() + " parts, client reported " + reportedEtags.size());
+        }
+        long totalBytes = 0;
+        for (FileAssetStoragePort.UploadedPart stored : storedParts) {
+            String reportedEtag = reportedEtags.get(stored.partNumber());
+            if (reportedEtag == null) {
+                throw FileAssetErrors.directUploadMismatch(fileAssetId, "part " + stored.partNumber() + " was not reported");
+            }
+            if (!reportedEtag.equals(normalizeEtag(stored.etag()))) {
+                throw FileAssetErrors.directUploadMismatch(fileAssetId, "ETag of part " + stored.partNumber() + " differs");
+            }
+            totalBytes += stored.sizeBytes();
+        }
+        if (totalBytes != entity.getSizeBytes()) {
+            throw FileAssetErrors.directUploadMismatch(fileAssetId,
+                "received " + totalBytes + " bytes, registered " + entity.getSizeBytes());
+        }
+        return storedParts;
+    }
+
+    /**
+     * Re-checks the assembled object: composite multipart ETag and stored size. On mismatch the
+     * object is removed so that nothing unverified can reach processing.
+     */
+    private void verifyAssembledObject(
+        FileAsset entity,
+        List<FileAssetStoragePort.UploadedPart> storedParts,
+        String objectEtag
+    ) {
+        String expectedEtag = expectedMultipartEtag(storedParts);
+        boolean etagMatches = expectedEtag == null || expectedEtag.equals(normalizeEtag(objectEtag));
+        boolean sizeMatches = etagMatches
+            && storagePort.stat(entity.getTempObjectKey()).sizeBytes() == entity.getSizeBytes();
+        if (!etagMatches || !sizeMatches) {
+            storagePort.deleteQuietly(entity.getTempObjectKey());
+            throw FileAssetErrors.directUploadMismatch(entity.getId(),
+                etagMatches ? "assembled object size differs" : "assembled object ETag differs");
+        }
+    }
+
+    /**
+     * S3 multipart ETag: hex MD5 over the concatenated binary part MD5s, suffixed with the part count.
+     * Returns {@code null} when part ETags are not plain MD5 digests (e.g. server-side encryption).
+     */
+    private static String expectedMultipartEtag(List<FileAssetStoragePort.UploadedPart> parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            for (FileAssetStoragePort.UploadedPart part : parts) {
+                String etag = normalizeEtag(part.etag());
+                if (etag == null || !etag.matches("[0-9a-f]{32}")) {
+                    return null;
+                }
+                digest.update(HexFormat.of().parseHex(etag));
+            }
+            return HexFormat.of().formatHex(digest.digest()) + "-" + parts.size();
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static String normalizeEtag(String etag) {
+        String value = trimToNull(etag);
+        if (value == null) {
+            return null;
+        }
+        if (value.startsWith("\"") && value.endsWith("\"") && value.length() > 1) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value.toLowerCase();
+    }
+
+    private FileAsset loadDeliverable(UUID fileAssetId) {
+        FileAsset entity = fileAssetRepository.findById(fileAssetId)
+            .orElseThrow(() -> FileAssetErrors.fileAssetNotFound(fileAssetId));
+        if (entity.getStatus() != FileAssetStatus.ACTIVE) {
+            throw FileAssetErrors.fileNotActive(fileAssetId);
+        }
+        if (entity.getDeliveryProfile() != null
+            && entity.getDeliveryProfile() != FileDeliveryProfile.BACKEND_ATTACHMENT_STREAM_ONLY
+            && entity.getDeliveryProfile() != FileDeliveryProfile.CONTROLLED_ATTACHMENT_ONLY) {
+            throw FileAssetErrors.deliveryNotAllowed(fileAssetId);
+        }
+        if (entity.getFinalObjectKey() == null || entity.getFinalObjectKey().isBlank()) {
+            throw FileAssetErrors.fileNotActive(fileAssetId);
+        }
+        return entity;
+    }
+
     private FileAsset loadForUpdate(UUID fileAssetId) {
         return fileAssetRepository.findByIdForUpdate(fileAssetId)
             .orElseThrow(() -> FileAssetErrors.fileAssetNotFound(fileAssetId));
@@ -394,10 +743,25 @@ class FileAssetServiceImpl implements FileAssetApi {
     }
 
     private void cleanupPhysical(FileAsset entity) {
+        storagePort.abortMultipartUploadQuietly(entity.getTempObjectKey(), entity.getMultipartUploadId());
         storagePort.deleteQuietly(entity.getTempObjectKey());
         storagePort.deleteQuietly(entity.getFinalObjectKey());
+        entity.setMultipartUploadId(null);
         entity.setTempObjectKey(null);
         entity.setFinalObjectKey(null);
+        entity.setFinalObjectEtag(null);
+    }
+
+    private static String toStrongEtag(String storageEtag, UUID fileAssetId) {
+        String value = trimToNull(storageEtag);
+        if (value == null) {
+            // Content of an ACTIVE asset never changes, so its id is still a sound strong validator.
+            value = fileAssetId.toString();
+        }
+        if (value.startsWith("\"") && value.endsWith("\"") && value.length() > 1) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return "\"" + value + "\"";
     }
 
     private static String extractFailureCode(RuntimeException ex) {
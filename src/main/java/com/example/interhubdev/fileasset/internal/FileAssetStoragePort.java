@@ -1,6 +1,10 @@
 package com.example.interhubdev.fileasset.internal;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Internal storage contract for lifecycle cleanup, scan access and hardened finalization.
@@ -11,12 +15,50 @@ interface FileAssetStoragePort {
 
     boolean exists(String objectKey);
 
+    ObjectStat stat(String objectKey);
+
     InputStream openStream(String objectKey);
 
-    void promoteToFinal(String sourceObjectKey, String targetObjectKey, long sizeBytes, HardenedObjectMetadata metadata);
+    /**
+     * Opens a ranged GET over {@code [offset, offset + length)} of the stored object.
+     */
+    InputStream openRangeStream(String objectKey, long offset, long length);
+
+    /**
+     * Copies the temporary object to its final key and returns the ETag reported by storage for
+     * the stored final object.
+     */
+    String promoteToFinal(String sourceObjectKey, String targetObjectKey, long sizeBytes, HardenedObjectMetadata metadata);
 
     void deleteQuietly(String objectKey);
 
+    /**
+     * Best-effort bulk delete using the S3 multi-object delete API; per-key failures are logged, not thrown.
+     */
+    void deleteAllQuietly(Collection<String> objectKeys);
+
+    /**
+     * Start an S3 multipart upload for a direct (presigned) client upload and return its upload id.
+     */
+    String createMultipartUpload(String objectKey, HardenedObjectMetadata metadata);
+
+    String presignUploadPart(String objectKey, String uploadId, int partNumber, Duration expiry);
+
+    List<UploadedPart> listUploadedParts(String objectKey, String uploadId);
+
+    /**
+     * Assemble the uploaded parts into the object and return the ETag reported by storage.
+     */
+    String completeMultipartUpload(String objectKey, String uploadId, List<UploadedPart> parts);
+
+    void abortMultipartUploadQuietly(String objectKey, String uploadId);
+
     record HardenedObjectMetadata(String contentType, String contentDisposition) {
     }
+
+    record ObjectStat(long sizeBytes, String etag, Instant lastModified) {
+    }
+
+    record UploadedPart(int partNumber, String etag, long sizeBytes) {
+    }
 }
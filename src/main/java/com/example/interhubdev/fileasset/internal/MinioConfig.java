@@ -1,5 +1,6 @@
 package com.example.interhubdev.fileasset.internal;
 
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +17,12 @@ class MinioConfig {
     @Value("${app.storage.endpoint}")
     private String endpoint;
 
+    @Value("${app.storage.public-endpoint:}")
+    private String publicEndpoint;
+
+    @Value("${app.storage.region:us-east-1}")
+    private String region;
+
     @Value("${app.storage.access-key}")
     private String accessKey;
 
@@ -30,4 +37,21 @@ class MinioConfig {
             .credentials(accessKey, secretKey)
             .build();
     }
+
+    @Bean
+    MinioMultipartClient minioMultipartClient() {
+        MinioAsyncClient client = MinioAsyncClient.builder()
+            .endpoint(endpoint)
+            .credentials(accessKey, secretKey)
+            .build();
+        // Presigning is a local computation; a fixed region avoids a bucket-location lookup
+        // against an endpoint the backend may not be able to reach.
+        String presignEndpoint = publicEndpoint == null || publicEndpoint.isBlank() ? endpoint : publicEndpoint;
+        MinioClient presignClient = MinioClient.builder()
+            .endpoint(presignEndpoint)
+            .region(region)
+            .credentials(accessKey, secretKey)
+            .build();
+        return new MinioMultipartClient(client, presignClient);
+    }
 }
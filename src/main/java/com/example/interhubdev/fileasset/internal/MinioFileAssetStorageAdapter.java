@@ -1,18 +1,30 @@
 package com.example.interhubdev.fileasset.internal;
 
-import io.minio.MinioClient;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
 import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
 import io.minio.BucketExistsArgs;
 import io.minio.MakeBucketArgs;
+import io.minio.ObjectWriteResponse;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
 import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Part;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,7 +35,13 @@ import java.util.Map;
 @Slf4j
 class MinioFileAssetStorageAdapter implements FileAssetStoragePort {
 
+    /**
+     * S3 DeleteObjects accepts at most 1000 keys per request.
+     */
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final MinioClient minioClient;
+    private final MinioMultipartClient multipartClient;
 
     @Value("${app.storage.bucket-name:documents}")
     private String bucketName;
@@ -64,6 +82,25 @@ class MinioFileAssetStorageAdapter implements FileAssetStoragePort {
         }
     }
 
+    @Override
+    public ObjectStat stat(String objectKey) {
+        try {
+            StatObjectResponse response = minioClient.statObject(
+                StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .build()
+            );
+            return new ObjectStat(
+                response.size(),
+                response.etag(),
+                response.lastModified() != null ? response.lastModified().toInstant() : null
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not stat fileasset object " + objectKey, e);
+        }
+    }
+
     @Override
     public InputStream openStream(String objectKey) {
         try {
@@ -79,10 +116,26 @@ class MinioFileAssetStorageAdapter implements FileAssetStoragePort {
     }
 
     @Override
-    public void promoteToFinal(String sourceObjectKey, String targetObjectKey, long sizeBytes, HardenedObjectMetadata metadata) {
+    public InputStream openRangeStream(String objectKey, long offset, long length) {
+        try {
+            return minioClient.getObject(
+                GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(objectKey)
+                    .offset(offset)
+                    .length(length)
+                    .build()
+            );
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not open range of fileasset object " + objectKey, e);
+        }
+    }
+
+    @Override
+    public String promoteToFinal(String sourceObjectKey, String targetObjectKey, long sizeBytes, HardenedObjectMetadata metadata) {
         try (InputStream inputStream = openStream(sourceObjectKey)) {
             ensureBucketExists();
-            minioClient.putObject(
+            ObjectWriteResponse response = minioClient.putObject(
                 PutObjectArgs.builder()
                     .bucket(bucketName)
                     .object(targetObjectKey)
@@ -92,6 +145,7 @@ class MinioFileAssetStorageAdapter implements FileAssetStoragePort {
                     .build()
             );
             deleteQuietly(sourceObjectKey);
+            return response.etag();
         } catch (Exception e) {
             throw new IllegalStateException("Could not promote fileasset object to final storage", e);
         }
@@ -114,6 +168,90 @@ class MinioFileAssetStorageAdapter implements FileAssetStoragePort {
         }
     }
 
+    @Override
+    public void deleteAllQuietly(Collection<String> objectKeys) {
+        List<DeleteObject> objects = objectKeys.stream()
+            .filter(key -> key != null && !key.isBlank())
+            .distinct()
+            .map(DeleteObject::new)
+            .toList();
+        for (int from = 0; from < objects.size(); from += MAX_KEYS_PER_DELETE) {
+            List<DeleteObject> chunk = objects.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, objects.size()));
+            try {
+                // The result iterable is lazy: the DeleteObjects request is only sent while iterating it.
+                Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                        .bucket(bucketName)
+                        .objects(chunk)
+                        .build()
+                );
+                for (Result<DeleteError> result : results) {
+                    DeleteError error = result.get();
+                    log.debug("Fileasset cleanup could not delete object {}: {}", error.objectName(), error.message());
+                }
+            } catch (Exception e) {
+                log.debug("Fileasset cleanup could not delete {} objects", chunk.size(), e);
+            }
+        }
+    }
+
+    @Override
+    public String createMultipartUpload(String objectKey, HardenedObjectMetadata metadata) {
+        try {
+            ensureBucketExists();
+            Multimap<String, String> headers = ArrayListMultimap.create();
+            headers.put("Content-Type", metadata.contentType());
+            headers.put("Content-Disposition", metadata.contentDisposition());
+            return multipartClient.initiateMultipartUpload(bucketName, objectKey, headers);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start multipart upload for fileasset object " + objectKey, e);
+        }
+    }
+
+    @Override
+    public String presignUploadPart(String objectKey, String uploadId, int partNumber, Duration expiry) {
+        try {
+            return multipartClient.presignUploadPart(bucketName, objectKey, uploadId, partNumber, (int) expiry.toSeconds());
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not presign upload part " + partNumber + " for " + objectKey, e);
+        }
+    }
+
+    @Override
+    public List<UploadedPart> listUploadedParts(String objectKey, String uploadId) {
+        try {
+            return multipartClient.listAllParts(bucketName, objectKey, uploadId).stream()
+                .map(part -> new UploadedPart(part.partNumber(), part.etag(), part.partSize()))
+                .toList();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not list uploaded parts for fileasset object " + objectKey, e);
+        }
+    }
+
+    @Override
+    public String completeMultipartUpload(String objectKey, String uploadId, List<UploadedPart> parts) {
+        try {
+            Part[] completed = parts.stream()
+                .map(part -> new Part(part.partNumber(), part.etag()))
+                .toArray(Part[]::new);
+            return multipartClient.completeUpload(bucketName, objectKey, uploadId, completed).etag();
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not complete multipart upload for fileasset object " + objectKey, e);
+        }
+    }
+
+    @Override
+    public void abortMultipartUploadQuietly(String objectKey, String uploadId) {
+        if (objectKey == null || objectKey.isBlank() || uploadId == null || uploadId.isBlank()) {
+            return;
+        }
+        try {
+            multipartClient.abortUpload(bucketName, objectKey, uploadId);
+        } catch (Exception e) {
+            log.debug("Fileasset cleanup could not abort multipart upload {} for {}", uploadId, objectKey, e);
+        }
+    }
+
     private void ensureBucketExists() {
         try {
             boolean exists = minioClient.bucketExists(
@@ -0,0 +1,76 @@
+package com.example.interhubdev.fileasset.internal;
+
+import com.google.common.collect.Multimap;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.ListPartsResponse;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.http.Method;
+import io.minio.messages.Part;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MinIO client that exposes the S3 multipart-upload primitives needed for presigned direct uploads.
+ * The SDK only offers these to subclasses of {@link MinioAsyncClient}; calls below are blocking.
+ * <p>
+ * Part URLs are signed by a separate client so they can target the publicly reachable storage
+ * endpoint while all other calls keep using the internal endpoint.
+ * </p>
+ */
+class MinioMultipartClient extends MinioAsyncClient {
+
+    private static final int LIST_PARTS_PAGE_SIZE = 1000;
+
+    private final MinioClient presignClient;
+
+    MinioMultipartClient(MinioAsyncClient client, MinioClient presignClient) {
+        super(client);
+        this.presignClient = presignClient;
+    }
+
+    String initiateMultipartUpload(String bucket, String object, Multimap<String, String> headers) throws Exception {
+        return createMultipartUpload(bucket, null, object, headers, null).result().uploadId();
+    }
+
+    String presignUploadPart(String bucket, String object, String uploadId, int partNumber, int expirySeconds)
+        throws Exception {
+        return presignClient.getPresignedObjectUrl(
+            GetPresignedObjectUrlArgs.builder()
+                .method(Method.PUT)
+                .bucket(bucket)
+                .object(object)
+                .expiry(expirySeconds, TimeUnit.SECONDS)
+                .extraQueryParams(Map.of(
+                    "uploadId", uploadId,
+                    "partNumber", String.valueOf(partNumber)
+                ))
+                .build()
+        );
+    }
+
+    List<Part> listAllParts(String bucket, String object, String uploadId) throws Exception {
+        List<Part> parts = new ArrayList<>();
+        Integer marker = null;
+        while (true) {
+            ListPartsResponse response = listParts(bucket, null, object, LIST_PARTS_PAGE_SIZE, marker, uploadId, null, null);
+            parts.addAll(response.result().partList());
+            if (!response.result().isTruncated()) {
+                return parts;
+            }
+            marker = response.result().nextPartNumberMarker();
+        }
+    }
+
+    ObjectWriteResponse completeUpload(String bucket, String object, String uploadId, Part[] parts) throws Exception {
+        return completeMultipartUpload(bucket, null, object, uploadId, parts, null, null);
+    }
+
+    void abortUpload(String bucket, String object, String uploadId) throws Exception {
+        abortMultipartUpload(bucket, null, object, uploadId, null, null);
+    }
+}
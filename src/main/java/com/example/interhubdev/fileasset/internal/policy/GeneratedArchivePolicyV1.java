@@ -0,0 +1,101 @@
+package com.example.interhubdev.fileasset.internal.policy;
+
+import com.example.interhubdev.fileasset.FileAssetArchiveProfile;
+import com.example.interhubdev.fileasset.FileDeliveryProfile;
+import com.example.interhubdev.fileasset.FilePolicyKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Policy for archives generated server-side from already scanned attachments.
+ * <p>
+ * Entries passed antivirus when they were uploaded, so the archive itself is not scanned again.
+ * Generated archives are a cache: they are never claimed and expire after {@link #activeUnboundTtl()}.
+ */
+@Component
+class GeneratedArchivePolicyV1 implements FileSecurityPolicy {
+
+    private final long maxSizeBytes;
+    private final Duration retention;
+
+    GeneratedArchivePolicyV1(
+        @Value("${app.fileasset.generated-archive.max-size-bytes:10737418240}") long maxSizeBytes,
+        @Value("${app.fileasset.generated-archive.retention:P7D}") Duration retention
+    ) {
+        this.maxSizeBytes = maxSizeBytes;
+        this.retention = retention;
+    }
+
+    @Override
+    public FilePolicyKey key() {
+        return FilePolicyKey.GENERATED_ARCHIVE;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Duration registeredTtl() {
+        return Duration.ofHours(6);
+    }
+
+    @Override
+    public Duration uploadedTtl() {
+        return Duration.ofHours(6);
+    }
+
+    @Override
+    public Duration activeUnboundTtl() {
+        return retention;
+    }
+
+    @Override
+    public int maxProcessingAttempts() {
+        return 3;
+    }
+
+    @Override
+    public long maxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    @Override
+    public Set<String> allowedDeclaredContentTypes() {
+        return Set.of("application/zip");
+    }
+
+    @Override
+    public FileDeliveryProfile deliveryProfile() {
+        return FileDeliveryProfile.BACKEND_ATTACHMENT_STREAM_ONLY;
+    }
+
+    @Override
+    public FileAssetArchiveProfile archiveProfile() {
+        return FileAssetArchiveProfile.OPAQUE_NO_SERVER_EXTRACTION;
+    }
+
+    @Override
+    public ArchiveHandlingMode archiveHandlingMode() {
+        return ArchiveHandlingMode.OPAQUE_NO_SERVER_EXTRACTION;
+    }
+
+    @Override
+    public ExecutionIsolationProfile executionIsolationProfile() {
+        return ExecutionIsolationProfile.NEVER_EXECUTE_SERVER_SIDE;
+    }
+
+    @Override
+    public boolean forceBinaryObjectMetadata() {
+        return true;
+    }
+
+    @Override
+    public boolean opaqueObjectKey() {
+        return true;
+    }
+}
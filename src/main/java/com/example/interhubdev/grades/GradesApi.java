@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Public API for Grades (Progress) module: ledger of point allocations per student per offering.
@@ -186,6 +187,23 @@ public interface GradesApi {
      */
     GradeEntryDto setPointsForLesson(UUID lessonSessionId, UUID studentId, BigDecimal points, UUID requesterId);
 
+    /**
+     * Set or replace lesson points for a spreadsheet-style matrix of students × lessons in one call
+     * (e.g. grades pasted for a whole group). Each non-null cell behaves like {@link #setPointsForLesson}.
+     * Lessons and group membership are validated for the whole matrix up front (set-based); existing entries
+     * are loaded in one query and all writes are batched. All-or-nothing.
+     *
+     * @param offeringId  offering all lessons belong to; students must be members of its group
+     * @param lessonIds   lesson (session) ids, the matrix columns (distinct)
+     * @param rows        one row per student (distinct) with one cell per lesson; null cells are skipped
+     * @param requesterId user performing the action (must have permission to manage grades)
+     * @return counts of created, updated, voided and unchanged entries
+     * @throws AppException NOT_FOUND (offering/lesson), BAD_REQUEST (lesson of another offering, student not in group,
+     *                      malformed matrix, validation), FORBIDDEN
+     */
+    LessonPointsMatrixResultDto setPointsForLessons(UUID offeringId, List<UUID> lessonIds,
+                                                    List<LessonPointsMatrixRow> rows, UUID requesterId);
+
     /**
      * Get points (sum of ACTIVE entries) per homework submission ID.
      * Used by composition to show grades for each submitted homework in one call.
@@ -221,4 +239,18 @@ public interface GradesApi {
      * @throws AppException NOT_FOUND if offering missing, FORBIDDEN if unauthorized
      */
     BigDecimal getStudentTotalPoints(UUID studentId, UUID offeringId, UUID requesterId);
+
+    /**
+     * Stream all grade entries of an offering to the consumer (e.g. gradebook export), ordered by student and
+     * graded_at. Rows are read with a server-side cursor and handed over one by one, so memory does not grow
+     * with the offering's size; the consumer runs while the cursor (and its read-only transaction) is open.
+     *
+     * @param offeringId    offering id
+     * @param includeVoided whether VOIDED entries are included
+     * @param consumer      receives each entry
+     * @param requesterId   current user (must have permission to manage grades)
+     * @throws AppException NOT_FOUND if offering not found, FORBIDDEN
+     */
+    void streamOfferingEntries(UUID offeringId, boolean includeVoided, Consumer<GradeEntryDto> consumer,
+                               UUID requesterId);
 }
@@ -0,0 +1,17 @@
+package com.example.interhubdev.grades;
+
+/**
+ * Outcome of a lesson points matrix write.
+ *
+ * @param created   cells that had no lesson points and got a new entry
+ * @param updated   cells whose entry got new points
+ * @param voided    duplicate lesson-only entries voided while replacing points
+ * @param unchanged cells that already held the given points
+ */
+public record LessonPointsMatrixResultDto(
+    int created,
+    int updated,
+    int voided,
+    int unchanged
+) {
+}
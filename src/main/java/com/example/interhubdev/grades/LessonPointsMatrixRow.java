@@ -0,0 +1,25 @@
+package com.example.interhubdev.grades;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One student row of a lesson points matrix (PUT /api/grades/offerings/{offeringId}/lesson-points).
+ * {@code points} has one cell per lesson column, in the order of the request's lessonIds; a null cell leaves
+ * the student's points for that lesson unchanged.
+ */
+public record LessonPointsMatrixRow(
+    @NotNull(message = "studentId is required")
+    UUID studentId,
+    @NotNull(message = "points is required")
+    List<
+        @DecimalMin(value = "-9999.99", message = "points must be at least -9999.99")
+        @DecimalMax(value = "9999.99", message = "points must be at most 9999.99")
+        BigDecimal> points
+) {
+}
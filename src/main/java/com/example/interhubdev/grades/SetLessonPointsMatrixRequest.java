@@ -0,0 +1,24 @@
+package com.example.interhubdev.grades;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request body for PUT /api/grades/offerings/{offeringId}/lesson-points: a spreadsheet-style matrix of
+ * students (rows) × lessons (columns). Each non-null cell sets or replaces the student's points for that lesson.
+ */
+public record SetLessonPointsMatrixRequest(
+    @NotEmpty(message = "lessonIds must not be empty")
+    @Size(max = 200, message = "at most 200 lessons per request")
+    List<@NotNull UUID> lessonIds,
+    @NotEmpty(message = "rows must not be empty")
+    @Size(max = 1000, message = "at most 1000 students per request")
+    @Valid
+    List<LessonPointsMatrixRow> rows
+) {
+}
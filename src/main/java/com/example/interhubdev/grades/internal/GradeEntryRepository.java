@@ -1,12 +1,17 @@
 package com.example.interhubdev.grades.internal;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * JPA repository for grade_entry.
@@ -59,6 +64,16 @@ interface GradeEntryRepository extends JpaRepository<GradeEntryEntity, UUID> {
             String status
     );
 
+    /**
+     * Entries with the given status for the students linked to the lessons with no homework submission
+     * (for bulk set/replace of lesson points; one query for a whole matrix).
+     */
+    List<GradeEntryEntity> findByLessonIdInAndStudentIdInAndHomeworkSubmissionIdIsNullAndStatus(
+            Collection<UUID> lessonIds,
+            Collection<UUID> studentIds,
+            String status
+    );
+
     /**
      * ACTIVE grade entries for one student linked to this lesson (for set/replace points).
      */
@@ -76,4 +91,20 @@ interface GradeEntryRepository extends JpaRepository<GradeEntryEntity, UUID> {
             List<UUID> submissionIds,
             String status
     );
+
+    /**
+     * Entries of the offering with the given statuses, ordered by student and graded_at, read through a
+     * server-side cursor (fetch size; requires an open transaction). Callers must close the stream and detach
+     * processed entities so memory stays constant for large offerings.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM GradeEntryEntity e WHERE e.offeringId = :offeringId AND e.status IN :statuses " +
+            "ORDER BY e.studentId, e.gradedAt")
+    Stream<GradeEntryEntity> streamByOfferingId(
+            @Param("offeringId") UUID offeringId,
+            @Param("statuses") Collection<String> statuses
+    );
 }
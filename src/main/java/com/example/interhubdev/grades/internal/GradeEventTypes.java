@@ -0,0 +1,13 @@
+package com.example.interhubdev.grades.internal;
+
+/**
+ * Event type constants for grades integration events (outbox).
+ */
+public final class GradeEventTypes {
+
+    private GradeEventTypes() {
+    }
+
+    /** Fired when grade entries of an offering are created, changed or voided. */
+    public static final String GRADE_ENTRIES_CHANGED = "grades.grade_entry.changed";
+}
@@ -161,4 +161,17 @@ class GradesController {
         GradeEntryDto dto = gradesApi.setPointsForLesson(lessonId, studentId, body.points(), requesterId);
         return ResponseEntity.ok(dto);
     }
+
+    @PutMapping("/offerings/{offeringId}/lesson-points")
+    @Operation(summary = "Set or replace lesson points for a matrix", description = "Spreadsheet-style bulk edit: rows are students, columns are lessons (lessonIds), cells are points (null = unchanged). Each cell behaves like the single-cell edit. All-or-nothing. Requires TEACHER or ADMIN role.")
+    public ResponseEntity<LessonPointsMatrixResultDto> setPointsForLessons(
+            @PathVariable UUID offeringId,
+            @Valid @RequestBody SetLessonPointsMatrixRequest body,
+            HttpServletRequest request
+    ) {
+        UUID requesterId = requireCurrentUser(request);
+        LessonPointsMatrixResultDto result = gradesApi.setPointsForLessons(
+                offeringId, body.lessonIds(), body.rows(), requesterId);
+        return ResponseEntity.ok(result);
+    }
 }
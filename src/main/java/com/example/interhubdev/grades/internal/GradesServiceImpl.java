@@ -1,23 +1,32 @@
 package com.example.interhubdev.grades.internal;
 
 import com.example.interhubdev.grades.*;
+import com.example.interhubdev.grades.internal.integration.GradeEntriesChangedEventPayload;
 import com.example.interhubdev.offering.OfferingApi;
 import com.example.interhubdev.offering.GroupSubjectOfferingDto;
+import com.example.interhubdev.schedule.LessonDto;
 import com.example.interhubdev.schedule.ScheduleApi;
 import com.example.interhubdev.student.StudentApi;
 import com.example.interhubdev.student.StudentDto;
 import com.example.interhubdev.group.GroupApi;
+import com.example.interhubdev.outbox.OutboxEventDraft;
+import com.example.interhubdev.outbox.OutboxIntegrationEventPublisher;
 import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserApi;
 import com.example.interhubdev.user.UserDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link GradesApi}: create, update, void, and query grade entries.
@@ -32,6 +41,11 @@ class GradesServiceImpl implements GradesApi {
     private final StudentApi studentApi;
     private final GroupApi groupApi;
     private final UserApi userApi;
+    private final OutboxIntegrationEventPublisher outboxPublisher;
+    private final LessonPointsPipeline lessonPointsPipeline;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     @Transactional
@@ -69,6 +83,7 @@ class GradesServiceImpl implements GradesApi {
                 .status(GradeEntryEntity.STATUS_ACTIVE)
                 .build();
         GradeEntryEntity saved = repository.save(entity);
+        publishEntriesChanged(offeringId, List.of(studentId));
         return GradeEntryMappers.toDto(saved);
     }
 
@@ -85,14 +100,15 @@ class GradesServiceImpl implements GradesApi {
             UUID gradedBy
     ) {
         ensureCanGrade(gradedBy);
-        validateOfferingExists(offeringId);
+        GroupSubjectOfferingDto offering = offeringApi.findOfferingById(offeringId)
+                .orElseThrow(() -> GradeErrors.offeringNotFound(offeringId));
         GradeValidation.validateTypeAndLabel(typeCode, typeLabel);
         GradeValidation.validateDescription(description);
+        validateGroupMembers(offering.groupId(), items.stream().map(BulkGradeItem::studentId).toList());
 
         LocalDateTime at = gradedAt != null ? gradedAt : LocalDateTime.now();
         List<GradeEntryEntity> toSave = new ArrayList<>();
         for (BulkGradeItem item : items) {
-            validateStudentExists(item.studentId());
             GradeValidation.validatePoints(item.points());
             GradeEntryEntity entity = GradeEntryEntity.builder()
                     .studentId(item.studentId())
@@ -110,6 +126,7 @@ class GradesServiceImpl implements GradesApi {
             toSave.add(entity);
         }
         List<GradeEntryEntity> saved = repository.saveAll(toSave);
+        publishEntriesChanged(offeringId, saved.stream().map(GradeEntryEntity::getStudentId).distinct().toList());
         return saved.stream().map(GradeEntryMappers::toDto).toList();
     }
 
@@ -158,6 +175,7 @@ class GradesServiceImpl implements GradesApi {
             entity.setGradedAt(gradedAt);
         }
         GradeEntryEntity saved = repository.save(entity);
+        publishEntriesChanged(saved.getOfferingId(), List.of(saved.getStudentId()));
         return GradeEntryMappers.toDto(saved);
     }
 
@@ -169,6 +187,7 @@ class GradesServiceImpl implements GradesApi {
                 .orElseThrow(() -> GradeErrors.entryNotFound(id));
         entity.setStatus(GradeEntryEntity.STATUS_VOIDED);
         repository.save(entity);
+        publishEntriesChanged(entity.getOfferingId(), List.of(entity.getStudentId()));
     }
 
     @Override
@@ -300,43 +319,119 @@ class GradesServiceImpl implements GradesApi {
                 .orElseThrow(() -> GradeErrors.offeringNotFound(lesson.offeringId()));
         validateStudentExists(studentId);
 
-        List<StudentDto> roster = studentApi.findByGroupId(offering.groupId());
-        boolean inGroup = roster.stream().anyMatch(s -> s.id().equals(studentId));
-        if (!inGroup) {
+        if (!studentApi.isGroupMember(studentId, offering.groupId())) {
             throw GradeErrors.studentNotInGroup(studentId, offering.groupId());
         }
 
-        // Only lesson-only entries (exclude entries linked to homework submission).
-        List<GradeEntryEntity> existing = repository.findByLessonIdAndStudentIdAndHomeworkSubmissionIdIsNullAndStatusOrderByGradedAtDesc(
-                lessonSessionId, studentId, GradeEntryEntity.STATUS_ACTIVE);
+        LessonPointsPipeline.Plan plan = lessonPointsPipeline.apply(offering.id(),
+                List.of(new LessonPointsPipeline.Cell(lessonSessionId, studentId, points)), requesterId);
+        publishEntriesChanged(offering.id(), List.copyOf(plan.changedStudentIds()));
+        return GradeEntryMappers.toDto(plan.entries().get(0));
+    }
 
-        if (existing.isEmpty()) {
-            GradeEntryEntity created = GradeEntryEntity.builder()
-                    .studentId(studentId)
-                    .offeringId(offering.id())
-                    .points(points)
-                    .typeCode(GradeTypeCode.OTHER)
-                    .typeLabel(null)
-                    .description(null)
-                    .lessonId(lessonSessionId)
-                    .homeworkSubmissionId(null)
-                    .gradedBy(requesterId)
-                    .gradedAt(LocalDateTime.now())
-                    .status(GradeEntryEntity.STATUS_ACTIVE)
-                    .build();
-            GradeEntryEntity saved = repository.save(created);
-            return GradeEntryMappers.toDto(saved);
+    @Override
+    @Transactional
+    public LessonPointsMatrixResultDto setPointsForLessons(UUID offeringId, List<UUID> lessonIds,
+                                                           List<LessonPointsMatrixRow> rows, UUID requesterId) {
+        ensureCanGrade(requesterId);
+        GroupSubjectOfferingDto offering = offeringApi.findOfferingById(offeringId)
+                .orElseThrow(() -> GradeErrors.offeringNotFound(offeringId));
+        validateMatrixShape(lessonIds, rows);
+        validateLessonsOfOffering(lessonIds, offeringId);
+        validateGroupMembers(offering.groupId(), rows.stream().map(LessonPointsMatrixRow::studentId).toList());
+
+        List<LessonPointsPipeline.Cell> cells = new ArrayList<>();
+        for (LessonPointsMatrixRow row : rows) {
+            for (int i = 0; i < lessonIds.size(); i++) {
+                BigDecimal points = row.points().get(i);
+                if (points != null) {
+                    GradeValidation.validatePoints(points);
+                    cells.add(new LessonPointsPipeline.Cell(lessonIds.get(i), row.studentId(), points));
+                }
+            }
+        }
+        if (cells.isEmpty()) {
+            return new LessonPointsMatrixResultDto(0, 0, 0, 0);
+        }
+        LessonPointsPipeline.Plan plan = lessonPointsPipeline.apply(offeringId, cells, requesterId);
+        publishEntriesChanged(offeringId, List.copyOf(plan.changedStudentIds()));
+        return new LessonPointsMatrixResultDto(plan.created(), plan.updated(), plan.voided(), plan.unchanged());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamOfferingEntries(UUID offeringId, boolean includeVoided, Consumer<GradeEntryDto> consumer,
+                                      UUID requesterId) {
+        ensureCanGrade(requesterId);
+        validateOfferingExists(offeringId);
+        List<String> statuses = includeVoided
+                ? List.of(GradeEntryEntity.STATUS_ACTIVE, GradeEntryEntity.STATUS_VOIDED)
+                : List.of(GradeEntryEntity.STATUS_ACTIVE);
+        try (Stream<GradeEntryEntity> entries = repository.streamByOfferingId(offeringId, statuses)) {
+            entries.forEach(entry -> {
+                consumer.accept(GradeEntryMappers.toDto(entry));
+                // Keep the persistence context empty: it would otherwise hold every streamed row
+                entityManager.detach(entry);
+            });
+        }
+    }
+
+    private static void validateMatrixShape(List<UUID> lessonIds, List<LessonPointsMatrixRow> rows) {
+        if (new HashSet<>(lessonIds).size() != lessonIds.size()) {
+            throw GradeErrors.validationFailed("lessonIds must not contain duplicates");
+        }
+        Set<UUID> seenStudents = new HashSet<>();
+        for (LessonPointsMatrixRow row : rows) {
+            if (!seenStudents.add(row.studentId())) {
+                throw GradeErrors.validationFailed("Duplicate row for student " + row.studentId());
+            }
+            if (row.points().size() != lessonIds.size()) {
+                throw GradeErrors.validationFailed("Row for student " + row.studentId() + " has "
+                        + row.points().size() + " cells, expected " + lessonIds.size());
+            }
+        }
+    }
+
+    /**
+     * All lessons exist and belong to the offering (one batch lookup).
+     */
+    private void validateLessonsOfOffering(List<UUID> lessonIds, UUID offeringId) {
+        Map<UUID, LessonDto> lessonsById = scheduleApi.findLessonsByIds(lessonIds).stream()
+                .collect(Collectors.toMap(LessonDto::id, l -> l));
+        for (UUID lessonId : lessonIds) {
+            LessonDto lesson = lessonsById.get(lessonId);
+            if (lesson == null) {
+                throw GradeErrors.lessonNotFound(lessonId);
+            }
+            if (!offeringId.equals(lesson.offeringId())) {
+                throw GradeErrors.validationFailed("Lesson " + lessonId + " does not belong to offering " + offeringId);
+            }
+        }
+    }
+
+    /**
+     * All students are members of the group, checked against the group's roster id set (one set lookup
+     * instead of one query per student).
+     */
+    private void validateGroupMembers(UUID groupId, Collection<UUID> studentIds) {
+        Set<UUID> roster = studentApi.findStudentIdsByGroupId(groupId);
+        for (UUID studentId : studentIds) {
+            if (!roster.contains(studentId)) {
+                throw GradeErrors.studentNotInGroup(studentId, groupId);
+            }
         }
+    }
 
-        GradeEntryEntity first = existing.get(0);
-        first.setPoints(points);
-        repository.save(first);
-        for (int i = 1; i < existing.size(); i++) {
-            GradeEntryEntity e = existing.get(i);
-            e.setStatus(GradeEntryEntity.STATUS_VOIDED);
-            repository.save(e);
+    private void publishEntriesChanged(UUID offeringId, List<UUID> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
         }
-        return GradeEntryMappers.toDto(first);
+        Instant now = Instant.now();
+        outboxPublisher.publish(OutboxEventDraft.builder()
+                .eventType(GradeEventTypes.GRADE_ENTRIES_CHANGED)
+                .payload(new GradeEntriesChangedEventPayload(offeringId, studentIds, now))
+                .occurredAt(now)
+                .build());
     }
 
     private void ensureCanGrade(UUID userId) {
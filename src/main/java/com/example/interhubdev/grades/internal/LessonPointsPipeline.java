@@ -0,0 +1,134 @@
+package com.example.interhubdev.grades.internal;
+
+import com.example.interhubdev.grades.GradeTypeCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Set-or-replace of lesson points (lesson-only entries, no homework submission) for many (lesson, student) cells.
+ * Callers validate lessons and students first (set-based, see {@link GradesServiceImpl}); then:
+ * <ol>
+ *   <li>the ACTIVE lesson-only entries of all cells are loaded in one query;</li>
+ *   <li>creates, updates and voids are planned in memory: per cell the latest entry takes the points and
+ *       older duplicates are voided, as for a single-cell edit;</li>
+ *   <li>new entries are saved with one {@code saveAll} and changes to loaded entries are flushed by dirty
+ *       checking, both as JDBC batches ({@code hibernate.jdbc.batch_size}, ordered inserts and updates).</li>
+ * </ol>
+ * Must run inside the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class LessonPointsPipeline {
+
+    /**
+     * Points for one student for one lesson.
+     */
+    record Cell(UUID lessonId, UUID studentId, BigDecimal points) {
+    }
+
+    /**
+     * Planned (and, after {@link #apply}, written) changes.
+     *
+     * @param entries           entry holding the points of each cell, in cell order
+     * @param inserts           new entries
+     * @param changedStudentIds students with at least one created, updated or voided entry
+     */
+    record Plan(List<GradeEntryEntity> entries, List<GradeEntryEntity> inserts, int updated, int voided, int unchanged,
+                Set<UUID> changedStudentIds) {
+
+        int created() {
+            return inserts.size();
+        }
+    }
+
+    private record CellKey(UUID lessonId, UUID studentId) {
+    }
+
+    private final GradeEntryRepository repository;
+
+    /**
+     * Plan and write the cells (cells must be distinct per lesson and student).
+     */
+    Plan apply(UUID offeringId, List<Cell> cells, UUID gradedBy) {
+        Set<UUID> lessonIds = cells.stream().map(Cell::lessonId).collect(Collectors.toSet());
+        Set<UUID> studentIds = cells.stream().map(Cell::studentId).collect(Collectors.toSet());
+        List<GradeEntryEntity> existing = repository
+                .findByLessonIdInAndStudentIdInAndHomeworkSubmissionIdIsNullAndStatus(
+                        lessonIds, studentIds, GradeEntryEntity.STATUS_ACTIVE);
+
+        Plan plan = plan(offeringId, cells, existing, gradedBy, LocalDateTime.now());
+        if (!plan.inserts().isEmpty()) {
+            repository.saveAll(plan.inserts());
+        }
+        return plan;
+    }
+
+    /**
+     * In-memory step: decide creates, updates and voids. Loaded entities are modified in place.
+     */
+    static Plan plan(UUID offeringId, List<Cell> cells, List<GradeEntryEntity> existingActive, UUID gradedBy,
+                     LocalDateTime now) {
+        Map<CellKey, List<GradeEntryEntity>> existingByCell = new HashMap<>();
+        for (GradeEntryEntity entry : existingActive) {
+            existingByCell.computeIfAbsent(new CellKey(entry.getLessonId(), entry.getStudentId()), k -> new ArrayList<>())
+                    .add(entry);
+        }
+
+        List<GradeEntryEntity> entries = new ArrayList<>(cells.size());
+        List<GradeEntryEntity> inserts = new ArrayList<>();
+        int updated = 0;
+        int voided = 0;
+        int unchanged = 0;
+        Set<UUID> changedStudentIds = new LinkedHashSet<>();
+        for (Cell cell : cells) {
+            List<GradeEntryEntity> current = existingByCell.getOrDefault(
+                    new CellKey(cell.lessonId(), cell.studentId()), List.of());
+            if (current.isEmpty()) {
+                GradeEntryEntity created = GradeEntryEntity.builder()
+                        .studentId(cell.studentId())
+                        .offeringId(offeringId)
+                        .points(cell.points())
+                        .typeCode(GradeTypeCode.OTHER)
+                        .lessonId(cell.lessonId())
+                        .gradedBy(gradedBy)
+                        .gradedAt(now)
+                        .status(GradeEntryEntity.STATUS_ACTIVE)
+                        .build();
+                inserts.add(created);
+                entries.add(created);
+                changedStudentIds.add(cell.studentId());
+                continue;
+            }
+            List<GradeEntryEntity> latestFirst = current.stream()
+                    .sorted(Comparator.comparing(GradeEntryEntity::getGradedAt).reversed())
+                    .toList();
+            GradeEntryEntity first = latestFirst.get(0);
+            if (first.getPoints().compareTo(cell.points()) == 0) {
+                unchanged++;
+            } else {
+                first.setPoints(cell.points());
+                updated++;
+                changedStudentIds.add(cell.studentId());
+            }
+            for (int i = 1; i < latestFirst.size(); i++) {
+                latestFirst.get(i).setStatus(GradeEntryEntity.STATUS_VOIDED);
+                voided++;
+                changedStudentIds.add(cell.studentId());
+            }
+            entries.add(first);
+        }
+        return new Plan(entries, inserts, updated, voided, unchanged, changedStudentIds);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.interhubdev.grades.internal.integration;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Payload for grade entries changed event: which students' totals in the offering may have changed.
+ * One event is published per write (a bulk write lists all affected students).
+ */
+public record GradeEntriesChangedEventPayload(
+        UUID offeringId,
+        List<UUID> studentIds,
+        Instant changedAt
+) {
+}
@@ -18,6 +18,10 @@
  * Only users with TEACHER or ADMIN/MODERATOR/SUPER_ADMIN can create, update, or void grades. Read by same roles
  * (and optionally students for own grades — extend later).
  *
+ * <h2>Integration events</h2>
+ * Every write publishes {@code grades.grade_entry.changed} (offering and affected students) via the outbox,
+ * e.g. for read models that cache per-student totals.
+ *
  * <h2>Dependencies</h2>
  * <ul>
  *   <li>student — roster by group for group summary ({@link com.example.interhubdev.student.StudentApi#findByGroupId})</li>
@@ -26,11 +30,12 @@
  *   <li>schedule — resolve lesson to offering for set-points-for-lesson</li>
  *   <li>auth — current user for graded_by</li>
  *   <li>user — roles for permission checks</li>
+ *   <li>outbox — publish integration events</li>
  *   <li>error — AppException, Errors</li>
  * </ul>
  */
 @org.springframework.modulith.ApplicationModule(
     displayName = "Grades",
-    allowedDependencies = {"student", "group", "offering", "schedule", "auth", "user", "error"}
+    allowedDependencies = {"student", "group", "offering", "schedule", "auth", "user", "error", "outbox"}
 )
 package com.example.interhubdev.grades;
@@ -1,7 +1,9 @@
 package com.example.interhubdev.group;
 
 import com.example.interhubdev.error.AppException;
+import com.example.interhubdev.student.GroupMembershipImportResult;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
@@ -128,12 +130,25 @@ public interface GroupApi {
 
     /**
      * Add multiple students to group. Idempotent per student. Empty list is no-op.
+     * Unknown students are reported per row in the result instead of failing the request.
      *
      * @param groupId    group id
      * @param studentIds list of student ids
+     * @return counts and rejected rows
      * @throws AppException e.g. group not found
      */
-    void addGroupMembersBulk(UUID groupId, List<UUID> studentIds);
+    GroupMembershipImportResult addGroupMembersBulk(UUID groupId, List<UUID> studentIds);
+
+    /**
+     * Import group memberships from a CSV stream (header with {@code student_id} = student number and
+     * {@code group_code}). The stream is read and written in chunks; bad rows (unknown student or group,
+     * missing values) are reported per line and do not abort the import. Idempotent per (student, group).
+     *
+     * @param csv CSV body (UTF-8); not closed by the caller before this returns
+     * @return counts and rejected rows
+     * @throws AppException BAD_REQUEST if the header lacks the required columns or the body cannot be read
+     */
+    GroupMembershipImportResult importGroupMembersCsv(InputStream csv);
 
     /**
      * Remove student from group.
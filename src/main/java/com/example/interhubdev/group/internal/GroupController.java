@@ -3,6 +3,7 @@ package com.example.interhubdev.group.internal;
 import com.example.interhubdev.group.*;
 import com.example.interhubdev.program.ProgramApi;
 import com.example.interhubdev.program.SemesterIdResponse;
+import com.example.interhubdev.student.GroupMembershipImportResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -12,10 +13,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -125,13 +128,20 @@ class GroupController {
 
     @PostMapping("/{groupId}/members/bulk")
     @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
-    @Operation(summary = "Add multiple students to group", description = "Add many students at once. Idempotent per student. Empty list is no-op.")
-    public ResponseEntity<Void> addGroupMembersBulk(
+    @Operation(summary = "Add multiple students to group", description = "Add many students at once. Idempotent per student. Empty list is no-op. Unknown students are reported per row.")
+    public ResponseEntity<GroupMembershipImportResult> addGroupMembersBulk(
             @PathVariable UUID groupId,
             @Valid @RequestBody AddGroupMembersBulkRequest request
     ) {
-        groupApi.addGroupMembersBulk(groupId, request.studentIds());
-        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        return ResponseEntity.ok(groupApi.addGroupMembersBulk(groupId, request.studentIds()));
+    }
+
+    @PostMapping(value = "/members/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Import group memberships from CSV",
+            description = "Streamed CSV with header columns student_id (student number) and group_code. Idempotent per row; bad rows are reported by line number.")
+    public ResponseEntity<GroupMembershipImportResult> importGroupMembersCsv(InputStream body) {
+        return ResponseEntity.ok(groupApi.importGroupMembersCsv(body));
     }
 
     @DeleteMapping("/{groupId}/members/{studentId}")
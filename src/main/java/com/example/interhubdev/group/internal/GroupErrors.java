@@ -25,6 +25,8 @@ public final class GroupErrors {
     public static final String CODE_GROUP_CODE_EXISTS = "GROUP_CODE_EXISTS";
     /** Used when leader with same role already exists for group/student. */
     public static final String CODE_GROUP_LEADER_ROLE_EXISTS = "GROUP_LEADER_ROLE_EXISTS";
+    /** Used when a membership import file cannot be read (missing header columns, unreadable body). */
+    public static final String CODE_MEMBERSHIP_IMPORT_INVALID = "GROUP_MEMBERSHIP_IMPORT_INVALID";
 
     public static AppException groupNotFound(UUID id) {
         return Errors.of(HttpStatus.NOT_FOUND, CODE_GROUP_NOT_FOUND, "Group not found: " + id);
@@ -50,4 +52,8 @@ public final class GroupErrors {
         return Errors.of(HttpStatus.CONFLICT, CODE_GROUP_LEADER_ROLE_EXISTS,
                 "Leader with this role already exists for group/student");
     }
+
+    public static AppException membershipImportInvalid(String message) {
+        return Errors.of(HttpStatus.BAD_REQUEST, CODE_MEMBERSHIP_IMPORT_INVALID, message);
+    }
 }
@@ -0,0 +1,178 @@
+package com.example.interhubdev.group.internal;
+
+import com.example.interhubdev.student.GroupMembershipImportResult;
+import com.example.interhubdev.student.GroupMembershipImportResult.RowError;
+import com.example.interhubdev.student.GroupMembershipRow;
+import com.example.interhubdev.student.StudentApi;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Streams a membership CSV and imports it in chunks, so the file is never held in memory.
+ * <p>
+ * The first line is a header with (at least) the columns {@value #COLUMN_STUDENT} (student number) and
+ * {@value #COLUMN_GROUP} (group code), in any order; the delimiter is {@code ,} or {@code ;} (detected from
+ * the header) and fields may be double-quoted. Row numbers in the result are file line numbers.
+ * Runs in the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class GroupMembershipCsvImporter {
+
+    static final String COLUMN_STUDENT = "student_id";
+    static final String COLUMN_GROUP = "group_code";
+    /** Rows resolved and written per set-based round trip. */
+    static final int CHUNK_SIZE = 2000;
+
+    private final StudentGroupRepository studentGroupRepository;
+    private final StudentApi studentApi;
+
+    GroupMembershipImportResult importCsv(InputStream csv) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw GroupErrors.membershipImportInvalid("CSV is empty");
+            }
+            if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+                header = header.substring(1);
+            }
+            char delimiter = header.indexOf(';') >= 0 && header.indexOf(',') < 0 ? ';' : ',';
+            List<String> columns = split(header, delimiter).stream()
+                    .map(c -> c.trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            int studentColumn = columns.indexOf(COLUMN_STUDENT);
+            int groupColumn = columns.indexOf(COLUMN_GROUP);
+            if (studentColumn < 0 || groupColumn < 0) {
+                throw GroupErrors.membershipImportInvalid(
+                        "CSV header must contain columns " + COLUMN_STUDENT + " and " + COLUMN_GROUP);
+            }
+
+            Map<String, Optional<UUID>> groupIdsByCode = new HashMap<>();
+            GroupMembershipImportResult result = GroupMembershipImportResult.empty();
+            List<String[]> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<Integer> chunkLines = new ArrayList<>(CHUNK_SIZE);
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = split(line, delimiter);
+                String student = field(fields, studentColumn);
+                String group = field(fields, groupColumn);
+                chunk.add(new String[]{student, group});
+                chunkLines.add(lineNumber);
+                if (chunk.size() == CHUNK_SIZE) {
+                    result = result.plus(importChunk(chunk, chunkLines, groupIdsByCode));
+                    chunk.clear();
+                    chunkLines.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                result = result.plus(importChunk(chunk, chunkLines, groupIdsByCode));
+            }
+            return result;
+        } catch (IOException e) {
+            throw GroupErrors.membershipImportInvalid("Failed to read CSV: " + e.getMessage());
+        }
+    }
+
+    private GroupMembershipImportResult importChunk(List<String[]> chunk, List<Integer> lines,
+                                                    Map<String, Optional<UUID>> groupIdsByCode) {
+        resolveGroupCodes(chunk, groupIdsByCode);
+        List<RowError> errors = new ArrayList<>();
+        List<GroupMembershipRow> rows = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            String student = chunk.get(i)[0];
+            String group = chunk.get(i)[1];
+            int line = lines.get(i);
+            if (student == null || group == null) {
+                errors.add(new RowError(line, GroupMembershipImportResult.CODE_INVALID_ROW,
+                        "Both " + COLUMN_STUDENT + " and " + COLUMN_GROUP + " are required"));
+                continue;
+            }
+            Optional<UUID> groupId = groupIdsByCode.get(group);
+            if (groupId.isEmpty()) {
+                errors.add(new RowError(line, GroupMembershipImportResult.CODE_GROUP_NOT_FOUND,
+                        "Group not found with code: " + group));
+                continue;
+            }
+            rows.add(GroupMembershipRow.byNumber(line, student, groupId.get()));
+        }
+        GroupMembershipImportResult result = GroupMembershipImportResult.rejected(errors);
+        return rows.isEmpty() ? result : result.plus(studentApi.addToGroupsBulk(rows));
+    }
+
+    /**
+     * Look up codes not seen in earlier chunks with one IN query; unknown codes are cached as empty.
+     */
+    private void resolveGroupCodes(List<String[]> chunk, Map<String, Optional<UUID>> groupIdsByCode) {
+        List<String> unresolved = chunk.stream()
+                .map(r -> r[1])
+                .filter(code -> code != null && !groupIdsByCode.containsKey(code))
+                .distinct()
+                .toList();
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        unresolved.forEach(code -> groupIdsByCode.put(code, Optional.empty()));
+        for (StudentGroup group : studentGroupRepository.findByCodeIn(unresolved)) {
+            groupIdsByCode.put(group.getCode(), Optional.of(group.getId()));
+        }
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split one CSV line. Double-quoted fields may contain the delimiter; {@code ""} inside quotes is a quote.
+     */
+    static List<String> split(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.interhubdev.group.internal;
 
 import com.example.interhubdev.group.*;
 import com.example.interhubdev.group.port.GroupIdsByTeacherPort;
+import com.example.interhubdev.student.GroupMembershipImportResult;
 import com.example.interhubdev.student.StudentApi;
 import com.example.interhubdev.student.StudentDto;
 import com.example.interhubdev.user.UserApi;
@@ -10,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +30,7 @@ class GroupServiceImpl implements GroupApi {
     private final GroupCatalogService groupCatalogService;
     private final GroupLeaderService groupLeaderService;
     private final GroupOverrideService groupOverrideService;
+    private final GroupMembershipCsvImporter groupMembershipCsvImporter;
     private final GroupIdsByTeacherPort groupIdsByTeacherPort;
     private final StudentApi studentApi;
     private final UserApi userApi;
@@ -107,11 +110,17 @@ class GroupServiceImpl implements GroupApi {
 
     @Override
     @Transactional
-    public void addGroupMembersBulk(UUID groupId, List<UUID> studentIds) {
+    public GroupMembershipImportResult addGroupMembersBulk(UUID groupId, List<UUID> studentIds) {
         if (groupCatalogService.findGroupById(groupId).isEmpty()) {
             throw GroupErrors.groupNotFound(groupId);
         }
-        studentApi.addToGroupBulk(groupId, studentIds);
+        return studentApi.addToGroupBulk(groupId, studentIds);
+    }
+
+    @Override
+    @Transactional
+    public GroupMembershipImportResult importGroupMembersCsv(InputStream csv) {
+        return groupMembershipCsvImporter.importCsv(csv);
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.example.interhubdev.group.internal;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +20,7 @@ interface StudentGroupRepository extends JpaRepository<StudentGroup, UUID> {
     List<StudentGroup> findByProgramIdOrderByCodeAsc(UUID programId);
 
     boolean existsByCode(String code);
+
+    /** Batch lookup by code (membership import). */
+    List<StudentGroup> findByCodeIn(Collection<String> codes);
 }
@@ -0,0 +1,13 @@
+package com.example.interhubdev.invitation;
+
+import java.util.List;
+
+/**
+ * Request object for creating many invitations at once (e.g. a student intake).
+ *
+ * @param invitations one entry per user to invite; emails must be unique within the request
+ */
+public record BulkCreateInvitationsRequest(
+    List<CreateInvitationRequest> invitations
+) {
+}
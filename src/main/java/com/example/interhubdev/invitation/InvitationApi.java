@@ -43,11 +43,16 @@ public interface InvitationApi {
      */
     List<InvitationDto> findByInvitedBy(UUID adminId);
 
+    /**
+     * Get a bulk invitation run with its delivery progress.
+     */
+    Optional<InvitationRunDto> findRun(UUID runId);
+
     // ==================== Command methods ====================
 
     /**
      * Create a new invitation.
-     * Creates user with PENDING status and sends invitation email.
+     * Creates user with PENDING status and queues the invitation email (sent in the background).
      *
      * @param request    invitation data including user and role-specific profile
      * @param invitedBy  ID of the admin creating the invitation
@@ -56,9 +61,27 @@ public interface InvitationApi {
      */
     InvitationDto create(CreateInvitationRequest request, UUID invitedBy);
 
+    /**
+     * Maximum number of invitations in one {@link #createBulk} call.
+     */
+    int MAX_BULK_SIZE = 5000;
+
+    /**
+     * Create many invitations as one run. All-or-nothing: if any row is rejected, nothing is created
+     * and the error names the row. Emails are queued and delivered in the background at the configured
+     * rate; track delivery with {@link #findRun}.
+     *
+     * @param requests   invitations (1..{@value #MAX_BULK_SIZE}, unique emails)
+     * @param invitedBy  ID of the admin creating the invitations
+     * @return created run
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if empty, too large or emails repeat;
+     *                                                   the row's own error (prefixed with the row) otherwise
+     */
+    InvitationRunDto createBulk(List<CreateInvitationRequest> requests, UUID invitedBy);
+
     /**
      * Resend invitation email.
-     * Generates new token and sends email.
+     * Generates new token and queues the email.
      *
      * @param invitationId invitation ID
      * @throws IllegalArgumentException if invitation not found
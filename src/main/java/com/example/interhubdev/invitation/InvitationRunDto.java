@@ -0,0 +1,24 @@
+package com.example.interhubdev.invitation;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk invitation run with delivery progress.
+ *
+ * @param id             run ID
+ * @param invitedById    admin who created the run (null if that user was deleted)
+ * @param createdAt      when the run was created
+ * @param total          number of invitations created in the run
+ * @param countsByStatus current number of the run's invitations per status; PENDING and SENDING are
+ *                       still being delivered, SENT / FAILED are done (statuses with no invitations are omitted)
+ */
+public record InvitationRunDto(
+    UUID id,
+    UUID invitedById,
+    Instant createdAt,
+    int total,
+    Map<InvitationStatus, Long> countsByStatus
+) {
+}
@@ -72,6 +72,24 @@ class Invitation {
     @Builder.Default
     private int emailAttempts = 0;
 
+    /**
+     * When the email dispatcher may (re)try sending; lease end while SENDING. Null when not queued.
+     */
+    @Column(name = "email_next_attempt_at")
+    private Instant emailNextAttemptAt;
+
+    /**
+     * Error of the last failed email attempt.
+     */
+    @Column(name = "email_last_error", length = 1000)
+    private String emailLastError;
+
+    /**
+     * Bulk invitation run this invitation belongs to (null for single invitations).
+     */
+    @Column(name = "run_id")
+    private UUID runId;
+
     /**
      * When the invitation expires (3 months from creation).
      */
@@ -117,6 +135,17 @@ class Invitation {
         this.updatedAt = Instant.now();
     }
 
+    /**
+     * Queue the invitation email for the dispatcher (takes effect when the transaction commits).
+     */
+    public void enqueueEmail() {
+        this.status = InvitationStatus.PENDING;
+        this.emailAttempts = 0;
+        this.emailNextAttemptAt = Instant.now();
+        this.emailLastError = null;
+        this.updatedAt = Instant.now();
+    }
+
     /**
      * Mark email as sent.
      */
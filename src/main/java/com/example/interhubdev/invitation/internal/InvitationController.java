@@ -79,6 +79,32 @@ class InvitationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(invitation);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    @Operation(
+            summary = "Create invitations in bulk",
+            description = "Creates up to 5000 invitations as one run (all-or-nothing; the error names the rejected row). "
+                    + "Emails are delivered in the background; poll GET /runs/{runId} for progress. Only ADMIN and SUPER_ADMIN."
+    )
+    public ResponseEntity<InvitationRunDto> createBulk(
+            @Valid @RequestBody BulkCreateInvitationsRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        UserDto currentUser = authApi.getCurrentUser(httpRequest)
+                .orElseThrow(() -> Errors.unauthorized("Для создания приглашения необходимо войти в систему."));
+        InvitationRunDto run = invitationApi.createBulk(request.invitations(), currentUser.id());
+        return ResponseEntity.status(HttpStatus.CREATED).body(run);
+    }
+
+    @GetMapping("/runs/{runId}")
+    @PreAuthorize("hasAnyRole('STAFF', 'MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Get bulk invitation run", description = "Delivery progress of a bulk invitation run (counts by status)")
+    public ResponseEntity<InvitationRunDto> findRun(@PathVariable UUID runId) {
+        InvitationRunDto run = invitationApi.findRun(runId)
+                .orElseThrow(() -> InvitationErrors.runNotFound(runId));
+        return ResponseEntity.ok(run);
+    }
+
     @PostMapping("/{id}/resend")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
     @Operation(summary = "Resend invitation email", description = "Only ADMIN and SUPER_ADMIN can resend invitations")
@@ -0,0 +1,139 @@
+package com.example.interhubdev.invitation.internal;
+
+import com.example.interhubdev.email.EmailApi;
+import com.example.interhubdev.email.EmailResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends queued invitation emails (see {@link InvitationEmailQueue}) on a dedicated bounded worker pool,
+ * so a large intake does not occupy the shared scheduler threads used by other background jobs.
+ * <p>
+ * The scheduled poll only claims as many invitations as there is free in-flight capacity and hands
+ * them to the workers in groups of {@code messages-per-connection}; a worker sends a group over one SMTP
+ * connection ({@link EmailApi#sendBulk}). The workers share one {@link SendRateLimiter} that caps the send
+ * rate of this instance (not across instances).
+ * A claimed invitation whose result is never recorded (instance stopped) is claimed again after its lease.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invitation.email.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+class InvitationEmailDispatcher {
+
+    private final InvitationEmailQueue queue;
+    private final EmailApi emailApi;
+    private final SendRateLimiter rateLimiter;
+    private final ExecutorService workers;
+    private final Semaphore inFlight;
+    private final int batchSize;
+    private final int messagesPerConnection;
+
+    InvitationEmailDispatcher(InvitationEmailQueue queue, EmailApi emailApi, InvitationProperties properties) {
+        InvitationProperties.Email settings = properties.getEmail();
+        this.queue = queue;
+        this.emailApi = emailApi;
+        this.rateLimiter = new SendRateLimiter(settings.getRatePerSecondPerInstance());
+        this.batchSize = Math.max(1, settings.getBatchSize());
+        this.messagesPerConnection = Math.max(1, settings.getMessagesPerConnection());
+        this.inFlight = new Semaphore(maxInFlight(settings));
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, settings.getWorkers()), runnable -> {
+            Thread thread = new Thread(runnable, "invitation-email-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * In-flight invitations must be sendable at the configured rate well within their lease,
+     * otherwise they would be claimed twice.
+     */
+    private static int maxInFlight(InvitationProperties.Email settings) {
+        int max = Math.max(1, settings.getMaxInFlight());
+        if (settings.getRatePerSecondPerInstance() > 0) {
+            long withinHalfLease = (long) (settings.getRatePerSecondPerInstance() * settings.getLease().toSeconds() / 2);
+            max = (int) Math.max(1, Math.min(max, withinHalfLease));
+        }
+        return max;
+    }
+
+    @Scheduled(fixedDelayString = "${app.invitation.email.poll-interval:2000}")
+    void dispatch() {
+        int capacity = Math.min(batchSize, inFlight.availablePermits());
+        if (capacity == 0) {
+            return;
+        }
+        List<InvitationEmailQueue.QueuedEmail> claimed = queue.claimDue(capacity);
+        for (int from = 0; from < claimed.size(); from += messagesPerConnection) {
+            List<InvitationEmailQueue.QueuedEmail> group =
+                    List.copyOf(claimed.subList(from, Math.min(claimed.size(), from + messagesPerConnection)));
+            // Only this (non-overlapping) poll acquires permits, so capacity is still available
+            inFlight.acquireUninterruptibly(group.size());
+            try {
+                workers.execute(() -> send(group));
+            } catch (RejectedExecutionException e) {
+                inFlight.release(group.size());
+                log.warn("Invitation email worker pool is shut down; {} invitations are retried after their lease",
+                        group.size());
+            }
+        }
+    }
+
+    private void send(List<InvitationEmailQueue.QueuedEmail> emails) {
+        try {
+            List<EmailResult> results;
+            try {
+                rateLimiter.acquire(emails.size());
+                results = emailApi.sendBulk(emails.stream().map(InvitationEmailQueue.QueuedEmail::message).toList());
+            } catch (InterruptedException e) {
+                // Shutting down: the lease returns the invitations to the queue
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Sending {} invitation emails failed: {}", emails.size(), e.getMessage());
+                emails.forEach(email -> recordFailure(email, e.getMessage()));
+                return;
+            }
+            for (int i = 0; i < emails.size(); i++) {
+                record(emails.get(i), results.get(i));
+            }
+        } finally {
+            inFlight.release(emails.size());
+        }
+    }
+
+    private void record(InvitationEmailQueue.QueuedEmail email, EmailResult result) {
+        if (!result.success()) {
+            recordFailure(email, result.error());
+            return;
+        }
+        try {
+            queue.recordSent(email, result.messageId());
+        } catch (Exception e) {
+            log.error("Failed to record sent invitation email for {}", email.invitationId(), e);
+        }
+    }
+
+    private void recordFailure(InvitationEmailQueue.QueuedEmail email, String error) {
+        try {
+            queue.recordFailure(email, error);
+        } catch (Exception recordError) {
+            log.error("Failed to record invitation email failure for {}", email.invitationId(), recordError);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
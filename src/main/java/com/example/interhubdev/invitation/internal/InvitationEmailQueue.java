@@ -0,0 +1,181 @@
+package com.example.interhubdev.invitation.internal;
+
+import com.example.interhubdev.email.EmailMessage;
+import com.example.interhubdev.invitation.InvitationStatus;
+import com.example.interhubdev.user.UserApi;
+import com.example.interhubdev.user.UserDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Durable invitation email queue backed by the invitations table: a row is queued when its
+ * {@code email_next_attempt_at} is set in the transaction that creates or resends the invitation,
+ * so no email is lost on restart and none is sent for a rolled-back invitation.
+ * <p>
+ * Claiming moves due rows to SENDING under a lease and prepares their messages with one token
+ * query and one user query per batch. Results are recorded only for the attempt that was claimed,
+ * so a resend or cancel during delivery is not overwritten.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class InvitationEmailQueue {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final InvitationRepository invitationRepository;
+    private final InvitationTokenRepository tokenRepository;
+    private final UserApi userApi;
+    private final InvitationProperties properties;
+
+    /**
+     * Invitation email ready to be sent for one claimed attempt.
+     */
+    record QueuedEmail(UUID invitationId, int attempt, EmailMessage message) {
+    }
+
+    /**
+     * Claim up to {@code limit} due invitations and prepare their emails.
+     * Invitations whose token or user is missing count as a failed attempt and are not returned.
+     */
+    @Transactional
+    List<QueuedEmail> claimDue(int limit) {
+        Instant now = Instant.now();
+        List<Invitation> due = invitationRepository.lockDueForEmail(limit, now);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, InvitationToken> tokens = tokenRepository.findByInvitationIdIn(
+                        due.stream().map(Invitation::getId).toList()).stream()
+                .collect(Collectors.toMap(InvitationToken::getInvitationId, Function.identity(), (a, b) -> b));
+        Map<UUID, UserDto> users = userApi.findByIds(
+                        due.stream().map(Invitation::getUserId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(UserDto::id, Function.identity()));
+
+        List<QueuedEmail> claimed = new ArrayList<>(due.size());
+        for (Invitation invitation : due) {
+            if (invitation.getEmailAttempts() >= properties.getMaxEmailAttempts()) {
+                // Lease of the last attempt ran out without a recorded result
+                invitation.setStatus(InvitationStatus.FAILED);
+                invitation.setEmailNextAttemptAt(null);
+                invitation.setEmailLastError("Delivery of the last attempt was not confirmed");
+                invitation.setUpdatedAt(now);
+                log.error("Invitation {} failed: delivery of attempt {} was not confirmed",
+                        invitation.getId(), invitation.getEmailAttempts());
+                continue;
+            }
+            invitation.setStatus(InvitationStatus.SENDING);
+            invitation.incrementEmailAttempts();
+            invitation.setEmailNextAttemptAt(now.plus(properties.getEmail().getLease()));
+
+            InvitationToken token = tokens.get(invitation.getId());
+            UserDto user = users.get(invitation.getUserId());
+            if (token == null || user == null) {
+                applyFailure(invitation, token == null ? "Invitation token not found" : "User not found", now);
+                continue;
+            }
+            claimed.add(new QueuedEmail(invitation.getId(), invitation.getEmailAttempts(),
+                    buildInvitationEmail(user, token.getToken())));
+        }
+        return claimed;
+    }
+
+    @Transactional
+    void recordSent(QueuedEmail email, String messageId) {
+        int updated = invitationRepository.markEmailSent(email.invitationId(), email.attempt(), messageId, Instant.now());
+        if (updated > 0) {
+            log.info("Invitation email sent to {} (invitation {}, attempt {})",
+                    email.message().to(), email.invitationId(), email.attempt());
+        }
+    }
+
+    @Transactional
+    void recordFailure(QueuedEmail email, String error) {
+        Instant now = Instant.now();
+        String message = truncate(error);
+        int updated;
+        if (email.attempt() >= properties.getMaxEmailAttempts()) {
+            updated = invitationRepository.markEmailFailed(email.invitationId(), email.attempt(), message, now);
+            if (updated > 0) {
+                log.error("Failed to send invitation email after {} attempts for invitation {}: {}",
+                        email.attempt(), email.invitationId(), error);
+            }
+        } else {
+            updated = invitationRepository.rescheduleEmail(
+                    email.invitationId(), email.attempt(), message, nextAttemptAt(email.attempt(), now), now);
+            if (updated > 0) {
+                log.warn("Invitation email attempt {} failed for invitation {}: {}",
+                        email.attempt(), email.invitationId(), error);
+            }
+        }
+    }
+
+    private void applyFailure(Invitation invitation, String error, Instant now) {
+        invitation.setEmailLastError(error);
+        invitation.setUpdatedAt(now);
+        if (invitation.getEmailAttempts() >= properties.getMaxEmailAttempts()) {
+            invitation.setStatus(InvitationStatus.FAILED);
+            invitation.setEmailNextAttemptAt(null);
+            log.error("Failed to send invitation email after {} attempts for invitation {}: {}",
+                    invitation.getEmailAttempts(), invitation.getId(), error);
+        } else {
+            invitation.setStatus(InvitationStatus.PENDING);
+            invitation.setEmailNextAttemptAt(nextAttemptAt(invitation.getEmailAttempts(), now));
+            log.warn("Invitation email attempt {} failed for invitation {}: {}",
+                    invitation.getEmailAttempts(), invitation.getId(), error);
+        }
+    }
+
+    /**
+     * Linear backoff: retryDelay * attemptNumber.
+     */
+    private Instant nextAttemptAt(int failedAttempt, Instant now) {
+        return now.plusSeconds((long) properties.getRetryDelaySeconds() * failedAttempt);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private EmailMessage buildInvitationEmail(UserDto user, String token) {
+        String inviteUrl = properties.getBaseUrl() + "/invite?token=" + token;
+
+        String htmlBody = String.format("""
+            <html>
+            <body>
+                <h1>Welcome to InterHubDev!</h1>
+                <p>Hello, %s!</p>
+                <p>You have been invited to InterHubDev.</p>
+                <p>To activate your account, follow this link:</p>
+                <p><a href="%s">Activate account</a></p>
+                <p>This link is valid for 24 hours.</p>
+                <p>If you did not request this invitation, please ignore this email.</p>
+                <br>
+                <p>Best regards,<br>The InterHubDev Team</p>
+            </body>
+            </html>
+            """,
+            user.firstName() != null ? user.firstName() : user.email(),
+            inviteUrl
+        );
+
+        return EmailMessage.html(
+                user.email(),
+                "Invitation to InterHubDev",
+                htmlBody
+        );
+    }
+}
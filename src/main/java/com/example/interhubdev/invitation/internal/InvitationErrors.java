@@ -18,6 +18,9 @@ public final class InvitationErrors {
     public static final String CODE_TOKEN_INVALID = "INVITATION_TOKEN_INVALID";
     public static final String CODE_TOKEN_EXPIRED = "INVITATION_TOKEN_EXPIRED";
     public static final String CODE_ROLE_REQUIRED = "INVITATION_ROLE_REQUIRED";
+    public static final String CODE_BULK_EMPTY = "INVITATION_BULK_EMPTY";
+    public static final String CODE_BULK_TOO_LARGE = "INVITATION_BULK_TOO_LARGE";
+    public static final String CODE_BULK_DUPLICATE_EMAIL = "INVITATION_BULK_DUPLICATE_EMAIL";
 
     // ——— Conflict (409) ———
     public static final String CODE_ALREADY_ACCEPTED = "INVITATION_ALREADY_ACCEPTED";
@@ -31,6 +34,7 @@ public final class InvitationErrors {
     public static final String CODE_INVITATION_NOT_FOUND = "INVITATION_NOT_FOUND";
     public static final String CODE_INVITER_NOT_FOUND = "INVITATION_INVITER_NOT_FOUND";
     public static final String CODE_USER_NOT_FOUND = "INVITATION_USER_NOT_FOUND";
+    public static final String CODE_RUN_NOT_FOUND = "INVITATION_RUN_NOT_FOUND";
 
     public static AppException tokenInvalid() {
         return Errors.of(HttpStatus.BAD_REQUEST, CODE_TOKEN_INVALID,
@@ -91,4 +95,32 @@ public final class InvitationErrors {
         return Errors.forbidden(
                 "Недостаточно прав для приглашения с ролью " + targetRole + ". Ваши роли: " + inviterRoles + ".");
     }
+
+    public static AppException bulkEmpty() {
+        return Errors.of(HttpStatus.BAD_REQUEST, CODE_BULK_EMPTY,
+                "Список приглашений пуст.");
+    }
+
+    public static AppException bulkTooLarge(int max) {
+        return Errors.of(HttpStatus.BAD_REQUEST, CODE_BULK_TOO_LARGE,
+                "Слишком много приглашений в одном запросе (максимум " + max + ").");
+    }
+
+    public static AppException bulkDuplicateEmail(int row, String email) {
+        return Errors.of(HttpStatus.BAD_REQUEST, CODE_BULK_DUPLICATE_EMAIL,
+                "Строка " + row + ": email " + email + " встречается в списке повторно.");
+    }
+
+    /**
+     * Rejection of one row of a bulk invitation: same code and status as the row's error, message prefixed with the row.
+     */
+    public static AppException bulkRowRejected(int row, String email, AppException cause) {
+        return Errors.of(cause.getStatus(), cause.getCode(),
+                "Строка " + row + " (" + email + "): " + cause.getMessage());
+    }
+
+    public static AppException runNotFound(Object id) {
+        return Errors.of(HttpStatus.NOT_FOUND, CODE_RUN_NOT_FOUND,
+                "Массовое приглашение не найдено: " + id);
+    }
 }
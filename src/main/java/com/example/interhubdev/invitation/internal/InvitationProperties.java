@@ -46,4 +46,52 @@ class InvitationProperties {
      * Used to construct the activation link in emails.
      */
     private String baseUrl = "http://localhost:5173";
+
+    /**
+     * Invitation email dispatcher (delivery queue) settings.
+     */
+    private Email email = new Email();
+
+    @Getter
+    @Setter
+    static class Email {
+
+        /**
+         * Worker threads sending invitation emails (dedicated pool, not the shared scheduler).
+         * Default: 4.
+         */
+        private int workers = 4;
+
+        /**
+         * Maximum SMTP sends per second across all workers of one instance; 0 = unlimited.
+         * Not shared between instances: the overall rate is this value times the number of instances.
+         * Default: 10.
+         */
+        private double ratePerSecondPerInstance = 10;
+
+        /**
+         * Maximum invitation emails sent over one SMTP connection by a worker.
+         * Default: 10.
+         */
+        private int messagesPerConnection = 10;
+
+        /**
+         * Maximum invitations claimed per poll.
+         * Default: 50.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Maximum invitations claimed but not yet sent on this instance.
+         * Default: 100.
+         */
+        private int maxInFlight = 100;
+
+        /**
+         * How long a claimed (SENDING) invitation stays reserved; after that another
+         * dispatcher may claim it again (e.g. the instance died mid-send).
+         * Default: 5 minutes.
+         */
+        private Duration lease = Duration.ofMinutes(5);
+    }
 }
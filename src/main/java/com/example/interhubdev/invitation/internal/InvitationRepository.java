@@ -36,4 +36,94 @@ interface InvitationRepository extends JpaRepository<Invitation, UUID> {
     @Modifying
     @Query("UPDATE Invitation i SET i.invitedById = null WHERE i.invitedById = :userId")
     int clearInvitedByForUser(@Param("userId") UUID userId);
+
+    /**
+     * Lock invitations whose email is due: PENDING rows past their next attempt time and SENDING rows
+     * whose lease ran out (dispatcher instance died mid-send). FOR UPDATE SKIP LOCKED lets several
+     * instances dispatch in parallel. Must be called within a transaction that claims the rows.
+     */
+    @Query(value = """
+        SELECT * FROM invitations
+        WHERE status IN ('PENDING', 'SENDING')
+          AND email_next_attempt_at IS NOT NULL
+          AND email_next_attempt_at <= :now
+        ORDER BY email_next_attempt_at ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Invitation> lockDueForEmail(@Param("limit") int limit, @Param("now") Instant now);
+
+    /**
+     * Record a delivered email. No-op if the invitation was resent, cancelled or re-claimed meanwhile.
+     */
+    @Modifying
+    @Query("""
+        UPDATE Invitation i
+        SET i.status = com.example.interhubdev.invitation.InvitationStatus.SENT,
+            i.emailSentAt = :now,
+            i.emailMessageId = :messageId,
+            i.emailNextAttemptAt = null,
+            i.emailLastError = null,
+            i.updatedAt = :now
+        WHERE i.id = :id
+          AND i.status = com.example.interhubdev.invitation.InvitationStatus.SENDING
+          AND i.emailAttempts = :attempt
+        """)
+    int markEmailSent(
+            @Param("id") UUID id,
+            @Param("attempt") int attempt,
+            @Param("messageId") String messageId,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Record a failed attempt that will be retried at {@code nextAttemptAt}. Same guard as {@link #markEmailSent}.
+     */
+    @Modifying
+    @Query("""
+        UPDATE Invitation i
+        SET i.status = com.example.interhubdev.invitation.InvitationStatus.PENDING,
+            i.emailNextAttemptAt = :nextAttemptAt,
+            i.emailLastError = :error,
+            i.updatedAt = :now
+        WHERE i.id = :id
+          AND i.status = com.example.interhubdev.invitation.InvitationStatus.SENDING
+          AND i.emailAttempts = :attempt
+        """)
+    int rescheduleEmail(
+            @Param("id") UUID id,
+            @Param("attempt") int attempt,
+            @Param("error") String error,
+            @Param("nextAttemptAt") Instant nextAttemptAt,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Record the last failed attempt: FAILED, no further retries. Same guard as {@link #markEmailSent}.
+     */
+    @Modifying
+    @Query("""
+        UPDATE Invitation i
+        SET i.status = com.example.interhubdev.invitation.InvitationStatus.FAILED,
+            i.emailNextAttemptAt = null,
+            i.emailLastError = :error,
+            i.updatedAt = :now
+        WHERE i.id = :id
+          AND i.status = com.example.interhubdev.invitation.InvitationStatus.SENDING
+          AND i.emailAttempts = :attempt
+        """)
+    int markEmailFailed(
+            @Param("id") UUID id,
+            @Param("attempt") int attempt,
+            @Param("error") String error,
+            @Param("now") Instant now
+    );
+
+    /**
+     * Invitation counts by status for a bulk run.
+     *
+     * @return rows of [status, count]
+     */
+    @Query("SELECT i.status, COUNT(i) FROM Invitation i WHERE i.runId = :runId GROUP BY i.status")
+    List<Object[]> countByStatusForRun(@Param("runId") UUID runId);
 }
@@ -0,0 +1,45 @@
+package com.example.interhubdev.invitation.internal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Bulk invitation run. Invitations created in one bulk request reference it via
+ * {@code run_id}, so delivery progress of the whole run can be reported.
+ */
+@Entity
+@Table(name = "invitation_run")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+class InvitationRun {
+
+    @Id
+    private UUID id;
+
+    /**
+     * Admin who created the run.
+     */
+    @Column(name = "invited_by_id")
+    private UUID invitedById;
+
+    /**
+     * Number of invitations created in the run.
+     */
+    @Column(nullable = false)
+    private int total;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+}
@@ -0,0 +1,11 @@
+package com.example.interhubdev.invitation.internal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+/**
+ * Repository for InvitationRun entity.
+ */
+interface InvitationRunRepository extends JpaRepository<InvitationRun, UUID> {
+}
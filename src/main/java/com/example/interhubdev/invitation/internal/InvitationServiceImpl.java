@@ -1,9 +1,6 @@
 package com.example.interhubdev.invitation.internal;
 
-import com.example.interhubdev.email.EmailApi;
-import com.example.interhubdev.email.EmailMessage;
-import com.example.interhubdev.email.EmailResult;
-import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.error.AppException;
 import com.example.interhubdev.invitation.*;
 import com.example.interhubdev.student.StudentApi;
 import com.example.interhubdev.teacher.TeacherApi;
@@ -14,16 +11,16 @@ import com.example.interhubdev.user.UserStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.springframework.data.domain.PageRequest;
 
 import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -42,11 +39,10 @@ class InvitationServiceImpl implements InvitationApi {
 
     private final InvitationRepository invitationRepository;
     private final InvitationTokenRepository tokenRepository;
+    private final InvitationRunRepository runRepository;
     private final UserApi userApi;
     private final StudentApi studentApi;
     private final TeacherApi teacherApi;
-    private final EmailApi emailApi;
-    private final TaskScheduler taskScheduler;
     private final InvitationProperties properties;
 
     // ==================== Query methods ====================
@@ -96,25 +92,88 @@ class InvitationServiceImpl implements InvitationApi {
         return toDtoList(invitations);
     }
 
+    @Override
+    public Optional<InvitationRunDto> findRun(UUID runId) {
+        return runRepository.findById(runId).map(this::toRunDto);
+    }
+
     // ==================== Command methods ====================
 
     @Override
     @Transactional
     public InvitationDto create(CreateInvitationRequest request, UUID invitedBy) {
+        // 1. Validate inviter can invite each role
+        for (Role targetRole : validateRoles(request)) {
+            validateInviterPermission(invitedBy, targetRole);
+        }
+
+        return toDto(createInvitation(request, invitedBy, null));
+    }
+
+    @Override
+    @Transactional
+    public InvitationRunDto createBulk(List<CreateInvitationRequest> requests, UUID invitedBy) {
+        if (requests == null || requests.isEmpty()) {
+            throw InvitationErrors.bulkEmpty();
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw InvitationErrors.bulkTooLarge(MAX_BULK_SIZE);
+        }
+
+        // Validate all rows before creating anything; inviter permission once per distinct role
+        Set<String> emails = new HashSet<>();
+        Set<Role> roles = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateInvitationRequest request = requests.get(i);
+            if (request.email() != null && !emails.add(request.email().trim().toLowerCase(Locale.ROOT))) {
+                throw InvitationErrors.bulkDuplicateEmail(i + 1, request.email());
+            }
+            try {
+                roles.addAll(validateRoles(request));
+            } catch (AppException e) {
+                throw InvitationErrors.bulkRowRejected(i + 1, request.email(), e);
+            }
+        }
+        for (Role targetRole : roles) {
+            validateInviterPermission(invitedBy, targetRole);
+        }
+
+        InvitationRun run = runRepository.save(InvitationRun.builder()
+                .id(UUID.randomUUID())
+                .invitedById(invitedBy)
+                .total(requests.size())
+                .build());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateInvitationRequest request = requests.get(i);
+            try {
+                createInvitation(request, invitedBy, run.getId());
+            } catch (AppException e) {
+                throw InvitationErrors.bulkRowRejected(i + 1, request.email(), e);
+            }
+        }
+
+        log.info("Created invitation run {} with {} invitations", run.getId(), requests.size());
+        return toRunDto(run);
+    }
+
+    private Set<Role> validateRoles(CreateInvitationRequest request) {
         Set<Role> effectiveRoles = request.getEffectiveRoles();
         if (effectiveRoles.isEmpty()) {
             throw InvitationErrors.roleRequired();
         }
         Role.validateAtMostOneStaffType(effectiveRoles);
+        return effectiveRoles;
+    }
 
-        // 1. Validate inviter can invite each role
-        for (Role targetRole : effectiveRoles) {
-            validateInviterPermission(invitedBy, targetRole);
-        }
+    /**
+     * Create (or re-invite) one user and queue the invitation email. Inviter permission is checked by the caller.
+     */
+    private Invitation createInvitation(CreateInvitationRequest request, UUID invitedBy, UUID runId) {
+        Set<Role> effectiveRoles = request.getEffectiveRoles();
 
         Optional<UserDto> existingUser = userApi.findByEmail(request.email());
         if (existingUser.isPresent()) {
-            return reinviteExistingUser(existingUser.get(), request, invitedBy);
+            return reinviteExistingUser(existingUser.get(), request, invitedBy, runId);
         }
 
         // 2. Create user with PENDING status (roles from invitation)
@@ -134,25 +193,25 @@ class InvitationServiceImpl implements InvitationApi {
                 .invitedById(invitedBy)
                 .status(InvitationStatus.PENDING)
                 .expiresAt(Instant.now().plus(properties.getExpiryDuration()))
+                .runId(runId)
                 .build();
 
+        // 5. Queue email (committed together with the invitation) and create token
+        invitation.enqueueEmail();
         invitation = invitationRepository.save(invitation);
-
-        // 5. Create token and send email
         createToken(invitation.getId());
-        sendInvitationEmailAsync(invitation.getId(), 1);
 
         log.info("Created invitation {} for user {} (roles: {})",
                 invitation.getId(), user.email(), effectiveRoles);
 
-        return toDto(invitation);
+        return invitation;
     }
 
     /**
      * Re-invite when user already exists and their invitation is EXPIRED or CANCELLED.
      * Updates user's roles and profile to match the new request so the response reflects the re-invitation data.
      */
-    private InvitationDto reinviteExistingUser(UserDto user, CreateInvitationRequest request, UUID invitedBy) {
+    private Invitation reinviteExistingUser(UserDto user, CreateInvitationRequest request, UUID invitedBy, UUID runId) {
         Invitation invitation = invitationRepository.findByUserId(user.id())
                 .orElseThrow(() -> InvitationErrors.userAlreadyExists(request.email()));
 
@@ -172,20 +231,18 @@ class InvitationServiceImpl implements InvitationApi {
         userApi.updateProfile(user.id(), request.firstName(), request.lastName(), request.phone(), request.birthDate());
 
         tokenRepository.deleteByInvitationId(invitation.getId());
-        invitation.setStatus(InvitationStatus.PENDING);
         invitation.setExpiresAt(Instant.now().plus(properties.getExpiryDuration()));
         invitation.setInvitedById(invitedBy);
-        invitation.setEmailAttempts(0);
+        invitation.setRunId(runId);
         invitation.setEmailSentAt(null);
         invitation.setEmailMessageId(null);
-        invitation.setUpdatedAt(Instant.now());
+        invitation.enqueueEmail();
         invitationRepository.save(invitation);
 
         createToken(invitation.getId());
-        sendInvitationEmailAsync(invitation.getId(), 1);
 
         log.info("Re-invited user {} (invitation {}, roles: {})", user.email(), invitation.getId(), effectiveRoles);
-        return toDto(invitation);
+        return invitation;
     }
 
     @Override
@@ -200,15 +257,11 @@ class InvitationServiceImpl implements InvitationApi {
         // Delete old tokens
         tokenRepository.deleteByInvitationId(invitationId);
 
-        // Create new token and send
+        // Create new token and queue the email
         createToken(invitationId);
-        invitation.setStatus(InvitationStatus.PENDING);
-        invitation.setEmailAttempts(0);
-        invitation.setUpdatedAt(Instant.now());
+        invitation.enqueueEmail();
         invitationRepository.save(invitation);
 
-        sendInvitationEmailAsync(invitationId, 1);
-
         log.info("Resending invitation {}", invitationId);
     }
 
@@ -286,10 +339,11 @@ class InvitationServiceImpl implements InvitationApi {
 
         // Check if token expired
         if (invToken.isExpired()) {
-            // Regenerate token and send new email
+            // Regenerate token and queue new email
             tokenRepository.deleteByInvitationId(invitation.getId());
             createToken(invitation.getId());
-            sendInvitationEmailAsync(invitation.getId(), 1);
+            invitation.enqueueEmail();
+            invitationRepository.save(invitation);
 
             return TokenValidationResult.tokenRegeneratedAndSent(user.email());
         }
@@ -379,114 +433,6 @@ class InvitationServiceImpl implements InvitationApi {
         return tokenRepository.save(token);
     }
 
-    /**
-     * Schedules invitation email to be sent after the current transaction commits.
-     * Avoids race where the scheduled task runs before invitation/token are visible in DB.
-     */
-    private void sendInvitationEmailAsync(UUID invitationId, int attempt) {
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.registerSynchronization(
-                    new TransactionSynchronization() {
-                        @Override
-                        public void afterCommit() {
-                            taskScheduler.schedule(
-                                    () -> sendInvitationEmailWithRetry(invitationId, attempt),
-                                    Instant.now()
-                            );
-                        }
-                    });
-        } else {
-            taskScheduler.schedule(
-                    () -> sendInvitationEmailWithRetry(invitationId, attempt),
-                    Instant.now()
-            );
-        }
-    }
-
-    @Transactional
-    void sendInvitationEmailWithRetry(UUID invitationId, int attempt) {
-        Invitation invitation = invitationRepository.findById(invitationId).orElse(null);
-        if (invitation == null) {
-            log.warn("Invitation {} not found for email sending", invitationId);
-            return;
-        }
-
-        if (attempt > properties.getMaxEmailAttempts()) {
-            invitation.setStatus(InvitationStatus.FAILED);
-            invitation.setUpdatedAt(Instant.now());
-            invitationRepository.save(invitation);
-            log.error("Failed to send invitation email after {} attempts for invitation {}", 
-                    properties.getMaxEmailAttempts(), invitationId);
-            return;
-        }
-
-        invitation.setStatus(InvitationStatus.SENDING);
-        invitation.incrementEmailAttempts();
-        invitationRepository.save(invitation);
-
-        try {
-            InvitationToken token = tokenRepository.findByInvitationId(invitationId)
-                    .orElseThrow(() -> Errors.conflict("Токен приглашения не найден. Повторите попытку позже."));
-
-            UserDto user = userApi.findById(invitation.getUserId())
-                    .orElseThrow(() -> InvitationErrors.userNotFound(invitation.getUserId()));
-
-            EmailMessage email = buildInvitationEmail(user, token.getToken());
-            EmailResult result = emailApi.send(email);
-
-            if (result.success()) {
-                invitation.markEmailSent(result.messageId());
-                invitationRepository.save(invitation);
-                log.info("Invitation email sent successfully to {} (attempt {})", user.email(), attempt);
-            } else {
-                log.warn("Email send attempt {} failed for {}: {}", attempt, user.email(), result.error());
-                scheduleRetry(invitationId, attempt + 1);
-            }
-        } catch (Exception e) {
-            log.error("Email send attempt {} failed for invitation {}: {}", attempt, invitationId, e.getMessage());
-            scheduleRetry(invitationId, attempt + 1);
-        }
-    }
-
-    private void scheduleRetry(UUID invitationId, int nextAttempt) {
-        if (nextAttempt <= properties.getMaxEmailAttempts()) {
-            long delaySeconds = (long) properties.getRetryDelaySeconds() * nextAttempt;
-            taskScheduler.schedule(
-                    () -> sendInvitationEmailWithRetry(invitationId, nextAttempt),
-                    Instant.now().plusSeconds(delaySeconds)
-            );
-        }
-    }
-
-    private EmailMessage buildInvitationEmail(UserDto user, String token) {
-        String inviteUrl = properties.getBaseUrl() + "/invite?token=" + token;
-
-        String htmlBody = String.format("""
-            <html>
-            <body>
-                <h1>Welcome to InterHubDev!</h1>
-                <p>Hello, %s!</p>
-                <p>You have been invited to InterHubDev.</p>
-                <p>To activate your account, follow this link:</p>
-                <p><a href="%s">Activate account</a></p>
-                <p>This link is valid for 24 hours.</p>
-                <p>If you did not request this invitation, please ignore this email.</p>
-                <br>
-                <p>Best regards,<br>The InterHubDev Team</p>
-            </body>
-            </html>
-            """,
-            user.firstName() != null ? user.firstName() : user.email(),
-            inviteUrl
-        );
-
-        return EmailMessage.html(
-                user.email(),
-                "Invitation to InterHubDev",
-                htmlBody
-        );
-    }
-
     private Invitation findInvitationOrThrow(UUID id) {
         return invitationRepository.findById(id)
                 .orElseThrow(() -> InvitationErrors.invitationNotFound(id));
@@ -506,6 +452,14 @@ class InvitationServiceImpl implements InvitationApi {
                 .toList();
     }
 
+    private InvitationRunDto toRunDto(InvitationRun run) {
+        Map<InvitationStatus, Long> counts = new EnumMap<>(InvitationStatus.class);
+        for (Object[] row : invitationRepository.countByStatusForRun(run.getId())) {
+            counts.put((InvitationStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return new InvitationRunDto(run.getId(), run.getInvitedById(), run.getCreatedAt(), run.getTotal(), counts);
+    }
+
     private InvitationDto toDto(Invitation inv) {
         UserDto user = userApi.findById(inv.getUserId()).orElse(null);
         return toDto(inv, user);
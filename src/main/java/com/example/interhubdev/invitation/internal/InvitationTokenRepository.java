@@ -4,6 +4,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,6 +18,11 @@ interface InvitationTokenRepository extends JpaRepository<InvitationToken, UUID>
 
     Optional<InvitationToken> findByInvitationId(UUID invitationId);
 
+    /**
+     * Tokens of the given invitations. Single batch query; no N+1.
+     */
+    List<InvitationToken> findByInvitationIdIn(Collection<UUID> invitationIds);
+
     boolean existsByToken(String token);
 
     /**
@@ -0,0 +1,65 @@
+package com.example.interhubdev.invitation.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Spaces sends evenly at a fixed rate, shared by all dispatcher workers of this instance only:
+ * every instance runs its own limiter, so the overall rate is the configured rate times the instances.
+ * Each caller reserves the next free slots under the lock and waits for the first one outside the lock;
+ * idle time is not saved up, so a caller never sends more than the slots it reserved at once.
+ */
+final class SendRateLimiter {
+
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private long nextFreeNanos;
+
+    SendRateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    /**
+     * @param permitsPerSecond sends per second; 0 or negative = unlimited
+     * @param nanoClock        monotonic clock in nanoseconds
+     */
+    SendRateLimiter(double permitsPerSecond, LongSupplier nanoClock) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.nanoClock = nanoClock;
+        this.nextFreeNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Block until the caller may send {@code permits} messages; the next caller waits for as many intervals.
+     */
+    void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Reserve the next slot.
+     *
+     * @return nanoseconds the caller has to wait for its slot (0 = send now)
+     */
+    long reserve() {
+        return reserve(1);
+    }
+
+    /**
+     * Reserve the next {@code permits} consecutive slots.
+     *
+     * @return nanoseconds the caller has to wait for the first of them (0 = send now)
+     */
+    synchronized long reserve(int permits) {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        long slot = nextFreeNanos - now > 0 ? nextFreeNanos : now;
+        nextFreeNanos = slot + intervalNanos * permits;
+        return slot - now;
+    }
+}
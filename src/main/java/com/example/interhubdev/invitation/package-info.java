@@ -7,6 +7,7 @@
  *   <li>{@link com.example.interhubdev.invitation.InvitationDto} - invitation data</li>
  *   <li>{@link com.example.interhubdev.invitation.InvitationStatus} - status enum</li>
  *   <li>{@link com.example.interhubdev.invitation.CreateInvitationRequest} - create request</li>
+ *   <li>{@link com.example.interhubdev.invitation.InvitationRunDto} - bulk invitation run with delivery progress</li>
  *   <li>{@link com.example.interhubdev.invitation.TokenValidationResult} - token validation result</li>
  * </ul>
  * 
@@ -14,7 +15,9 @@
  * <ol>
  *   <li>Admin creates invitation with user data</li>
  *   <li>User is created with PENDING status</li>
- *   <li>Invitation email is sent (with retry on failure)</li>
+ *   <li>Invitation email is queued with the invitation and sent in the background
+ *       (dedicated worker pool, batches over one SMTP connection, rate-limited per instance,
+ *       retried on failure)</li>
  *   <li>User clicks link, token is validated</li>
  *   <li>User sets password, account is activated</li>
  * </ol>
@@ -18,12 +18,12 @@ public interface NotificationApi {
      *
      * @param userId       user ID (must be authenticated user)
      * @param statusFilter filter by read status: "all" for all notifications, "unread" for unread only
-     * @param cursor       optional cursor (last notification id from previous page); null for first page
+     * @param cursor       optional cursor ({@code nextCursor} of the previous page); null for first page
      * @param limit        max items per page (will be capped at 50)
      * @return page with notifications and optional next cursor
-     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if statusFilter invalid
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if statusFilter or cursor invalid
      */
-    NotificationPage getMyNotifications(UUID userId, String statusFilter, UUID cursor, int limit);
+    NotificationPage getMyNotifications(UUID userId, String statusFilter, String cursor, int limit);
 
     /**
      * Get unread notification count for the user.
@@ -1,14 +1,13 @@
 package com.example.interhubdev.notification;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
- * Cursor-based page of notifications.
+ * Cursor-based page of notifications. {@code nextCursor} is an opaque token to pass back as-is.
  */
 public record NotificationPage(
         List<NotificationDto> items,
-        UUID nextCursor
+        String nextCursor
 ) {
     /**
      * True if there are more items (next page available).
@@ -4,15 +4,20 @@ import com.example.interhubdev.auth.AuthApi;
 import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.notification.NotificationApi;
 import com.example.interhubdev.notification.NotificationPage;
+import com.example.interhubdev.notification.internal.application.OpenNotificationStreamUseCase;
 import com.example.interhubdev.user.UserDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,8 +31,12 @@ import java.util.UUID;
 class NotificationController {
 
     private final NotificationApi notificationApi;
+    private final OpenNotificationStreamUseCase openNotificationStreamUseCase;
     private final AuthApi authApi;
 
+    @Value("${app.notification.stream.timeout:PT30M}")
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
     /**
      * Get current authenticated user ID.
      */
@@ -42,7 +51,7 @@ class NotificationController {
     @Operation(summary = "Get my notifications", description = "Get notifications for current user with cursor pagination. Status filter: 'all' or 'unread'. Max 50 per page.")
     public ResponseEntity<NotificationPage> getMyNotifications(
             @RequestParam(required = false, defaultValue = "all") String status,
-            @RequestParam(required = false) UUID cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false, defaultValue = "30") int limit,
             HttpServletRequest request
     ) {
@@ -60,6 +69,19 @@ class NotificationController {
         return ResponseEntity.ok(new UnreadCountResponse(count));
     }
 
+    @GetMapping(value = "/mine/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Stream my notifications",
+            description = "Server-Sent Events stream of inbox changes for current user: 'unread-count' on connect, "
+                    + "then 'notification', 'notification-read' and 'unread-delta'/'unread-count' as they happen. "
+                    + "Replaces polling of /mine and /mine/unread-count.")
+    public SseEmitter streamMyNotifications(HttpServletRequest request) {
+        UUID userId = requireCurrentUser(request);
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        openNotificationStreamUseCase.execute(new SseNotificationSubscription(userId, emitter));
+        return emitter;
+    }
+
     @PostMapping("/{id}/read")
     @PreAuthorize("isAuthenticated()")
     @Operation(summary = "Mark notification as read", description = "Mark a specific notification as read. Idempotent.")
@@ -26,7 +26,7 @@ class NotificationServiceImpl implements NotificationApi {
     private final MarkAllReadUseCase markAllReadUseCase;
 
     @Override
-    public NotificationPage getMyNotifications(UUID userId, String statusFilter, UUID cursor, int limit) {
+    public NotificationPage getMyNotifications(UUID userId, String statusFilter, String cursor, int limit) {
         return getMyNotificationsUseCase.execute(userId, statusFilter, cursor, limit);
     }
 
@@ -0,0 +1,54 @@
+package com.example.interhubdev.notification.internal;
+
+import com.example.interhubdev.notification.internal.application.NotificationSubscription;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Server-Sent Events transport of a {@link NotificationSubscription}: an async-servlet {@link SseEmitter},
+ * so an idle subscription holds no request thread.
+ */
+final class SseNotificationSubscription implements NotificationSubscription {
+
+    private final UUID userId;
+    private final SseEmitter emitter;
+
+    SseNotificationSubscription(UUID userId, SseEmitter emitter) {
+        this.userId = userId;
+        this.emitter = emitter;
+    }
+
+    @Override
+    public UUID userId() {
+        return userId;
+    }
+
+    @Override
+    public void send(String name, Object data) throws IOException {
+        emitter.send(SseEmitter.event().name(name).data(data));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+
+    @Override
+    public void close(Throwable cause) {
+        emitter.completeWithError(cause);
+    }
+
+    @Override
+    public void onClose(Runnable callback) {
+        emitter.onCompletion(callback);
+        emitter.onTimeout(callback);
+        emitter.onError(e -> callback.run());
+    }
+}
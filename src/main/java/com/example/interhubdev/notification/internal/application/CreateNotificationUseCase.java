@@ -3,17 +3,25 @@ package com.example.interhubdev.notification.internal.application;
 import com.example.interhubdev.notification.internal.domain.Notification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.UUID;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Use case: create notification from outbox event.
  * <p>
  * Handles idempotency: if notification already exists for (recipientUserId, sourceEventId),
  * silently ignores (treats as success).
+ * <p>
+ * Bursty sources can coalesce: a notification with a coalesce key is merged into the recipient's
+ * latest unread notification with the same key created within the window, instead of adding a row.
+ * A merge is a single UPDATE of the locked target row: it does not claim the event id, because the outbox
+ * marks an event done in the same transaction as its handlers, so a committed merge is never redelivered.
+ * Only when there is nothing to merge into is the key locked, so concurrent workers create one row.
  */
 @Service
 @RequiredArgsConstructor
@@ -22,6 +30,8 @@ import java.util.UUID;
 public class CreateNotificationUseCase {
 
     private final NotificationRepository repository;
+    private final NotificationChangePublisher changePublisher;
+    private final UnreadCountCache unreadCountCache;
 
     /**
      * Create notification. Idempotent: if duplicate, returns without error.
@@ -30,17 +40,63 @@ public class CreateNotificationUseCase {
      * @return true if created, false if already exists (idempotent)
      */
     public boolean execute(Notification notification) {
-        try {
-            repository.save(notification);
-            log.debug("Created notification: id={}, recipient={}, templateKey={}, sourceEventId={}",
-                    notification.getId(), notification.getRecipientUserId(),
-                    notification.getTemplateKey(), notification.getSourceEventId());
-            return true;
-        } catch (DataIntegrityViolationException e) {
-            // Unique constraint violation: notification already exists (idempotent)
+        List<Notification> created = repository.insertIgnoringDuplicates(List.of(notification));
+        if (created.isEmpty()) {
+            // Notification already exists (idempotent)
             log.debug("Notification already exists (idempotent): recipient={}, sourceEventId={}",
                     notification.getRecipientUserId(), notification.getSourceEventId());
             return false;
         }
+        Notification saved = created.get(0);
+        log.debug("Created notification: id={}, recipient={}, templateKey={}, sourceEventId={}",
+                saved.getId(), saved.getRecipientUserId(),
+                saved.getTemplateKey(), saved.getSourceEventId());
+        if (!saved.isRead()) {
+            unreadCountCache.adjust(Map.of(saved.getRecipientUserId(), 1L));
+        }
+        changePublisher.created(List.of(saved));
+        return true;
+    }
+
+    /**
+     * Create notification, or merge it into an unread notification with the same recipient and
+     * coalesce key created within {@code window} (latest content wins, count grows).
+     *
+     * @param notification notification to create; must have a coalesce key
+     * @param window       coalescing window; zero or negative disables coalescing
+     * @return true if created or merged, false if this event was already applied (idempotent)
+     */
+    public boolean execute(Notification notification, Duration window) {
+        if (notification.getCoalesceKey() == null || window.isZero() || window.isNegative()) {
+            return execute(notification);
+        }
+        Optional<Notification> existing = findCoalescible(notification, window);
+        if (existing.isEmpty()) {
+            // Nothing to merge into: serialize creation for the key, then look again
+            repository.lockCoalesceKey(notification.getRecipientUserId(), notification.getCoalesceKey());
+            existing = findCoalescible(notification, window);
+            if (existing.isEmpty()) {
+                return execute(notification);
+            }
+        }
+        Notification target = existing.get();
+        if (target.getSourceEventId().equals(notification.getSourceEventId())) {
+            log.debug("Event already applied (idempotent): recipient={}, sourceEventId={}",
+                    notification.getRecipientUserId(), notification.getSourceEventId());
+            return false;
+        }
+        target.coalesce(notification);
+        repository.updateCoalesced(target);
+        log.debug("Coalesced notification: id={}, recipient={}, coalesceKey={}, count={}",
+                target.getId(), target.getRecipientUserId(), target.getCoalesceKey(), target.getCoalescedCount());
+        changePublisher.updated(target);
+        return true;
+    }
+
+    private Optional<Notification> findCoalescible(Notification notification, Duration window) {
+        return repository.findCoalescible(
+                notification.getRecipientUserId(),
+                notification.getCoalesceKey(),
+                notification.getCreatedAt().minus(window));
     }
 }
@@ -0,0 +1,50 @@
+package com.example.interhubdev.notification.internal.application;
+
+import com.example.interhubdev.notification.internal.domain.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Use case: create the whole notification fan-out of one outbox event.
+ * <p>
+ * Inserts all notifications in batched set-based statements. Idempotent: rows that already
+ * exist for (recipientUserId, sourceEventId) are skipped by the database, not by catching
+ * constraint violations, so a retried event never aborts the transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class CreateNotificationsUseCase {
+
+    private final NotificationRepository repository;
+    private final NotificationChangePublisher changePublisher;
+    private final UnreadCountCache unreadCountCache;
+
+    /**
+     * Create notifications. Duplicates are skipped.
+     *
+     * @param notifications notifications to create
+     * @return number of notifications actually created
+     */
+    public int execute(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        List<Notification> created = repository.insertIgnoringDuplicates(notifications);
+        if (created.size() < notifications.size()) {
+            log.debug("Skipped {} existing notification(s) (idempotent): sourceEventId={}",
+                    notifications.size() - created.size(), notifications.get(0).getSourceEventId());
+        }
+        unreadCountCache.adjust(created.stream()
+                .filter(n -> !n.isRead())
+                .collect(Collectors.groupingBy(Notification::getRecipientUserId, Collectors.counting())));
+        changePublisher.created(created);
+        return created.size();
+    }
+}
@@ -30,7 +30,7 @@ public class GetMyNotificationsUseCase {
     private final NotificationRepository repository;
     private final ObjectMapper objectMapper;
 
-    public NotificationPage execute(UUID userId, String statusFilter, UUID cursor, int limit) {
+    public NotificationPage execute(UUID userId, String statusFilter, String cursor, int limit) {
         // Validate statusFilter
         boolean unreadOnly;
         if (statusFilter == null || statusFilter.equalsIgnoreCase("all")) {
@@ -46,16 +46,18 @@ public class GetMyNotificationsUseCase {
         // Fetch limit+1 to check if more exists
         int fetchLimit = cappedLimit + 1;
 
-        List<Notification> notifications = repository.findByRecipient(userId, unreadOnly, cursor, fetchLimit);
+        List<Notification> notifications = repository.findByRecipient(
+                userId, unreadOnly, NotificationCursor.decode(cursor), fetchLimit);
 
         boolean hasMore = notifications.size() > cappedLimit;
         List<Notification> pageNotifications = hasMore
                 ? notifications.subList(0, cappedLimit)
                 : notifications;
 
-        UUID nextCursor = hasMore && !pageNotifications.isEmpty()
-                ? pageNotifications.get(pageNotifications.size() - 1).getId()
+        Notification last = hasMore && !pageNotifications.isEmpty()
+                ? pageNotifications.get(pageNotifications.size() - 1)
                 : null;
+        String nextCursor = last != null ? new NotificationCursor(last.getCreatedAt(), last.getId()).encode() : null;
 
         List<NotificationDto> dtos = pageNotifications.stream()
                 .map(n -> NotificationMappers.toDto(n, objectMapper))
@@ -4,10 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.OptionalLong;
 import java.util.UUID;
 
 /**
  * Use case: get unread notification count.
+ * <p>
+ * Served from {@link UnreadCountCache}; the count is computed from the table only on a cache miss, and
+ * cached only if no unread change landed while it was being counted.
  */
 @Service
 @RequiredArgsConstructor
@@ -15,8 +19,16 @@ import java.util.UUID;
 public class GetUnreadCountUseCase {
 
     private final NotificationRepository repository;
+    private final UnreadCountCache unreadCountCache;
 
     public long execute(UUID userId) {
-        return repository.countUnreadByRecipient(userId);
+        OptionalLong cached = unreadCountCache.get(userId);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+        long version = unreadCountCache.version(userId);
+        long count = repository.countUnreadByRecipient(userId);
+        unreadCountCache.populate(userId, count, version);
+        return count;
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -18,9 +19,16 @@ import java.util.UUID;
 public class MarkAllReadUseCase {
 
     private final NotificationRepository repository;
+    private final NotificationChangePublisher changePublisher;
+    private final UnreadCountCache unreadCountCache;
 
     public void execute(UUID userId) {
         int updated = repository.markAllAsRead(userId, Instant.now());
         log.debug("Marked {} notifications as read for user: userId={}", updated, userId);
+        if (updated > 0) {
+            // Subtract rather than overwrite with zero, so notifications created meanwhile keep their increment
+            unreadCountCache.adjust(Map.of(userId, (long) -updated));
+            changePublisher.allRead(userId);
+        }
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -20,6 +21,8 @@ import java.util.UUID;
 public class MarkNotificationReadUseCase {
 
     private final NotificationRepository repository;
+    private final NotificationChangePublisher changePublisher;
+    private final UnreadCountCache unreadCountCache;
 
     public void execute(UUID userId, UUID notificationId) {
         Notification notification = repository.findById(notificationId)
@@ -30,9 +33,12 @@ public class MarkNotificationReadUseCase {
             throw Errors.forbidden("Notification does not belong to user");
         }
 
-        // Mark as read (idempotent)
-        notification.markRead(Instant.now());
-        repository.save(notification);
+        // Mark as read (idempotent): only the request that flips the row moves the counter and notifies
+        if (!notification.isRead()
+                && repository.markRead(notification.getId(), notification.getCreatedAt(), Instant.now())) {
+            unreadCountCache.adjust(Map.of(userId, -1L));
+            changePublisher.read(userId, notificationId);
+        }
 
         log.debug("Marked notification as read: id={}, userId={}", notificationId, userId);
     }
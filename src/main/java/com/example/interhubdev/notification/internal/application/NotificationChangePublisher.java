@@ -0,0 +1,44 @@
+package com.example.interhubdev.notification.internal.application;
+
+import com.example.interhubdev.notification.internal.domain.Notification;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port for pushing inbox changes to connected clients.
+ * <p>
+ * Implementations must deliver only after the surrounding transaction commits, so clients never
+ * see a notification or unread change that is rolled back.
+ */
+public interface NotificationChangePublisher {
+
+    /**
+     * New notifications were created (one unread increment per notification for its recipient).
+     *
+     * @param notifications created notifications with their generated IDs
+     */
+    void created(List<Notification> notifications);
+
+    /**
+     * A later notification was merged into an existing unread one (unread count unchanged).
+     *
+     * @param notification the merged notification
+     */
+    void updated(Notification notification);
+
+    /**
+     * A previously unread notification was marked as read.
+     *
+     * @param recipientUserId owner of the notification
+     * @param notificationId  notification ID
+     */
+    void read(UUID recipientUserId, UUID notificationId);
+
+    /**
+     * All notifications of the user were marked as read (unread count is now zero).
+     *
+     * @param recipientUserId user ID
+     */
+    void allRead(UUID recipientUserId);
+}
@@ -0,0 +1,49 @@
+package com.example.interhubdev.notification.internal.application;
+
+import com.example.interhubdev.error.Errors;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of an inbox page: (createdAt, id) of the last returned notification, i.e. its full
+ * primary key, so the next page needs no lookup of the cursor row. Encoded as an opaque URL-safe token
+ * so clients cannot depend on its shape.
+ */
+public record NotificationCursor(Instant createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @return decoded cursor, or null if the token is null or blank (first page)
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if the token is malformed
+     */
+    public static NotificationCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw Errors.badRequest("Invalid cursor");
+            }
+            return new NotificationCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw Errors.badRequest("Invalid cursor");
+        }
+    }
+}
@@ -3,27 +3,40 @@ package com.example.interhubdev.notification.internal.application;
 import com.example.interhubdev.notification.internal.domain.Notification;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Port for notification repository operations.
  * <p>
- * Application layer interface for persistence operations.
+ * Application layer interface for persistence operations. Inbox reads, counts and "mark all read"
+ * cover non-archived notifications; read ones are listed only within the configured inbox window.
  */
 public interface NotificationRepository {
 
     /**
-     * Save notification. If notification with same (recipientUserId, sourceEventId) exists,
-     * throws exception (idempotency handled at DB level via unique constraint).
+     * Save notification (insert or update by ID). Does not check (recipientUserId, sourceEventId):
+     * the partitioned table has no unique constraint on it, so new notifications created from
+     * outbox events go through {@link #insertIgnoringDuplicates(List)}.
      *
      * @param notification notification to save
      * @return saved notification with generated ID
-     * @throws org.springframework.dao.DataIntegrityViolationException if duplicate (should be caught and handled as idempotent)
      */
     Notification save(Notification notification);
 
+    /**
+     * Insert new notifications in batched multi-row statements, skipping rows whose
+     * (recipientUserId, sourceEventId) was already claimed by an earlier or concurrent insert.
+     * Never fails on duplicates, so a retried outbox event does not poison the surrounding transaction.
+     *
+     * @param notifications new notifications (ids are generated by the database)
+     * @return the notifications actually inserted, with their generated IDs (duplicates omitted)
+     */
+    List<Notification> insertIgnoringDuplicates(List<Notification> notifications);
+
     /**
      * Find notification by ID.
      *
@@ -44,15 +57,16 @@ public interface NotificationRepository {
     /**
      * Find notifications for user with pagination.
      * <p>
-     * Ordered by created_at DESC (newest first).
+     * Ordered by created_at DESC (newest first): notifications within the inbox window, then unread ones
+     * older than the window.
      *
      * @param recipientUserId recipient user ID
      * @param unreadOnly      if true, only return unread notifications
-     * @param cursor          optional cursor (last notification id from previous page); null for first page
+     * @param cursor          optional keyset position (last notification of the previous page); null for first page
      * @param limit           max items to return (should fetch limit+1 to check if more exists)
      * @return list of notifications (may be empty)
      */
-    List<Notification> findByRecipient(UUID recipientUserId, boolean unreadOnly, UUID cursor, int limit);
+    List<Notification> findByRecipient(UUID recipientUserId, boolean unreadOnly, NotificationCursor cursor, int limit);
 
     /**
      * Count unread notifications for user.
@@ -62,6 +76,24 @@ public interface NotificationRepository {
      */
     long countUnreadByRecipient(UUID recipientUserId);
 
+    /**
+     * Count unread notifications for several users in one query (counter reconciliation).
+     *
+     * @param recipientUserIds recipient user IDs
+     * @return unread count per user; users without unread notifications are absent
+     */
+    Map<UUID, Long> countUnreadByRecipients(Collection<UUID> recipientUserIds);
+
+    /**
+     * Mark the notification as read if it is still unread (conditional update on the full key).
+     *
+     * @param id        notification ID
+     * @param createdAt creation time of the notification (partition key)
+     * @param readAt    timestamp when marked as read
+     * @return true if this call marked it read, false if it was already read (or is gone)
+     */
+    boolean markRead(UUID id, Instant createdAt, Instant readAt);
+
     /**
      * Mark all notifications as read for user.
      *
@@ -70,4 +102,54 @@ public interface NotificationRepository {
      * @return number of notifications updated
      */
     int markAllAsRead(UUID recipientUserId, Instant readAt);
+
+    /**
+     * Serialize creation of a coalescible notification for (recipientUserId, coalesceKey) until the
+     * current transaction ends, so that concurrent workers do not both create a notification for the same key.
+     *
+     * @param recipientUserId recipient user ID
+     * @param coalesceKey     coalesce key
+     */
+    void lockCoalesceKey(UUID recipientUserId, String coalesceKey);
+
+    /**
+     * Find the notification a new notification with the given coalesce key should be merged into:
+     * the latest unread, non-archived one created since the given instant. The row stays locked until
+     * the current transaction ends, so concurrent merges into it do not lose updates.
+     *
+     * @param recipientUserId recipient user ID
+     * @param coalesceKey     coalesce key
+     * @param createdSince    start of the coalescing window
+     * @return optional notification to merge into
+     */
+    Optional<Notification> findCoalescible(UUID recipientUserId, String coalesceKey, Instant createdSince);
+
+    /**
+     * Write the content, source and count of a notification another one was merged into.
+     * Addressed by the full primary key (id, createdAt).
+     *
+     * @param notification coalesced notification, as returned by {@link #findCoalescible}
+     */
+    void updateCoalesced(Notification notification);
+
+    /**
+     * Archive up to {@code limit} notifications read before the given instant; archived
+     * notifications no longer appear in the inbox.
+     *
+     * @param readBefore archive notifications read before this instant
+     * @param archivedAt archive timestamp to set
+     * @param limit      max notifications to archive in this call
+     * @return number of notifications archived
+     */
+    int archiveReadBefore(Instant readBefore, Instant archivedAt, int limit);
+
+    /**
+     * Forget up to {@code limit} processed (recipientUserId, sourceEventId) keys recorded before the given
+     * instant; their notifications have expired with the retention, and the events are long gone from the outbox.
+     *
+     * @param createdBefore forget keys recorded before this instant
+     * @param limit         max keys to delete in this call
+     * @return number of keys deleted
+     */
+    int purgeSourceEventsBefore(Instant createdBefore, int limit);
 }
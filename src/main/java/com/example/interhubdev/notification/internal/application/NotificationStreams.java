@@ -0,0 +1,15 @@
+package com.example.interhubdev.notification.internal.application;
+
+/**
+ * Port for live inbox streams open on this instance.
+ */
+public interface NotificationStreams {
+
+    /**
+     * Register a subscription; the current unread count is sent as the first event.
+     *
+     * @param subscription client connection
+     * @param unreadCount  unread count at connect time
+     */
+    void open(NotificationSubscription subscription, long unreadCount);
+}
@@ -0,0 +1,51 @@
+package com.example.interhubdev.notification.internal.application;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * One client's live inbox connection, as seen by the application layer. The transport
+ * (e.g. Server-Sent Events) is an adapter concern.
+ */
+public interface NotificationSubscription {
+
+    /**
+     * @return owner of the subscription
+     */
+    UUID userId();
+
+    /**
+     * Send a named event to the client.
+     *
+     * @param name event name
+     * @param data event payload, serialized as JSON
+     * @throws IOException if the client went away
+     */
+    void send(String name, Object data) throws IOException;
+
+    /**
+     * Send a keep-alive that clients ignore.
+     *
+     * @throws IOException if the client went away
+     */
+    void heartbeat() throws IOException;
+
+    /**
+     * Close the connection normally.
+     */
+    void close();
+
+    /**
+     * Close the connection after a failed send.
+     *
+     * @param cause the failure
+     */
+    void close(Throwable cause);
+
+    /**
+     * Register a callback run once the connection is closed by either side, times out or fails.
+     *
+     * @param callback callback
+     */
+    void onClose(Runnable callback);
+}
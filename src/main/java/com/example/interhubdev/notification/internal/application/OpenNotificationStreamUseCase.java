@@ -0,0 +1,19 @@
+package com.example.interhubdev.notification.internal.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case: open a live inbox stream for the current user, starting with the unread count.
+ */
+@Service
+@RequiredArgsConstructor
+public class OpenNotificationStreamUseCase {
+
+    private final GetUnreadCountUseCase getUnreadCountUseCase;
+    private final NotificationStreams streams;
+
+    public void execute(NotificationSubscription subscription) {
+        streams.open(subscription, getUnreadCountUseCase.execute(subscription.userId()));
+    }
+}
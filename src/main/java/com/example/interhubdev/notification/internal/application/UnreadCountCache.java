@@ -0,0 +1,51 @@
+package com.example.interhubdev.notification.internal.application;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Port for the per-user unread notification counter cache.
+ * <p>
+ * The notification table stays the source of truth: a missing counter is rebuilt from it on the
+ * next read, and counters are periodically reconciled against it. Changes are applied once the
+ * current transaction commits, so a rolled-back change never moves a counter.
+ */
+public interface UnreadCountCache {
+
+    /**
+     * Cached unread count of the user.
+     *
+     * @param recipientUserId recipient user ID
+     * @return the cached count, or empty on a cache miss (or when the cache is unavailable)
+     */
+    OptionalLong get(UUID recipientUserId);
+
+    /**
+     * Current change version of the user's counter. Every adjustment or reset bumps it, whether or
+     * not a counter is cached; take it before counting in the table after a miss.
+     *
+     * @param recipientUserId recipient user ID
+     * @return change version (0 if the user had no recent changes)
+     */
+    long version(UUID recipientUserId);
+
+    /**
+     * Store a count freshly computed from the table after a cache miss, only if no change was applied
+     * since {@code versionBeforeCount} was read (otherwise the count may miss that change and the next
+     * read recounts). Does not overwrite a counter that another request has populated in the meantime.
+     *
+     * @param recipientUserId    recipient user ID
+     * @param unreadCount        unread count read from the table
+     * @param versionBeforeCount {@link #version(UUID)} read before counting
+     */
+    void populate(UUID recipientUserId, long unreadCount, long versionBeforeCount);
+
+    /**
+     * Add deltas to the counters of the given users after commit. Users without a cached counter
+     * are skipped; their counter is rebuilt on the next read.
+     *
+     * @param deltas unread count change per recipient user ID
+     */
+    void adjust(Map<UUID, Long> deltas);
+}
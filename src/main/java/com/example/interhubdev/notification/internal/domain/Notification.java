@@ -8,6 +8,9 @@ import java.util.UUID;
  * <p>
  * Represents a notification in the user's inbox.
  * Domain rules: templateKey must not be blank; markRead is idempotent.
+ * <p>
+ * A notification with a coalesce key absorbs later notifications with the same recipient and key
+ * while it is unread (see {@link #coalesce(Notification)}); coalescedCount tells how many it stands for.
  */
 public class Notification {
 
@@ -22,6 +25,8 @@ public class Notification {
     private UUID sourceEventId;
     private String sourceEventType;
     private Instant sourceOccurredAt;
+    private String coalesceKey;
+    private int coalescedCount = 1;
 
     // Constructor for creating new notification
     public Notification(
@@ -32,6 +37,19 @@ public class Notification {
             UUID sourceEventId,
             String sourceEventType,
             Instant sourceOccurredAt) {
+        this(recipientUserId, templateKey, paramsJson, dataJson, sourceEventId, sourceEventType, sourceOccurredAt, null);
+    }
+
+    // Constructor for creating new notification that later notifications with the same key may be merged into
+    public Notification(
+            UUID recipientUserId,
+            String templateKey,
+            String paramsJson,
+            String dataJson,
+            UUID sourceEventId,
+            String sourceEventType,
+            Instant sourceOccurredAt,
+            String coalesceKey) {
         if (templateKey == null || templateKey.isBlank()) {
             throw new IllegalArgumentException("Template key must not be blank");
         }
@@ -42,6 +60,7 @@ public class Notification {
         this.sourceEventId = sourceEventId;
         this.sourceEventType = sourceEventType;
         this.sourceOccurredAt = sourceOccurredAt;
+        this.coalesceKey = coalesceKey;
         this.createdAt = Instant.now();
     }
 
@@ -57,7 +76,9 @@ public class Notification {
             Instant archivedAt,
             UUID sourceEventId,
             String sourceEventType,
-            Instant sourceOccurredAt) {
+            Instant sourceOccurredAt,
+            String coalesceKey,
+            int coalescedCount) {
         this.id = id;
         this.recipientUserId = recipientUserId;
         this.templateKey = templateKey;
@@ -69,6 +90,32 @@ public class Notification {
         this.sourceEventId = sourceEventId;
         this.sourceEventType = sourceEventType;
         this.sourceOccurredAt = sourceOccurredAt;
+        this.coalesceKey = coalesceKey;
+        this.coalescedCount = coalescedCount;
+    }
+
+    /**
+     * Merge another notification with the same recipient and coalesce key into this one: the count
+     * grows by one, and content and source become the other notification's only if its source event
+     * occurred after the current one (events may be delivered out of order; latest state wins).
+     * The position in the inbox (createdAt) is kept. Callers must skip events already absorbed.
+     *
+     * @param other notification that would otherwise have been created
+     */
+    public void coalesce(Notification other) {
+        if (coalesceKey == null || !coalesceKey.equals(other.coalesceKey)
+                || !recipientUserId.equals(other.recipientUserId)) {
+            throw new IllegalArgumentException("Only notifications with the same recipient and coalesce key can be merged");
+        }
+        if (sourceOccurredAt == null || (other.sourceOccurredAt != null && other.sourceOccurredAt.isAfter(sourceOccurredAt))) {
+            this.templateKey = other.templateKey;
+            this.paramsJson = other.paramsJson;
+            this.dataJson = other.dataJson;
+            this.sourceEventId = other.sourceEventId;
+            this.sourceEventType = other.sourceEventType;
+            this.sourceOccurredAt = other.sourceOccurredAt;
+        }
+        this.coalescedCount++;
     }
 
     /**
@@ -139,6 +186,14 @@ public class Notification {
         return sourceOccurredAt;
     }
 
+    public String getCoalesceKey() {
+        return coalesceKey;
+    }
+
+    public int getCoalescedCount() {
+        return coalescedCount;
+    }
+
     public boolean isRead() {
         return readAt != null;
     }
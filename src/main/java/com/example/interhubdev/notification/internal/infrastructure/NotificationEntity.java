@@ -13,13 +13,17 @@ import java.util.UUID;
 
 /**
  * JPA entity for notification table.
+ * <p>
+ * The table is range-partitioned by month on created_at (primary key (id, created_at)). The id stays unique
+ * on its own, but a lookup by id alone scans every partition: updates and keyset paging go through
+ * {@link NotificationJpaRepository} queries that also bind created_at.
  */
 @Entity
 @Table(name = "notification", indexes = {
-        @Index(name = "idx_notification_recipient_read_created", columnList = "recipient_user_id,read_at,created_at"),
         @Index(name = "idx_notification_recipient_created", columnList = "recipient_user_id,created_at"),
-        @Index(name = "idx_notification_source_event_id", columnList = "source_event_id"),
-        @Index(name = "idx_notification_template_key_created", columnList = "template_key,created_at")
+        @Index(name = "idx_notification_recipient_source_event", columnList = "recipient_user_id,source_event_id"),
+        @Index(name = "idx_notification_read_not_archived", columnList = "read_at"),
+        @Index(name = "idx_notification_recipient_coalesce_key", columnList = "recipient_user_id,coalesce_key,created_at")
 })
 @Data
 @Builder
@@ -62,4 +66,11 @@ class NotificationEntity {
 
     @Column(name = "source_occurred_at", nullable = false)
     private Instant sourceOccurredAt;
+
+    @Column(name = "coalesce_key", length = 255)
+    private String coalesceKey;
+
+    @Column(name = "coalesced_count", nullable = false)
+    @Builder.Default
+    private int coalescedCount = 1;
 }
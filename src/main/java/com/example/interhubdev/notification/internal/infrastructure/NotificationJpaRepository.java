@@ -1,65 +1,164 @@
 package com.example.interhubdev.notification.internal.infrastructure;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * JPA repository for NotificationEntity.
+ * <p>
+ * Every query bounds created_at (the partition key), so PostgreSQL only scans the partitions it needs. Inbox
+ * pages read the inbox window ({@code since}) first and reach unread notifications older than the window with
+ * separate queries; counts and "mark all read" cover unread notifications back to the retention horizon
+ * ({@code horizon}), before which the retention job has marked everything read.
  */
 interface NotificationJpaRepository extends JpaRepository<NotificationEntity, UUID> {
 
     /**
-     * Check if notification exists for recipient and source event.
+     * The one definition of "unread" shared by inbox filters, counts, coalescing and "mark all read".
      */
-    boolean existsByRecipientUserIdAndSourceEventId(UUID recipientUserId, UUID sourceEventId);
+    String UNREAD = "n.readAt IS NULL AND n.archivedAt IS NULL";
 
     /**
-     * Find first page of notifications for recipient (no cursor).
+     * First page of the recipient's notifications within the inbox window.
      * Ordered by createdAt DESC, id DESC.
      */
     @Query("SELECT n FROM NotificationEntity n " +
-            "WHERE n.recipientUserId = :recipientUserId " +
-            "AND (:unreadOnly = false OR n.readAt IS NULL) " +
+            "WHERE n.recipientUserId = :recipientUserId AND n.createdAt >= :since " +
+            "AND n.archivedAt IS NULL AND (:unreadOnly = false OR (" + UNREAD + ")) " +
             "ORDER BY n.createdAt DESC, n.id DESC")
     List<NotificationEntity> findFirstPage(
             @Param("recipientUserId") UUID recipientUserId,
             @Param("unreadOnly") boolean unreadOnly,
+            @Param("since") Instant since,
             org.springframework.data.domain.Pageable pageable);
 
     /**
-     * Find next page of notifications for recipient using cursor.
-     * Returns notifications where (createdAt &lt; cursorCreatedAt)
+     * Next page within the inbox window: notifications where (createdAt &lt; cursorCreatedAt)
      * OR (createdAt = cursorCreatedAt AND id &lt; cursorId).
      * Ordered by createdAt DESC, id DESC.
      */
     @Query("SELECT n FROM NotificationEntity n " +
-            "WHERE n.recipientUserId = :recipientUserId " +
-            "AND (:unreadOnly = false OR n.readAt IS NULL) " +
+            "WHERE n.recipientUserId = :recipientUserId AND n.createdAt >= :since " +
+            "AND n.archivedAt IS NULL AND (:unreadOnly = false OR (" + UNREAD + ")) " +
             "AND ((n.createdAt < :cursorCreatedAt) OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
             "ORDER BY n.createdAt DESC, n.id DESC")
     List<NotificationEntity> findNextPage(
             @Param("recipientUserId") UUID recipientUserId,
             @Param("unreadOnly") boolean unreadOnly,
-            @Param("cursorCreatedAt") java.time.Instant cursorCreatedAt,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
             @Param("cursorId") UUID cursorId,
+            @Param("since") Instant since,
+            org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * First page of the recipient's unread notifications older than the inbox window.
+     * Ordered by createdAt DESC, id DESC.
+     */
+    @Query("SELECT n FROM NotificationEntity n " +
+            "WHERE n.recipientUserId = :recipientUserId AND n.createdAt < :since AND n.createdAt >= :horizon " +
+            "AND " + UNREAD + " " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationEntity> findFirstOlderUnreadPage(
+            @Param("recipientUserId") UUID recipientUserId,
+            @Param("since") Instant since,
+            @Param("horizon") Instant horizon,
+            org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * Next page of unread notifications older than the inbox window, after a cursor that is itself older.
+     * Ordered by createdAt DESC, id DESC.
+     */
+    @Query("SELECT n FROM NotificationEntity n " +
+            "WHERE n.recipientUserId = :recipientUserId AND n.createdAt >= :horizon " +
+            "AND " + UNREAD + " " +
+            "AND ((n.createdAt < :cursorCreatedAt) OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationEntity> findNextOlderUnreadPage(
+            @Param("recipientUserId") UUID recipientUserId,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            @Param("horizon") Instant horizon,
             org.springframework.data.domain.Pageable pageable);
 
     /**
      * Count unread notifications for recipient.
      */
-    long countByRecipientUserIdAndReadAtIsNull(UUID recipientUserId);
+    @Query("SELECT COUNT(n) FROM NotificationEntity n WHERE n.recipientUserId = :recipientUserId " +
+            "AND n.createdAt >= :horizon AND " + UNREAD)
+    long countUnread(@Param("recipientUserId") UUID recipientUserId, @Param("horizon") Instant horizon);
 
     /**
-     * Mark all notifications as read for recipient.
+     * Latest unread, non-archived notification of recipient with the coalesce key, created since the given instant.
+     * Locked (FOR UPDATE) until the transaction ends.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM NotificationEntity n " +
+            "WHERE n.recipientUserId = :recipientUserId AND n.coalesceKey = :coalesceKey " +
+            "AND " + UNREAD + " AND n.createdAt >= :since " +
+            "ORDER BY n.createdAt DESC")
+    List<NotificationEntity> findCoalescible(
+            @Param("recipientUserId") UUID recipientUserId,
+            @Param("coalesceKey") String coalesceKey,
+            @Param("since") Instant since,
+            org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * Count unread notifications per recipient; each row is {recipientUserId, count}.
+     */
+    @Query("SELECT n.recipientUserId, COUNT(n) FROM NotificationEntity n " +
+            "WHERE n.recipientUserId IN :recipientUserIds AND n.createdAt >= :horizon AND " + UNREAD + " " +
+            "GROUP BY n.recipientUserId")
+    List<Object[]> countUnreadGroupedByRecipient(
+            @Param("recipientUserIds") Collection<UUID> recipientUserIds,
+            @Param("horizon") Instant horizon);
+
+    /**
+     * Write the merged content and count of a coalesced notification; addressed by the full primary key (id, createdAt).
+     */
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.templateKey = :templateKey, n.paramsJson = :paramsJson, " +
+            "n.dataJson = :dataJson, n.sourceEventId = :sourceEventId, n.sourceEventType = :sourceEventType, " +
+            "n.sourceOccurredAt = :sourceOccurredAt, n.coalescedCount = :coalescedCount " +
+            "WHERE n.id = :id AND n.createdAt = :createdAt")
+    int updateCoalesced(
+            @Param("id") UUID id,
+            @Param("createdAt") Instant createdAt,
+            @Param("templateKey") String templateKey,
+            @Param("paramsJson") String paramsJson,
+            @Param("dataJson") String dataJson,
+            @Param("sourceEventId") UUID sourceEventId,
+            @Param("sourceEventType") String sourceEventType,
+            @Param("sourceOccurredAt") Instant sourceOccurredAt,
+            @Param("coalescedCount") int coalescedCount);
+
+    /**
+     * Mark one notification as read unless it already is; addressed by the full primary key (id, createdAt).
      */
     @Modifying
     @Query("UPDATE NotificationEntity n SET n.readAt = :readAt " +
-            "WHERE n.recipientUserId = :recipientUserId AND n.readAt IS NULL")
-    int markAllAsRead(@Param("recipientUserId") UUID recipientUserId, @Param("readAt") Instant readAt);
+            "WHERE n.id = :id AND n.createdAt = :createdAt AND n.readAt IS NULL")
+    int markRead(
+            @Param("id") UUID id,
+            @Param("createdAt") Instant createdAt,
+            @Param("readAt") Instant readAt);
+
+    /**
+     * Mark all unread notifications as read for recipient.
+     */
+    @Modifying
+    @Query("UPDATE NotificationEntity n SET n.readAt = :readAt " +
+            "WHERE n.recipientUserId = :recipientUserId AND n.createdAt >= :horizon AND " + UNREAD)
+    int markAllAsRead(
+            @Param("recipientUserId") UUID recipientUserId,
+            @Param("readAt") Instant readAt,
+            @Param("horizon") Instant horizon);
 }
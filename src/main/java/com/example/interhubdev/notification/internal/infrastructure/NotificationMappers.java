@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -34,6 +35,8 @@ public final class NotificationMappers {
                 .sourceEventId(domain.getSourceEventId())
                 .sourceEventType(domain.getSourceEventType())
                 .sourceOccurredAt(domain.getSourceOccurredAt())
+                .coalesceKey(domain.getCoalesceKey())
+                .coalescedCount(domain.getCoalescedCount())
                 .build();
     }
 
@@ -52,7 +55,9 @@ public final class NotificationMappers {
                 entity.getArchivedAt(),
                 entity.getSourceEventId(),
                 entity.getSourceEventType(),
-                entity.getSourceOccurredAt()
+                entity.getSourceOccurredAt(),
+                entity.getCoalesceKey(),
+                entity.getCoalescedCount()
         );
     }
 
@@ -61,10 +66,15 @@ public final class NotificationMappers {
     /**
      * Convert domain Notification to DTO.
      * Parses params_json and data_json into maps so they serialize as plain JSON objects in API responses.
+     * A notification that several notifications were merged into gets {@code coalescedCount} in its params.
      */
     public static NotificationDto toDto(Notification domain, ObjectMapper objectMapper) {
         try {
             Map<String, Object> params = parseJsonToMap(domain.getParamsJson(), objectMapper);
+            if (domain.getCoalescedCount() > 1) {
+                params = new LinkedHashMap<>(params);
+                params.put("coalescedCount", domain.getCoalescedCount());
+            }
             Map<String, Object> data = parseJsonToMap(domain.getDataJson(), objectMapper);
             return new NotificationDto(
                     domain.getId(),
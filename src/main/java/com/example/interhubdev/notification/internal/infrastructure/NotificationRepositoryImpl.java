@@ -1,24 +1,98 @@
 package com.example.interhubdev.notification.internal.infrastructure;
 
+import com.example.interhubdev.notification.internal.application.NotificationCursor;
 import com.example.interhubdev.notification.internal.application.NotificationRepository;
 import com.example.interhubdev.notification.internal.domain.Notification;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of NotificationRepository using JPA.
+ * <p>
+ * Unread notifications stay in the inbox until they are read. Read ones are listed only while created within
+ * {@code app.notification.retention.inbox-window} (and until archived). Inbox pages query the window and only
+ * reach older partitions, for unread notifications, once a page runs past it; unread counts and "mark all read"
+ * are bounded by the retention horizon, served by the partial unread index of each retained partition.
  */
 @Repository
 @RequiredArgsConstructor
 class NotificationRepositoryImpl implements NotificationRepository {
 
+    /**
+     * Rows per INSERT statement (9 bind parameters each, well below the driver's parameter limit).
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+    /*
+     * Each row first claims its (recipient_user_id, source_event_id) in notification_source_event; only
+     * claimed rows are inserted. ON CONFLICT DO NOTHING makes a concurrent insert of the same key wait for
+     * the other transaction and then skip, so a redelivered event never creates a second notification.
+     */
+    private static final String INSERT_PREFIX = """
+            WITH v(recipient_user_id, template_key, params_json, data_json, created_at,
+                   source_event_id, source_event_type, source_occurred_at, coalesce_key) AS (VALUES\s""";
+    private static final String INSERT_ROW = "(CAST(? AS uuid), CAST(? AS varchar), CAST(? AS jsonb), CAST(? AS jsonb), "
+            + "CAST(? AS timestamp), CAST(? AS uuid), CAST(? AS varchar), CAST(? AS timestamp), CAST(? AS varchar))";
+    private static final String INSERT_SUFFIX = """
+            ),
+            claimed AS (
+                INSERT INTO notification_source_event (recipient_user_id, source_event_id, created_at)
+                SELECT recipient_user_id, source_event_id, created_at FROM v
+                ON CONFLICT DO NOTHING
+                RETURNING recipient_user_id, source_event_id
+            )
+            INSERT INTO notification (recipient_user_id, template_key, params_json, data_json, created_at,
+                                      source_event_id, source_event_type, source_occurred_at, coalesce_key)
+            SELECT v.recipient_user_id, v.template_key, v.params_json, v.data_json, v.created_at,
+                   v.source_event_id, v.source_event_type, v.source_occurred_at, v.coalesce_key
+            FROM v
+            JOIN claimed c ON c.recipient_user_id = v.recipient_user_id AND c.source_event_id = v.source_event_id
+            RETURNING id, recipient_user_id, source_event_id""";
+    private static final String SOURCE_EVENT_EXISTS_SQL = """
+            SELECT EXISTS (
+                SELECT 1 FROM notification_source_event WHERE recipient_user_id = ? AND source_event_id = ?
+            )""";
+    private static final String PURGE_SOURCE_EVENTS_SQL = """
+            DELETE FROM notification_source_event
+            WHERE (recipient_user_id, source_event_id) IN (
+                SELECT recipient_user_id, source_event_id FROM notification_source_event
+                WHERE created_at < ?
+                LIMIT ?
+            )""";
+    private static final String ARCHIVE_READ_SQL = """
+            UPDATE notification SET archived_at = ?
+            WHERE id IN (
+                SELECT id FROM notification
+                WHERE read_at < ? AND created_at < ? AND archived_at IS NULL
+                LIMIT ?
+            )""";
+
     private final NotificationJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.notification.retention.inbox-window:P90D}")
+    private Duration inboxWindow;
+
+    @Value("${app.notification.retention.retention-months:12}")
+    private int retentionMonths;
 
     @Override
     public Notification save(Notification notification) {
@@ -27,6 +101,46 @@ class NotificationRepositoryImpl implements NotificationRepository {
         return NotificationMappers.toDomain(saved);
     }
 
+    @Override
+    public List<Notification> insertIgnoringDuplicates(List<Notification> notifications) {
+        // Keep the first of duplicates within the input, so RETURNING maps back to exactly one source row.
+        Map<InsertKey, Notification> distinct = new LinkedHashMap<>();
+        for (Notification n : notifications) {
+            distinct.putIfAbsent(new InsertKey(n.getRecipientUserId(), n.getSourceEventId()), n);
+        }
+        List<Notification> rows = new ArrayList<>(distinct.values());
+        List<Notification> inserted = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += INSERT_BATCH_SIZE) {
+            List<Notification> chunk = rows.subList(from, Math.min(from + INSERT_BATCH_SIZE, rows.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW)) + INSERT_SUFFIX;
+            List<Object> args = new ArrayList<>(chunk.size() * 9);
+            Map<InsertKey, Notification> byKey = new HashMap<>();
+            for (Notification n : chunk) {
+                args.add(n.getRecipientUserId());
+                args.add(n.getTemplateKey());
+                args.add(n.getParamsJson());
+                args.add(n.getDataJson());
+                args.add(toTimestamp(n.getCreatedAt()));
+                args.add(n.getSourceEventId());
+                args.add(n.getSourceEventType());
+                args.add(toTimestamp(n.getSourceOccurredAt()));
+                args.add(n.getCoalesceKey());
+                byKey.put(new InsertKey(n.getRecipientUserId(), n.getSourceEventId()), n);
+            }
+            // RETURNING yields only the rows that were inserted, i.e. not skipped as duplicates.
+            jdbcTemplate.query(sql, rs -> {
+                InsertKey key = new InsertKey(
+                        rs.getObject("recipient_user_id", UUID.class),
+                        rs.getObject("source_event_id", UUID.class));
+                Notification source = byKey.get(key);
+                if (source != null) {
+                    inserted.add(withId(source, rs.getObject("id", UUID.class)));
+                }
+            }, args.toArray());
+        }
+        return inserted;
+    }
+
     @Override
     public Optional<Notification> findById(UUID id) {
         return jpaRepository.findById(id)
@@ -35,23 +149,29 @@ class NotificationRepositoryImpl implements NotificationRepository {
 
     @Override
     public boolean existsByRecipientAndSourceEvent(UUID recipientUserId, UUID sourceEventId) {
-        return jpaRepository.existsByRecipientUserIdAndSourceEventId(recipientUserId, sourceEventId);
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                SOURCE_EVENT_EXISTS_SQL, Boolean.class, recipientUserId, sourceEventId));
     }
 
     @Override
-    public List<Notification> findByRecipient(UUID recipientUserId, boolean unreadOnly, UUID cursor, int limit) {
-        PageRequest pageable = PageRequest.of(0, limit);
-        List<NotificationEntity> entities;
-
-        if (cursor != null) {
-            NotificationEntity cursorEntity = jpaRepository.findById(cursor)
-                    .orElseThrow(() -> new IllegalArgumentException("Cursor notification not found: " + cursor));
-            entities = jpaRepository.findNextPage(
-                    recipientUserId, unreadOnly,
-                    cursorEntity.getCreatedAt(), cursorEntity.getId(),
-                    pageable);
+    public List<Notification> findByRecipient(UUID recipientUserId, boolean unreadOnly, NotificationCursor cursor, int limit) {
+        Instant since = inboxSince();
+        Instant horizon = unreadHorizon();
+        boolean inWindow = cursor == null || !cursor.createdAt().isBefore(since);
+        List<NotificationEntity> entities = new ArrayList<>(limit);
+        if (cursor == null) {
+            entities.addAll(jpaRepository.findFirstPage(recipientUserId, unreadOnly, since, PageRequest.of(0, limit)));
+        } else if (inWindow) {
+            entities.addAll(jpaRepository.findNextPage(recipientUserId, unreadOnly,
+                    cursor.createdAt(), cursor.id(), since, PageRequest.of(0, limit)));
         } else {
-            entities = jpaRepository.findFirstPage(recipientUserId, unreadOnly, pageable);
+            entities.addAll(jpaRepository.findNextOlderUnreadPage(recipientUserId,
+                    cursor.createdAt(), cursor.id(), horizon, PageRequest.of(0, limit)));
+        }
+        // The window is exhausted: continue with the unread notifications older than it
+        if (inWindow && entities.size() < limit) {
+            entities.addAll(jpaRepository.findFirstOlderUnreadPage(recipientUserId, since, horizon,
+                    PageRequest.of(0, limit - entities.size())));
         }
 
         return entities.stream()
@@ -61,11 +181,103 @@ class NotificationRepositoryImpl implements NotificationRepository {
 
     @Override
     public long countUnreadByRecipient(UUID recipientUserId) {
-        return jpaRepository.countByRecipientUserIdAndReadAtIsNull(recipientUserId);
+        return jpaRepository.countUnread(recipientUserId, unreadHorizon());
+    }
+
+    @Override
+    public Map<UUID, Long> countUnreadByRecipients(Collection<UUID> recipientUserIds) {
+        if (recipientUserIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Long> counts = new HashMap<>();
+        for (Object[] row : jpaRepository.countUnreadGroupedByRecipient(recipientUserIds, unreadHorizon())) {
+            counts.put((UUID) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean markRead(UUID id, Instant createdAt, Instant readAt) {
+        return jpaRepository.markRead(id, createdAt, readAt) == 1;
     }
 
     @Override
-    public int markAllAsRead(UUID recipientUserId, java.time.Instant readAt) {
-        return jpaRepository.markAllAsRead(recipientUserId, readAt);
+    public int markAllAsRead(UUID recipientUserId, Instant readAt) {
+        return jpaRepository.markAllAsRead(recipientUserId, readAt, unreadHorizon());
+    }
+
+    @Override
+    public void lockCoalesceKey(UUID recipientUserId, String coalesceKey) {
+        // 64-bit hash of the whole key: unrelated (recipient, key) pairs practically never share a lock
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtextextended(?, 0))", rs -> { },
+                recipientUserId + ":" + coalesceKey);
+    }
+
+    @Override
+    public Optional<Notification> findCoalescible(UUID recipientUserId, String coalesceKey, Instant createdSince) {
+        return jpaRepository.findCoalescible(recipientUserId, coalesceKey, createdSince, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(NotificationMappers::toDomain);
+    }
+
+    @Override
+    public void updateCoalesced(Notification notification) {
+        jpaRepository.updateCoalesced(notification.getId(), notification.getCreatedAt(),
+                notification.getTemplateKey(), notification.getParamsJson(), notification.getDataJson(),
+                notification.getSourceEventId(), notification.getSourceEventType(),
+                notification.getSourceOccurredAt(), notification.getCoalescedCount());
+    }
+
+    @Override
+    public int archiveReadBefore(Instant readBefore, Instant archivedAt, int limit) {
+        // read_at >= created_at, so the same bound on created_at only prunes partitions
+        return jdbcTemplate.update(ARCHIVE_READ_SQL, toTimestamp(archivedAt), toTimestamp(readBefore),
+                toTimestamp(readBefore), limit);
+    }
+
+    @Override
+    public int purgeSourceEventsBefore(Instant createdBefore, int limit) {
+        return jdbcTemplate.update(PURGE_SOURCE_EVENTS_SQL, toTimestamp(createdBefore), limit);
+    }
+
+    private Instant inboxSince() {
+        return Instant.now().minus(inboxWindow);
+    }
+
+    /**
+     * Lower created_at bound of unread notifications: one month before the oldest retained partition, so the
+     * partition being expired stays covered until the retention job has marked its unread notifications read.
+     */
+    private Instant unreadHorizon() {
+        return YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths + 1L)
+                .atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Bind like Hibernate binds {@link Instant} (UTC offset), so JDBC and JPA rows agree on timestamps.
+     */
+    private static OffsetDateTime toTimestamp(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
+    }
+
+    private static Notification withId(Notification source, UUID id) {
+        return new Notification(
+                id,
+                source.getRecipientUserId(),
+                source.getTemplateKey(),
+                source.getParamsJson(),
+                source.getDataJson(),
+                source.getCreatedAt(),
+                source.getReadAt(),
+                source.getArchivedAt(),
+                source.getSourceEventId(),
+                source.getSourceEventType(),
+                source.getSourceOccurredAt(),
+                source.getCoalesceKey(),
+                source.getCoalescedCount()
+        );
+    }
+
+    private record InsertKey(UUID recipientUserId, UUID sourceEventId) {
     }
 }
@@ -2,12 +2,8 @@ package com.example.interhubdev.notification.internal.infrastructure.handlers;
 
 import com.example.interhubdev.notification.NotificationContentResolver;
 import com.example.interhubdev.notification.ResolvedNotificationContent;
-import com.example.interhubdev.notification.ResolvedNotificationItem;
-import com.example.interhubdev.notification.internal.application.CreateNotificationUseCase;
-import com.example.interhubdev.notification.internal.domain.Notification;
 import com.example.interhubdev.outbox.OutboxEvent;
 import com.example.interhubdev.outbox.OutboxEventHandler;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,7 +12,7 @@ import org.springframework.stereotype.Component;
  * Handler for attendance.absence_notice.submitted event.
  * <p>
  * Delegates content resolution to {@link NotificationContentResolver} (implemented in adapter);
- * creates one notification per resolved item.
+ * creates one notification per resolved item in a single set-based insert.
  */
 @Component
 @RequiredArgsConstructor
@@ -24,8 +20,7 @@ import org.springframework.stereotype.Component;
 class AbsenceNoticeSubmittedHandler implements OutboxEventHandler {
 
     private final NotificationContentResolver notificationContentResolver;
-    private final CreateNotificationUseCase createNotificationUseCase;
-    private final ObjectMapper objectMapper;
+    private final ResolvedNotificationWriter resolvedNotificationWriter;
 
     @Override
     public String eventType() {
@@ -40,21 +35,8 @@ class AbsenceNoticeSubmittedHandler implements OutboxEventHandler {
             return;
         }
         ResolvedNotificationContent content = contentOpt.get();
-        for (ResolvedNotificationItem item : content.items()) {
-            String paramsJson = objectMapper.writeValueAsString(item.params());
-            String dataJson = objectMapper.writeValueAsString(item.data());
-            Notification notification = new Notification(
-                    item.recipientUserId(),
-                    item.templateKey(),
-                    paramsJson,
-                    dataJson,
-                    event.getId(),
-                    event.getEventType(),
-                    content.sourceOccurredAt()
-            );
-            createNotificationUseCase.execute(notification);
-        }
-        log.info("Created {} notification(s) for event: eventType={}, eventId={}",
-                content.items().size(), eventType(), event.getId());
+        int created = resolvedNotificationWriter.write(event, content);
+        log.info("Created {} of {} notification(s) for event: eventType={}, eventId={}",
+                created, content.items().size(), eventType(), event.getId());
     }
 }
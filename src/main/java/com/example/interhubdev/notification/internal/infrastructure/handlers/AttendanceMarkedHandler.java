@@ -11,8 +11,10 @@ import com.example.interhubdev.student.StudentDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
@@ -21,16 +23,37 @@ import java.util.UUID;
  * Handler for attendance.record.marked event.
  * <p>
  * Creates notification for the student when attendance is marked.
+ * <p>
+ * Marks are coalesced: while the student's previous notification is unread and younger than
+ * {@code app.notification.coalescing.attendance-marked.window}, a new mark updates it (latest
+ * status, growing count) instead of adding a row. The scope decides what is merged: SESSION merges
+ * repeated edits of one lesson; STUDENT merges every mark (e.g. a retroactive bulk marking of a term).
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 class AttendanceMarkedHandler implements OutboxEventHandler {
 
+    /**
+     * Which attendance-marked notifications of one student are merged.
+     */
+    enum CoalescingScope {
+        /** One notification per (student, session). */
+        SESSION,
+        /** One notification per student for all sessions. */
+        STUDENT
+    }
+
     private final CreateNotificationUseCase createNotificationUseCase;
     private final StudentApi studentApi;
     private final ObjectMapper objectMapper;
 
+    @Value("${app.notification.coalescing.attendance-marked.window:PT10M}")
+    private Duration coalescingWindow;
+
+    @Value("${app.notification.coalescing.attendance-marked.scope:SESSION}")
+    private CoalescingScope coalescingScope;
+
     @Override
     public String eventType() {
         return "attendance.record.marked";
@@ -80,12 +103,15 @@ class AttendanceMarkedHandler implements OutboxEventHandler {
                 dataJson,
                 event.getId(),
                 event.getEventType(),
-                occurredAt
+                occurredAt,
+                coalescingScope == CoalescingScope.SESSION
+                        ? NotificationTemplateKeys.ATTENDANCE_MARKED + ":" + sessionId
+                        : NotificationTemplateKeys.ATTENDANCE_MARKED
         );
 
-        createNotificationUseCase.execute(notification);
+        createNotificationUseCase.execute(notification, coalescingWindow);
 
-        log.info("Created notification for student: recordId={}, studentUserId={}", recordId, studentUserId);
+        log.info("Created or coalesced notification for student: recordId={}, studentUserId={}", recordId, studentUserId);
 
         // TODO: In future, after creating in-app notification, enqueue push delivery (mobile) based on user preferences.
     }
@@ -0,0 +1,60 @@
+package com.example.interhubdev.notification.internal.infrastructure.handlers;
+
+import com.example.interhubdev.notification.ResolvedNotificationContent;
+import com.example.interhubdev.notification.ResolvedNotificationItem;
+import com.example.interhubdev.notification.internal.application.CreateNotificationsUseCase;
+import com.example.interhubdev.notification.internal.domain.Notification;
+import com.example.interhubdev.outbox.OutboxEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns resolved notification content into notifications and writes the whole fan-out at once.
+ * <p>
+ * Items of one event usually share the same params/data (e.g. every student of a rescheduled
+ * lesson); each distinct map is serialized to JSON only once per event.
+ */
+@Component
+@RequiredArgsConstructor
+class ResolvedNotificationWriter {
+
+    private final CreateNotificationsUseCase createNotificationsUseCase;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return number of notifications actually created (duplicates from retries are skipped)
+     */
+    int write(OutboxEvent event, ResolvedNotificationContent content) throws JsonProcessingException {
+        Map<Map<String, Object>, String> jsonCache = new HashMap<>();
+        List<Notification> notifications = new ArrayList<>(content.items().size());
+        for (ResolvedNotificationItem item : content.items()) {
+            notifications.add(new Notification(
+                    item.recipientUserId(),
+                    item.templateKey(),
+                    toJson(item.params(), jsonCache),
+                    toJson(item.data(), jsonCache),
+                    event.getId(),
+                    event.getEventType(),
+                    content.sourceOccurredAt()
+            ));
+        }
+        return createNotificationsUseCase.execute(notifications);
+    }
+
+    private String toJson(Map<String, Object> value, Map<Map<String, Object>, String> jsonCache)
+            throws JsonProcessingException {
+        String json = jsonCache.get(value);
+        if (json == null) {
+            json = objectMapper.writeValueAsString(value);
+            jsonCache.put(value, json);
+        }
+        return json;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-process bus for single-instance deployments and tests: delivers straight to local streams.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.notification.stream.broker", havingValue = "local")
+class LocalNotificationSignalBus implements NotificationSignalBus {
+
+    private final NotificationStreamRegistry registry;
+
+    @Override
+    public void publish(List<NotificationStreamSignal> signals) {
+        signals.forEach(registry::deliver);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import java.util.List;
+
+/**
+ * Transport that delivers inbox changes to the streams open on every application instance.
+ */
+interface NotificationSignalBus {
+
+    void publish(List<NotificationStreamSignal> signals);
+}
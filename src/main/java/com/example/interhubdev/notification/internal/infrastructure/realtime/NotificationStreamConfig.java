@@ -0,0 +1,27 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this instance to the Redis notification stream channel.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.notification.stream.broker", havingValue = "redis", matchIfMissing = true)
+class NotificationStreamConfig {
+
+    @Bean
+    RedisMessageListenerContainer notificationStreamListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisNotificationSignalBus signalBus
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(signalBus, new ChannelTopic(RedisNotificationSignalBus.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import com.example.interhubdev.notification.internal.application.NotificationChangePublisher;
+import com.example.interhubdev.notification.internal.domain.Notification;
+import com.example.interhubdev.notification.internal.infrastructure.NotificationMappers;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publishes inbox changes to the signal bus once the current transaction has committed.
+ */
+@Component
+@RequiredArgsConstructor
+class NotificationStreamPublisher implements NotificationChangePublisher {
+
+    private final NotificationSignalBus signalBus;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void created(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<NotificationStreamSignal> signals = notifications.stream()
+                .map(n -> NotificationStreamSignal.created(NotificationMappers.toDto(n, objectMapper), n.getRecipientUserId()))
+                .toList();
+        publishAfterCommit(signals);
+    }
+
+    @Override
+    public void updated(Notification notification) {
+        publishAfterCommit(List.of(NotificationStreamSignal.updated(
+                NotificationMappers.toDto(notification, objectMapper), notification.getRecipientUserId())));
+    }
+
+    @Override
+    public void read(UUID recipientUserId, UUID notificationId) {
+        publishAfterCommit(List.of(NotificationStreamSignal.read(recipientUserId, notificationId)));
+    }
+
+    @Override
+    public void allRead(UUID recipientUserId) {
+        publishAfterCommit(List.of(NotificationStreamSignal.allRead(recipientUserId)));
+    }
+
+    private void publishAfterCommit(List<NotificationStreamSignal> signals) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    signalBus.publish(signals);
+                }
+            });
+        } else {
+            signalBus.publish(signals);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import com.example.interhubdev.notification.internal.application.NotificationStreams;
+import com.example.interhubdev.notification.internal.application.NotificationSubscription;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live inbox subscriptions currently open on this instance, per user.
+ * <p>
+ * Event names sent to clients:
+ * <ul>
+ *   <li>{@code unread-count} - {@code {"count": n}}: absolute unread count (on connect and after "mark all read")</li>
+ *   <li>{@code unread-delta} - {@code {"delta": n}}: change of the unread count</li>
+ *   <li>{@code notification} - a newly created {@link com.example.interhubdev.notification.NotificationDto}</li>
+ *   <li>{@code notification-updated} - an unread notification that later changes were merged into (same id)</li>
+ *   <li>{@code notification-read} - {@code {"id": "..."}}: a notification was marked as read</li>
+ * </ul>
+ * A comment heartbeat keeps idle connections open through proxies and detects dead clients. It runs on
+ * its own single thread, so writes to slow clients never hold up the shared {@code @Scheduled} jobs.
+ */
+@Component
+@Slf4j
+class NotificationStreamRegistry implements NotificationStreams {
+
+    private final Map<UUID, List<NotificationSubscription>> streamsByUser = new ConcurrentHashMap<>();
+    private final int maxStreamsPerUser;
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    NotificationStreamRegistry(
+            @Value("${app.notification.stream.max-connections-per-user:5}") int maxStreamsPerUser,
+            @Value("${app.notification.stream.heartbeat-interval:25000}") long heartbeatIntervalMillis
+    ) {
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeatScheduler.scheduleWithFixedDelay(this::safeHeartbeat,
+                heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Register the subscription and send the current unread count as the first event.
+     * When the user already has the maximum number of streams, the oldest one is closed.
+     */
+    @Override
+    public void open(NotificationSubscription subscription, long unreadCount) {
+        UUID userId = subscription.userId();
+        List<NotificationSubscription> streams = streamsByUser.compute(userId, (id, existing) -> {
+            List<NotificationSubscription> list = existing != null ? existing : new CopyOnWriteArrayList<>();
+            list.add(subscription);
+            return list;
+        });
+        subscription.onClose(() -> remove(userId, subscription));
+        while (streams.size() > maxStreamsPerUser) {
+            NotificationSubscription oldest = streams.remove(0);
+            oldest.close();
+        }
+        send(subscription, "unread-count", Map.of("count", unreadCount));
+    }
+
+    /**
+     * Push one change to every stream the recipient has open on this instance.
+     */
+    void deliver(NotificationStreamSignal signal) {
+        List<NotificationSubscription> streams = streamsByUser.get(signal.recipientUserId());
+        if (streams == null || streams.isEmpty()) {
+            return;
+        }
+        for (NotificationSubscription subscription : streams) {
+            switch (signal.kind()) {
+                case CREATED -> {
+                    send(subscription, "notification", signal.notification());
+                    send(subscription, "unread-delta", Map.of("delta", 1));
+                }
+                case UPDATED -> send(subscription, "notification-updated", signal.notification());
+                case READ -> {
+                    send(subscription, "notification-read", Map.of("id", signal.notificationId()));
+                    send(subscription, "unread-delta", Map.of("delta", -1));
+                }
+                case ALL_READ -> send(subscription, "unread-count", Map.of("count", 0));
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatScheduler.shutdownNow();
+    }
+
+    private void safeHeartbeat() {
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            // An escaping exception would cancel all further heartbeats.
+            log.warn("Notification stream heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    void heartbeat() {
+        streamsByUser.values().forEach(streams -> {
+            for (NotificationSubscription subscription : streams) {
+                try {
+                    subscription.heartbeat();
+                } catch (IOException | IllegalStateException e) {
+                    drop(subscription, e);
+                }
+            }
+        });
+    }
+
+    int openStreamCount() {
+        return streamsByUser.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void send(NotificationSubscription subscription, String name, Object data) {
+        try {
+            subscription.send(name, data);
+        } catch (IOException | IllegalStateException e) {
+            drop(subscription, e);
+        }
+    }
+
+    private void drop(NotificationSubscription subscription, Exception cause) {
+        // Client went away (or stream already closed): drop the stream.
+        log.debug("Dropping notification stream for user {}: {}", subscription.userId(), cause.getMessage());
+        remove(subscription.userId(), subscription);
+        subscription.close(cause);
+    }
+
+    private void remove(UUID userId, NotificationSubscription subscription) {
+        streamsByUser.computeIfPresent(userId, (id, streams) -> {
+            streams.remove(subscription);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+}
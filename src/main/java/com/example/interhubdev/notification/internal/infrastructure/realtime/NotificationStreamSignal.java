@@ -0,0 +1,48 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import com.example.interhubdev.notification.NotificationDto;
+
+import java.util.UUID;
+
+/**
+ * One inbox change for one user, as carried over the signal bus (serialized to JSON for Redis).
+ *
+ * @param recipientUserId user whose open streams receive the change
+ * @param kind            kind of change
+ * @param notification    created or updated notification (CREATED, UPDATED only)
+ * @param notificationId  notification marked as read (READ only)
+ */
+record NotificationStreamSignal(
+        UUID recipientUserId,
+        Kind kind,
+        NotificationDto notification,
+        UUID notificationId
+) {
+
+    enum Kind {
+        /** New notification; unread count +1. */
+        CREATED,
+        /** Existing unread notification now carries merged content; unread count unchanged. */
+        UPDATED,
+        /** One notification marked as read; unread count -1. */
+        READ,
+        /** Everything marked as read; unread count is 0. */
+        ALL_READ
+    }
+
+    static NotificationStreamSignal created(NotificationDto notification, UUID recipientUserId) {
+        return new NotificationStreamSignal(recipientUserId, Kind.CREATED, notification, null);
+    }
+
+    static NotificationStreamSignal updated(NotificationDto notification, UUID recipientUserId) {
+        return new NotificationStreamSignal(recipientUserId, Kind.UPDATED, notification, null);
+    }
+
+    static NotificationStreamSignal read(UUID recipientUserId, UUID notificationId) {
+        return new NotificationStreamSignal(recipientUserId, Kind.READ, null, notificationId);
+    }
+
+    static NotificationStreamSignal allRead(UUID recipientUserId) {
+        return new NotificationStreamSignal(recipientUserId, Kind.ALL_READ, null, null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Cross-instance bus over Redis pub/sub: every instance publishes changes to one channel and
+ * delivers received messages to the streams it holds locally, so it works behind a load balancer.
+ * <p>
+ * Pub/sub is fire-and-forget; a client that misses a message (e.g. while reconnecting) re-syncs
+ * from the unread count sent when its stream opens.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.stream.broker", havingValue = "redis", matchIfMissing = true)
+class RedisNotificationSignalBus implements NotificationSignalBus, MessageListener {
+
+    static final String CHANNEL = "notification:stream";
+    private static final TypeReference<List<NotificationStreamSignal>> SIGNALS_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationStreamRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<NotificationStreamSignal> signals) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(signals));
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize notification stream signals", e);
+        } catch (RuntimeException e) {
+            // Real-time push is best-effort: the notifications themselves are already committed.
+            log.warn("Could not publish notification stream signals: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            List<NotificationStreamSignal> signals = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), SIGNALS_TYPE);
+            signals.forEach(registry::deliver);
+        } catch (Exception e) {
+            log.warn("Could not handle notification stream message: {}", e.getMessage());
+        }
+    }
+}
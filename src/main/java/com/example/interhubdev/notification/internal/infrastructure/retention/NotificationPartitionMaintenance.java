@@ -0,0 +1,184 @@
+package com.example.interhubdev.notification.internal.infrastructure.retention;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maintains the monthly partitions of the notification table ({@code notification_pYYYYMM},
+ * range-partitioned on created_at).
+ * <p>
+ * Runs on a single connection under a session-level advisory lock, so only one instance
+ * maintains partitions at a time. Every DDL statement commits on its own; a failure for one month
+ * (e.g. rows for it already landed in the default partition) is logged and does not block others.
+ * <p>
+ * Before an expired partition is detached, its unread notifications are marked read and reported per
+ * recipient, so the caller can take them off the cached unread counters; a partition whose unread
+ * notifications could not be marked is kept until the next run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class NotificationPartitionMaintenance {
+
+    private static final String PARTITION_PREFIX = "notification_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final long ADVISORY_LOCK_KEY = 0x6E6F7469_66706172L; // "notifpar"
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'notification'::regclass""";
+    private static final String MARK_EXPIRED_READ_SQL = """
+            WITH expired AS (
+                UPDATE %s SET read_at = ? WHERE read_at IS NULL AND archived_at IS NULL
+                RETURNING recipient_user_id
+            )
+            SELECT recipient_user_id, COUNT(*) FROM expired GROUP BY recipient_user_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create missing partitions from {@code currentMonth} up to {@code monthsAhead} months ahead, then
+     * detach partitions that end before {@code oldestRetainedMonth} (and drop them if requested).
+     *
+     * @return what was done, or empty if another instance holds the maintenance lock
+     */
+    Optional<Result> maintain(YearMonth currentMonth, int monthsAhead, YearMonth oldestRetainedMonth, boolean dropDetached) {
+        return Optional.ofNullable(jdbcTemplate.execute((ConnectionCallback<Result>) connection -> {
+            if (!tryLock(connection)) {
+                return null;
+            }
+            try {
+                List<YearMonth> existing = listPartitionMonths(connection);
+                int created = 0;
+                for (int i = 0; i <= monthsAhead; i++) {
+                    YearMonth month = currentMonth.plusMonths(i);
+                    if (!existing.contains(month) && run(connection, createSql(month), month)) {
+                        created++;
+                    }
+                }
+                List<String> detached = new ArrayList<>();
+                Map<UUID, Long> markedRead = new HashMap<>();
+                for (YearMonth month : existing) {
+                    if (month.isBefore(oldestRetainedMonth)
+                            && markUnreadRead(connection, month, markedRead)
+                            && run(connection, "ALTER TABLE notification DETACH PARTITION " + partitionName(month), month)) {
+                        detached.add(partitionName(month));
+                        if (dropDetached) {
+                            run(connection, "DROP TABLE " + partitionName(month), month);
+                        }
+                    }
+                }
+                return new Result(created, detached, markedRead);
+            } finally {
+                unlock(connection);
+            }
+        }));
+    }
+
+    /**
+     * @param created    number of partitions created
+     * @param detached   names of partitions detached (and dropped, if configured)
+     * @param markedRead unread notifications of expired partitions marked read, per recipient user ID
+     */
+    record Result(int created, List<String> detached, Map<UUID, Long> markedRead) {
+    }
+
+    private static String createSql(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF notification FOR VALUES FROM ('" + month.atDay(1)
+                + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static List<YearMonth> listPartitionMonths(Connection connection) throws SQLException {
+        List<YearMonth> months = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LIST_PARTITIONS_SQL)) {
+            while (rs.next()) {
+                String name = rs.getString(1);
+                if (name.startsWith(PARTITION_PREFIX)) {
+                    try {
+                        months.add(YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+                    } catch (DateTimeParseException e) {
+                        log.debug("Ignoring notification partition with unexpected name {}", name);
+                    }
+                }
+            }
+        }
+        return months;
+    }
+
+    /**
+     * Mark the unread notifications of the partition read (committed on its own) and add their count per
+     * recipient to {@code markedRead}.
+     *
+     * @return false if the partition must not be detached yet
+     */
+    private static boolean markUnreadRead(Connection connection, YearMonth month, Map<UUID, Long> markedRead) {
+        try (PreparedStatement statement = connection.prepareStatement(
+                MARK_EXPIRED_READ_SQL.formatted(partitionName(month)))) {
+            statement.setObject(1, OffsetDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    markedRead.merge(rs.getObject(1, UUID.class), rs.getLong(2), Long::sum);
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            log.error("Could not mark unread notifications of {} read; keeping the partition: {}", month, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean run(Connection connection, String sql, YearMonth month) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+            return true;
+        } catch (SQLException e) {
+            log.error("Notification partition maintenance failed for {}: {}", month, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            statement.setLong(1, ADVISORY_LOCK_KEY);
+            statement.execute();
+        }
+    }
+}
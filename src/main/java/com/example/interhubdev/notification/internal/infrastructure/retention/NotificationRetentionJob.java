@@ -0,0 +1,122 @@
+package com.example.interhubdev.notification.internal.infrastructure.retention;
+
+import com.example.interhubdev.notification.internal.application.NotificationRepository;
+import com.example.interhubdev.notification.internal.application.UnreadCountCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Scheduled notification retention:
+ * <ol>
+ *   <li>archives notifications read more than {@code archive-after} ago (they leave the inbox),
+ *       in batches of {@code archive-batch-size}, each committed on its own;</li>
+ *   <li>creates the monthly partitions for the coming {@code partitions-ahead} months;</li>
+ *   <li>detaches partitions older than {@code retention-months} and drops them unless
+ *       {@code drop-expired-partitions} is false (detached tables are then kept for offline export);
+ *       their unread notifications are marked read first and taken off the unread counters;</li>
+ *   <li>forgets the idempotency keys of notifications older than {@code retention-months}.</li>
+ * </ol>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.retention.enabled", havingValue = "true", matchIfMissing = true)
+class NotificationRetentionJob {
+
+    private final NotificationRepository repository;
+    private final NotificationPartitionMaintenance partitionMaintenance;
+    private final UnreadCountCache unreadCountCache;
+
+    @Value("${app.notification.retention.archive-after:P30D}")
+    private Duration archiveAfter;
+
+    @Value("${app.notification.retention.archive-batch-size:1000}")
+    private int archiveBatchSize;
+
+    @Value("${app.notification.retention.max-archive-batches-per-run:100}")
+    private int maxArchiveBatchesPerRun;
+
+    @Value("${app.notification.retention.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.notification.retention.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    @Value("${app.notification.retention.drop-expired-partitions:true}")
+    private boolean dropExpiredPartitions;
+
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 3 * * *}")
+    public void run() {
+        archiveReadNotifications();
+        maintainPartitions();
+        purgeSourceEvents();
+    }
+
+    private void archiveReadNotifications() {
+        Instant now = Instant.now();
+        Instant readBefore = now.minus(archiveAfter);
+        int archived = 0;
+        for (int batch = 0; batch < maxArchiveBatchesPerRun; batch++) {
+            int updated = repository.archiveReadBefore(readBefore, now, archiveBatchSize);
+            archived += updated;
+            if (updated < archiveBatchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} read notifications", archived);
+        }
+    }
+
+    private void purgeSourceEvents() {
+        Instant createdBefore = YearMonth.now(ZoneOffset.UTC).minusMonths(retentionMonths)
+                .atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+        int purged = 0;
+        for (int batch = 0; batch < maxArchiveBatchesPerRun; batch++) {
+            int deleted = repository.purgeSourceEventsBefore(createdBefore, archiveBatchSize);
+            purged += deleted;
+            if (deleted < archiveBatchSize) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("Purged {} notification source event keys", purged);
+        }
+    }
+
+    private void maintainPartitions() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        partitionMaintenance.maintain(currentMonth, partitionsAhead, currentMonth.minusMonths(retentionMonths), dropExpiredPartitions)
+                .ifPresentOrElse(
+                        result -> {
+                            releaseUnreadCounts(result.markedRead());
+                            if (result.created() > 0 || !result.detached().isEmpty()) {
+                                log.info("Notification partitions: created {}, detached {}{}", result.created(),
+                                        result.detached(), dropExpiredPartitions ? " (dropped)" : "");
+                            }
+                        },
+                        () -> log.debug("Notification partition maintenance is running on another instance"));
+    }
+
+    private void releaseUnreadCounts(Map<UUID, Long> markedRead) {
+        if (markedRead.isEmpty()) {
+            return;
+        }
+        unreadCountCache.adjust(markedRead.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> -e.getValue())));
+        log.info("Marked {} unread notifications of {} users read on partition expiry",
+                markedRead.values().stream().mapToLong(Long::longValue).sum(), markedRead.size());
+    }
+}
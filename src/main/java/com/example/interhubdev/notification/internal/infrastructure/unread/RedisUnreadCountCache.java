@@ -0,0 +1,245 @@
+package com.example.interhubdev.notification.internal.infrastructure.unread;
+
+import com.example.interhubdev.notification.internal.application.UnreadCountCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Unread counters in Redis, one string key per user ({@code notification:unread:<userId>}).
+ * <p>
+ * Counters expire after {@code app.notification.unread-cache.ttl}, so users who stop reading
+ * their badge do not keep keys alive and any drift heals on the next rebuild. Increments only
+ * touch existing keys (a missing key means "rebuild from the table"), and a counter that would
+ * go negative is dropped instead. Redis failures are logged and degrade to counting in the table.
+ * <p>
+ * Every change also bumps a per-user version key ({@code notification:unread-version:<userId>}).
+ * Counts computed from the table (rebuild after a miss, reconciliation) are written only if the
+ * version is still the one read before counting, so a change committed while counting is never lost.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.unread-cache.enabled", havingValue = "true", matchIfMissing = true)
+class RedisUnreadCountCache implements UnreadCountCache {
+
+    static final String KEY_PREFIX = "notification:unread:";
+
+    static final String VERSION_KEY_PREFIX = "notification:unread-version:";
+    private static final int USERS_PER_SCRIPT_CALL = 500;
+
+    /**
+     * KEYS = (counter, version) pairs, ARGV = deltas then TTL: bump every version, INCRBY only existing
+     * counters and drop ones that went negative.
+     */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            local ttl = ARGV[#ARGV]
+            for i = 1, #KEYS / 2 do
+              local counter, version = KEYS[2 * i - 1], KEYS[2 * i]
+              redis.call('INCR', version)
+              redis.call('PEXPIRE', version, ttl)
+              if redis.call('EXISTS', counter) == 1 and redis.call('INCRBY', counter, ARGV[i]) < 0 then
+                redis.call('DEL', counter)
+              end
+            end
+            return 0
+            """, Long.class);
+
+    /** KEYS = counter, version; ARGV = count, expected version, TTL: set a missing counter if the version is unchanged. */
+    private static final RedisScript<Long> POPULATE_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '0') == ARGV[2] then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3], 'NX')
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS = (counter, version) pairs, ARGV = (count, expected version) pairs: overwrite existing counters
+     * whose version is unchanged and keep their remaining TTL.
+     */
+    private static final RedisScript<Long> OVERWRITE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS / 2 do
+              local counter, version = KEYS[2 * i - 1], KEYS[2 * i]
+              local ttl = redis.call('PTTL', counter)
+              if ttl > 0 and (redis.call('GET', version) or '0') == ARGV[2 * i] then
+                redis.call('SET', counter, ARGV[2 * i - 1], 'PX', ttl)
+              end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    RedisUnreadCountCache(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.notification.unread-cache.ttl:PT24H}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public OptionalLong get(UUID recipientUserId) {
+        try {
+            String value = redisTemplate.opsForValue().get(key(recipientUserId));
+            return value != null ? OptionalLong.of(Long.parseLong(value)) : OptionalLong.empty();
+        } catch (RuntimeException e) {
+            log.warn("Could not read unread counter for user {}: {}", recipientUserId, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public long version(UUID recipientUserId) {
+        try {
+            String value = redisTemplate.opsForValue().get(versionKey(recipientUserId));
+            return value != null ? Long.parseLong(value) : 0;
+        } catch (RuntimeException e) {
+            log.warn("Could not read unread counter version for user {}: {}", recipientUserId, e.getMessage());
+            // Unknown version: populate() then leaves the counter missing.
+            return -1;
+        }
+    }
+
+    @Override
+    public void populate(UUID recipientUserId, long unreadCount, long versionBeforeCount) {
+        if (versionBeforeCount < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(POPULATE_SCRIPT, List.of(key(recipientUserId), versionKey(recipientUserId)),
+                    Long.toString(unreadCount), Long.toString(versionBeforeCount), Long.toString(ttl.toMillis()));
+        } catch (RuntimeException e) {
+            log.warn("Could not store unread counter for user {}: {}", recipientUserId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void adjust(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, Long>> entries = List.copyOf(deltas.entrySet());
+        afterCommit(() -> {
+            for (int from = 0; from < entries.size(); from += USERS_PER_SCRIPT_CALL) {
+                List<Map.Entry<UUID, Long>> chunk = entries.subList(from, Math.min(from + USERS_PER_SCRIPT_CALL, entries.size()));
+                List<String> keys = new ArrayList<>(chunk.size() * 2);
+                List<String> args = new ArrayList<>(chunk.size() + 1);
+                for (Map.Entry<UUID, Long> entry : chunk) {
+                    keys.add(key(entry.getKey()));
+                    keys.add(versionKey(entry.getKey()));
+                    args.add(Long.toString(entry.getValue()));
+                }
+                args.add(Long.toString(ttl.toMillis()));
+                runScript(ADJUST_SCRIPT, keys, args);
+            }
+        });
+    }
+
+    /**
+     * Change versions of the given users, read before recounting them for {@link #overwrite(Map, Map)}.
+     */
+    Map<UUID, Long> versions(List<UUID> recipientUserIds) {
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                recipientUserIds.stream().map(RedisUnreadCountCache::versionKey).toList());
+        Map<UUID, Long> versions = new HashMap<>(recipientUserIds.size() * 2);
+        for (int i = 0; i < recipientUserIds.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            versions.put(recipientUserIds.get(i), value != null ? Long.parseLong(value) : 0L);
+        }
+        return versions;
+    }
+
+    /**
+     * Overwrite existing counters with values recomputed from the table, unless a change was applied
+     * since their version was read; missing counters stay missing.
+     */
+    void overwrite(Map<UUID, Long> counts, Map<UUID, Long> versionsBeforeCount) {
+        List<Map.Entry<UUID, Long>> entries = List.copyOf(counts.entrySet());
+        for (int from = 0; from < entries.size(); from += USERS_PER_SCRIPT_CALL) {
+            List<Map.Entry<UUID, Long>> chunk = entries.subList(from, Math.min(from + USERS_PER_SCRIPT_CALL, entries.size()));
+            List<String> keys = new ArrayList<>(chunk.size() * 2);
+            List<String> args = new ArrayList<>(chunk.size() * 2);
+            for (Map.Entry<UUID, Long> entry : chunk) {
+                keys.add(key(entry.getKey()));
+                keys.add(versionKey(entry.getKey()));
+                args.add(Long.toString(entry.getValue()));
+                args.add(Long.toString(versionsBeforeCount.getOrDefault(entry.getKey(), 0L)));
+            }
+            runScript(OVERWRITE_SCRIPT, keys, args);
+        }
+    }
+
+    /**
+     * Walk all cached counters with SCAN (non-blocking for Redis) and hand their user IDs over in batches.
+     */
+    void forEachCachedUserBatch(int batchSize, Consumer<List<UUID>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(batchSize).build();
+        List<UUID> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                try {
+                    batch.add(UUID.fromString(key.substring(KEY_PREFIX.length())));
+                } catch (IllegalArgumentException e) {
+                    log.debug("Ignoring unexpected unread counter key {}", key);
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    batchConsumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(List.copyOf(batch));
+        }
+    }
+
+    private void runScript(RedisScript<Long> script, List<String> keys, List<String> args) {
+        try {
+            redisTemplate.execute(script, keys, args.toArray());
+        } catch (RuntimeException e) {
+            // Counters expire and are reconciled, so a missed update only lags until then.
+            log.warn("Could not update unread counter(s) of {} user(s): {}", keys.size() / 2, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String key(UUID recipientUserId) {
+        return KEY_PREFIX + recipientUserId;
+    }
+
+    private static String versionKey(UUID recipientUserId) {
+        return VERSION_KEY_PREFIX + recipientUserId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.interhubdev.notification.internal.infrastructure.unread;
+
+import com.example.interhubdev.notification.internal.application.UnreadCountCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Used when the counter cache is disabled: every read misses, so counts always come from the table.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notification.unread-cache.enabled", havingValue = "false")
+class UncachedUnreadCountCache implements UnreadCountCache {
+
+    @Override
+    public OptionalLong get(UUID recipientUserId) {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public long version(UUID recipientUserId) {
+        return 0;
+    }
+
+    @Override
+    public void populate(UUID recipientUserId, long unreadCount, long versionBeforeCount) {
+    }
+
+    @Override
+    public void adjust(Map<UUID, Long> deltas) {
+    }
+}
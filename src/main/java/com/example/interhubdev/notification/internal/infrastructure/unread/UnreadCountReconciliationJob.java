@@ -0,0 +1,61 @@
+package com.example.interhubdev.notification.internal.infrastructure.unread;
+
+import com.example.interhubdev.notification.internal.application.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduled job that re-counts cached unread counters against the notification table, one grouped
+ * query per batch of users. Fixes drift from updates lost between commit and Redis (crash, Redis
+ * outage) without waiting for the counter to expire.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.unread-cache.enabled", havingValue = "true", matchIfMissing = true)
+class UnreadCountReconciliationJob {
+
+    private final RedisUnreadCountCache cache;
+    private final NotificationRepository repository;
+
+    @Value("${app.notification.unread-cache.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.notification.unread-cache.reconcile-interval:900000}",
+            initialDelayString = "${app.notification.unread-cache.reconcile-interval:900000}")
+    public void reconcile() {
+        AtomicInteger reconciled = new AtomicInteger();
+        try {
+            cache.forEachCachedUserBatch(batchSize, userIds -> {
+                Map<UUID, Long> versions = cache.versions(userIds);
+                cache.overwrite(countsFor(userIds), versions);
+                reconciled.addAndGet(userIds.size());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Unread counter reconciliation aborted after {} counter(s): {}", reconciled.get(), e.getMessage());
+            return;
+        }
+        if (reconciled.get() > 0) {
+            log.debug("Reconciled {} unread counter(s)", reconciled.get());
+        }
+    }
+
+    private Map<UUID, Long> countsFor(List<UUID> userIds) {
+        Map<UUID, Long> unread = repository.countUnreadByRecipients(userIds);
+        Map<UUID, Long> counts = new HashMap<>(userIds.size() * 2);
+        for (UUID userId : userIds) {
+            counts.put(userId, unread.getOrDefault(userId, 0L));
+        }
+        return counts;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.interhubdev.offering;
 
 import com.example.interhubdev.program.CurriculumSubjectDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,6 +24,14 @@ public interface CurriculumSubjectLookupPort {
      */
     Optional<CurriculumSubjectDto> findById(UUID id);
 
+    /**
+     * Find curriculum subjects by IDs (batch). Used by lesson generation to avoid a lookup per offering.
+     *
+     * @param ids curriculum subject IDs (must not be null; empty returns empty list)
+     * @return curriculum subject DTOs; missing IDs are skipped
+     */
+    List<CurriculumSubjectDto> findByIds(Collection<UUID> ids);
+
     /**
      * Get subject display names by curriculum subject ids (batch). Name is englishName or chineseName or code.
      *
@@ -7,7 +7,7 @@ import java.util.UUID;
 
 /**
  * Port for creating and deleting lessons in the Schedule module.
- * Used by the Offering module's lesson generation logic.
+ * Used by the Offering module's lesson generation logic and to report teacher reassignments.
  * <p>
  * Implemented by an adapter in the adapter package using ScheduleApi.
  */
@@ -70,4 +70,12 @@ public interface LessonCreationPort {
      */
     void deleteLessonsByOfferingIdAndDayOfWeekAndStartTimeAndEndTime(
             UUID offeringId, int dayOfWeek, java.time.LocalTime startTime, java.time.LocalTime endTime);
+
+    /**
+     * Notify that the offering's main teacher was reassigned, so data derived from its lessons' teacher
+     * (booking conflicts, teacher calendar feeds) is refreshed.
+     *
+     * @param offeringId offering ID
+     */
+    void lessonTeachersChanged(UUID offeringId);
 }
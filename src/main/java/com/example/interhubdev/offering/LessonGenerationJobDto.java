@@ -0,0 +1,34 @@
+package com.example.interhubdev.offering;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Semester-wide lesson generation job and its progress.
+ *
+ * @param id              job id
+ * @param semesterId      semester lessons are generated for
+ * @param status          current state
+ * @param totalGroups     groups with offerings to process; 0 until the job starts
+ * @param processedGroups groups processed so far (including failed ones)
+ * @param failedGroups    groups whose generation failed (rolled back)
+ * @param lessonsCreated  lessons created so far
+ * @param requestedAt     when the job was requested
+ * @param startedAt       when the current run started; null while PENDING
+ * @param completedAt     when the job finished (COMPLETED or FAILED); null otherwise
+ * @param failureMessage  first failure reason (of the job or a failed group); null if none
+ */
+public record LessonGenerationJobDto(
+        UUID id,
+        UUID semesterId,
+        LessonGenerationJobStatus status,
+        int totalGroups,
+        int processedGroups,
+        int failedGroups,
+        int lessonsCreated,
+        LocalDateTime requestedAt,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        String failureMessage
+) {
+}
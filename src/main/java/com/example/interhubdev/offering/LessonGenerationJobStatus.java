@@ -0,0 +1,23 @@
+package com.example.interhubdev.offering;
+
+/**
+ * State of a semester-wide lesson generation job.
+ */
+public enum LessonGenerationJobStatus {
+    /**
+     * Queued; a worker has not started it yet.
+     */
+    PENDING,
+    /**
+     * Groups are being processed; progress counters are updated after each chunk.
+     */
+    RUNNING,
+    /**
+     * All groups were processed. Groups whose chunk failed are counted in {@code failedGroups}.
+     */
+    COMPLETED,
+    /**
+     * The job could not run (e.g. semester removed, worker stopped repeatedly).
+     */
+    FAILED
+}
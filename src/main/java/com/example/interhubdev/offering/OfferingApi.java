@@ -2,6 +2,7 @@ package com.example.interhubdev.offering;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -106,6 +107,15 @@ public interface OfferingApi {
      */
     List<OfferingTeacherItemDto> findTeachersByOfferingId(UUID offeringId);
 
+    /**
+     * Get teachers of several offerings (batch), derived like {@link #findTeachersByOfferingId(UUID)}.
+     * Missing offerings are skipped.
+     *
+     * @param offeringIds offering IDs (must not be null)
+     * @return offering ID to its teacher items; offerings not found are absent (never null)
+     */
+    Map<UUID, List<OfferingTeacherItemDto>> findTeachersByOfferingIds(Collection<UUID> offeringIds);
+
     // --- Offering Slots (weekly recurring timeslots) ---
 
     /**
@@ -187,4 +197,23 @@ public interface OfferingApi {
      *         BAD_REQUEST if offering has no slots
      */
     int regenerateLessonsForOffering(UUID offeringId, UUID semesterId);
+
+    /**
+     * Queue lesson generation for all groups with offerings in the given semester. Runs in the background:
+     * groups are processed in parallel chunks (one transaction per chunk) and existing lessons are skipped,
+     * so the job can be re-run safely. If the semester already has a queued or running job, that job is returned.
+     *
+     * @param semesterId semester ID
+     * @return job to poll with {@link #findLessonGenerationJob}
+     * @throws com.example.interhubdev.error.AppException NOT_FOUND if semester not found
+     */
+    LessonGenerationJobDto requestSemesterLessonGeneration(UUID semesterId);
+
+    /**
+     * Get a semester-wide lesson generation job with its progress.
+     *
+     * @param jobId job ID
+     * @return optional job DTO if found
+     */
+    Optional<LessonGenerationJobDto> findLessonGenerationJob(UUID jobId);
 }
@@ -1,6 +1,8 @@
 package com.example.interhubdev.offering;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -27,4 +29,20 @@ public interface OfferingLookupDataPort {
      * @return list of offering IDs; empty if teacher has no offerings
      */
     List<UUID> findOfferingIdsByTeacherId(UUID teacherId);
+
+    /**
+     * Main teacher of each offering (batch). Offerings without a main teacher are absent from the map.
+     *
+     * @param offeringIds offering IDs (empty returns empty map)
+     * @return offeringId -> teacher ID
+     */
+    Map<UUID, UUID> findTeacherIdsByOfferingIds(Collection<UUID> offeringIds);
+
+    /**
+     * Teacher of each offering slot (batch). Slots without their own teacher are absent from the map.
+     *
+     * @param slotIds offering slot IDs (empty returns empty map)
+     * @return slotId -> teacher ID
+     */
+    Map<UUID, UUID> findTeacherIdsBySlotIds(Collection<UUID> slotIds);
 }
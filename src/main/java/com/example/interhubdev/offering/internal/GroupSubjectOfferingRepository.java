@@ -1,7 +1,9 @@
 package com.example.interhubdev.offering.internal;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,4 +17,10 @@ interface GroupSubjectOfferingRepository extends JpaRepository<GroupSubjectOffer
     boolean existsByGroupIdAndCurriculumSubjectId(UUID groupId, UUID curriculumSubjectId);
 
     List<GroupSubjectOffering> findByTeacherId(UUID teacherId);
+
+    List<GroupSubjectOffering> findByGroupIdIn(Collection<UUID> groupIds);
+
+    /** Groups that have at least one offering, in stable order (semester-wide lesson generation). */
+    @Query("SELECT DISTINCT o.groupId FROM GroupSubjectOffering o ORDER BY o.groupId")
+    List<UUID> findDistinctGroupIds();
 }
@@ -0,0 +1,69 @@
+package com.example.interhubdev.offering.internal;
+
+import com.example.interhubdev.offering.LessonGenerationJobStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Background lesson generation for all groups (with offerings) of a semester.
+ * At most one live (PENDING or RUNNING) job exists per semester.
+ */
+@Entity
+@Table(name = "lesson_generation_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+class LessonGenerationJob {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "semester_id", nullable = false)
+    private UUID semesterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 32)
+    private LessonGenerationJobStatus status;
+
+    /** Incremented on every claim; only the claimed attempt may record progress or finish the job. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "total_groups", nullable = false)
+    private int totalGroups;
+
+    @Column(name = "processed_groups", nullable = false)
+    private int processedGroups;
+
+    @Column(name = "failed_groups", nullable = false)
+    private int failedGroups;
+
+    @Column(name = "lessons_created", nullable = false)
+    private int lessonsCreated;
+
+    @Column(name = "failure_message", length = 1000)
+    private String failureMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
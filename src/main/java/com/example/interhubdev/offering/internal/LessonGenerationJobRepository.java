@@ -0,0 +1,120 @@
+package com.example.interhubdev.offering.internal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+interface LessonGenerationJobRepository extends JpaRepository<LessonGenerationJob, UUID> {
+
+    /**
+     * The live (PENDING or RUNNING) job of a semester, if any.
+     */
+    @Query("""
+        SELECT j FROM LessonGenerationJob j
+        WHERE j.semesterId = :semesterId
+          AND j.status IN (com.example.interhubdev.offering.LessonGenerationJobStatus.PENDING,
+                           com.example.interhubdev.offering.LessonGenerationJobStatus.RUNNING)
+        """)
+    Optional<LessonGenerationJob> findLiveBySemesterId(@Param("semesterId") UUID semesterId);
+
+    /**
+     * Insert a PENDING job unless the semester already has a live one (uk_lesson_generation_job_live).
+     *
+     * @return 1 if inserted, 0 if a live job already exists
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO lesson_generation_job (id, semester_id, status, attempts, total_groups, processed_groups,
+                                           failed_groups, lessons_created, created_at)
+        VALUES (:id, :semesterId, 'PENDING', 0, 0, 0, 0, 0, :now)
+        ON CONFLICT (semester_id) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING
+        """, nativeQuery = true)
+    int insertPendingIfNoLiveJob(
+        @Param("id") UUID id,
+        @Param("semesterId") UUID semesterId,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Lock the oldest PENDING job. FOR UPDATE SKIP LOCKED lets several instances run jobs in parallel.
+     */
+    @Query(value = """
+        SELECT * FROM lesson_generation_job
+        WHERE status = 'PENDING'
+        ORDER BY created_at ASC
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<LessonGenerationJob> lockNextPending();
+
+    /**
+     * Add the outcome of one processed chunk of groups. No-op if the job was re-claimed meanwhile.
+     * The first failure message is kept.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE lesson_generation_job
+        SET processed_groups = processed_groups + :processed,
+            failed_groups = failed_groups + :failed,
+            lessons_created = lessons_created + :lessons,
+            failure_message = COALESCE(failure_message, :message)
+        WHERE id = :id AND attempts = :attempt AND status = 'RUNNING'
+        """, nativeQuery = true)
+    int addProgress(
+        @Param("id") UUID id,
+        @Param("attempt") int attempt,
+        @Param("processed") int processed,
+        @Param("failed") int failed,
+        @Param("lessons") int lessons,
+        @Param("message") String message
+    );
+
+    /**
+     * Finish the claimed run (COMPLETED or FAILED). No-op if the job was re-claimed meanwhile.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE lesson_generation_job
+        SET status = :status, failure_message = COALESCE(:message, failure_message), completed_at = :now
+        WHERE id = :id AND attempts = :attempt AND status = 'RUNNING'
+        """, nativeQuery = true)
+    int markFinished(
+        @Param("id") UUID id,
+        @Param("attempt") int attempt,
+        @Param("status") String status,
+        @Param("message") String message,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Re-queue runs whose worker stopped (no completion within the timeout) while attempts remain.
+     * Generation skips existing lessons, so a re-run only creates what the stopped run did not.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE lesson_generation_job
+        SET status = 'PENDING', started_at = NULL
+        WHERE status = 'RUNNING' AND started_at < :staleBefore AND attempts < :maxAttempts
+        """, nativeQuery = true)
+    int requeueStaleRuns(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Fail runs whose worker stopped and that have no attempts left.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE lesson_generation_job
+        SET status = 'FAILED', failure_message = 'Generation did not complete', completed_at = :now
+        WHERE status = 'RUNNING' AND started_at < :staleBefore AND attempts >= :maxAttempts
+        """, nativeQuery = true)
+    int failStaleRuns(
+        @Param("staleBefore") LocalDateTime staleBefore,
+        @Param("maxAttempts") int maxAttempts,
+        @Param("now") LocalDateTime now
+    );
+}
@@ -0,0 +1,130 @@
+package com.example.interhubdev.offering.internal;
+
+import com.example.interhubdev.offering.LessonGenerationJobDto;
+import com.example.interhubdev.offering.LessonGenerationJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * State of semester-wide lesson generation jobs: request (reusing the live job of the semester),
+ * claim, progress and completion by {@link LessonGenerationJobWorker}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+class LessonGenerationJobService {
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 1000;
+
+    private final LessonGenerationJobRepository jobRepository;
+    private final GroupSubjectOfferingRepository offeringRepository;
+
+    /**
+     * Run claimed by a worker; only this attempt may record progress or finish the job.
+     */
+    record ClaimedRun(UUID jobId, UUID semesterId, int attempt, List<UUID> groupIds) {
+    }
+
+    /**
+     * Return the live job of the semester, or queue a new one. The semester must exist (checked by the caller).
+     */
+    @Transactional
+    public LessonGenerationJobDto request(UUID semesterId) {
+        Optional<LessonGenerationJob> live = jobRepository.findLiveBySemesterId(semesterId);
+        if (live.isPresent()) {
+            return toDto(live.get());
+        }
+        jobRepository.insertPendingIfNoLiveJob(UUID.randomUUID(), semesterId, LocalDateTime.now());
+        // Either our row or the one a concurrent request inserted first.
+        return jobRepository.findLiveBySemesterId(semesterId)
+                .map(this::toDto)
+                .orElseThrow(() -> new IllegalStateException("No live lesson generation job for semester " + semesterId));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LessonGenerationJobDto> find(UUID jobId) {
+        return jobRepository.findById(jobId).map(this::toDto);
+    }
+
+    /**
+     * Claim the oldest PENDING job and fix the groups it covers (all groups that have offerings).
+     */
+    @Transactional
+    public Optional<ClaimedRun> claimNext() {
+        return jobRepository.lockNextPending().map(job -> {
+            List<UUID> groupIds = offeringRepository.findDistinctGroupIds();
+            job.setStatus(LessonGenerationJobStatus.RUNNING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setStartedAt(LocalDateTime.now());
+            job.setTotalGroups(groupIds.size());
+            job.setProcessedGroups(0);
+            job.setFailedGroups(0);
+            job.setLessonsCreated(0);
+            job.setFailureMessage(null);
+            jobRepository.save(job);
+            return new ClaimedRun(job.getId(), job.getSemesterId(), job.getAttempts(), groupIds);
+        });
+    }
+
+    /**
+     * Record one processed chunk of groups (committed separately from the chunk, so progress is visible while running).
+     */
+    @Transactional
+    public void recordChunk(ClaimedRun run, int groups, int failedGroups, int lessonsCreated, String failureMessage) {
+        jobRepository.addProgress(run.jobId(), run.attempt(), groups, failedGroups, lessonsCreated, truncate(failureMessage));
+    }
+
+    @Transactional
+    public void complete(ClaimedRun run) {
+        jobRepository.markFinished(run.jobId(), run.attempt(), LessonGenerationJobStatus.COMPLETED.name(), null, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void fail(ClaimedRun run, String message) {
+        jobRepository.markFinished(run.jobId(), run.attempt(), LessonGenerationJobStatus.FAILED.name(), truncate(message), LocalDateTime.now());
+    }
+
+    /**
+     * Re-queue (or, with no attempts left, fail) runs whose worker stopped without finishing.
+     */
+    @Transactional
+    public void recoverStaleRuns(Duration runTimeout, int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(runTimeout);
+        int requeued = jobRepository.requeueStaleRuns(staleBefore, maxAttempts);
+        int failed = jobRepository.failStaleRuns(staleBefore, maxAttempts, now);
+        if (requeued > 0 || failed > 0) {
+            log.warn("Recovered stale lesson generation jobs: {} re-queued, {} failed", requeued, failed);
+        }
+    }
+
+    LessonGenerationJobDto toDto(LessonGenerationJob job) {
+        return new LessonGenerationJobDto(
+                job.getId(),
+                job.getSemesterId(),
+                job.getStatus(),
+                job.getTotalGroups(),
+                job.getProcessedGroups(),
+                job.getFailedGroups(),
+                job.getLessonsCreated(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getCompletedAt(),
+                job.getFailureMessage()
+        );
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_FAILURE_MESSAGE_LENGTH
+                ? message.substring(0, MAX_FAILURE_MESSAGE_LENGTH)
+                : message;
+    }
+}
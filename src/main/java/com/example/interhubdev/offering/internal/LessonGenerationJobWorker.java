@@ -0,0 +1,169 @@
+package com.example.interhubdev.offering.internal;
+
+import com.example.interhubdev.academic.AcademicApi;
+import com.example.interhubdev.academic.SemesterDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs queued semester-wide lesson generation jobs (see {@link LessonGenerationJobService}).
+ * <p>
+ * A claimed job's groups are split into chunks that run in parallel on a dedicated pool, each chunk in its
+ * own transaction, and progress is recorded after every chunk. A failed chunk is retried group by group,
+ * so one bad group does not roll back its neighbours. The poll never waits for a run, so the shared
+ * scheduler threads stay free; one job runs at a time per instance.
+ * Runs that stopped (e.g. instance shutdown) are re-queued after {@code run-timeout}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.offering.lesson-generation.jobs.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+class LessonGenerationJobWorker {
+
+    private final LessonGenerationJobService jobService;
+    private final LessonGenerationService generationService;
+    private final AcademicApi academicApi;
+    private final TransactionTemplate chunkTransaction;
+    private final ExecutorService workers;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${app.offering.lesson-generation.jobs.groups-per-chunk:20}")
+    private int groupsPerChunk;
+
+    @Value("${app.offering.lesson-generation.jobs.run-timeout:PT2H}")
+    private Duration runTimeout;
+
+    @Value("${app.offering.lesson-generation.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    LessonGenerationJobWorker(
+            LessonGenerationJobService jobService,
+            LessonGenerationService generationService,
+            AcademicApi academicApi,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.offering.lesson-generation.jobs.parallelism:4}") int parallelism
+    ) {
+        this.jobService = jobService;
+        this.generationService = generationService;
+        this.academicApi = academicApi;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "lesson-generation-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.offering.lesson-generation.jobs.poll-interval:5000}")
+    void runPendingJob() {
+        jobService.recoverStaleRuns(runTimeout, maxAttempts);
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Optional<LessonGenerationJobService.ClaimedRun> claimed = jobService.claimNext();
+            if (claimed.isEmpty()) {
+                running.set(false);
+                return;
+            }
+            start(claimed.get());
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    private void start(LessonGenerationJobService.ClaimedRun run) {
+        Optional<SemesterDto> semester = academicApi.findSemesterById(run.semesterId());
+        if (semester.isEmpty()) {
+            jobService.fail(run, "Semester not found");
+            running.set(false);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        log.info("Lesson generation job {} started: semesterId={}, groups={}",
+                run.jobId(), run.semesterId(), run.groupIds().size());
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        try {
+            for (int from = 0; from < run.groupIds().size(); from += groupsPerChunk) {
+                List<UUID> chunk = run.groupIds().subList(from, Math.min(from + groupsPerChunk, run.groupIds().size()));
+                chunks.add(CompletableFuture.runAsync(() -> processChunk(run, semester.get(), chunk), workers));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("Lesson generation worker pool is shut down; job {} is re-queued after its timeout", run.jobId());
+            running.set(false);
+            return;
+        }
+
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+            try {
+                if (error != null) {
+                    jobService.fail(run, error.getMessage());
+                } else {
+                    jobService.complete(run);
+                    log.info("Lesson generation job {} completed in {} ms",
+                            run.jobId(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+                }
+            } catch (Exception e) {
+                log.error("Failed to finish lesson generation job {}", run.jobId(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void processChunk(LessonGenerationJobService.ClaimedRun run, SemesterDto semester, List<UUID> groupIds) {
+        try {
+            int created = generate(groupIds, semester);
+            jobService.recordChunk(run, groupIds.size(), 0, created, null);
+        } catch (RuntimeException chunkError) {
+            if (groupIds.size() == 1) {
+                recordFailedGroup(run, groupIds.get(0), chunkError);
+                return;
+            }
+            for (UUID groupId : groupIds) {
+                try {
+                    jobService.recordChunk(run, 1, 0, generate(List.of(groupId), semester), null);
+                } catch (RuntimeException groupError) {
+                    recordFailedGroup(run, groupId, groupError);
+                }
+            }
+        }
+    }
+
+    private int generate(List<UUID> groupIds, SemesterDto semester) {
+        Integer created = chunkTransaction.execute(status -> generationService.generateForGroups(groupIds, semester));
+        return created != null ? created : 0;
+    }
+
+    private void recordFailedGroup(LessonGenerationJobService.ClaimedRun run, UUID groupId, RuntimeException error) {
+        log.warn("Lesson generation failed for group {} (job {}): {}", groupId, run.jobId(), error.getMessage());
+        jobService.recordChunk(run, 1, 1, 0, "Group " + groupId + ": " + error.getMessage());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -15,8 +15,12 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Core service for automatic lesson generation.
@@ -68,14 +72,38 @@ class LessonGenerationService {
         SemesterDto semester = academicApi.findSemesterById(semesterId)
                 .orElseThrow(() -> OfferingErrors.semesterNotFound(semesterId));
 
-        List<GroupSubjectOffering> offerings = offeringRepository
-                .findByGroupIdOrderByCurriculumSubjectIdAsc(groupId);
+        int totalCreated = generateForGroups(List.of(groupId), semester);
+        log.info("Total: generated {} lessons for group {} in semester {}", totalCreated, groupId, semesterId);
+        return totalCreated;
+    }
+
+    /**
+     * Generate lessons for all offerings of the given groups. Curriculum subjects and slots of all offerings
+     * are loaded in one query each, and all lessons are created in one bulk call (existing lessons are
+     * skipped by the schedule module with one range query). Offerings whose curriculum subject is missing,
+     * belongs to the other semester or that have no slots are skipped.
+     *
+     * @return number of lessons created
+     */
+    @Transactional
+    int generateForGroups(Collection<UUID> groupIds, SemesterDto semester) {
+        List<GroupSubjectOffering> offerings = offeringRepository.findByGroupIdIn(groupIds);
+        if (offerings.isEmpty()) {
+            return 0;
+        }
 
-        int totalCreated = 0;
+        Map<UUID, CurriculumSubjectDto> subjectsById = curriculumSubjectLookupPort.findByIds(
+                        offerings.stream().map(GroupSubjectOffering::getCurriculumSubjectId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(CurriculumSubjectDto::id, Function.identity()));
+        Map<UUID, List<OfferingSlot>> slotsByOffering = slotRepository.findByOfferingIdInOrderByDayOfWeekAscStartTimeAsc(
+                        offerings.stream().map(GroupSubjectOffering::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(OfferingSlot::getOfferingId));
+
+        List<LessonCreateCommand> commands = new ArrayList<>();
         for (GroupSubjectOffering offering : offerings) {
-            CurriculumSubjectDto currSubject = curriculumSubjectLookupPort
-                    .findById(offering.getCurriculumSubjectId())
-                    .orElse(null);
+            CurriculumSubjectDto currSubject = subjectsById.get(offering.getCurriculumSubjectId());
             if (currSubject == null) {
                 log.warn("Curriculum subject {} not found for offering {}, skipping",
                         offering.getCurriculumSubjectId(), offering.getId());
@@ -88,24 +116,18 @@ class LessonGenerationService {
                 continue;
             }
 
-            List<OfferingSlot> slots = slotRepository
-                    .findByOfferingIdOrderByDayOfWeekAscStartTimeAsc(offering.getId());
+            List<OfferingSlot> slots = slotsByOffering.getOrDefault(offering.getId(), List.of());
             if (slots.isEmpty()) {
                 log.debug("Skipping offering {} (no slots)", offering.getId());
                 continue;
             }
 
-            List<LessonCreateCommand> commands = buildLessonCommands(offering, slots, semester, currSubject);
-            if (!commands.isEmpty()) {
-                int created = lessonCreationPort.createLessonsInBulk(commands);
-                totalCreated += created;
-                log.info("Generated {} lessons for offering {} in semester {}",
-                        created, offering.getId(), semesterId);
-            }
+            commands.addAll(buildLessonCommands(offering, slots, semester, currSubject));
         }
-
-        log.info("Total: generated {} lessons for group {} in semester {}", totalCreated, groupId, semesterId);
-        return totalCreated;
+        if (commands.isEmpty()) {
+            return 0;
+        }
+        return lessonCreationPort.createLessonsInBulk(commands);
     }
 
     @Transactional
@@ -4,6 +4,7 @@ import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.offering.CurriculumSubjectLookupPort;
 import com.example.interhubdev.offering.GroupLookupPort;
 import com.example.interhubdev.offering.GroupSubjectOfferingDto;
+import com.example.interhubdev.offering.LessonCreationPort;
 import com.example.interhubdev.offering.OfferingExistsPort;
 import com.example.interhubdev.offering.OfferingTeacherItemDto;
 import com.example.interhubdev.offering.RoomLookupPort;
@@ -15,7 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,6 +34,7 @@ class OfferingCatalogService implements OfferingExistsPort {
     private final CurriculumSubjectLookupPort curriculumSubjectLookupPort;
     private final TeacherApi teacherApi;
     private final RoomLookupPort roomLookupPort;
+    private final LessonCreationPort lessonCreationPort;
 
     @Override
     public boolean existsById(UUID offeringId) {
@@ -75,6 +80,34 @@ class OfferingCatalogService implements OfferingExistsPort {
         return result;
     }
 
+    /**
+     * Batch variant of {@link #deriveTeachersByOfferingId(UUID)}: two queries for any number of offerings.
+     * Offerings not found are absent from the result.
+     */
+    Map<UUID, List<OfferingTeacherItemDto>> deriveTeachersByOfferingIds(Collection<UUID> offeringIds) {
+        if (offeringIds == null || offeringIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<OfferingTeacherItemDto>> result = new LinkedHashMap<>();
+        for (GroupSubjectOffering offering : offeringRepository.findAllById(offeringIds)) {
+            List<OfferingTeacherItemDto> teachers = new ArrayList<>();
+            if (offering.getTeacherId() != null) {
+                teachers.add(new OfferingTeacherItemDto(offering.getTeacherId(), null));
+            }
+            result.put(offering.getId(), teachers);
+        }
+        if (result.isEmpty()) {
+            return result;
+        }
+        List<OfferingSlot> slots = slotRepository.findByOfferingIdInOrderByDayOfWeekAscStartTimeAsc(List.copyOf(result.keySet()));
+        for (OfferingSlot slot : slots) {
+            if (slot.getTeacherId() != null) {
+                result.get(slot.getOfferingId()).add(new OfferingTeacherItemDto(slot.getTeacherId(), slot.getLessonType()));
+            }
+        }
+        return result;
+    }
+
     List<GroupSubjectOfferingDto> findByTeacherId(UUID teacherId) {
         java.util.Set<UUID> offeringIds = new java.util.HashSet<>();
         
@@ -149,6 +182,7 @@ class OfferingCatalogService implements OfferingExistsPort {
             throw Errors.notFound("Room not found");
         }
         String normalizedFormat = format != null && !format.isBlank() ? OfferingValidation.normalizeFormat(format) : null;
+        boolean teacherChanged = !Objects.equals(entity.getTeacherId(), teacherId);
         entity.setTeacherId(teacherId);
         entity.setRoomId(roomId);
         entity.setFormat(normalizedFormat);
@@ -156,7 +190,11 @@ class OfferingCatalogService implements OfferingExistsPort {
             entity.setNotes(notes.trim());
         }
         entity.setUpdatedAt(LocalDateTime.now());
-        return OfferingMappers.toOfferingDto(offeringRepository.save(entity));
+        GroupSubjectOffering saved = offeringRepository.save(entity);
+        if (teacherChanged) {
+            lessonCreationPort.lessonTeachersChanged(id);
+        }
+        return OfferingMappers.toOfferingDto(saved);
     }
 
     @Transactional
@@ -164,6 +164,23 @@ class OfferingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(new LessonGenerationResponse(count));
     }
 
+    @PostMapping("/semester/{semesterId}/generate-lessons")
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Generate lessons for all groups in a semester",
+            description = "Queues a background job for every group with offerings; existing lessons are skipped. "
+                    + "Returns the semester's queued or running job if there is one. Poll the job for progress.")
+    public ResponseEntity<LessonGenerationJobDto> requestSemesterLessonGeneration(@PathVariable UUID semesterId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(offeringApi.requestSemesterLessonGeneration(semesterId));
+    }
+
+    @GetMapping("/lesson-generation-jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Get lesson generation job progress")
+    public ResponseEntity<LessonGenerationJobDto> findLessonGenerationJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(offeringApi.findLessonGenerationJob(jobId)
+                .orElseThrow(() -> OfferingErrors.generationJobNotFound(jobId)));
+    }
+
     record CreateOfferingRequest(
             @NotNull(message = "Group id is required") UUID groupId,
             @NotNull(message = "Curriculum subject id is required") UUID curriculumSubjectId,
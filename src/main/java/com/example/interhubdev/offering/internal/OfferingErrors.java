@@ -30,6 +30,8 @@ final class OfferingErrors {
     public static final String CODE_TIMESLOT_NOT_RESOLVED = "OFFERING_TIMESLOT_NOT_RESOLVED";
     /** Curriculum subject does not belong to the target academic semester. */
     public static final String CODE_SEMESTER_MISMATCH = "OFFERING_SEMESTER_MISMATCH";
+    /** Lesson generation job not found. */
+    public static final String CODE_GENERATION_JOB_NOT_FOUND = "OFFERING_LESSON_GENERATION_JOB_NOT_FOUND";
 
     public static AppException noSlots(UUID offeringId) {
         return Errors.of(HttpStatus.BAD_REQUEST, CODE_NO_SLOTS,
@@ -66,4 +68,9 @@ final class OfferingErrors {
                 "Curriculum subject (semester " + curriculumSemesterNo
                         + ") does not belong to academic semester " + academicSemesterNumber);
     }
+
+    public static AppException generationJobNotFound(UUID jobId) {
+        return Errors.of(HttpStatus.NOT_FOUND, CODE_GENERATION_JOB_NOT_FOUND,
+                "Lesson generation job not found");
+    }
 }
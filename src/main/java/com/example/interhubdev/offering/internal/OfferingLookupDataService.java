@@ -5,8 +5,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -20,6 +23,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 class OfferingLookupDataService implements OfferingLookupDataPort {
 
+    /** Ids per IN query; semester-wide lookups would otherwise exceed the driver's bind parameter limit. */
+    static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private final GroupSubjectOfferingRepository offeringRepository;
     private final OfferingSlotRepository slotRepository;
 
@@ -46,4 +52,40 @@ class OfferingLookupDataService implements OfferingLookupDataPort {
                 .collect(Collectors.toSet()));
         return offeringIds.stream().toList();
     }
+
+    @Override
+    public Map<UUID, UUID> findTeacherIdsByOfferingIds(Collection<UUID> offeringIds) {
+        if (offeringIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, UUID> result = new HashMap<>();
+        List<UUID> ids = List.copyOf(offeringIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            for (GroupSubjectOffering offering : offeringRepository.findAllById(
+                    ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size())))) {
+                if (offering.getTeacherId() != null) {
+                    result.put(offering.getId(), offering.getTeacherId());
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<UUID, UUID> findTeacherIdsBySlotIds(Collection<UUID> slotIds) {
+        if (slotIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, UUID> result = new HashMap<>();
+        List<UUID> ids = List.copyOf(slotIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            for (OfferingSlot slot : slotRepository.findAllById(
+                    ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size())))) {
+                if (slot.getTeacherId() != null) {
+                    result.put(slot.getId(), slot.getTeacherId());
+                }
+            }
+        }
+        return result;
+    }
 }
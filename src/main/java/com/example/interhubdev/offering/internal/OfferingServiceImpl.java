@@ -1,11 +1,14 @@
 package com.example.interhubdev.offering.internal;
 
+import com.example.interhubdev.academic.AcademicApi;
 import com.example.interhubdev.offering.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +25,8 @@ class OfferingServiceImpl implements OfferingApi {
     private final OfferingSlotService slotService;
     private final LessonGenerationService lessonGenerationService;
     private final LessonCreationPort lessonCreationPort;
+    private final LessonGenerationJobService lessonGenerationJobService;
+    private final AcademicApi academicApi;
 
     // --- Offering CRUD ---
 
@@ -79,6 +84,11 @@ class OfferingServiceImpl implements OfferingApi {
         return catalogService.deriveTeachersByOfferingId(offeringId);
     }
 
+    @Override
+    public Map<UUID, List<OfferingTeacherItemDto>> findTeachersByOfferingIds(Collection<UUID> offeringIds) {
+        return catalogService.deriveTeachersByOfferingIds(offeringIds);
+    }
+
     // --- Offering Slots ---
 
     @Override
@@ -129,4 +139,18 @@ class OfferingServiceImpl implements OfferingApi {
     public int regenerateLessonsForOffering(UUID offeringId, UUID semesterId) {
         return lessonGenerationService.regenerateForOffering(offeringId, semesterId);
     }
+
+    @Override
+    @Transactional
+    public LessonGenerationJobDto requestSemesterLessonGeneration(UUID semesterId) {
+        if (academicApi.findSemesterById(semesterId).isEmpty()) {
+            throw OfferingErrors.semesterNotFound(semesterId);
+        }
+        return lessonGenerationJobService.request(semesterId);
+    }
+
+    @Override
+    public Optional<LessonGenerationJobDto> findLessonGenerationJob(UUID jobId) {
+        return lessonGenerationJobService.find(jobId);
+    }
 }
@@ -18,7 +18,8 @@
  *   <li>{@link com.example.interhubdev.offering.internal.OfferingServiceImpl} - facade implementing OfferingApi</li>
  *   <li>{@link com.example.interhubdev.offering.internal.OfferingCatalogService} - CRUD for offerings and derived teachers list</li>
  *   <li>{@link com.example.interhubdev.offering.internal.OfferingSlotService} - weekly slot management</li>
- *   <li>{@link com.example.interhubdev.offering.internal.LessonGenerationService} - automatic lesson generation</li>
+ *   <li>{@link com.example.interhubdev.offering.internal.LessonGenerationService} - automatic lesson generation (batched per set of groups)</li>
+ *   <li>{@link com.example.interhubdev.offering.internal.LessonGenerationJobWorker} - background semester-wide generation jobs (parallel chunks)</li>
  *   <li>{@link com.example.interhubdev.offering.internal.OfferingMappers} - entity to DTO mapping</li>
  *   <li>{@link com.example.interhubdev.offering.internal.OfferingValidation} - format/role/lessonType normalization</li>
  * </ul>
@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
@@ -15,10 +17,14 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.List;
 
 /**
- * OTP service: generates codes, stores hash in Redis, verifies with constant-time comparison and consumes on success.
+ * OTP service: generates codes, stores hash in Redis, verifies and consumes on success.
+ * <p>
+ * Each state transition is one Lua script (one round-trip, atomic on the Redis server): create checks the
+ * rate limit and stores the code; verify checks the attempt limit, compares the hash and either consumes
+ * the OTP or counts the failed attempt. Concurrent guesses therefore cannot exceed the attempt limit.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,6 +37,46 @@ class OtpServiceImpl implements OtpApi {
     private static final int SUBJECT_HASH_HEX_LEN = 32;
     private static final String DIGEST_ALGORITHM = "SHA-256";
 
+    private static final long CREATED = 1;
+    private static final long VERIFIED = 1;
+    private static final long ATTEMPTS_EXCEEDED = -1;
+
+    /**
+     * KEYS = [data, rate], ARGV = [code hash, ttl seconds, rate limit seconds].
+     * Returns 0 if the rate limit key exists, otherwise sets it and the code hash and returns 1.
+     */
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(ARGV[3]) > 0 then
+              if not redis.call('SET', KEYS[2], '1', 'EX', ARGV[3], 'NX') then
+                return 0
+              end
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS = [data, attempts], ARGV = [input hash, max attempts, attempts window seconds].
+     * Returns -1 if the attempt limit is reached, 1 if the hash matched (OTP and attempts deleted),
+     * 0 otherwise (attempt counted; the window starts with the first failed attempt).
+     * Only SHA-256 hashes are compared, so the comparison time reveals nothing about the code.
+     */
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local attempts = tonumber(redis.call('GET', KEYS[2])) or 0
+            if attempts >= tonumber(ARGV[2]) then
+              return -1
+            end
+            local stored = redis.call('GET', KEYS[1])
+            if stored and stored == ARGV[1] then
+              redis.call('DEL', KEYS[1], KEYS[2])
+              return 1
+            end
+            if redis.call('INCR', KEYS[2]) == 1 then
+              redis.call('EXPIRE', KEYS[2], ARGV[3])
+            end
+            return 0
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
     private final OtpProperties properties;
 
@@ -43,17 +89,17 @@ class OtpServiceImpl implements OtpApi {
         int rateLimitSeconds = options.rateLimitSeconds().orElse(properties.getMinRateLimitSeconds());
 
         try {
-            enforceRateLimit(purpose, subjectKey, rateLimitSeconds);
-
             String plainCode = generateCode(codeLength);
             String codeHash = hashToHex(plainCode);
             String dataKey = KEY_PREFIX_DATA + purpose + ":" + subjectKey;
+            String rateKey = KEY_PREFIX_RATE + purpose + ":" + subjectKey;
             long ttlSeconds = ttlMinutes * 60L;
 
-            redisTemplate.opsForValue().set(dataKey, codeHash, java.time.Duration.ofSeconds(ttlSeconds));
-
-            String rateKey = KEY_PREFIX_RATE + purpose + ":" + subjectKey;
-            redisTemplate.opsForValue().set(rateKey, "1", java.time.Duration.ofSeconds(rateLimitSeconds));
+            Long created = redisTemplate.execute(CREATE_SCRIPT, List.of(dataKey, rateKey),
+                    codeHash, Long.toString(ttlSeconds), Integer.toString(rateLimitSeconds));
+            if (created == null || created != CREATED) {
+                throw OtpErrors.rateLimit("Please wait before requesting a new code. Try again in a few minutes.");
+            }
 
             Instant expiresAt = Instant.now().plusSeconds(ttlSeconds);
             log.debug("OTP created for purpose={}, subjectKey={}, expiresAt={}", purpose, subjectKey, expiresAt);
@@ -78,22 +124,16 @@ class OtpServiceImpl implements OtpApi {
         String attemptsKey = KEY_PREFIX_ATTEMPTS + purpose + ":" + subjectKey;
 
         try {
-            enforceMaxAttempts(attemptsKey);
-
-            String storedHash = redisTemplate.opsForValue().get(dataKey);
-            if (storedHash == null) {
-                incrementAttempts(attemptsKey);
-                return false;
+            Long outcome = redisTemplate.execute(VERIFY_SCRIPT, List.of(dataKey, attemptsKey),
+                    hashToHex(code),
+                    Integer.toString(properties.getMaxVerifyAttempts()),
+                    Long.toString(properties.getAttemptsWindowMinutes() * 60L));
+            if (outcome != null && outcome == ATTEMPTS_EXCEEDED) {
+                throw OtpErrors.tooManyAttempts("Too many failed attempts. Please request a new code.");
             }
-
-            String inputHash = hashToHex(code);
-            if (!constantTimeEquals(inputHash, storedHash)) {
-                incrementAttempts(attemptsKey);
+            if (outcome == null || outcome != VERIFIED) {
                 return false;
             }
-
-            redisTemplate.delete(dataKey);
-            redisTemplate.delete(attemptsKey);
             log.debug("OTP consumed for purpose={}, subjectKey={}", purpose, subjectKey);
             return true;
         } catch (RedisConnectionFailureException e) {
@@ -125,33 +165,6 @@ class OtpServiceImpl implements OtpApi {
         }
     }
 
-    private void enforceRateLimit(String purpose, String subjectKey, int rateLimitSeconds) {
-        String rateKey = KEY_PREFIX_RATE + purpose + ":" + subjectKey;
-        Boolean exists = redisTemplate.hasKey(rateKey);
-        if (Boolean.TRUE.equals(exists)) {
-            throw OtpErrors.rateLimit("Please wait before requesting a new code. Try again in a few minutes.");
-        }
-    }
-
-    private void enforceMaxAttempts(String attemptsKey) {
-        String attemptsStr = redisTemplate.opsForValue().get(attemptsKey);
-        int current = attemptsStr != null ? parseIntSafe(attemptsStr, 0) : 0;
-        if (current >= properties.getMaxVerifyAttempts()) {
-            throw OtpErrors.tooManyAttempts("Too many failed attempts. Please request a new code.");
-        }
-    }
-
-    private void incrementAttempts(String attemptsKey) {
-        long ttlSeconds = properties.getAttemptsWindowMinutes() * 60L;
-        Long inc = redisTemplate.opsForValue().increment(attemptsKey);
-        if (inc == null) {
-            inc = 1L;
-        }
-        if (inc == 1) {
-            redisTemplate.expire(attemptsKey, java.time.Duration.ofSeconds(ttlSeconds));
-        }
-    }
-
     private static String generateCode(int length) {
         SecureRandom rng = new SecureRandom();
         StringBuilder sb = new StringBuilder(length);
@@ -192,24 +205,4 @@ class OtpServiceImpl implements OtpApi {
         }
         return sb.toString();
     }
-
-    private static boolean constantTimeEquals(String a, String b) {
-        if (a == null || b == null) {
-            return a == b;
-        }
-        if (a.length() != b.length()) {
-            return false;
-        }
-        byte[] aBytes = a.getBytes(StandardCharsets.UTF_8);
-        byte[] bBytes = b.getBytes(StandardCharsets.UTF_8);
-        return java.security.MessageDigest.isEqual(aBytes, bBytes);
-    }
-
-    private static int parseIntSafe(String s, int defaultValue) {
-        try {
-            return Integer.parseInt(s, 10);
-        } catch (NumberFormatException e) {
-            return defaultValue;
-        }
-    }
 }
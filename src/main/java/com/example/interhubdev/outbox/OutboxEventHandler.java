@@ -41,7 +41,9 @@ public interface OutboxEventHandler {
      * Process the event.
      * <p>
      * If this method throws an exception, the event will be marked as FAILED
-     * and retried according to the retry policy.
+     * and retried according to the retry policy. Other handlers of the same event type that
+     * already completed are not run again on retry; this handler is, so it should be idempotent
+     * (a crash between handling and committing can still replay a completed handler).
      *
      * @param event the outbox event to process
      * @throws Exception if processing fails (will trigger retry)
@@ -137,4 +137,42 @@ interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
      * Find event by ID (for testing).
      */
     Optional<OutboxEventEntity> findById(UUID id);
+
+    /**
+     * Handlers of the event that completed in an earlier, failed attempt.
+     *
+     * @param eventId event ID
+     * @return handler names (see {@link OutboxHandlerRegistry#nameOf})
+     */
+    @Query(value = "SELECT handler_name FROM outbox_event_handler_completion WHERE event_id = :eventId",
+            nativeQuery = true)
+    List<String> findCompletedHandlers(@Param("eventId") UUID eventId);
+
+    /**
+     * Record that a handler of the event completed, so a retry of the event does not run it again.
+     *
+     * @param eventId event ID
+     * @param handlerName handler name
+     * @param completedAt completion timestamp
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO outbox_event_handler_completion (event_id, handler_name, completed_at)
+        VALUES (:eventId, :handlerName, :completedAt)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    void markHandlerCompleted(
+            @Param("eventId") UUID eventId,
+            @Param("handlerName") String handlerName,
+            @Param("completedAt") Instant completedAt
+    );
+
+    /**
+     * Drop the per-handler completion records of an event that is done.
+     *
+     * @param eventId event ID
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_event_handler_completion WHERE event_id = :eventId", nativeQuery = true)
+    void deleteHandlerCompletions(@Param("eventId") UUID eventId);
 }
@@ -6,7 +6,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -14,39 +16,64 @@ import java.util.Optional;
 /**
  * Registry of outbox event handlers.
  * Automatically discovers all OutboxEventHandler beans and registers them by event type.
+ * Several modules may handle the same event type (e.g. a notification and a read-model projection);
+ * the processor runs all of them in bean order ({@code @Order}, so idempotent projections can go first) and
+ * tracks their completion by bean name, so a retry skips handlers that already succeeded.
  * Package-private: only accessible within the outbox module.
  */
 @Component
 @Slf4j
 class OutboxHandlerRegistry {
 
-    private final Map<String, OutboxEventHandler> handlers = new HashMap<>();
+    private final Map<String, List<OutboxEventHandler>> handlers = new HashMap<>();
+    private final Map<OutboxEventHandler, String> names = new IdentityHashMap<>();
 
     @Autowired(required = false)
     private List<OutboxEventHandler> handlerBeans = List.of();
 
+    @Autowired(required = false)
+    private Map<String, OutboxEventHandler> handlerBeansByName = Map.of();
+
     @PostConstruct
     void registerHandlers() {
+        handlerBeansByName.forEach((name, handler) -> names.put(handler, name));
         for (OutboxEventHandler handler : handlerBeans) {
             String eventType = handler.eventType();
-            if (handlers.containsKey(eventType)) {
-                log.warn("Duplicate handler for event type '{}': {} and {}", 
-                        eventType, handlers.get(eventType).getClass().getName(), handler.getClass().getName());
-            }
-            handlers.put(eventType, handler);
+            handlers.computeIfAbsent(eventType, t -> new ArrayList<>()).add(handler);
             log.info("Registered outbox handler: {} -> {}", eventType, handler.getClass().getName());
         }
-        log.info("Registered {} outbox event handler(s)", handlers.size());
+        log.info("Registered {} outbox event handler(s) for {} event type(s)", handlerBeans.size(), handlers.size());
+    }
+
+    /**
+     * Get all handlers for event type.
+     *
+     * @param eventType event type identifier
+     * @return handlers in registration order, empty if none registered
+     */
+    List<OutboxEventHandler> getHandlers(String eventType) {
+        return handlers.getOrDefault(eventType, List.of());
+    }
+
+    /**
+     * Stable name of a registered handler (its bean name), used to record per-handler completion.
+     *
+     * @param handler registered handler
+     * @return bean name, or the class name if the handler was not registered as a named bean
+     */
+    String nameOf(OutboxEventHandler handler) {
+        String name = names.get(handler);
+        return name != null ? name : handler.getClass().getName();
     }
 
     /**
-     * Get handler for event type.
+     * Get the first handler for event type.
      *
      * @param eventType event type identifier
      * @return optional handler, empty if no handler registered
      */
     Optional<OutboxEventHandler> getHandler(String eventType) {
-        return Optional.ofNullable(handlers.get(eventType));
+        return getHandlers(eventType).stream().findFirst();
     }
 
     /**
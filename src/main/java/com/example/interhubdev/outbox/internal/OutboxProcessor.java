@@ -11,7 +11,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -19,7 +22,8 @@ import java.util.concurrent.ThreadLocalRandom;
  * Scheduled processor for outbox events.
  * <p>
  * Periodically picks up NEW/FAILED events, locks them atomically,
- * and processes them through registered handlers.
+ * and processes them through registered handlers. When one of several handlers of an event fails,
+ * the ones that succeeded are recorded and skipped on retry.
  * <p>
  * Package-private: only accessible within the outbox module.
  */
@@ -122,21 +126,40 @@ class OutboxProcessor {
      */
     private void processEvent(OutboxEventEntity entity, Instant now) {
         String eventType = entity.getEventType();
-        OutboxEventHandler handler = handlerRegistry.getHandler(eventType)
-                .orElse(null);
+        List<OutboxEventHandler> handlers = handlerRegistry.getHandlers(eventType);
 
-        if (handler == null) {
+        if (handlers.isEmpty()) {
             handleNoHandler(entity, now);
             return;
         }
 
+        // Handlers that succeeded in an earlier attempt are skipped; completions are only recorded when a later
+        // handler of the same event fails, so the common single-attempt path costs no extra writes.
+        Set<String> completed = handlers.size() > 1 && entity.getAttempts() > 0
+                ? new HashSet<>(repository.findCompletedHandlers(entity.getId()))
+                : new HashSet<>();
+        boolean hadCompletions = !completed.isEmpty();
+        List<String> completedNow = new ArrayList<>();
         try {
             OutboxEvent event = mapper.toDto(entity);
-            handler.handle(event);
+            for (OutboxEventHandler handler : handlers) {
+                String name = handlerRegistry.nameOf(handler);
+                if (completed.contains(name)) {
+                    continue;
+                }
+                handler.handle(event);
+                completedNow.add(name);
+            }
+            if (hadCompletions) {
+                repository.deleteHandlerCompletions(entity.getId());
+            }
             repository.markDone(entity.getId(), now);
             log.debug("Successfully processed outbox event: id={}, type={}",
                     entity.getId(), eventType);
         } catch (Exception e) {
+            if (handlers.size() > 1) {
+                completedNow.forEach(name -> repository.markHandlerCompleted(entity.getId(), name, now));
+            }
             handleProcessingFailure(entity, e, now);
         }
     }
@@ -0,0 +1,28 @@
+package com.example.interhubdev.schedule;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Planned lesson to check for room and teacher double-booking before it is written.
+ * The teacher is resolved like for stored lessons: the slot's teacher, otherwise the offering's main teacher.
+ *
+ * @param offeringId     offering the lesson belongs to
+ * @param offeringSlotId offering slot the lesson is generated from; null for manual lessons
+ * @param date           lesson date
+ * @param startTime      start time
+ * @param endTime        end time (after start time)
+ * @param roomId         room; null if no room is assigned (only the teacher is checked)
+ */
+public record BookingCandidate(
+    UUID offeringId,
+    UUID offeringSlotId,
+    LocalDate date,
+    @JsonFormat(pattern = "HH:mm:ss") LocalTime startTime,
+    @JsonFormat(pattern = "HH:mm:ss") LocalTime endTime,
+    UUID roomId
+) {
+}
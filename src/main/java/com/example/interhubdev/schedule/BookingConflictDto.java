@@ -0,0 +1,39 @@
+package com.example.interhubdev.schedule;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * One double-booking: a lesson (or candidate) overlapping another lesson (or candidate) in the same room
+ * or with the same teacher. Exactly one of {@code lessonId}/{@code candidateIndex} is set, and exactly one of
+ * {@code conflictingLessonId}/{@code conflictingCandidateIndex}.
+ *
+ * @param type                      double-booked resource kind
+ * @param resourceId                room ID or teacher ID
+ * @param date                      date of both lessons
+ * @param lessonId                  stored lesson; null when a candidate is reported
+ * @param candidateIndex            index of the candidate in the checked batch; null for a stored lesson
+ * @param startTime                 start of the reported lesson
+ * @param endTime                   end of the reported lesson
+ * @param conflictingLessonId       stored lesson it overlaps; null if it overlaps another candidate
+ * @param conflictingCandidateIndex candidate it overlaps (earlier in the batch); null if it overlaps a stored lesson
+ * @param conflictingStartTime      start of the overlapped lesson
+ * @param conflictingEndTime        end of the overlapped lesson
+ */
+public record BookingConflictDto(
+    BookingConflictType type,
+    UUID resourceId,
+    LocalDate date,
+    UUID lessonId,
+    Integer candidateIndex,
+    @JsonFormat(pattern = "HH:mm:ss") LocalTime startTime,
+    @JsonFormat(pattern = "HH:mm:ss") LocalTime endTime,
+    UUID conflictingLessonId,
+    Integer conflictingCandidateIndex,
+    @JsonFormat(pattern = "HH:mm:ss") LocalTime conflictingStartTime,
+    @JsonFormat(pattern = "HH:mm:ss") LocalTime conflictingEndTime
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.interhubdev.schedule;
+
+/**
+ * Resource that is double-booked.
+ */
+public enum BookingConflictType {
+    /**
+     * The same room is used by overlapping lessons.
+     */
+    ROOM,
+    /**
+     * The same teacher conducts overlapping lessons.
+     */
+    TEACHER
+}
@@ -0,0 +1,17 @@
+package com.example.interhubdev.schedule;
+
+import java.time.Instant;
+
+/**
+ * Rendered iCalendar feed with its HTTP validators.
+ *
+ * @param body         text/calendar body (UTF-8)
+ * @param etag         strong ETag (quoted), changes whenever the body changes
+ * @param lastModified latest lesson update (or removal) reflected in the body
+ */
+public record CalendarFeedContent(
+    byte[] body,
+    String etag,
+    Instant lastModified
+) {
+}
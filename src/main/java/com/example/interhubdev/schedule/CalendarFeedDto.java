@@ -0,0 +1,13 @@
+package com.example.interhubdev.schedule;
+
+/**
+ * iCalendar subscription feed of a user or group.
+ *
+ * @param token feed token (credential of the feed URL; stable until rotated)
+ * @param path  feed URL path to subscribe to, e.g. /api/schedule/calendar/feed/{token}.ics
+ */
+public record CalendarFeedDto(
+    String token,
+    String path
+) {
+}
@@ -318,6 +318,63 @@ public interface ScheduleApi {
      */
     List<LessonDto> createLessonsInBulk(List<LessonBulkCreateRequest> requests);
 
+    /**
+     * Check planned lessons for room and teacher double-booking: against stored (non-cancelled) lessons and
+     * against earlier candidates of the same batch. Nothing is written.
+     *
+     * @param candidates planned lessons (e.g. a generated timetable)
+     * @return conflicts, reported per candidate and resource (empty if none)
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if a candidate misses offering, date or times, or endTime is not after startTime
+     */
+    List<BookingConflictDto> checkBookingConflicts(List<BookingCandidate> candidates);
+
+    /**
+     * Room and teacher double-bookings among stored lessons in the date range.
+     *
+     * @param from first date (inclusive)
+     * @param to   last date (inclusive); at most 366 days after from
+     * @return conflicts ordered by date and start time; each overlapping pair is reported once
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if the range is missing, reversed or too long
+     */
+    List<BookingConflictDto> findBookingConflicts(LocalDate from, LocalDate to);
+
+    // --- Calendar feeds (iCalendar subscriptions) ---
+
+    /**
+     * The user's calendar feed (lessons of the student's groups and lessons the user teaches in the current
+     * semester). Created with a new token on first request; the token stays the same until rotated.
+     *
+     * @param userId user ID
+     * @return feed token and URL path
+     */
+    CalendarFeedDto getUserCalendarFeed(UUID userId);
+
+    /**
+     * Replace the user's calendar feed token; the previous feed URL stops working.
+     *
+     * @param userId user ID
+     * @return feed with the new token
+     */
+    CalendarFeedDto rotateUserCalendarFeed(UUID userId);
+
+    /**
+     * The group's calendar feed (lessons of the group's offerings in the current semester). Created on first request.
+     *
+     * @param groupId group ID
+     * @return feed token and URL path
+     * @throws com.example.interhubdev.error.AppException NOT_FOUND if group does not exist
+     */
+    CalendarFeedDto getGroupCalendarFeed(UUID groupId);
+
+    /**
+     * Rendered iCalendar feed for the token with its ETag and Last-Modified. An unchanged feed is served from
+     * memory, so conditional polls (304) are cheap.
+     *
+     * @param token feed token
+     * @return feed content; empty if the token is unknown
+     */
+    Optional<CalendarFeedContent> findCalendarFeedContent(String token);
+
     /**
      * Delete all lessons for an offering.
      *
@@ -354,4 +411,12 @@ public interface ScheduleApi {
      */
     void deleteLessonsByOfferingIdAndDayOfWeekAndStartTimeAndEndTime(
             UUID offeringId, int dayOfWeek, java.time.LocalTime startTime, java.time.LocalTime endTime);
+
+    /**
+     * The teacher of an offering's lessons changed (its main teacher was reassigned). Booking conflict data and
+     * calendar feeds derived from the lessons' teacher are refreshed once the caller's transaction commits.
+     *
+     * @param offeringId offering ID
+     */
+    void lessonTeachersChanged(UUID offeringId);
 }
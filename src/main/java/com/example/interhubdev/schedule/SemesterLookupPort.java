@@ -0,0 +1,22 @@
+package com.example.interhubdev.schedule;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Port for the current semester's date range. Implemented by an adapter using the Academic module,
+ * so that the Schedule module does not depend on it.
+ */
+public interface SemesterLookupPort {
+
+    /**
+     * Date range of a semester (inclusive).
+     */
+    record SemesterRange(LocalDate startDate, LocalDate endDate) {
+    }
+
+    /**
+     * Range of the current semester, if one is marked current.
+     */
+    Optional<SemesterRange> findCurrentSemesterRange();
+}
@@ -0,0 +1,440 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.schedule.BookingCandidate;
+import com.example.interhubdev.schedule.BookingConflictDto;
+import com.example.interhubdev.schedule.BookingConflictType;
+import com.example.interhubdev.schedule.OfferingLookupPort;
+import com.example.interhubdev.schedule.SemesterLookupPort;
+import com.example.interhubdev.schedule.internal.BookingIntervalIndex.Booking;
+import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Room and teacher double-booking detection.
+ * <p>
+ * Single lesson writes are checked against the database: the room and teacher of the lesson's date are locked
+ * with transaction-scoped advisory locks and the day's overlapping lessons are queried, so concurrent writes on
+ * any instance cannot both pass. Bulk checks and reports use a {@link BookingIntervalIndex} of the current
+ * semester's non-cancelled lessons, built lazily with one range query and kept up to date after each committed
+ * lesson write of this instance; a periodic rebuild on a dedicated thread picks up writes made by other
+ * instances. Checks outside the indexed semester use a throwaway index loaded for the requested dates.
+ * The teacher of a lesson is the slot's teacher, otherwise the offering's main teacher (as in the schedule
+ * views); the room is the lesson's room.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+class BookingConflictService {
+
+    /** Longest range accepted by {@link #findConflicts(LocalDate, LocalDate)}. */
+    private static final int MAX_REPORT_DAYS = 366;
+
+    private final LessonRepository lessonRepository;
+    private final OfferingLookupPort offeringLookupPort;
+    private final SemesterLookupPort semesterLookupPort;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Rebuilds the index off the shared scheduler; at most one rebuild runs and one more waits. */
+    private final ThreadPoolExecutor rebuilder = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), r -> {
+        Thread thread = new Thread(r, "booking-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.DiscardPolicy());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Index of the current semester; null until first used or after invalidation. */
+    private BookingIntervalIndex index;
+    /** Set while a rebuild loads; writes committed meanwhile are replayed onto the new index. */
+    private List<BookedLesson> pendingWhileRebuilding;
+
+    /**
+     * One stored lesson's bookings: room and teacher for an interval. {@code cancelled} lessons book nothing.
+     */
+    record BookedLesson(UUID lessonId, LocalDate date, LocalTime startTime, LocalTime endTime,
+                        UUID roomId, UUID teacherId, boolean cancelled) {
+    }
+
+    /**
+     * Throw SCHEDULE_BOOKING_CONFLICT (409) if the lesson would overlap another lesson in the same room or
+     * with the same teacher. Must run in the transaction that writes the lesson: the advisory locks taken here
+     * are held until it ends, so a concurrent write of the same room or teacher on that date waits and then
+     * sees this one.
+     *
+     * @param excludeLessonId lesson being updated (its own booking is ignored); null on create
+     */
+    void assertNoConflict(UUID excludeLessonId, UUID offeringId, UUID offeringSlotId, LocalDate date,
+                          LocalTime startTime, LocalTime endTime, UUID roomId) {
+        UUID teacherId = resolveTeachers(List.of(offeringId), offeringSlotId != null ? List.of(offeringSlotId) : List.of())
+                .teacherOf(offeringId, offeringSlotId);
+        lockBookings(date, roomId, teacherId);
+        List<Object[]> rows = lessonRepository.findBookingsOverlapping(date, startTime, endTime).stream()
+                .filter(row -> !row[0].equals(excludeLessonId))
+                .toList();
+        for (Object[] row : rows) {
+            if (roomId != null && roomId.equals(row[3])) {
+                throw ScheduleErrors.bookingConflict(BookingConflictType.ROOM, roomId, (UUID) row[0]);
+            }
+        }
+        if (teacherId == null || rows.isEmpty()) {
+            return;
+        }
+        Set<UUID> offeringIds = new HashSet<>();
+        Set<UUID> slotIds = new HashSet<>();
+        for (Object[] row : rows) {
+            offeringIds.add((UUID) row[1]);
+            if (row[2] != null) {
+                slotIds.add((UUID) row[2]);
+            }
+        }
+        Teachers teachers = resolveTeachers(offeringIds, slotIds);
+        for (Object[] row : rows) {
+            if (teacherId.equals(teachers.teacherOf((UUID) row[1], (UUID) row[2]))) {
+                throw ScheduleErrors.bookingConflict(BookingConflictType.TEACHER, teacherId, (UUID) row[0]);
+            }
+        }
+    }
+
+    /**
+     * Conflicts of planned lessons against stored lessons and against earlier candidates of the same batch.
+     * Each candidate costs O(log n) per resource.
+     */
+    List<BookingConflictDto> checkCandidates(List<BookingCandidate> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+        LocalDate from = null;
+        LocalDate to = null;
+        Set<UUID> offeringIds = new HashSet<>();
+        Set<UUID> slotIds = new HashSet<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            BookingCandidate c = candidates.get(i);
+            if (c == null || c.offeringId() == null || c.date() == null || c.startTime() == null || c.endTime() == null) {
+                throw Errors.badRequest("Candidate " + i + ": offeringId, date, startTime and endTime are required");
+            }
+            if (!c.endTime().isAfter(c.startTime())) {
+                throw Errors.badRequest("Candidate " + i + ": end time must be after start time");
+            }
+            offeringIds.add(c.offeringId());
+            if (c.offeringSlotId() != null) {
+                slotIds.add(c.offeringSlotId());
+            }
+            from = from == null || c.date().isBefore(from) ? c.date() : from;
+            to = to == null || c.date().isAfter(to) ? c.date() : to;
+        }
+        Teachers teachers = resolveTeachers(offeringIds, slotIds);
+        BookingIntervalIndex batch = new BookingIntervalIndex(from, to);
+        return query(from, to, stored -> {
+            List<BookingConflictDto> conflicts = new ArrayList<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                BookingCandidate c = candidates.get(i);
+                UUID teacherId = teachers.teacherOf(c.offeringId(), c.offeringSlotId());
+                Booking booking = new Booking(null, i, c.startTime(), c.endTime());
+                collect(conflicts, BookingConflictType.ROOM, c.roomId(), c.date(), booking, stored, batch);
+                collect(conflicts, BookingConflictType.TEACHER, teacherId, c.date(), booking, stored, batch);
+                batch.add(BookingConflictType.ROOM, c.roomId(), c.date(), booking);
+                batch.add(BookingConflictType.TEACHER, teacherId, c.date(), booking);
+            }
+            return conflicts;
+        });
+    }
+
+    /**
+     * Every double-booking among stored lessons with dates in [from, to], ordered by date and start time.
+     */
+    List<BookingConflictDto> findConflicts(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw Errors.badRequest("from and to are required");
+        }
+        if (to.isBefore(from)) {
+            throw Errors.badRequest("to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS) {
+            throw Errors.badRequest("Range must not exceed " + MAX_REPORT_DAYS + " days");
+        }
+        return query(from, to, idx -> idx.findAllOverlaps().stream()
+                .filter(o -> !o.date().isBefore(from) && !o.date().isAfter(to))
+                .map(o -> toDto(o.type(), o.resourceId(), o.date(), o.booking(), o.conflictingWith()))
+                .sorted(Comparator.comparing(BookingConflictDto::date)
+                        .thenComparing(BookingConflictDto::startTime)
+                        .thenComparing(BookingConflictDto::type))
+                .toList());
+    }
+
+    /**
+     * Resolve room/teacher bookings of written lessons; apply them to the index once the transaction commits.
+     */
+    void lessonsWritten(Collection<Lesson> lessons) {
+        if (lessons.isEmpty()) {
+            return;
+        }
+        Set<UUID> offeringIds = new HashSet<>();
+        Set<UUID> slotIds = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            offeringIds.add(lesson.getOfferingId());
+            if (lesson.getOfferingSlotId() != null) {
+                slotIds.add(lesson.getOfferingSlotId());
+            }
+        }
+        Teachers teachers = resolveTeachers(offeringIds, slotIds);
+        List<BookedLesson> booked = lessons.stream()
+                .map(l -> new BookedLesson(l.getId(), l.getDate(), l.getStartTime(), l.getEndTime(), l.getRoomId(),
+                        teachers.teacherOf(l.getOfferingId(), l.getOfferingSlotId()),
+                        "cancelled".equals(l.getStatus())))
+                .toList();
+        afterCommit(() -> apply(booked));
+    }
+
+    void lessonDeleted(UUID lessonId) {
+        afterCommit(() -> apply(List.of(new BookedLesson(lessonId, null, null, null, null, null, true))));
+    }
+
+    /**
+     * Drop the index after bulk deletes or teacher reassignments and start rebuilding it in the background;
+     * a check arriving before the rebuild finishes loads it itself.
+     */
+    void invalidate() {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                index = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilder.execute(this::safeRebuild);
+        });
+    }
+
+    /**
+     * Rebuild the index so writes of other instances become visible. No-op until the index is first used.
+     * Only hands the rebuild to the dedicated thread, so a semester load never holds a scheduler thread.
+     */
+    @Scheduled(fixedDelayString = "${app.schedule.booking-index.refresh-interval:300000}")
+    void refresh() {
+        boolean built;
+        lock.readLock().lock();
+        try {
+            built = index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (built) {
+            rebuilder.execute(this::safeRebuild);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void safeRebuild() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Booking index rebuild failed; the next check loads it", e);
+        }
+    }
+
+    /**
+     * Serialize writers of the same room or teacher on the date. Keys are taken in ascending order so two
+     * writers locking the same pair cannot deadlock.
+     */
+    private void lockBookings(LocalDate date, UUID roomId, UUID teacherId) {
+        List<Long> keys = new ArrayList<>(2);
+        if (roomId != null) {
+            keys.add(lockKey(BookingConflictType.ROOM, roomId, date));
+        }
+        if (teacherId != null) {
+            keys.add(lockKey(BookingConflictType.TEACHER, teacherId, date));
+        }
+        keys.stream().sorted().distinct()
+                .forEach(key -> jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> { }, key));
+    }
+
+    private static long lockKey(BookingConflictType type, UUID resourceId, LocalDate date) {
+        return (resourceId.getMostSignificantBits() ^ resourceId.getLeastSignificantBits()) * 31
+                + date.toEpochDay() * 2 + type.ordinal();
+    }
+
+    private <T> T query(LocalDate from, LocalDate to, Function<BookingIntervalIndex, T> action) {
+        BookingIntervalIndex cached = currentIndex();
+        if (cached != null && cached.covers(from, to)) {
+            lock.readLock().lock();
+            try {
+                if (cached == index) {
+                    return action.apply(cached);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return action.apply(load(from, to));
+    }
+
+    private BookingIntervalIndex currentIndex() {
+        lock.readLock().lock();
+        try {
+            if (index != null) {
+                return index;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rebuild();
+    }
+
+    private BookingIntervalIndex rebuild() {
+        Optional<SemesterLookupPort.SemesterRange> semester = semesterLookupPort.findCurrentSemesterRange();
+        if (semester.isEmpty()) {
+            return null;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingWhileRebuilding != null) {
+                return index; // another thread is rebuilding
+            }
+            pendingWhileRebuilding = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        BookingIntervalIndex rebuilt = null;
+        long startedAt = System.nanoTime();
+        try {
+            rebuilt = load(semester.get().startDate(), semester.get().endDate());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    for (BookedLesson lesson : pendingWhileRebuilding) {
+                        applyTo(rebuilt, lesson);
+                    }
+                    index = rebuilt;
+                }
+                pendingWhileRebuilding = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.debug("Booking index rebuilt for {}..{} in {} ms", semester.get().startDate(), semester.get().endDate(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return rebuilt;
+    }
+
+    private BookingIntervalIndex load(LocalDate from, LocalDate to) {
+        List<Object[]> rows = lessonRepository.findBookingsByDateBetween(from, to);
+        Set<UUID> offeringIds = new HashSet<>();
+        Set<UUID> slotIds = new HashSet<>();
+        for (Object[] row : rows) {
+            offeringIds.add((UUID) row[1]);
+            if (row[2] != null) {
+                slotIds.add((UUID) row[2]);
+            }
+        }
+        Teachers teachers = resolveTeachers(offeringIds, slotIds);
+        BookingIntervalIndex loaded = new BookingIntervalIndex(from, to);
+        for (Object[] row : rows) {
+            UUID teacherId = teachers.teacherOf((UUID) row[1], (UUID) row[2]);
+            applyTo(loaded, new BookedLesson((UUID) row[0], (LocalDate) row[3], (LocalTime) row[4], (LocalTime) row[5],
+                    (UUID) row[6], teacherId, false));
+        }
+        return loaded;
+    }
+
+    private void apply(List<BookedLesson> lessons) {
+        lock.writeLock().lock();
+        try {
+            if (pendingWhileRebuilding != null) {
+                pendingWhileRebuilding.addAll(lessons);
+            }
+            if (index != null) {
+                lessons.forEach(lesson -> applyTo(index, lesson));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void applyTo(BookingIntervalIndex idx, BookedLesson lesson) {
+        idx.remove(lesson.lessonId());
+        if (lesson.cancelled() || !idx.covers(lesson.date(), lesson.date())) {
+            return;
+        }
+        Booking booking = new Booking(lesson.lessonId(), null, lesson.startTime(), lesson.endTime());
+        idx.add(BookingConflictType.ROOM, lesson.roomId(), lesson.date(), booking);
+        idx.add(BookingConflictType.TEACHER, lesson.teacherId(), lesson.date(), booking);
+    }
+
+    private static void collect(List<BookingConflictDto> conflicts, BookingConflictType type, UUID resourceId,
+                                LocalDate date, Booking candidate, BookingIntervalIndex stored, BookingIntervalIndex batch) {
+        if (resourceId == null) {
+            return;
+        }
+        for (Booking other : stored.findOverlaps(type, resourceId, date, candidate.startTime(), candidate.endTime(), null)) {
+            conflicts.add(toDto(type, resourceId, date, candidate, other));
+        }
+        for (Booking other : batch.findOverlaps(type, resourceId, date, candidate.startTime(), candidate.endTime(), null)) {
+            conflicts.add(toDto(type, resourceId, date, candidate, other));
+        }
+    }
+
+    private static BookingConflictDto toDto(BookingConflictType type, UUID resourceId, LocalDate date,
+                                            Booking booking, Booking other) {
+        return new BookingConflictDto(type, resourceId, date,
+                booking.lessonId(), booking.candidateIndex(), booking.startTime(), booking.endTime(),
+                other.lessonId(), other.candidateIndex(), other.startTime(), other.endTime());
+    }
+
+    private Teachers resolveTeachers(Collection<UUID> offeringIds, Collection<UUID> slotIds) {
+        return new Teachers(
+                offeringIds.isEmpty() ? Map.of() : offeringLookupPort.findTeacherIdsByOfferingIds(offeringIds),
+                slotIds.isEmpty() ? Map.of() : offeringLookupPort.findTeacherIdsBySlotIds(slotIds));
+    }
+
+    private record Teachers(Map<UUID, UUID> byOffering, Map<UUID, UUID> bySlot) {
+
+        UUID teacherOf(UUID offeringId, UUID offeringSlotId) {
+            UUID slotTeacher = offeringSlotId != null ? bySlot.get(offeringSlotId) : null;
+            return slotTeacher != null ? slotTeacher : byOffering.get(offeringId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.schedule.BookingConflictType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory interval index of lesson bookings per resource (room or teacher) and date.
+ * <p>
+ * Each (resource, date) bucket keeps its bookings sorted by start time together with the longest booking
+ * duration, so an overlap query for [start, end) only visits bookings starting in
+ * [start - longest, end): O(log n) to locate plus the (few) candidates in that window.
+ * Not thread-safe; {@link BookingConflictService} guards access.
+ */
+final class BookingIntervalIndex {
+
+    /**
+     * A booked interval: a stored lesson ({@code lessonId}) or a candidate of a checked batch ({@code candidateIndex}).
+     */
+    record Booking(UUID lessonId, Integer candidateIndex, LocalTime startTime, LocalTime endTime) {
+
+        boolean overlaps(LocalTime start, LocalTime end) {
+            return startTime.isBefore(end) && start.isBefore(endTime);
+        }
+    }
+
+    private record BucketKey(BookingConflictType type, UUID resourceId, LocalDate date) {
+    }
+
+    private static final class Bucket {
+        private final TreeMap<LocalTime, List<Booking>> byStart = new TreeMap<>();
+        private long longestSeconds;
+    }
+
+    private final Map<BucketKey, Bucket> buckets = new HashMap<>();
+    private final Map<UUID, List<BucketKey>> keysByLesson = new HashMap<>();
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * @param from first covered date (inclusive)
+     * @param to   last covered date (inclusive)
+     */
+    BookingIntervalIndex(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    boolean covers(LocalDate start, LocalDate end) {
+        return !start.isBefore(from) && !end.isAfter(to);
+    }
+
+    void add(BookingConflictType type, UUID resourceId, LocalDate date, Booking booking) {
+        if (resourceId == null) {
+            return;
+        }
+        BucketKey key = new BucketKey(type, resourceId, date);
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+        bucket.byStart.computeIfAbsent(booking.startTime(), t -> new ArrayList<>(1)).add(booking);
+        bucket.longestSeconds = Math.max(bucket.longestSeconds,
+                booking.endTime().toSecondOfDay() - booking.startTime().toSecondOfDay());
+        if (booking.lessonId() != null) {
+            keysByLesson.computeIfAbsent(booking.lessonId(), id -> new ArrayList<>(2)).add(key);
+        }
+    }
+
+    /**
+     * Remove every booking of a stored lesson (room and teacher).
+     */
+    void remove(UUID lessonId) {
+        List<BucketKey> keys = keysByLesson.remove(lessonId);
+        if (keys == null) {
+            return;
+        }
+        for (BucketKey key : keys) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                continue;
+            }
+            bucket.byStart.values().forEach(list -> list.removeIf(b -> lessonId.equals(b.lessonId())));
+            bucket.byStart.values().removeIf(List::isEmpty);
+            if (bucket.byStart.isEmpty()) {
+                buckets.remove(key);
+            }
+            // longestSeconds is left as an upper bound; it only widens the scanned window.
+        }
+    }
+
+    /**
+     * Bookings of the resource on the date that overlap [start, end), except those of {@code excludeLessonId}.
+     */
+    List<Booking> findOverlaps(BookingConflictType type, UUID resourceId, LocalDate date,
+                               LocalTime start, LocalTime end, UUID excludeLessonId) {
+        if (resourceId == null) {
+            return List.of();
+        }
+        Bucket bucket = buckets.get(new BucketKey(type, resourceId, date));
+        if (bucket == null) {
+            return List.of();
+        }
+        int earliestStart = Math.max(0, start.toSecondOfDay() - (int) bucket.longestSeconds);
+        NavigableMap<LocalTime, List<Booking>> window =
+                bucket.byStart.subMap(LocalTime.ofSecondOfDay(earliestStart), true, end, false);
+        List<Booking> overlaps = new ArrayList<>();
+        for (List<Booking> bookings : window.values()) {
+            for (Booking booking : bookings) {
+                if (booking.overlaps(start, end)
+                        && (excludeLessonId == null || !excludeLessonId.equals(booking.lessonId()))) {
+                    overlaps.add(booking);
+                }
+            }
+        }
+        return overlaps;
+    }
+
+    /**
+     * Every pair of overlapping bookings, each pair reported once (from the later-starting booking).
+     */
+    List<Overlap> findAllOverlaps() {
+        List<Overlap> overlaps = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            List<Booking> ordered = new ArrayList<>();
+            bucket.byStart.values().forEach(ordered::addAll);
+            for (int i = 0; i < ordered.size(); i++) {
+                Booking current = ordered.get(i);
+                for (int j = i - 1; j >= 0; j--) {
+                    Booking earlier = ordered.get(j);
+                    if (current.startTime().toSecondOfDay() - earlier.startTime().toSecondOfDay() >= bucket.longestSeconds
+                            && !current.startTime().equals(earlier.startTime())) {
+                        break;
+                    }
+                    if (earlier.overlaps(current.startTime(), current.endTime())) {
+                        overlaps.add(new Overlap(key.type(), key.resourceId(), key.date(), current, earlier));
+                    }
+                }
+            }
+        });
+        return overlaps;
+    }
+
+    record Overlap(BookingConflictType type, UUID resourceId, LocalDate date, Booking booking, Booking conflictingWith) {
+    }
+}
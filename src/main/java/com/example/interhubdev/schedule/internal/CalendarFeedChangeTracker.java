@@ -0,0 +1,140 @@
+package com.example.interhubdev.schedule.internal;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Routes committed lesson writes to the cached calendar feeds that show them.
+ * <p>
+ * {@link CalendarFeedService} registers which offerings each cached feed covers; lesson writes are recorded
+ * per feed once their transaction commits, and the feed applies them (re-rendering only those lessons) on its
+ * next request. Only writes of this instance are seen; feeds revalidate against the database periodically.
+ */
+@Component
+class CalendarFeedChangeTracker {
+
+    /**
+     * Writes recorded for one feed since it last drained them.
+     *
+     * @param lessonIds lessons created, updated or deleted
+     * @param stale     true if lessons were removed in bulk and the feed must be rebuilt
+     */
+    record Changes(Set<UUID> lessonIds, boolean stale) {
+
+        static final Changes NONE = new Changes(Set.of(), false);
+
+        boolean isEmpty() {
+            return !stale && lessonIds.isEmpty();
+        }
+    }
+
+    private final Map<UUID, Set<String>> tokensByOffering = new ConcurrentHashMap<>();
+    private final Map<String, Pending> pendingByToken = new ConcurrentHashMap<>();
+
+    private static final class Pending {
+        private final Set<UUID> lessonIds = new HashSet<>();
+        private boolean stale;
+    }
+
+    /**
+     * Start (or update) routing writes of the offerings to the feed.
+     */
+    void track(String token, Collection<UUID> offeringIds) {
+        untrack(token);
+        pendingByToken.put(token, new Pending());
+        for (UUID offeringId : offeringIds) {
+            tokensByOffering.computeIfAbsent(offeringId, id -> ConcurrentHashMap.newKeySet()).add(token);
+        }
+    }
+
+    void untrack(String token) {
+        if (pendingByToken.remove(token) == null) {
+            return;
+        }
+        tokensByOffering.values().forEach(tokens -> tokens.remove(token));
+        tokensByOffering.values().removeIf(Set::isEmpty);
+    }
+
+    /**
+     * Take the writes recorded for the feed since the last call.
+     */
+    Changes drain(String token) {
+        Pending pending = pendingByToken.get(token);
+        if (pending == null) {
+            return Changes.NONE;
+        }
+        synchronized (pending) {
+            Changes changes = new Changes(Set.copyOf(pending.lessonIds), pending.stale);
+            pending.lessonIds.clear();
+            pending.stale = false;
+            return changes;
+        }
+    }
+
+    /**
+     * Lessons (lessonId -> offeringId) were created, updated or deleted; recorded after commit.
+     */
+    void lessonsChanged(Map<UUID, UUID> offeringIdByLessonId) {
+        if (offeringIdByLessonId.isEmpty()) {
+            return;
+        }
+        Map<UUID, UUID> snapshot = Map.copyOf(offeringIdByLessonId);
+        afterCommit(() -> snapshot.forEach((lessonId, offeringId) ->
+                forEachFeed(offeringId, pending -> pending.lessonIds.add(lessonId))));
+    }
+
+    /**
+     * Lessons of the offering were removed in bulk; its feeds are rebuilt on their next request.
+     */
+    void offeringChanged(UUID offeringId) {
+        afterCommit(() -> forEachFeed(offeringId, pending -> pending.stale = true));
+    }
+
+    /**
+     * Lessons were removed without a known offering; every cached feed is rebuilt on its next request.
+     */
+    void allChanged() {
+        afterCommit(() -> pendingByToken.values().forEach(pending -> {
+            synchronized (pending) {
+                pending.stale = true;
+            }
+        }));
+    }
+
+    private void forEachFeed(UUID offeringId, Consumer<Pending> action) {
+        Set<String> tokens = tokensByOffering.get(offeringId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Pending pending = pendingByToken.get(token);
+            if (pending != null) {
+                synchronized (pending) {
+                    action.accept(pending);
+                }
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
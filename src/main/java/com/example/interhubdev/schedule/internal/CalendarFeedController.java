@@ -0,0 +1,87 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.schedule.CalendarFeedContent;
+import com.example.interhubdev.schedule.CalendarFeedDto;
+import com.example.interhubdev.schedule.ScheduleApi;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * REST controller for iCalendar subscription feeds. Feed tokens are issued to authenticated users;
+ * the feed itself is public and authenticated by its token, since calendar apps cannot send a JWT.
+ */
+@RestController
+@RequestMapping("/api/schedule/calendar")
+@RequiredArgsConstructor
+@Tag(name = "Schedule calendar feeds", description = "iCalendar (ICS) subscription feeds for personal and group timetables")
+class CalendarFeedController {
+
+    private static final String CALENDAR_CONTENT_TYPE = "text/calendar; charset=UTF-8";
+
+    private final ScheduleApi scheduleApi;
+
+    @GetMapping("/feeds/me")
+    @Operation(summary = "Get my calendar feed", description = "Feed of the current user's lessons in the current semester: lessons of the student's groups and lessons the user teaches. Created on first request; the token stays the same until rotated.")
+    public ResponseEntity<CalendarFeedDto> getMyFeed() {
+        return ResponseEntity.ok(scheduleApi.getUserCalendarFeed(currentUserId()));
+    }
+
+    @PostMapping("/feeds/me/rotate")
+    @Operation(summary = "Rotate my calendar feed token", description = "Issues a new token; subscriptions using the previous feed URL stop working.")
+    public ResponseEntity<CalendarFeedDto> rotateMyFeed() {
+        return ResponseEntity.ok(scheduleApi.rotateUserCalendarFeed(currentUserId()));
+    }
+
+    @GetMapping("/feeds/group/{groupId}")
+    @Operation(summary = "Get a group's calendar feed", description = "Feed of the group's lessons in the current semester. Created on first request. 404 if group does not exist.")
+    public ResponseEntity<CalendarFeedDto> getGroupFeed(@PathVariable UUID groupId) {
+        return ResponseEntity.ok(scheduleApi.getGroupCalendarFeed(groupId));
+    }
+
+    @GetMapping("/feed/{token}.ics")
+    @Operation(summary = "Calendar feed (ICS)", description = "Public; the token authenticates. Returns text/calendar with a strong ETag and Last-Modified; conditional requests for an unchanged feed get 304 without a body.")
+    public void getFeed(@PathVariable String token, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        CalendarFeedContent content = scheduleApi.findCalendarFeedContent(token)
+                .orElseThrow(ScheduleErrors::calendarFeedNotFound);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(content.etag(), content.lastModified().toEpochMilli())) {
+            return;
+        }
+        response.setContentType(CALENDAR_CONTENT_TYPE);
+        response.setContentLength(content.body().length);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"schedule.ics\"");
+        response.getOutputStream().write(content.body());
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication.getPrincipal() == null) {
+            throw Errors.unauthorized("Authentication required");
+        }
+        Object principal = authentication.getPrincipal();
+        try {
+            // TokenClaims is a record with userId field
+            return (UUID) principal.getClass().getMethod("userId").invoke(principal);
+        } catch (Exception e) {
+            throw Errors.unauthorized("Invalid authentication token");
+        }
+    }
+}
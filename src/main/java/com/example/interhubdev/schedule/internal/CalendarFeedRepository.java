@@ -0,0 +1,13 @@
+package com.example.interhubdev.schedule.internal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+interface CalendarFeedRepository extends JpaRepository<CalendarFeed, UUID> {
+
+    Optional<CalendarFeed> findByToken(String token);
+
+    Optional<CalendarFeed> findByOwnerTypeAndOwnerId(CalendarFeed.OwnerType ownerType, UUID ownerId);
+}
@@ -0,0 +1,444 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.schedule.CalendarFeedContent;
+import com.example.interhubdev.schedule.CalendarFeedDto;
+import com.example.interhubdev.schedule.GroupLookupPort;
+import com.example.interhubdev.schedule.GroupSummaryDto;
+import com.example.interhubdev.schedule.LessonForScheduleDto;
+import com.example.interhubdev.schedule.OfferingLookupPort;
+import com.example.interhubdev.schedule.SemesterLookupPort;
+import com.example.interhubdev.schedule.StudentLookupPort;
+import com.example.interhubdev.schedule.TeacherLookupPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * iCalendar subscription feeds: a semester of a user's (student and teacher) or a group's lessons.
+ * <p>
+ * Rendered feeds are cached in memory per token with a strong ETag (hash of the body) and Last-Modified
+ * (latest lesson update), least recently used feeds evicted once the bodies exceed {@code max-cache-size}.
+ * A poll of an unchanged feed is answered from the cache without database access. Lesson writes of this
+ * instance are routed to the affected feeds by {@link CalendarFeedChangeTracker}; the next request re-renders
+ * only those lessons and splices them into the body, whose other events are copied from the previous body
+ * (only their offsets are kept, not a second copy of their text). Every {@code revalidate-after} a feed compares its
+ * scope and a lesson fingerprint (count, max(updatedAt)) with the database to pick up writes of other
+ * instances, and every {@code rebuild-after} it is rendered from scratch (e.g. renamed rooms); the ETag
+ * only changes if the body does.
+ */
+@Service
+@Slf4j
+class CalendarFeedService {
+
+    static final String FEED_PATH = "/api/schedule/calendar/feed/";
+    static final String FEED_SUFFIX = ".ics";
+    private static final int TOKEN_BYTES = 32;
+    /** Approximate heap cost of a cached feed and of each indexed event besides the body bytes. */
+    private static final int FEED_OVERHEAD_BYTES = 1024;
+    private static final int EVENT_OVERHEAD_BYTES = 160;
+    private static final Comparator<EventSlot> EVENT_ORDER = Comparator.comparing(EventSlot::date)
+            .thenComparing(EventSlot::startTime)
+            .thenComparing(EventSlot::uid);
+
+    private final CalendarFeedRepository feedRepository;
+    private final LessonRepository lessonRepository;
+    private final ScheduleLessonService lessonService;
+    private final CalendarFeedChangeTracker changeTracker;
+    private final SemesterLookupPort semesterLookupPort;
+    private final OfferingLookupPort offeringLookupPort;
+    private final StudentLookupPort studentLookupPort;
+    private final TeacherLookupPort teacherLookupPort;
+    private final GroupLookupPort groupLookupPort;
+    private final Duration revalidateAfter;
+    private final Duration rebuildAfter;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final WeightedLruCache<String, CachedFeed> cache;
+
+    CalendarFeedService(
+            CalendarFeedRepository feedRepository,
+            LessonRepository lessonRepository,
+            ScheduleLessonService lessonService,
+            CalendarFeedChangeTracker changeTracker,
+            SemesterLookupPort semesterLookupPort,
+            OfferingLookupPort offeringLookupPort,
+            StudentLookupPort studentLookupPort,
+            TeacherLookupPort teacherLookupPort,
+            GroupLookupPort groupLookupPort,
+            @Value("${app.schedule.calendar.revalidate-after:PT5M}") Duration revalidateAfter,
+            @Value("${app.schedule.calendar.rebuild-after:PT1H}") Duration rebuildAfter,
+            @Value("${app.schedule.calendar.max-cache-size:64MB}") DataSize maxCacheSize
+    ) {
+        this.feedRepository = feedRepository;
+        this.lessonRepository = lessonRepository;
+        this.lessonService = lessonService;
+        this.changeTracker = changeTracker;
+        this.semesterLookupPort = semesterLookupPort;
+        this.offeringLookupPort = offeringLookupPort;
+        this.studentLookupPort = studentLookupPort;
+        this.teacherLookupPort = teacherLookupPort;
+        this.groupLookupPort = groupLookupPort;
+        this.revalidateAfter = revalidateAfter;
+        this.rebuildAfter = rebuildAfter;
+        this.cache = new WeightedLruCache<>(maxCacheSize.toBytes(), feed -> feed.weight,
+                (token, feed) -> changeTracker.untrack(token));
+    }
+
+    /**
+     * The owner's feed, created with a new token on first request.
+     */
+    @Transactional
+    CalendarFeedDto getOrCreate(CalendarFeed.OwnerType ownerType, UUID ownerId) {
+        CalendarFeed feed = feedRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId)
+                .orElseGet(() -> feedRepository.save(CalendarFeed.builder()
+                        .ownerType(ownerType)
+                        .ownerId(ownerId)
+                        .token(newToken())
+                        .build()));
+        return toDto(feed);
+    }
+
+    /**
+     * Replace the owner's token; the previous feed URL stops working.
+     */
+    @Transactional
+    CalendarFeedDto rotate(CalendarFeed.OwnerType ownerType, UUID ownerId) {
+        Optional<CalendarFeed> existing = feedRepository.findByOwnerTypeAndOwnerId(ownerType, ownerId);
+        if (existing.isEmpty()) {
+            return getOrCreate(ownerType, ownerId);
+        }
+        CalendarFeed feed = existing.get();
+        evict(feed.getToken());
+        feed.setToken(newToken());
+        return toDto(feedRepository.save(feed));
+    }
+
+    /**
+     * Rendered feed for the token; empty if the token is unknown. Served from the cache when nothing changed.
+     */
+    Optional<CalendarFeedContent> render(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        CachedFeed cached = cache.get(token);
+        if (cached == null) {
+            Optional<CalendarFeed> feed = feedRepository.findByToken(token);
+            if (feed.isEmpty()) {
+                return Optional.empty();
+            }
+            CachedFeed created = new CachedFeed(feed.get());
+            CachedFeed raced = cache.putIfAbsent(token, created);
+            cached = raced != null ? raced : created;
+        }
+        synchronized (cached) {
+            Instant now = Instant.now();
+            CalendarFeedChangeTracker.Changes changes = changeTracker.drain(token);
+            if (cached.content == null || changes.stale() || cached.builtAt.plus(rebuildAfter).isBefore(now)) {
+                rebuild(cached, now);
+            } else {
+                if (!changes.lessonIds().isEmpty()) {
+                    applyChanges(cached, changes.lessonIds());
+                }
+                if (cached.validatedAt.plus(revalidateAfter).isBefore(now) && !revalidate(cached, now)) {
+                    evict(token);
+                    return Optional.empty();
+                }
+            }
+            cache.reweigh(token);
+            return Optional.of(cached.content);
+        }
+    }
+
+    /**
+     * Compare scope and lesson fingerprint with the database; rebuild if another instance changed them.
+     *
+     * @return false if the token no longer exists
+     */
+    private boolean revalidate(CachedFeed cached, Instant now) {
+        Optional<CalendarFeed> feed = feedRepository.findByToken(cached.token);
+        if (feed.isEmpty()) {
+            return false;
+        }
+        FeedScope scope = resolveScope(feed.get());
+        if (!scope.equals(cached.scope) || !fingerprint(scope).equals(cached.fingerprint)) {
+            rebuild(cached, now);
+        } else {
+            cached.validatedAt = now;
+        }
+        return true;
+    }
+
+    private void rebuild(CachedFeed cached, Instant now) {
+        FeedScope scope = resolveScope(cached.ownerType, cached.ownerId);
+        // Track before loading: writes committed during the load are applied again on the next request.
+        changeTracker.track(cached.token, scope.offeringIds());
+        Fingerprint fingerprint = fingerprint(scope);
+        Map<UUID, RenderedEvent> rendered = new HashMap<>();
+        if (!scope.isEmpty()) {
+            for (LessonForScheduleDto dto : lessonService.findByDateRangeAndOfferingIdsEnriched(
+                    scope.from(), scope.to(), scope.offeringIds())) {
+                if (scope.includes(dto)) {
+                    rendered.put(dto.lesson().id(), render(dto));
+                }
+            }
+        }
+        cached.scope = scope;
+        cached.fingerprint = fingerprint;
+        cached.events = new HashMap<>();
+        cached.builtAt = now;
+        cached.validatedAt = now;
+        publish(cached, rendered);
+        log.debug("Calendar feed {} {} rebuilt with {} lessons", cached.ownerType, cached.ownerId, rendered.size());
+    }
+
+    private void applyChanges(CachedFeed cached, Set<UUID> lessonIds) {
+        Map<UUID, LessonForScheduleDto> current = new HashMap<>();
+        for (LessonForScheduleDto dto : lessonService.findByIdsEnriched(lessonIds)) {
+            current.put(dto.lesson().id(), dto);
+        }
+        Map<UUID, RenderedEvent> rendered = new HashMap<>();
+        for (UUID lessonId : lessonIds) {
+            cached.events.remove(lessonId);
+            LessonForScheduleDto dto = current.get(lessonId);
+            if (dto != null && cached.scope.covers(dto.lesson().date()) && cached.scope.includes(dto)) {
+                rendered.put(lessonId, render(dto));
+            }
+        }
+        cached.fingerprint = fingerprint(cached.scope);
+        publish(cached, rendered);
+    }
+
+    /**
+     * Assemble the body from the kept events (copied from the previous body) and the newly rendered ones;
+     * keep the previous content (and validators) if the bytes match.
+     */
+    private void publish(CachedFeed cached, Map<UUID, RenderedEvent> rendered) {
+        byte[] previousBody = cached.content != null ? cached.content.body() : null;
+        List<EventSlot> ordered = Stream.<EventSlot>concat(cached.events.values().stream(), rendered.values().stream())
+                .sorted(EVENT_ORDER)
+                .toList();
+        int estimate = (previousBody != null ? previousBody.length : 0)
+                + rendered.values().stream().mapToInt(e -> e.vevent().length).sum() + 512;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(estimate);
+        out.writeBytes(IcsCalendarWriter.calendarStart(cached.name).getBytes(StandardCharsets.UTF_8));
+        Map<UUID, Event> events = new HashMap<>();
+        for (EventSlot slot : ordered) {
+            int offset = out.size();
+            if (slot instanceof RenderedEvent fresh) {
+                out.writeBytes(fresh.vevent());
+            } else {
+                Event kept = (Event) slot;
+                out.write(previousBody, kept.offset(), kept.length());
+            }
+            events.put(slot.uid(), new Event(slot.uid(), slot.date(), slot.startTime(), slot.updatedAt(),
+                    offset, out.size() - offset));
+        }
+        out.writeBytes(IcsCalendarWriter.calendarEnd().getBytes(StandardCharsets.UTF_8));
+        byte[] body = out.toByteArray();
+        cached.events = events;
+        cached.weight = FEED_OVERHEAD_BYTES + body.length + (long) events.size() * EVENT_OVERHEAD_BYTES;
+        String etag = "\"" + sha256(body) + "\"";
+        CalendarFeedContent previous = cached.content;
+        if (previous != null && previous.etag().equals(etag)) {
+            return;
+        }
+        Instant lastModified = events.values().stream()
+                .map(Event::updatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(cached.createdAt)
+                .truncatedTo(ChronoUnit.SECONDS);
+        if (previous != null && !lastModified.isAfter(previous.lastModified())) {
+            // Body changed without a newer lesson (e.g. a lesson was removed): advance the validator.
+            lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        }
+        cached.content = new CalendarFeedContent(body, etag, lastModified);
+    }
+
+    private RenderedEvent render(LessonForScheduleDto dto) {
+        LocalDateTime updatedAt = dto.lesson().updatedAt();
+        return new RenderedEvent(dto.lesson().id(), dto.lesson().date(), dto.lesson().startTime(),
+                updatedAt != null ? updatedAt.atZone(zone).toInstant() : null,
+                IcsCalendarWriter.event(dto, zone).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private FeedScope resolveScope(CalendarFeed feed) {
+        return resolveScope(feed.getOwnerType(), feed.getOwnerId());
+    }
+
+    private FeedScope resolveScope(CalendarFeed.OwnerType ownerType, UUID ownerId) {
+        Optional<SemesterLookupPort.SemesterRange> semester = semesterLookupPort.findCurrentSemesterRange();
+        if (semester.isEmpty()) {
+            return FeedScope.EMPTY;
+        }
+        LocalDate from = semester.get().startDate();
+        LocalDate to = semester.get().endDate();
+        if (ownerType == CalendarFeed.OwnerType.GROUP) {
+            Set<UUID> offeringIds = Set.copyOf(offeringLookupPort.findOfferingIdsByGroupId(ownerId));
+            return new FeedScope(from, to, offeringIds, offeringIds, null);
+        }
+        Set<UUID> studentOfferingIds = new HashSet<>();
+        if (studentLookupPort.hasStudentProfile(ownerId)) {
+            for (UUID groupId : studentLookupPort.getGroupIdsByUserId(ownerId)) {
+                studentOfferingIds.addAll(offeringLookupPort.findOfferingIdsByGroupId(groupId));
+            }
+        }
+        UUID teacherId = teacherLookupPort.getTeacherIdByUserId(ownerId).orElse(null);
+        Set<UUID> offeringIds = new HashSet<>(studentOfferingIds);
+        if (teacherId != null) {
+            offeringIds.addAll(offeringLookupPort.findOfferingIdsByTeacherId(teacherId));
+        }
+        return new FeedScope(from, to, Set.copyOf(offeringIds), Set.copyOf(studentOfferingIds), teacherId);
+    }
+
+    private Fingerprint fingerprint(FeedScope scope) {
+        if (scope.isEmpty()) {
+            return new Fingerprint(0, null);
+        }
+        List<Object[]> rows = lessonRepository.summarizeByOfferingIdInAndDateBetween(
+                scope.offeringIds(), scope.from(), scope.to());
+        Object[] row = rows.isEmpty() ? new Object[]{0L, null} : rows.get(0);
+        return new Fingerprint(row[0] != null ? ((Number) row[0]).longValue() : 0, (LocalDateTime) row[1]);
+    }
+
+    private String feedName(CalendarFeed.OwnerType ownerType, UUID ownerId) {
+        if (ownerType == CalendarFeed.OwnerType.GROUP) {
+            GroupSummaryDto group = groupLookupPort.getGroupSummaries(List.of(ownerId)).get(ownerId);
+            return group != null && group.code() != null ? "Timetable " + group.code() : "Group timetable";
+        }
+        return "My timetable";
+    }
+
+    private void evict(String token) {
+        cache.remove(token);
+        changeTracker.untrack(token);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static CalendarFeedDto toDto(CalendarFeed feed) {
+        return new CalendarFeedDto(feed.getToken(), FEED_PATH + feed.getToken() + FEED_SUFFIX);
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Lessons a feed shows: the semester's lessons of the student's offerings, plus the lessons the teacher
+     * conducts (slot teacher, else the offering's main teacher) among the teacher's offerings.
+     */
+    private record FeedScope(LocalDate from, LocalDate to, Set<UUID> offeringIds,
+                             Set<UUID> studentOfferingIds, UUID teacherId) {
+
+        static final FeedScope EMPTY = new FeedScope(null, null, Set.of(), Set.of(), null);
+
+        boolean isEmpty() {
+            return from == null || offeringIds.isEmpty();
+        }
+
+        boolean covers(LocalDate date) {
+            return from != null && !date.isBefore(from) && !date.isAfter(to);
+        }
+
+        boolean includes(LessonForScheduleDto dto) {
+            if (studentOfferingIds.contains(dto.lesson().offeringId())) {
+                return true;
+            }
+            return teacherId != null && dto.mainTeacher() != null && teacherId.equals(dto.mainTeacher().id());
+        }
+    }
+
+    private record Fingerprint(long count, LocalDateTime maxUpdatedAt) {
+    }
+
+    /**
+     * Sort key of an event in the body.
+     */
+    private interface EventSlot {
+        UUID uid();
+
+        LocalDate date();
+
+        LocalTime startTime();
+
+        Instant updatedAt();
+    }
+
+    /**
+     * An event of the current body: its VEVENT is the body's bytes [offset, offset + length).
+     */
+    private record Event(UUID uid, LocalDate date, LocalTime startTime, Instant updatedAt,
+                         int offset, int length) implements EventSlot {
+    }
+
+    /**
+     * A VEVENT rendered for the next body (UTF-8).
+     */
+    private record RenderedEvent(UUID uid, LocalDate date, LocalTime startTime, Instant updatedAt,
+                                 byte[] vevent) implements EventSlot {
+    }
+
+    /**
+     * Cached state of one feed; guarded by its own monitor.
+     */
+    private final class CachedFeed {
+        private final String token;
+        private final CalendarFeed.OwnerType ownerType;
+        private final UUID ownerId;
+        private final String name;
+        private final Instant createdAt;
+        private FeedScope scope = FeedScope.EMPTY;
+        private Fingerprint fingerprint;
+        private Map<UUID, Event> events = new HashMap<>();
+        private CalendarFeedContent content;
+        private Instant builtAt = Instant.EPOCH;
+        private Instant validatedAt = Instant.EPOCH;
+        /** Approximate bytes held, read by the cache without the feed's monitor. */
+        private volatile long weight = FEED_OVERHEAD_BYTES;
+
+        private CachedFeed(CalendarFeed feed) {
+            this.token = feed.getToken();
+            this.ownerType = feed.getOwnerType();
+            this.ownerId = feed.getOwnerId();
+            this.name = feedName(feed.getOwnerType(), feed.getOwnerId());
+            this.createdAt = feed.getCreatedAt().atZone(zone).toInstant();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.schedule.LessonDto;
+import com.example.interhubdev.schedule.LessonForScheduleDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders lessons as iCalendar (RFC 5545) VEVENTs. Times are written in UTC (converted from the server zone),
+ * so no VTIMEZONE is needed; DTSTAMP and LAST-MODIFIED come from the lesson's updatedAt, so an unchanged
+ * lesson always renders to the same bytes. Do not instantiate.
+ */
+final class IcsCalendarWriter {
+
+    private static final String CRLF = "\r\n";
+    /** Maximum line length in octets before folding (RFC 5545 section 3.1). */
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private IcsCalendarWriter() {
+    }
+
+    /**
+     * One VEVENT block (folded, CRLF-terminated lines).
+     */
+    static String event(LessonForScheduleDto dto, ZoneId zone) {
+        LessonDto lesson = dto.lesson();
+        StringBuilder out = new StringBuilder(512);
+        line(out, "BEGIN:VEVENT");
+        line(out, "UID:" + lesson.id() + "@interhubdev");
+        String stamp = utc(lesson.updatedAt() != null ? lesson.updatedAt() : lesson.createdAt(), zone);
+        line(out, "DTSTAMP:" + stamp);
+        line(out, "LAST-MODIFIED:" + stamp);
+        line(out, "DTSTART:" + utc(LocalDateTime.of(lesson.date(), lesson.startTime()), zone));
+        line(out, "DTEND:" + utc(LocalDateTime.of(lesson.date(), lesson.endTime()), zone));
+        line(out, "SUMMARY:" + escape(summary(dto)));
+        if (dto.room() != null) {
+            String location = dto.room().buildingName() != null
+                    ? dto.room().buildingName() + ", " + dto.room().number()
+                    : dto.room().number();
+            line(out, "LOCATION:" + escape(location));
+        }
+        String description = description(dto);
+        if (!description.isEmpty()) {
+            line(out, "DESCRIPTION:" + escape(description));
+        }
+        line(out, "STATUS:" + ("CANCELLED".equalsIgnoreCase(lesson.status()) ? "CANCELLED" : "CONFIRMED"));
+        line(out, "END:VEVENT");
+        return out.toString();
+    }
+
+    /**
+     * Opening lines of the VCALENDAR, up to the first event.
+     */
+    static String calendarStart(String name) {
+        StringBuilder out = new StringBuilder(256);
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//InterHubDev//Schedule//EN");
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "METHOD:PUBLISH");
+        line(out, "X-WR-CALNAME:" + escape(name));
+        return out.toString();
+    }
+
+    /**
+     * Closing line of the VCALENDAR, after the last event.
+     */
+    static String calendarEnd() {
+        StringBuilder out = new StringBuilder(16);
+        line(out, "END:VCALENDAR");
+        return out.toString();
+    }
+
+    private static String summary(LessonForScheduleDto dto) {
+        String subject = dto.subjectName() != null && !dto.subjectName().isBlank() ? dto.subjectName() : "Lesson";
+        return dto.slot() != null && dto.slot().lessonType() != null
+                ? subject + " (" + dto.slot().lessonType() + ")"
+                : subject;
+    }
+
+    private static String description(LessonForScheduleDto dto) {
+        List<String> parts = new ArrayList<>(3);
+        if (dto.mainTeacher() != null && dto.mainTeacher().displayName() != null) {
+            parts.add("Teacher: " + dto.mainTeacher().displayName());
+        }
+        if (dto.group() != null) {
+            parts.add("Group: " + (dto.group().code() != null ? dto.group().code() : dto.group().name()));
+        }
+        if (dto.lesson().topic() != null && !dto.lesson().topic().isBlank()) {
+            parts.add("Topic: " + dto.lesson().topic());
+        }
+        return String.join("\n", parts);
+    }
+
+    private static String utc(LocalDateTime local, ZoneId zone) {
+        return local.atZone(zone).withZoneSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+    }
+
+    /**
+     * Escape a TEXT value: backslash, semicolon, comma and newlines.
+     */
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case ';' -> out.append("\\;");
+                case ',' -> out.append("\\,");
+                case '\n' -> out.append("\\n");
+                case '\r' -> { }
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Append a content line, folded at 75 octets without splitting UTF-8 sequences.
+     */
+    static void line(StringBuilder out, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.append(CRLF);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.interhubdev.schedule.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC batch insert of generated lessons. Bypasses the persistence context: a semester of lessons is
+ * written in a few round trips instead of one INSERT (and one managed entity) per lesson.
+ * Callers assign ids and dedup against existing lessons beforehand.
+ */
+@Component
+@RequiredArgsConstructor
+class LessonBatchWriter {
+
+    /** Statements per JDBC batch. */
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO lesson (id, offering_id, offering_slot_id, date, start_time, end_time,
+                                timeslot_id, room_id, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the lessons (ids must be set).
+     */
+    void insert(List<Lesson> lessons) {
+        if (lessons.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, lessons, BATCH_SIZE, (ps, lesson) -> {
+            ps.setObject(1, lesson.getId());
+            ps.setObject(2, lesson.getOfferingId());
+            ps.setObject(3, lesson.getOfferingSlotId());
+            ps.setDate(4, Date.valueOf(lesson.getDate()));
+            ps.setTime(5, Time.valueOf(lesson.getStartTime()));
+            ps.setTime(6, Time.valueOf(lesson.getEndTime()));
+            ps.setObject(7, lesson.getTimeslotId());
+            ps.setObject(8, lesson.getRoomId());
+            ps.setString(9, lesson.getStatus());
+            ps.setTimestamp(10, Timestamp.valueOf(lesson.getCreatedAt()));
+            ps.setTimestamp(11, Timestamp.valueOf(lesson.getUpdatedAt()));
+        });
+    }
+}
@@ -75,4 +75,38 @@ interface LessonRepository extends JpaRepository<Lesson, UUID> {
      */
     @Query("SELECT l.offeringId, l.date FROM Lesson l WHERE l.offeringId IN :ids")
     List<Object[]> findOfferingIdAndDateByOfferingIdIn(Collection<UUID> ids);
+
+    /**
+     * Keys (offeringId, date, startTime, endTime) of the given offerings' lessons in [start, end] (inclusive).
+     * One range query dedups a whole generation batch instead of an exists check per lesson.
+     * Do not call with empty collection.
+     */
+    @Query("SELECT l.offeringId, l.date, l.startTime, l.endTime FROM Lesson l "
+            + "WHERE l.offeringId IN :ids AND l.date >= :start AND l.date <= :end")
+    List<Object[]> findKeysByOfferingIdInAndDateBetween(Collection<UUID> ids, LocalDate start, LocalDate end);
+
+    /**
+     * Booking rows (id, offeringId, offeringSlotId, date, startTime, endTime, roomId) of non-cancelled lessons
+     * in [start, end] (inclusive). Loads the booking interval index without materializing lesson entities.
+     */
+    @Query("SELECT l.id, l.offeringId, l.offeringSlotId, l.date, l.startTime, l.endTime, l.roomId FROM Lesson l "
+            + "WHERE l.date >= :start AND l.date <= :end AND l.status <> 'cancelled'")
+    List<Object[]> findBookingsByDateBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Booking rows (id, offeringId, offeringSlotId, roomId) of non-cancelled lessons on the date whose time
+     * overlaps [start, end). Authoritative check for a single lesson write.
+     */
+    @Query("SELECT l.id, l.offeringId, l.offeringSlotId, l.roomId FROM Lesson l "
+            + "WHERE l.date = :date AND l.startTime < :end AND l.endTime > :start AND l.status <> 'cancelled'")
+    List<Object[]> findBookingsOverlapping(LocalDate date, LocalTime start, LocalTime end);
+
+    /**
+     * (count, max(updatedAt)) of the given offerings' lessons in [start, end] (inclusive): a cheap change
+     * fingerprint for calendar feeds (a delete lowers the count, any write raises max(updatedAt)).
+     * Do not call with empty collection.
+     */
+    @Query("SELECT COUNT(l), MAX(l.updatedAt) FROM Lesson l "
+            + "WHERE l.offeringId IN :ids AND l.date >= :start AND l.date <= :end")
+    List<Object[]> summarizeByOfferingIdInAndDateBetween(Collection<UUID> ids, LocalDate start, LocalDate end);
 }
@@ -1,6 +1,8 @@
 package com.example.interhubdev.schedule.internal;
 
 import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.schedule.BookingCandidate;
+import com.example.interhubdev.schedule.BookingConflictDto;
 import com.example.interhubdev.schedule.BuildingDto;
 import com.example.interhubdev.schedule.LessonDto;
 import com.example.interhubdev.schedule.internal.ScheduleErrors;
@@ -307,6 +309,23 @@ class ScheduleController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/lessons/conflicts/check")
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Check planned lessons for double-booking", description = "Checks each candidate against stored lessons and earlier candidates of the batch for overlapping lessons in the same room or with the same teacher (slot teacher, else offering main teacher). Nothing is written. Empty list if there are no conflicts.")
+    public ResponseEntity<List<BookingConflictDto>> checkBookingConflicts(
+            @RequestBody @NotNull(message = "Candidates are required") List<BookingCandidate> candidates) {
+        return ResponseEntity.ok(scheduleApi.checkBookingConflicts(candidates));
+    }
+
+    @GetMapping("/conflicts")
+    @PreAuthorize("hasAnyRole('MODERATOR', 'ADMIN', 'SUPER_ADMIN')")
+    @Operation(summary = "Get room and teacher double-bookings", description = "Overlapping lessons in the same room or with the same teacher, dates in [from, to] (at most 366 days). Each pair is reported once, ordered by date and start time. Cancelled lessons are ignored.")
+    public ResponseEntity<List<BookingConflictDto>> findBookingConflicts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(scheduleApi.findBookingConflicts(from, to));
+    }
+
     record CreateBuildingRequest(
             @NotBlank(message = "Name is required") String name,
             String address
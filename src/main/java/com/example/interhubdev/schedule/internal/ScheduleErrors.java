@@ -2,6 +2,7 @@ package com.example.interhubdev.schedule.internal;
 
 import com.example.interhubdev.error.AppException;
 import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.schedule.BookingConflictType;
 import org.springframework.http.HttpStatus;
 
 import java.util.UUID;
@@ -21,6 +22,10 @@ public final class ScheduleErrors {
     public static final String CODE_GROUP_NOT_FOUND = "SCHEDULE_GROUP_NOT_FOUND";
     public static final String CODE_BUILDING_HAS_ROOMS = "SCHEDULE_BUILDING_HAS_ROOMS";
     public static final String CODE_LESSON_ALREADY_EXISTS = "SCHEDULE_LESSON_ALREADY_EXISTS";
+    /** Lesson would double-book a room or a teacher (overlapping lesson on the same date). */
+    public static final String CODE_BOOKING_CONFLICT = "SCHEDULE_BOOKING_CONFLICT";
+    /** Calendar feed token unknown (or rotated). */
+    public static final String CODE_CALENDAR_FEED_NOT_FOUND = "SCHEDULE_CALENDAR_FEED_NOT_FOUND";
     /** User does not have a teacher profile (e.g. GET /lessons/week/teacher by non-teacher user). */
     public static final String CODE_TEACHER_PROFILE_NOT_FOUND = "SCHEDULE_TEACHER_PROFILE_NOT_FOUND";
     /** User does not have a student profile (e.g. GET /lessons/week/student by non-student user). */
@@ -61,6 +66,16 @@ public final class ScheduleErrors {
         return Errors.of(HttpStatus.CONFLICT, CODE_LESSON_ALREADY_EXISTS, "Lesson already exists for this offering, date and time");
     }
 
+    public static AppException bookingConflict(BookingConflictType type, UUID resourceId, UUID conflictingLessonId) {
+        String resource = type == BookingConflictType.ROOM ? "Room " : "Teacher ";
+        return Errors.of(HttpStatus.CONFLICT, CODE_BOOKING_CONFLICT,
+                resource + resourceId + " is already booked at an overlapping time by lesson " + conflictingLessonId);
+    }
+
+    public static AppException calendarFeedNotFound() {
+        return Errors.of(HttpStatus.NOT_FOUND, CODE_CALENDAR_FEED_NOT_FOUND, "Calendar feed not found");
+    }
+
     public static AppException teacherProfileNotFound() {
         return Errors.of(HttpStatus.FORBIDDEN, CODE_TEACHER_PROFILE_NOT_FOUND, "User does not have a teacher profile");
     }
@@ -3,6 +3,8 @@ package com.example.interhubdev.schedule.internal;
 import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.outbox.OutboxEventDraft;
 import com.example.interhubdev.outbox.OutboxIntegrationEventPublisher;
+import com.example.interhubdev.schedule.BookingCandidate;
+import com.example.interhubdev.schedule.BookingConflictDto;
 import com.example.interhubdev.schedule.LessonBulkCreateRequest;
 import com.example.interhubdev.schedule.LessonDto;
 import com.example.interhubdev.schedule.LessonEnrichmentData;
@@ -16,6 +18,7 @@ import com.example.interhubdev.schedule.RoomSummaryDto;
 import com.example.interhubdev.schedule.TeacherLookupPort;
 import com.example.interhubdev.schedule.TeacherSummaryDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,7 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,6 +42,7 @@ import java.util.stream.Collectors;
 /** CRUD for lessons; validates offering via OfferingLookupPort. */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 class ScheduleLessonService {
 
@@ -53,6 +58,9 @@ class ScheduleLessonService {
     private final LessonEnrichmentPort lessonEnrichmentPort;
     private final ScheduleRoomService scheduleRoomService;
     private final TeacherLookupPort teacherLookupPort;
+    private final LessonBatchWriter lessonBatchWriter;
+    private final BookingConflictService bookingConflictService;
+    private final CalendarFeedChangeTracker calendarFeedChangeTracker;
 
     Optional<LessonDto> findById(UUID id) {
         return lessonRepository.findById(id).map(ScheduleMappers::toLessonDto);
@@ -213,6 +221,28 @@ class ScheduleLessonService {
                 .toList();
     }
 
+    /**
+     * Lessons in [from, to] (inclusive) of the given offerings with full enrichment. One range query, then batch
+     * enrichment. Used to render a semester of a calendar feed.
+     */
+    List<LessonForScheduleDto> findByDateRangeAndOfferingIdsEnriched(LocalDate from, LocalDate to, Collection<UUID> offeringIds) {
+        if (offeringIds == null || offeringIds.isEmpty()) {
+            return List.of();
+        }
+        List<LessonDto> lessons = lessonRepository
+                .findByDateBetweenAndOfferingIdInOrderByDateAscStartTimeAsc(from, to, new ArrayList<>(offeringIds)).stream()
+                .map(ScheduleMappers::toLessonDto)
+                .toList();
+        return enrichLessons(lessons);
+    }
+
+    /**
+     * Lessons by ids with full enrichment; missing ids are skipped. Used to re-render changed calendar feed events.
+     */
+    List<LessonForScheduleDto> findByIdsEnriched(Collection<UUID> ids) {
+        return enrichLessons(findByIds(ids));
+    }
+
     private List<LessonForScheduleDto> enrichLessons(List<LessonDto> lessons) {
         if (lessons.isEmpty()) {
             return List.of();
@@ -309,6 +339,9 @@ class ScheduleLessonService {
             throw ScheduleErrors.lessonAlreadyExists();
         }
         String statusForStorage = ScheduleValidation.normalizeLessonStatusForStorage(status);
+        if (!isCancelled(statusForStorage)) {
+            bookingConflictService.assertNoConflict(null, offeringId, offeringSlotId, date, startTime, endTime, roomId);
+        }
         Lesson entity = Lesson.builder()
                 .offeringId(offeringId)
                 .offeringSlotId(offeringSlotId)
@@ -320,7 +353,10 @@ class ScheduleLessonService {
                 .topic(topic != null ? topic.trim() : null)
                 .status(statusForStorage)
                 .build();
-        return ScheduleMappers.toLessonDto(lessonRepository.save(entity));
+        Lesson saved = lessonRepository.save(entity);
+        bookingConflictService.lessonsWritten(List.of(saved));
+        calendarFeedChangeTracker.lessonsChanged(Map.of(saved.getId(), saved.getOfferingId()));
+        return ScheduleMappers.toLessonDto(saved);
     }
 
     /**
@@ -339,6 +375,8 @@ class ScheduleLessonService {
                 .orElseThrow(() -> ScheduleErrors.lessonNotFound(id));
         LocalTime oldStart = entity.getStartTime();
         LocalTime oldEnd = entity.getEndTime();
+        UUID oldRoomId = entity.getRoomId();
+        boolean wasCancelled = isCancelled(entity.getStatus());
         if (startTime != null && endTime != null) {
             if (!endTime.isAfter(startTime)) {
                 throw Errors.badRequest("End time must be after start time");
@@ -355,7 +393,18 @@ class ScheduleLessonService {
             entity.setStatus(ScheduleValidation.normalizeLessonStatusForStorage(status));
         }
         entity.setUpdatedAt(LocalDateTime.now());
-        LessonDto result = ScheduleMappers.toLessonDto(lessonRepository.save(entity));
+        boolean bookingChanged = !Objects.equals(oldStart, entity.getStartTime())
+                || !Objects.equals(oldEnd, entity.getEndTime())
+                || !Objects.equals(oldRoomId, entity.getRoomId())
+                || wasCancelled;
+        if (bookingChanged && !isCancelled(entity.getStatus())) {
+            bookingConflictService.assertNoConflict(id, entity.getOfferingId(), entity.getOfferingSlotId(),
+                    entity.getDate(), entity.getStartTime(), entity.getEndTime(), entity.getRoomId());
+        }
+        Lesson saved = lessonRepository.save(entity);
+        bookingConflictService.lessonsWritten(List.of(saved));
+        calendarFeedChangeTracker.lessonsChanged(Map.of(id, saved.getOfferingId()));
+        LessonDto result = ScheduleMappers.toLessonDto(saved);
 
         boolean timeChanged = (startTime != null || endTime != null)
                 && (!Objects.equals(oldStart, entity.getStartTime()) || !Objects.equals(oldEnd, entity.getEndTime()));
@@ -387,6 +436,8 @@ class ScheduleLessonService {
         UUID offeringId = lesson.getOfferingId();
         LocalDate date = lesson.getDate();
         lessonRepository.delete(lesson);
+        bookingConflictService.lessonDeleted(id);
+        calendarFeedChangeTracker.lessonsChanged(Map.of(id, offeringId));
         java.time.Instant occurredAt = java.time.Instant.now();
         Map<String, Object> payload = Map.of(
                 "lessonId", id.toString(),
@@ -401,16 +452,27 @@ class ScheduleLessonService {
                 .build());
     }
 
+    /**
+     * Create lessons, skipping those that already exist (same offering, date and time) or repeat an earlier request.
+     * Existing lessons are loaded with one range query over all offerings of the batch; new lessons are
+     * written with a JDBC batch insert. Room/teacher double-bookings are not rejected here (generation must not
+     * stop half-way); they are logged and reported by {@link BookingConflictService#findConflicts}.
+     */
     @Transactional
     List<LessonDto> createBulk(List<LessonBulkCreateRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        Set<LessonKey> taken = findExistingKeys(requests);
+        LocalDateTime now = LocalDateTime.now();
         List<Lesson> entities = new ArrayList<>();
         for (LessonBulkCreateRequest req : requests) {
-            if (lessonRepository.existsByOfferingIdAndDateAndStartTimeAndEndTime(
-                    req.offeringId(), req.date(), req.startTime(), req.endTime())) {
+            if (!taken.add(new LessonKey(req.offeringId(), req.date(), req.startTime(), req.endTime()))) {
                 continue;
             }
             String statusForStorage = ScheduleValidation.normalizeLessonStatusForStorage(req.status());
             entities.add(Lesson.builder()
+                    .id(UUID.randomUUID())
                     .offeringId(req.offeringId())
                     .offeringSlotId(req.offeringSlotId())
                     .date(req.date())
@@ -419,16 +481,60 @@ class ScheduleLessonService {
                     .timeslotId(req.timeslotId())
                     .roomId(req.roomId())
                     .status(statusForStorage)
+                    .createdAt(now)
+                    .updatedAt(now)
                     .build());
         }
-        return lessonRepository.saveAll(entities).stream()
+        warnAboutConflicts(entities);
+        lessonBatchWriter.insert(entities);
+        bookingConflictService.lessonsWritten(entities);
+        calendarFeedChangeTracker.lessonsChanged(entities.stream()
+                .collect(Collectors.toMap(Lesson::getId, Lesson::getOfferingId)));
+        return entities.stream()
                 .map(ScheduleMappers::toLessonDto)
                 .toList();
     }
 
+    private Set<LessonKey> findExistingKeys(List<LessonBulkCreateRequest> requests) {
+        Set<UUID> offeringIds = new HashSet<>();
+        LocalDate from = null;
+        LocalDate to = null;
+        for (LessonBulkCreateRequest req : requests) {
+            offeringIds.add(req.offeringId());
+            from = from == null || req.date().isBefore(from) ? req.date() : from;
+            to = to == null || req.date().isAfter(to) ? req.date() : to;
+        }
+        Set<LessonKey> keys = new HashSet<>();
+        for (Object[] row : lessonRepository.findKeysByOfferingIdInAndDateBetween(offeringIds, from, to)) {
+            keys.add(new LessonKey((UUID) row[0], (LocalDate) row[1], (LocalTime) row[2], (LocalTime) row[3]));
+        }
+        return keys;
+    }
+
+    private void warnAboutConflicts(List<Lesson> entities) {
+        List<BookingCandidate> candidates = entities.stream()
+                .filter(l -> !isCancelled(l.getStatus()))
+                .map(l -> new BookingCandidate(l.getOfferingId(), l.getOfferingSlotId(), l.getDate(),
+                        l.getStartTime(), l.getEndTime(), l.getRoomId()))
+                .toList();
+        List<BookingConflictDto> conflicts = bookingConflictService.checkCandidates(candidates);
+        if (!conflicts.isEmpty()) {
+            log.warn("Bulk lesson creation: {} of {} lessons double-book a room or teacher", conflicts.size(), candidates.size());
+        }
+    }
+
+    private static boolean isCancelled(String storedStatus) {
+        return "cancelled".equals(storedStatus);
+    }
+
+    private record LessonKey(UUID offeringId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+    }
+
     @Transactional
     void deleteByOfferingId(UUID offeringId) {
         lessonRepository.deleteByOfferingId(offeringId);
+        bookingConflictService.invalidate();
+        calendarFeedChangeTracker.offeringChanged(offeringId);
     }
 
     /**
@@ -438,11 +544,23 @@ class ScheduleLessonService {
     @Transactional
     void deleteByOfferingIdAndDateBetween(UUID offeringId, LocalDate startInclusive, LocalDate endInclusive) {
         lessonRepository.deleteByOfferingIdAndDateBetween(offeringId, startInclusive, endInclusive);
+        bookingConflictService.invalidate();
+        calendarFeedChangeTracker.offeringChanged(offeringId);
+    }
+
+    /**
+     * Teacher bookings are derived from the offering and its slots; reload them after a reassignment.
+     */
+    void teachersChanged(UUID offeringId) {
+        bookingConflictService.invalidate();
+        calendarFeedChangeTracker.offeringChanged(offeringId);
     }
 
     @Transactional
     void deleteByOfferingSlotId(UUID offeringSlotId) {
         lessonRepository.deleteByOfferingSlotId(offeringSlotId);
+        bookingConflictService.invalidate();
+        calendarFeedChangeTracker.allChanged();
     }
 
     /**
@@ -458,5 +576,8 @@ class ScheduleLessonService {
                         && l.getEndTime().equals(endTime))
                 .toList();
         lessonRepository.deleteAll(lessons);
+        lessons.forEach(lesson -> bookingConflictService.lessonDeleted(lesson.getId()));
+        calendarFeedChangeTracker.lessonsChanged(lessons.stream()
+                .collect(Collectors.toMap(Lesson::getId, Lesson::getOfferingId)));
     }
 }
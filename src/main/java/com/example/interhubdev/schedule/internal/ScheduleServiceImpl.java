@@ -1,6 +1,11 @@
 package com.example.interhubdev.schedule.internal;
 
+import com.example.interhubdev.schedule.BookingCandidate;
+import com.example.interhubdev.schedule.BookingConflictDto;
 import com.example.interhubdev.schedule.BuildingDto;
+import com.example.interhubdev.schedule.CalendarFeedContent;
+import com.example.interhubdev.schedule.CalendarFeedDto;
+import com.example.interhubdev.schedule.GroupLookupPort;
 import com.example.interhubdev.schedule.LessonBulkCreateRequest;
 import com.example.interhubdev.schedule.LessonDto;
 import com.example.interhubdev.schedule.LessonForScheduleDto;
@@ -13,6 +18,7 @@ import com.example.interhubdev.schedule.TimeslotCreateRequest;
 import com.example.interhubdev.schedule.TimeslotDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -35,6 +41,9 @@ class ScheduleServiceImpl implements ScheduleApi {
     private final ScheduleLessonService lessonService;
     private final StudentLookupPort studentLookupPort;
     private final OfferingLookupPort offeringLookupPort;
+    private final BookingConflictService bookingConflictService;
+    private final CalendarFeedService calendarFeedService;
+    private final GroupLookupPort groupLookupPort;
 
     @Override
     public Optional<BuildingDto> findBuildingById(UUID id) {
@@ -243,6 +252,44 @@ class ScheduleServiceImpl implements ScheduleApi {
         return lessonService.createBulk(requests);
     }
 
+    @Override
+    public List<BookingConflictDto> checkBookingConflicts(List<BookingCandidate> candidates) {
+        return bookingConflictService.checkCandidates(candidates);
+    }
+
+    @Override
+    public List<BookingConflictDto> findBookingConflicts(LocalDate from, LocalDate to) {
+        return bookingConflictService.findConflicts(from, to);
+    }
+
+    @Override
+    @Transactional
+    public CalendarFeedDto getUserCalendarFeed(UUID userId) {
+        return calendarFeedService.getOrCreate(CalendarFeed.OwnerType.USER, userId);
+    }
+
+    @Override
+    @Transactional
+    public CalendarFeedDto rotateUserCalendarFeed(UUID userId) {
+        return calendarFeedService.rotate(CalendarFeed.OwnerType.USER, userId);
+    }
+
+    @Override
+    @Transactional
+    public CalendarFeedDto getGroupCalendarFeed(UUID groupId) {
+        if (!groupLookupPort.existsById(groupId)) {
+            throw ScheduleErrors.groupNotFound(groupId);
+        }
+        return calendarFeedService.getOrCreate(CalendarFeed.OwnerType.GROUP, groupId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<CalendarFeedContent> findCalendarFeedContent(String token) {
+        // No transaction (and no connection) for feeds answered from the cache.
+        return calendarFeedService.render(token);
+    }
+
     @Override
     @Transactional
     public void deleteLessonsByOfferingId(UUID offeringId) {
@@ -268,4 +315,9 @@ class ScheduleServiceImpl implements ScheduleApi {
         lessonService.deleteByOfferingIdAndDayOfWeekAndStartTimeAndEndTime(
                 offeringId, dayOfWeek, startTime, endTime);
     }
+
+    @Override
+    public void lessonTeachersChanged(UUID offeringId) {
+        lessonService.teachersChanged(offeringId);
+    }
 }
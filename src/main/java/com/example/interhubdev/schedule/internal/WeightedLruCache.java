@@ -0,0 +1,100 @@
+package com.example.interhubdev.schedule.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Least-recently-used cache bounded by the total weight of its values rather than their count.
+ * <p>
+ * A value's weight is taken when it is added and again on {@link #reweigh(Object)} (values may grow after
+ * insertion). Whenever the total exceeds the budget, least recently used entries are evicted, each in O(1);
+ * the entry being added or reweighed is kept even if it alone exceeds the budget. Thread-safe; the weigher
+ * and eviction listener run under the cache's lock and must not call back into it.
+ */
+final class WeightedLruCache<K, V> {
+
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final BiConsumer<K, V> onEvict;
+    private final LinkedHashMap<K, Weighted<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private record Weighted<V>(V value, long weight) {
+    }
+
+    WeightedLruCache(long maxWeight, ToLongFunction<V> weigher, BiConsumer<K, V> onEvict) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.onEvict = onEvict;
+    }
+
+    synchronized V get(K key) {
+        Weighted<V> entry = entries.get(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    /**
+     * Add the value unless the key is present.
+     *
+     * @return the value already cached for the key, or null if this one was added
+     */
+    synchronized V putIfAbsent(K key, V value) {
+        Weighted<V> existing = entries.get(key);
+        if (existing != null) {
+            return existing.value();
+        }
+        long weight = weigher.applyAsLong(value);
+        entries.put(key, new Weighted<>(value, weight));
+        totalWeight += weight;
+        evictOver(key);
+        return null;
+    }
+
+    /**
+     * Remove the entry without notifying the eviction listener.
+     */
+    synchronized void remove(K key) {
+        Weighted<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight();
+        }
+    }
+
+    /**
+     * Take the value's weight again (no-op if the key was evicted meanwhile) and evict over budget.
+     */
+    synchronized void reweigh(K key) {
+        Weighted<V> entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        long weight = weigher.applyAsLong(entry.value());
+        entries.put(key, new Weighted<>(entry.value(), weight));
+        totalWeight += weight - entry.weight();
+        evictOver(key);
+    }
+
+    synchronized long weight() {
+        return totalWeight;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictOver(K keep) {
+        Iterator<Map.Entry<K, Weighted<V>>> eldest = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && eldest.hasNext()) {
+            Map.Entry<K, Weighted<V>> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            eldest.remove();
+            totalWeight -= entry.getValue().weight();
+            onEvict.accept(entry.getKey(), entry.getValue().value());
+        }
+    }
+}
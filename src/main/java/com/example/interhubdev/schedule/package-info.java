@@ -13,9 +13,12 @@
  *   <li>{@link com.example.interhubdev.schedule.RoomCreateRequest} - request for single or bulk room creation</li>
  *   <li>{@link com.example.interhubdev.schedule.TimeslotCreateRequest} - request for single or bulk timeslot creation</li>
  *   <li>{@link com.example.interhubdev.schedule.LessonBulkCreateRequest} - request item for bulk lesson creation</li>
+ *   <li>{@link com.example.interhubdev.schedule.CalendarFeedDto}, {@link com.example.interhubdev.schedule.CalendarFeedContent} - iCalendar subscription feeds</li>
+ *   <li>{@link com.example.interhubdev.schedule.BookingCandidate}, {@link com.example.interhubdev.schedule.BookingConflictDto},
+ *       {@link com.example.interhubdev.schedule.BookingConflictType} - room/teacher double-booking checks</li>
  *   <li>{@link com.example.interhubdev.schedule.OfferingLookupPort}, {@link com.example.interhubdev.schedule.GroupLookupPort},
  *       {@link com.example.interhubdev.schedule.LessonEnrichmentPort}, {@link com.example.interhubdev.schedule.TeacherLookupPort},
- *       {@link com.example.interhubdev.schedule.RoomExistsPort} - ports</li>
+ *       {@link com.example.interhubdev.schedule.RoomExistsPort}, {@link com.example.interhubdev.schedule.SemesterLookupPort} - ports</li>
  * </ul>
  *
  * <h2>Internal structure</h2>
@@ -25,6 +28,8 @@
  *   <li>{@link com.example.interhubdev.schedule.internal.ScheduleRoomService} - CRUD for rooms (references building)</li>
  *   <li>{@link com.example.interhubdev.schedule.internal.ScheduleTimeslotService} - CRUD for timeslots</li>
  *   <li>{@link com.example.interhubdev.schedule.internal.ScheduleLessonService} - CRUD for lessons (validates offering)</li>
+ *   <li>{@link com.example.interhubdev.schedule.internal.BookingConflictService} - in-memory room/teacher interval index; rejects double-booking on lesson create/update</li>
+ *   <li>{@link com.example.interhubdev.schedule.internal.CalendarFeedService} - ICS feeds per user/group, cached with ETags and updated per changed lesson</li>
  *   <li>{@link com.example.interhubdev.schedule.internal.ScheduleMappers} - entity to DTO mapping</li>
  *   <li>{@link com.example.interhubdev.schedule.internal.ScheduleValidation} - date/time parsing, lesson status</li>
  *   <li>{@link com.example.interhubdev.schedule.internal.ScheduleErrors} - module error codes and factory</li>
@@ -32,18 +37,22 @@
  *
  * <h2>Access control</h2>
  * Write operations (create/update/delete) only for roles: MODERATOR, ADMIN, SUPER_ADMIN. Read operations for all authenticated users.
+ * The ICS feed (GET /api/schedule/calendar/feed/{token}.ics) is public and authenticated by its token.
  *
  * <h2>Dependencies</h2>
  * <ul>
  *   <li>error - all business errors via {@link com.example.interhubdev.error.Errors} or {@link com.example.interhubdev.schedule.internal.ScheduleErrors}</li>
  *   <li>outbox - publish integration events when lesson date/time is changed or lesson is deleted (for student notifications)</li>
  *   <li>offering is used via port {@link com.example.interhubdev.schedule.OfferingLookupPort} (adapter in adapter package)</li>
+ *   <li>academic (current semester) is used via port {@link com.example.interhubdev.schedule.SemesterLookupPort} (adapter in adapter package)</li>
  * </ul>
  *
  * <h2>Error codes (via {@link com.example.interhubdev.schedule.internal.ScheduleErrors} or {@link com.example.interhubdev.error.Errors})</h2>
  * <ul>
  *   <li>SCHEDULE_BUILDING_NOT_FOUND, SCHEDULE_ROOM_NOT_FOUND, SCHEDULE_TIMESLOT_NOT_FOUND, SCHEDULE_LESSON_NOT_FOUND, SCHEDULE_OFFERING_NOT_FOUND, SCHEDULE_GROUP_NOT_FOUND (404)</li>
  *   <li>SCHEDULE_BUILDING_HAS_ROOMS, SCHEDULE_LESSON_ALREADY_EXISTS (409)</li>
+ *   <li>SCHEDULE_CALENDAR_FEED_NOT_FOUND (404) - unknown or rotated calendar feed token</li>
+ *   <li>SCHEDULE_BOOKING_CONFLICT (409) - lesson create/update would overlap another lesson in the same room or with the same teacher</li>
  *   <li>SCHEDULE_TEACHER_PROFILE_NOT_FOUND (403) - user does not have a teacher profile</li>
  *   <li>BAD_REQUEST (400) - building name/room number required; capacity &lt; 0; dayOfWeek not 1..7; invalid date/time format; status not PLANNED/CANCELLED/DONE; endTime not after startTime</li>
  *   <li>VALIDATION_FAILED (400) - request validation failed (@Valid on create/update)</li>
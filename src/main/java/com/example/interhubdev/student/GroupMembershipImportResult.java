@@ -0,0 +1,72 @@
+package com.example.interhubdev.student;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Outcome of a bulk group membership import. Bad rows do not abort the import; they are reported here.
+ *
+ * @param total         rows processed
+ * @param added         memberships created
+ * @param alreadyMember rows that were already memberships (or repeated an earlier row)
+ * @param failed        rows rejected
+ * @param errors        rejected rows ordered by row number; at most {@link #MAX_REPORTED_ERRORS} are listed
+ */
+public record GroupMembershipImportResult(
+        int total,
+        int added,
+        int alreadyMember,
+        int failed,
+        List<RowError> errors
+) {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public static final String CODE_STUDENT_NOT_FOUND = "STUDENT_NOT_FOUND";
+    public static final String CODE_GROUP_NOT_FOUND = "GROUP_NOT_FOUND";
+    public static final String CODE_INVALID_ROW = "INVALID_ROW";
+
+    /**
+     * Rejected row.
+     *
+     * @param row     1-based row number in the source
+     * @param code    one of the {@code CODE_*} constants
+     * @param message human-readable reason
+     */
+    public record RowError(int row, String code, String message) {
+    }
+
+    public static GroupMembershipImportResult empty() {
+        return new GroupMembershipImportResult(0, 0, 0, 0, List.of());
+    }
+
+    /**
+     * Result of rows that were all rejected before reaching the membership table.
+     */
+    public static GroupMembershipImportResult rejected(List<RowError> errors) {
+        return new GroupMembershipImportResult(errors.size(), 0, 0, errors.size(), capped(errors));
+    }
+
+    /**
+     * Combine the results of two disjoint sets of rows (e.g. consecutive chunks of a file).
+     */
+    public GroupMembershipImportResult plus(GroupMembershipImportResult other) {
+        List<RowError> merged = new ArrayList<>(errors.size() + other.errors.size());
+        merged.addAll(errors);
+        merged.addAll(other.errors);
+        return new GroupMembershipImportResult(
+                total + other.total,
+                added + other.added,
+                alreadyMember + other.alreadyMember,
+                failed + other.failed,
+                capped(merged)
+        );
+    }
+
+    private static List<RowError> capped(List<RowError> errors) {
+        return errors.stream()
+                .sorted(Comparator.comparingInt(RowError::row))
+                .limit(MAX_REPORTED_ERRORS)
+                .toList();
+    }
+}
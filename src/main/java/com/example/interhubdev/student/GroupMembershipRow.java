@@ -0,0 +1,26 @@
+package com.example.interhubdev.student;
+
+import java.util.UUID;
+
+/**
+ * One row of a bulk group membership import: a student (by profile id or by student number) and a group.
+ *
+ * @param row           1-based row number in the source (used in error reports)
+ * @param studentId     student profile ID (students.id); null when identified by {@code studentNumber}
+ * @param studentNumber student number (students.student_id); null when identified by {@code studentId}
+ * @param groupId       group ID (already resolved and checked by the caller)
+ */
+public record GroupMembershipRow(
+        int row,
+        UUID studentId,
+        String studentNumber,
+        UUID groupId
+) {
+    public static GroupMembershipRow byId(int row, UUID studentId, UUID groupId) {
+        return new GroupMembershipRow(row, studentId, null, groupId);
+    }
+
+    public static GroupMembershipRow byNumber(int row, String studentNumber, UUID groupId) {
+        return new GroupMembershipRow(row, null, studentNumber, groupId);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.interhubdev.student;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 
@@ -55,24 +56,31 @@ public interface StudentApi {
      * Get all students.
      *
      * @return list of all student profiles
+     * @deprecated unbounded; use {@link #listStudents(UUID, int, String, String, UUID)} and walk the pages
      */
+    @Deprecated
     List<StudentDto> findAll();
 
     /**
-     * List students with cursor-based pagination. Ordered by id ascending.
+     * List students with keyset (cursor) pagination. Ordered by id ascending.
      *
-     * @param cursor optional cursor (last student entity id from previous page); null for first page
-     * @param limit  max items per page (will be capped at 30)
+     * @param cursor    optional cursor (last student entity id from previous page); null for first page
+     * @param limit     max items per page (capped at 1000)
+     * @param faculty   optional filter by faculty; null for any
+     * @param groupName optional filter by legacy group name column; null for any
+     * @param groupId   optional filter by group membership (student_group.id); null for any
      * @return page with items and optional next cursor
      */
-    StudentPage listStudents(UUID cursor, int limit);
+    StudentPage listStudents(UUID cursor, int limit, String faculty, String groupName, UUID groupId);
 
     /**
      * Find students by faculty.
      *
      * @param faculty faculty name
      * @return list of students in the faculty
+     * @deprecated unbounded; use {@link #listStudents(UUID, int, String, String, UUID)} with a faculty filter
      */
+    @Deprecated
     List<StudentDto> findByFaculty(String faculty);
 
     /**
@@ -80,17 +88,36 @@ public interface StudentApi {
      *
      * @param groupName group name
      * @return list of students in the group
+     * @deprecated unbounded; use {@link #listStudents(UUID, int, String, String, UUID)} with a group filter
      */
+    @Deprecated
     List<StudentDto> findByGroupName(String groupName);
 
     /**
      * Find students by group ID (student_group.id). Uses n:m membership table.
+     * Served from the roster cache, which membership changes through this API invalidate on all instances.
      *
      * @param groupId student group UUID
-     * @return list of students in the group
+     * @return immutable list of students in the group
      */
     List<StudentDto> findByGroupId(UUID groupId);
 
+    /**
+     * Profile IDs (students.id) of the group's members, from the roster cache.
+     *
+     * @param groupId student group UUID
+     * @return immutable set; empty if the group has no members
+     */
+    Set<UUID> findStudentIdsByGroupId(UUID groupId);
+
+    /**
+     * Whether the student is a member of the group. O(1) lookup in the cached roster.
+     *
+     * @param studentId student profile ID (students.id)
+     * @param groupId   student group UUID
+     */
+    boolean isGroupMember(UUID studentId, UUID groupId);
+
     /**
      * Count students per group for the given group IDs. Groups with no members have count 0.
      *
@@ -111,12 +138,24 @@ public interface StudentApi {
 
     /**
      * Add multiple students to a group. Idempotent per student (already members are skipped).
+     * Unknown students are reported per row (row = position in {@code studentIds}, 1-based) instead of aborting.
      *
      * @param groupId    group ID
      * @param studentIds list of student profile IDs (students.id); null or empty is no-op
-     * @throws IllegalArgumentException if group not found or any student not found
+     * @return counts and rejected rows
+     * @throws IllegalArgumentException if group not found
+     */
+    GroupMembershipImportResult addToGroupBulk(UUID groupId, List<UUID> studentIds);
+
+    /**
+     * Add memberships for many (student, group) rows across groups, set-based: students are resolved with
+     * one IN query per chunk, existing memberships are subtracted in memory and the rest is batch-inserted
+     * (concurrent duplicates are ignored). Groups must already be resolved and checked by the caller.
+     *
+     * @param rows import rows (empty is no-op)
+     * @return counts and rejected rows (unknown students)
      */
-    void addToGroupBulk(UUID groupId, List<UUID> studentIds);
+    GroupMembershipImportResult addToGroupsBulk(List<GroupMembershipRow> rows);
 
     /**
      * Remove student from a group.
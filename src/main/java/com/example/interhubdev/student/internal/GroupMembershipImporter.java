@@ -0,0 +1,109 @@
+package com.example.interhubdev.student.internal;
+
+import com.example.interhubdev.student.GroupMembershipImportResult;
+import com.example.interhubdev.student.GroupMembershipImportResult.RowError;
+import com.example.interhubdev.student.GroupMembershipRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based bulk group membership engine: resolves all students with IN queries, subtracts existing
+ * memberships in memory and batch-inserts the delta. Unknown students are reported per row.
+ * Runs in the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+class GroupMembershipImporter {
+
+    /** Upper bound of IN-list sizes per query. */
+    static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final StudentRepository studentRepository;
+    private final StudentGroupMemberRepository memberRepository;
+    private final StudentGroupMemberBatchWriter batchWriter;
+
+    GroupMembershipImportResult importRows(List<GroupMembershipRow> rows) {
+        if (rows.isEmpty()) {
+            return GroupMembershipImportResult.empty();
+        }
+        Set<UUID> existingStudentIds = findExistingStudentIds(rows);
+        Map<String, UUID> idsByNumber = findIdsByStudentNumber(rows);
+
+        List<RowError> errors = new ArrayList<>();
+        Set<StudentGroupMemberBatchWriter.Membership> requested = new LinkedHashSet<>();
+        for (GroupMembershipRow row : rows) {
+            UUID studentId = row.studentId() != null
+                    ? (existingStudentIds.contains(row.studentId()) ? row.studentId() : null)
+                    : idsByNumber.get(row.studentNumber());
+            if (studentId == null) {
+                String ref = row.studentId() != null ? row.studentId().toString() : row.studentNumber();
+                errors.add(new RowError(row.row(), GroupMembershipImportResult.CODE_STUDENT_NOT_FOUND,
+                        "Student not found: " + ref));
+            } else {
+                requested.add(new StudentGroupMemberBatchWriter.Membership(studentId, row.groupId()));
+            }
+        }
+
+        List<StudentGroupMemberBatchWriter.Membership> delta = new ArrayList<>(requested);
+        delta.removeAll(findExisting(requested));
+        int added = batchWriter.insertIgnoringExisting(delta);
+        int resolved = rows.size() - errors.size();
+        // Repeated rows and existing memberships (including ones inserted concurrently) count as already member
+        return new GroupMembershipImportResult(resolved, added, resolved - added, 0, List.of())
+                .plus(GroupMembershipImportResult.rejected(errors));
+    }
+
+    private Set<UUID> findExistingStudentIds(List<GroupMembershipRow> rows) {
+        List<UUID> ids = rows.stream().map(GroupMembershipRow::studentId).filter(id -> id != null).distinct().toList();
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            existing.addAll(studentRepository.findExistingIds(ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()))));
+        }
+        return existing;
+    }
+
+    private Map<String, UUID> findIdsByStudentNumber(List<GroupMembershipRow> rows) {
+        List<String> numbers = rows.stream()
+                .filter(r -> r.studentId() == null && r.studentNumber() != null)
+                .map(GroupMembershipRow::studentNumber)
+                .distinct()
+                .toList();
+        Map<String, UUID> result = new HashMap<>();
+        for (int from = 0; from < numbers.size(); from += LOOKUP_CHUNK_SIZE) {
+            for (Object[] row : studentRepository.findIdsByStudentNumbers(
+                    numbers.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, numbers.size())))) {
+                result.put((String) row[0], (UUID) row[1]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Existing memberships among the requested ones: one query per chunk of students.
+     */
+    private Set<StudentGroupMemberBatchWriter.Membership> findExisting(Set<StudentGroupMemberBatchWriter.Membership> requested) {
+        if (requested.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> studentIds = requested.stream().map(StudentGroupMemberBatchWriter.Membership::studentId).distinct().toList();
+        Set<UUID> groupIds = new HashSet<>();
+        requested.forEach(m -> groupIds.add(m.groupId()));
+        Set<StudentGroupMemberBatchWriter.Membership> existing = new HashSet<>();
+        for (int from = 0; from < studentIds.size(); from += LOOKUP_CHUNK_SIZE) {
+            for (Object[] row : memberRepository.findPairs(
+                    studentIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, studentIds.size())), groupIds)) {
+                existing.add(new StudentGroupMemberBatchWriter.Membership((UUID) row[0], (UUID) row[1]));
+            }
+        }
+        return existing;
+    }
+}
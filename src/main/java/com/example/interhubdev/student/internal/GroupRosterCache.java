@@ -0,0 +1,150 @@
+package com.example.interhubdev.student.internal;
+
+import com.example.interhubdev.student.StudentDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Versioned in-memory cache of group rosters (immutable student lists and id sets), keyed by group id.
+ * <p>
+ * Every group has a version that membership writes bump once their transaction completes; an entry is
+ * served only while its version is current, so a load racing with a write is never served after the write.
+ * Writes on other instances arrive through {@link RosterInvalidationBus}. Within a transaction that changed a group, reads of that group bypass the
+ * cache so the transaction sees its own writes and uncommitted rosters are never cached. Entries also expire
+ * after a TTL as a safety net for writes that bypass the student module (e.g. cascading deletes).
+ */
+@Component
+class GroupRosterCache {
+
+    /**
+     * Cached roster of one group.
+     *
+     * @param students   group members (immutable)
+     * @param studentIds their profile ids (immutable), for O(1) membership checks
+     */
+    record Roster(long version, List<StudentDto> students, Set<UUID> studentIds, Instant loadedAt) {
+
+        static Roster of(long version, List<StudentDto> students, Instant loadedAt) {
+            List<StudentDto> copy = List.copyOf(students);
+            Set<UUID> ids = copy.stream().map(StudentDto::id).collect(Collectors.toUnmodifiableSet());
+            return new Roster(version, copy, ids, loadedAt);
+        }
+    }
+
+    private static final Object TX_CHANGED_GROUPS_KEY = GroupRosterCache.class.getName() + ".changedGroups";
+
+    private final Map<UUID, Roster> rosters = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+    private final RosterInvalidationBus invalidationBus;
+    private final Duration ttl;
+    private final int maxGroups;
+    private final Clock clock;
+
+    @Autowired
+    GroupRosterCache(RosterInvalidationBus invalidationBus,
+                     @Value("${app.student.roster-cache.ttl:PT15M}") Duration ttl,
+                     @Value("${app.student.roster-cache.max-groups:5000}") int maxGroups) {
+        this(invalidationBus, ttl, maxGroups, Clock.systemUTC());
+    }
+
+    GroupRosterCache(RosterInvalidationBus invalidationBus, Duration ttl, int maxGroups, Clock clock) {
+        this.invalidationBus = invalidationBus;
+        this.ttl = ttl;
+        this.maxGroups = maxGroups;
+        this.clock = clock;
+    }
+
+    /**
+     * Cached roster of the group, loading it with the loader when missing, outdated or expired.
+     */
+    Roster get(UUID groupId, Supplier<List<StudentDto>> loader) {
+        long currentVersion = versions.getOrDefault(groupId, 0L);
+        if (changedInCurrentTransaction(groupId)) {
+            return Roster.of(currentVersion, loader.get(), clock.instant());
+        }
+        Roster cached = rosters.get(groupId);
+        if (cached != null && cached.version() == currentVersion
+                && cached.loadedAt().plus(ttl).isAfter(clock.instant())) {
+            return cached;
+        }
+        // The version was read before loading: if a write lands meanwhile, this entry is outdated on arrival
+        Roster loaded = Roster.of(currentVersion, loader.get(), clock.instant());
+        rosters.put(groupId, loaded);
+        if (rosters.size() > maxGroups) {
+            evictOldest();
+        }
+        return loaded;
+    }
+
+    /**
+     * Memberships of the groups changed in the current transaction (or just now, if none is active).
+     * The groups are invalidated here and on every other instance once the transaction completes.
+     */
+    void groupsChanged(Collection<UUID> groupIds) {
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAndPublish(Set.copyOf(groupIds));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<UUID> changed = (Set<UUID>) TransactionSynchronizationManager.getResource(TX_CHANGED_GROUPS_KEY);
+        if (changed == null) {
+            Set<UUID> registered = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(TX_CHANGED_GROUPS_KEY, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TX_CHANGED_GROUPS_KEY);
+                    invalidateAndPublish(Set.copyOf(registered));
+                }
+            });
+            changed = registered;
+        }
+        changed.addAll(groupIds);
+    }
+
+    /**
+     * Drop the groups' rosters on this instance (called for local writes and for signals from other instances).
+     */
+    void invalidate(Collection<UUID> groupIds) {
+        for (UUID groupId : groupIds) {
+            versions.merge(groupId, 1L, Long::sum);
+            rosters.remove(groupId);
+        }
+    }
+
+    private void invalidateAndPublish(Set<UUID> groupIds) {
+        invalidate(groupIds);
+        invalidationBus.publish(groupIds);
+    }
+
+    private static boolean changedInCurrentTransaction(UUID groupId) {
+        Object changed = TransactionSynchronizationManager.getResource(TX_CHANGED_GROUPS_KEY);
+        return changed instanceof Set<?> groups && groups.contains(groupId);
+    }
+
+    private void evictOldest() {
+        rosters.entrySet().stream()
+                .min(Comparator.comparing(e -> e.getValue().loadedAt()))
+                .ifPresent(e -> rosters.remove(e.getKey(), e.getValue()));
+    }
+}
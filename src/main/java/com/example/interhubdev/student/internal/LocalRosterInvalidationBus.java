@@ -0,0 +1,20 @@
+package com.example.interhubdev.student.internal;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * No-op bus for single-instance deployments and tests: the local cache is already invalidated by the writer.
+ */
+@Component
+@ConditionalOnProperty(name = "app.student.roster-cache.broker", havingValue = "local")
+class LocalRosterInvalidationBus implements RosterInvalidationBus {
+
+    @Override
+    public void publish(Set<UUID> groupIds) {
+        // nothing to notify
+    }
+}
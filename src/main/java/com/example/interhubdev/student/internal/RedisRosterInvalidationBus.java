@@ -0,0 +1,71 @@
+package com.example.interhubdev.student.internal;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Cross-instance bus over Redis pub/sub. A message is the sender's instance id followed by the changed
+ * group ids ({@code instanceId|groupId,groupId}); receivers other than the sender drop those rosters.
+ * <p>
+ * Pub/sub is fire-and-forget; a missed message leaves a roster stale at most until its cache TTL expires.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.student.roster-cache.broker", havingValue = "redis", matchIfMissing = true)
+class RedisRosterInvalidationBus implements RosterInvalidationBus, MessageListener {
+
+    static final String CHANNEL = "student:roster-invalidation";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final GroupRosterCache rosterCache;
+
+    RedisRosterInvalidationBus(StringRedisTemplate redisTemplate, @Lazy GroupRosterCache rosterCache) {
+        this.redisTemplate = redisTemplate;
+        this.rosterCache = rosterCache;
+    }
+
+    @Override
+    public void publish(Set<UUID> groupIds) {
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        String ids = groupIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId + "|" + ids);
+        } catch (RuntimeException e) {
+            // Membership writes are already committed; other instances catch up when their entries expire
+            log.warn("Could not publish roster invalidation: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf('|');
+            if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+                return;
+            }
+            List<UUID> groupIds = new ArrayList<>();
+            for (String id : body.substring(separator + 1).split(",")) {
+                groupIds.add(UUID.fromString(id));
+            }
+            rosterCache.invalidate(groupIds);
+        } catch (Exception e) {
+            log.warn("Could not handle roster invalidation message: {}", e.getMessage());
+        }
+    }
+}
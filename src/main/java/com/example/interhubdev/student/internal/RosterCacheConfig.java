@@ -0,0 +1,27 @@
+package com.example.interhubdev.student.internal;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Subscribes this instance to roster invalidations published by other instances.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.student.roster-cache.broker", havingValue = "redis", matchIfMissing = true)
+class RosterCacheConfig {
+
+    @Bean
+    RedisMessageListenerContainer rosterInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisRosterInvalidationBus invalidationBus
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(RedisRosterInvalidationBus.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.interhubdev.student.internal;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Transport that tells the other application instances which group rosters changed.
+ */
+interface RosterInvalidationBus {
+
+    void publish(Set<UUID> groupIds);
+}
@@ -0,0 +1,54 @@
+package com.example.interhubdev.student.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Multi-row insert of group memberships. Rows that already exist (e.g. added concurrently after the
+ * caller computed its delta) are skipped by {@code ON CONFLICT DO NOTHING} on uq_student_group_member.
+ */
+@Component
+@RequiredArgsConstructor
+class StudentGroupMemberBatchWriter {
+
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_PREFIX = "INSERT INTO student_group_member (id, student_id, group_id, created_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?)";
+    private static final String INSERT_SUFFIX = " ON CONFLICT (student_id, group_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    record Membership(UUID studentId, UUID groupId) {
+    }
+
+    /**
+     * Insert the memberships (must be distinct).
+     *
+     * @return number of rows actually inserted
+     */
+    int insertIgnoringExisting(List<Membership> memberships) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < memberships.size(); from += INSERT_BATCH_SIZE) {
+            List<Membership> chunk = memberships.subList(from, Math.min(from + INSERT_BATCH_SIZE, memberships.size()));
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW)) + INSERT_SUFFIX;
+            List<Object> args = new ArrayList<>(chunk.size() * 4);
+            for (Membership m : chunk) {
+                args.add(UUID.randomUUID());
+                args.add(m.studentId());
+                args.add(m.groupId());
+                args.add(now);
+            }
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+}
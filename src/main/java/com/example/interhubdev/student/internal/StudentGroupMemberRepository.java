@@ -2,6 +2,7 @@ package com.example.interhubdev.student.internal;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -23,4 +24,10 @@ interface StudentGroupMemberRepository extends JpaRepository<StudentGroupMember,
      */
     @Query("SELECT m.groupId, COUNT(m) FROM StudentGroupMember m WHERE m.groupId IN :groupIds GROUP BY m.groupId")
     List<Object[]> countByGroupIdIn(Collection<UUID> groupIds);
+
+    /**
+     * Existing memberships among the given students and groups. Returns (studentId, groupId) pairs.
+     */
+    @Query("SELECT m.studentId, m.groupId FROM StudentGroupMember m WHERE m.studentId IN :studentIds AND m.groupId IN :groupIds")
+    List<Object[]> findPairs(@Param("studentIds") Collection<UUID> studentIds, @Param("groupIds") Collection<UUID> groupIds);
 }
@@ -1,7 +1,11 @@
 package com.example.interhubdev.student.internal;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,7 +28,39 @@ interface StudentRepository extends JpaRepository<Student, UUID> {
 
     List<Student> findByGroupName(String groupName);
 
-    List<Student> findFirst31ByOrderByIdAsc();
+    /**
+     * First directory page ordered by id. Filters are optional (null = any): faculty, legacy group name,
+     * and group membership (student_group_member). Callers request limit + 1 to detect a next page.
+     */
+    @Query("SELECT s FROM Student s WHERE (:faculty IS NULL OR s.faculty = :faculty) "
+            + "AND (:groupName IS NULL OR s.groupName = :groupName) "
+            + "AND (:groupId IS NULL OR EXISTS (SELECT m.id FROM StudentGroupMember m "
+            + "WHERE m.studentId = s.id AND m.groupId = :groupId)) ORDER BY s.id")
+    List<Student> findDirectoryPage(@Param("faculty") String faculty, @Param("groupName") String groupName,
+                                    @Param("groupId") UUID groupId, Pageable pageable);
 
-    List<Student> findFirst31ByIdGreaterThanOrderByIdAsc(UUID after);
+    /**
+     * Next directory page: students with id greater than the cursor, same filters as {@link #findDirectoryPage}.
+     */
+    @Query("SELECT s FROM Student s WHERE s.id > :after AND (:faculty IS NULL OR s.faculty = :faculty) "
+            + "AND (:groupName IS NULL OR s.groupName = :groupName) "
+            + "AND (:groupId IS NULL OR EXISTS (SELECT m.id FROM StudentGroupMember m "
+            + "WHERE m.studentId = s.id AND m.groupId = :groupId)) ORDER BY s.id")
+    List<Student> findDirectoryPageAfter(@Param("after") UUID after, @Param("faculty") String faculty,
+                                         @Param("groupName") String groupName, @Param("groupId") UUID groupId,
+                                         Pageable pageable);
+
+    /**
+     * IDs of the given students that exist. Single IN query.
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Resolve student numbers to profile IDs. Single IN query.
+     *
+     * @return rows of [studentId (number), id]
+     */
+    @Query("SELECT s.studentId, s.id FROM Student s WHERE s.studentId IN :studentNumbers")
+    List<Object[]> findIdsByStudentNumbers(@Param("studentNumbers") Collection<String> studentNumbers);
 }
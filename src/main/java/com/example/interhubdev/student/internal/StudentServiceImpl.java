@@ -2,6 +2,8 @@ package com.example.interhubdev.student.internal;
 
 import com.example.interhubdev.group.GroupApi;
 import com.example.interhubdev.student.CreateStudentRequest;
+import com.example.interhubdev.student.GroupMembershipImportResult;
+import com.example.interhubdev.student.GroupMembershipRow;
 import com.example.interhubdev.student.StudentApi;
 import com.example.interhubdev.student.StudentDto;
 import com.example.interhubdev.student.StudentPage;
@@ -9,16 +11,20 @@ import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserApi;
 import com.example.interhubdev.user.UserDto;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of StudentApi.
@@ -28,19 +34,28 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 class StudentServiceImpl implements StudentApi {
 
+    /** Hard upper bound for one directory page; callers apply their own (smaller) configured limits. */
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final StudentRepository studentRepository;
     private final StudentGroupMemberRepository memberRepository;
     private final UserApi userApi;
     private final GroupApi groupApi;
+    private final GroupMembershipImporter membershipImporter;
+    private final GroupRosterCache rosterCache;
 
     StudentServiceImpl(StudentRepository studentRepository,
                        StudentGroupMemberRepository memberRepository,
                        UserApi userApi,
-                       @Lazy GroupApi groupApi) {
+                       @Lazy GroupApi groupApi,
+                       GroupMembershipImporter membershipImporter,
+                       GroupRosterCache rosterCache) {
         this.studentRepository = studentRepository;
         this.memberRepository = memberRepository;
         this.userApi = userApi;
         this.groupApi = groupApi;
+        this.membershipImporter = membershipImporter;
+        this.rosterCache = rosterCache;
     }
 
     @Override
@@ -76,11 +91,12 @@ class StudentServiceImpl implements StudentApi {
     }
 
     @Override
-    public StudentPage listStudents(UUID cursor, int limit) {
-        int capped = Math.min(Math.max(1, limit), 30);
+    public StudentPage listStudents(UUID cursor, int limit, String faculty, String groupName, UUID groupId) {
+        int capped = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(0, capped + 1);
         List<Student> slice = cursor == null
-                ? studentRepository.findFirst31ByOrderByIdAsc()
-                : studentRepository.findFirst31ByIdGreaterThanOrderByIdAsc(cursor);
+                ? studentRepository.findDirectoryPage(faculty, groupName, groupId, pageable)
+                : studentRepository.findDirectoryPageAfter(cursor, faculty, groupName, groupId, pageable);
         boolean hasMore = slice.size() > capped;
         List<Student> pageStudents = hasMore ? slice.subList(0, capped) : slice;
         UUID nextCursor = hasMore ? pageStudents.get(pageStudents.size() - 1).getId() : null;
@@ -106,13 +122,29 @@ class StudentServiceImpl implements StudentApi {
 
     @Override
     public List<StudentDto> findByGroupId(UUID groupId) {
-        List<UUID> studentIds = memberRepository.findByGroupId(groupId).stream()
-                .map(StudentGroupMember::getStudentId)
-                .toList();
-        if (studentIds.isEmpty()) return List.of();
-        return studentRepository.findAllById(studentIds).stream()
-                .map(this::toDto)
-                .toList();
+        return roster(groupId).students();
+    }
+
+    @Override
+    public Set<UUID> findStudentIdsByGroupId(UUID groupId) {
+        return roster(groupId).studentIds();
+    }
+
+    @Override
+    public boolean isGroupMember(UUID studentId, UUID groupId) {
+        return roster(groupId).studentIds().contains(studentId);
+    }
+
+    private GroupRosterCache.Roster roster(UUID groupId) {
+        return rosterCache.get(groupId, () -> {
+            List<UUID> studentIds = memberRepository.findByGroupId(groupId).stream()
+                    .map(StudentGroupMember::getStudentId)
+                    .toList();
+            if (studentIds.isEmpty()) return List.of();
+            return studentRepository.findAllById(studentIds).stream()
+                    .map(this::toDto)
+                    .toList();
+        });
     }
 
     @Override
@@ -147,32 +179,43 @@ class StudentServiceImpl implements StudentApi {
                 .studentId(studentId)
                 .groupId(groupId)
                 .build());
+        rosterCache.groupsChanged(List.of(groupId));
     }
 
     @Override
     @Transactional
-    public void addToGroupBulk(UUID groupId, List<UUID> studentIds) {
-        if (studentIds == null || studentIds.isEmpty()) return;
+    public GroupMembershipImportResult addToGroupBulk(UUID groupId, List<UUID> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) return GroupMembershipImportResult.empty();
         if (groupApi.findGroupById(groupId).isEmpty()) {
             throw new IllegalArgumentException("Group not found: " + groupId);
         }
-        for (UUID studentId : studentIds) {
-            if (studentRepository.findById(studentId).isEmpty()) {
-                throw new IllegalArgumentException("Student not found: " + studentId);
-            }
-            if (!memberRepository.existsByStudentIdAndGroupId(studentId, groupId)) {
-                memberRepository.save(StudentGroupMember.builder()
-                        .studentId(studentId)
-                        .groupId(groupId)
-                        .build());
-            }
+        List<GroupMembershipRow> rows = new ArrayList<>(studentIds.size());
+        for (int i = 0; i < studentIds.size(); i++) {
+            rows.add(GroupMembershipRow.byId(i + 1, studentIds.get(i), groupId));
         }
+        GroupMembershipImportResult result = membershipImporter.importRows(rows);
+        if (result.added() > 0) {
+            rosterCache.groupsChanged(List.of(groupId));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public GroupMembershipImportResult addToGroupsBulk(List<GroupMembershipRow> rows) {
+        if (rows == null || rows.isEmpty()) return GroupMembershipImportResult.empty();
+        GroupMembershipImportResult result = membershipImporter.importRows(rows);
+        if (result.added() > 0) {
+            rosterCache.groupsChanged(rows.stream().map(GroupMembershipRow::groupId).collect(Collectors.toSet()));
+        }
+        return result;
     }
 
     @Override
     @Transactional
     public void removeFromGroup(UUID studentId, UUID groupId) {
         memberRepository.deleteByStudentIdAndGroupId(studentId, groupId);
+        rosterCache.groupsChanged(List.of(groupId));
     }
 
     @Override
@@ -250,7 +293,9 @@ class StudentServiceImpl implements StudentApi {
 
         student.setUpdatedAt(LocalDateTime.now());
 
-        return toDto(studentRepository.save(student));
+        StudentDto updated = toDto(studentRepository.save(student));
+        rosterCache.groupsChanged(groupIdsOf(student.getId()));
+        return updated;
     }
 
     @Override
@@ -259,9 +304,17 @@ class StudentServiceImpl implements StudentApi {
         Student student = studentRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("Student profile not found for user: " + userId));
 
+        // Memberships are removed by the FK cascade; drop the rosters that listed this student
+        rosterCache.groupsChanged(groupIdsOf(student.getId()));
         studentRepository.delete(student);
     }
 
+    private List<UUID> groupIdsOf(UUID studentId) {
+        return memberRepository.findByStudentId(studentId).stream()
+                .map(StudentGroupMember::getGroupId)
+                .toList();
+    }
+
     @Override
     public String studentDisplayName(StudentDto student, String userFullName) {
         return studentDisplayNameOrFallback(student, userFullName);
@@ -11,6 +11,12 @@
  * <h2>Relationship with User</h2>
  * Each Student profile is linked to exactly one User with role=STUDENT (OneToOne).
  * The User entity contains authentication data, while Student contains academic data.
+ *
+ * <h2>Roster cache</h2>
+ * Group rosters ({@code findByGroupId}, {@code findStudentIdsByGroupId}, {@code isGroupMember}) are served from an
+ * in-memory cache. Membership and profile writes through {@link com.example.interhubdev.student.StudentApi}
+ * invalidate it after their transaction completes, on other instances via Redis pub/sub
+ * ({@code app.student.roster-cache.broker}); entries also expire after {@code app.student.roster-cache.ttl}.
  */
 @org.springframework.modulith.ApplicationModule(
     displayName = "Student",
@@ -0,0 +1,19 @@
+package com.example.interhubdev.submission;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight projection of a homework submission for tables and lists: no description and no
+ * per-file metadata, only the number of attached files and their total size.
+ * Full submission (with files) is available via {@link SubmissionApi#get(UUID, UUID)}.
+ */
+public record HomeworkSubmissionSummaryDto(
+    UUID id,
+    UUID homeworkId,
+    UUID authorId,
+    LocalDateTime submittedAt,
+    int attachmentCount,
+    long attachmentsSizeBytes
+) {
+}
@@ -1,6 +1,7 @@
 package com.example.interhubdev.submission;
 
 import com.example.interhubdev.error.AppException;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
 import com.example.interhubdev.fileasset.FileAssetUploadCommand;
 
 import java.util.Collection;
@@ -52,6 +53,39 @@ public interface SubmissionApi {
      */
     List<HomeworkSubmissionDto> listByHomeworkIds(Collection<UUID> homeworkIds, UUID requesterId);
 
+    /**
+     * Page of submission summaries (attachment count and total size, no file metadata) for a homework.
+     * Newest first; keyset pagination on (submittedAt, id). Only teachers and admins can list.
+     *
+     * @param homeworkId  homework UUID (must exist)
+     * @param cursor      {@link SubmissionSummaryPage#nextCursor()} of the previous page, or null for the first page
+     * @param limit       page size (1..{@value #MAX_SUMMARY_PAGE_SIZE})
+     * @param requesterId current user (must be TEACHER or ADMIN/MODERATOR/SUPER_ADMIN)
+     * @return page of summaries
+     * @throws AppException NOT_FOUND if homework not found, FORBIDDEN if not teacher/admin,
+     *                      BAD_REQUEST if the cursor is malformed
+     */
+    SubmissionSummaryPage listSummariesByHomework(UUID homeworkId, String cursor, int limit, UUID requesterId);
+
+    /**
+     * Page of submission summaries for any of the given homework IDs, in one query bounded by {@code limit}.
+     * Same ordering and cursor as {@link #listSummariesByHomework}. Used by composition for the lesson
+     * submissions table (students × homeworks).
+     *
+     * @param homeworkIds homework UUIDs (must not be null; empty returns an empty page)
+     * @param cursor      {@link SubmissionSummaryPage#nextCursor()} of the previous page, or null for the first page
+     * @param limit       page size (1..{@value #MAX_SUMMARY_PAGE_SIZE})
+     * @param requesterId current user (must be TEACHER or ADMIN/MODERATOR/SUPER_ADMIN)
+     * @return page of summaries
+     * @throws AppException FORBIDDEN if not teacher/admin, BAD_REQUEST if the cursor is malformed
+     */
+    SubmissionSummaryPage listSummariesByHomeworkIds(Collection<UUID> homeworkIds, String cursor, int limit, UUID requesterId);
+
+    /**
+     * Maximum page size of {@link #listSummariesByHomework} and {@link #listSummariesByHomeworkIds}; larger limits are capped.
+     */
+    int MAX_SUMMARY_PAGE_SIZE = 500;
+
     /**
      * Get one submission by id. Only teachers and admins can view.
      *
@@ -108,4 +142,32 @@ public interface SubmissionApi {
      * @throws AppException NOT_FOUND if homework not found, FORBIDDEN if requester has no access
      */
     SubmissionsArchiveHandle buildSubmissionsArchive(UUID homeworkId, UUID requesterId);
+
+    /**
+     * Request a pre-built ZIP archive of all submissions for a homework. The archive is built once in
+     * the background and shared by every permitted requester until a submission of the homework is
+     * created or deleted; repeat requests return the existing archive immediately.
+     * Same access rule as {@link #buildSubmissionsArchive}.
+     *
+     * @param homeworkId  homework UUID
+     * @param requesterId current user (must be teacher of the lesson or admin/moderator)
+     * @return archive job: READY (download by id) or BUILDING (poll {@link #getSubmissionsArchive})
+     * @throws AppException NOT_FOUND if homework not found, FORBIDDEN if requester has no access
+     */
+    SubmissionsArchiveJobDto requestSubmissionsArchive(UUID homeworkId, UUID requesterId);
+
+    /**
+     * Get a pre-built submissions archive by reference (job id).
+     *
+     * @throws AppException NOT_FOUND if the archive job does not exist, FORBIDDEN if requester has no access
+     */
+    SubmissionsArchiveJobDto getSubmissionsArchive(UUID archiveId, UUID requesterId);
+
+    /**
+     * Range-capable download source of a READY pre-built submissions archive.
+     *
+     * @throws AppException NOT_FOUND if the archive job does not exist, FORBIDDEN if requester has no access,
+     *                      CONFLICT if the archive is not ready (building, failed, stale or expired)
+     */
+    FileAssetDownloadSource openSubmissionsArchiveDownload(UUID archiveId, UUID requesterId);
 }
@@ -1,6 +1,7 @@
 package com.example.interhubdev.submission;
 
 import com.example.interhubdev.fileasset.FileAssetDownloadHandle;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +14,9 @@ public interface SubmissionAttachmentApi {
     Optional<SubmissionAttachmentDto> get(UUID attachmentId, UUID requesterId);
 
     FileAssetDownloadHandle download(UUID attachmentId, UUID requesterId);
+
+    /**
+     * Access-checked, range-capable download source for HTTP delivery (Range, ETag, conditional GET).
+     */
+    FileAssetDownloadSource openDownloadSource(UUID attachmentId, UUID requesterId);
 }
@@ -0,0 +1,19 @@
+package com.example.interhubdev.submission;
+
+import java.util.List;
+
+/**
+ * Keyset page of submission summaries, newest first (submittedAt DESC, id DESC).
+ * {@code nextCursor} is an opaque token to pass back for the next page.
+ */
+public record SubmissionSummaryPage(
+        List<HomeworkSubmissionSummaryDto> items,
+        String nextCursor
+) {
+    /**
+     * True if there are more items (next page available).
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.interhubdev.submission;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pre-built ZIP archive of a homework's submissions.
+ * Download it via {@code GET /api/submission-archives/{id}/download} once {@link #status()} is READY.
+ *
+ * @param id          archive reference (job id)
+ * @param homeworkId  homework the archive belongs to
+ * @param status      current state
+ * @param filename    archive filename (e.g. "Subject - Homework - 2025-02-21.zip"); null until READY
+ * @param sizeBytes   archive size; null until READY
+ * @param requestedAt when the archive was first requested
+ * @param completedAt when building finished (READY or FAILED); null otherwise
+ * @param failureMessage reason of a FAILED build; null otherwise
+ */
+public record SubmissionsArchiveJobDto(
+    UUID id,
+    UUID homeworkId,
+    SubmissionsArchiveJobStatus status,
+    String filename,
+    Long sizeBytes,
+    LocalDateTime requestedAt,
+    LocalDateTime completedAt,
+    String failureMessage
+) {
+}
@@ -0,0 +1,23 @@
+package com.example.interhubdev.submission;
+
+/**
+ * State of a pre-built submissions archive.
+ */
+public enum SubmissionsArchiveJobStatus {
+    /**
+     * Archive is queued or being built; poll the job until it is {@link #READY}.
+     */
+    BUILDING,
+    /**
+     * Archive is stored and can be downloaded by reference (supports Range requests).
+     */
+    READY,
+    /**
+     * Building failed; request a new archive.
+     */
+    FAILED,
+    /**
+     * Submissions changed after the archive was built, or the stored archive expired; request a new archive.
+     */
+    STALE
+}
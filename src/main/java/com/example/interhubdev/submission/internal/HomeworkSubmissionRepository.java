@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -39,6 +40,62 @@ interface HomeworkSubmissionRepository extends JpaRepository<HomeworkSubmission,
     @Query("SELECT s FROM HomeworkSubmission s WHERE s.homeworkId IN :homeworkIds")
     List<HomeworkSubmission> findByHomeworkIdIn(@Param("homeworkIds") Collection<UUID> homeworkIds);
 
+    /**
+     * First page of submission summaries for the given homeworks, newest first.
+     * The page is cut on idx_homework_submission_homework_submitted before attachments are joined,
+     * so only {@code limit} submissions are aggregated.
+     *
+     * @return rows of [id, homework_id, author_id, submitted_at, attachment_count, attachments_size_bytes]
+     */
+    @Query(value = """
+        SELECT s.id, s.homework_id, s.author_id, s.submitted_at,
+               COUNT(sa.file_asset_id) AS attachment_count,
+               COALESCE(SUM(fa.size_bytes), 0) AS attachments_size_bytes
+        FROM (
+            SELECT id, homework_id, author_id, submitted_at
+            FROM homework_submission
+            WHERE homework_id IN (:homeworkIds)
+            ORDER BY submitted_at DESC, id DESC
+            LIMIT :limit
+        ) s
+        LEFT JOIN submission_attachment sa ON sa.submission_id = s.id
+        LEFT JOIN file_asset fa ON fa.id = sa.file_asset_id
+        GROUP BY s.id, s.homework_id, s.author_id, s.submitted_at
+        ORDER BY s.submitted_at DESC, s.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findSummariesByHomeworkIdIn(
+        @Param("homeworkIds") Collection<UUID> homeworkIds,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Next page of submission summaries: rows strictly after the keyset position (submittedAt, id) in
+     * newest-first order. Same columns as {@link #findSummariesByHomeworkIdIn}.
+     */
+    @Query(value = """
+        SELECT s.id, s.homework_id, s.author_id, s.submitted_at,
+               COUNT(sa.file_asset_id) AS attachment_count,
+               COALESCE(SUM(fa.size_bytes), 0) AS attachments_size_bytes
+        FROM (
+            SELECT id, homework_id, author_id, submitted_at
+            FROM homework_submission
+            WHERE homework_id IN (:homeworkIds)
+              AND (submitted_at, id) < (:cursorSubmittedAt, :cursorId)
+            ORDER BY submitted_at DESC, id DESC
+            LIMIT :limit
+        ) s
+        LEFT JOIN submission_attachment sa ON sa.submission_id = s.id
+        LEFT JOIN file_asset fa ON fa.id = sa.file_asset_id
+        GROUP BY s.id, s.homework_id, s.author_id, s.submitted_at
+        ORDER BY s.submitted_at DESC, s.id DESC
+        """, nativeQuery = true)
+    List<Object[]> findSummariesByHomeworkIdInAfter(
+        @Param("homeworkIds") Collection<UUID> homeworkIds,
+        @Param("cursorSubmittedAt") LocalDateTime cursorSubmittedAt,
+        @Param("cursorId") UUID cursorId,
+        @Param("limit") int limit
+    );
+
     /**
      * Count distinct homework IDs for which the given author has at least one submission.
      * Used for student "submitted homework count" stat.
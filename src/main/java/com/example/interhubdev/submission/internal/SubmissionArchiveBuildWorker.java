@@ -0,0 +1,188 @@
+package com.example.interhubdev.submission.internal;
+
+import com.example.interhubdev.fileasset.FileAssetApi;
+import com.example.interhubdev.fileasset.FileAssetUploadCommand;
+import com.example.interhubdev.fileasset.FileAssetView;
+import com.example.interhubdev.fileasset.FilePolicyKey;
+import com.example.interhubdev.submission.internal.archive.ArchiveData;
+import com.example.interhubdev.submission.internal.archive.ArchiveNamingService;
+import com.example.interhubdev.submission.internal.archive.ZipArchiveWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds queued submissions archives in the background.
+ * <p>
+ * A claimed job is built outside any transaction: the ZIP is written to a local temp file (entries
+ * prefetched as in the synchronous download), then stored through {@link FileAssetApi#ingest} as a
+ * GENERATED_ARCHIVE asset, and the job is completed only if it was not invalidated meanwhile.
+ * Jobs of builds that stopped (e.g. instance shutdown) are re-queued after {@code build-timeout}.
+ * <p>
+ * The poll only claims jobs, up to the number of free build slots, and hands them to a dedicated pool of
+ * {@code build-parallelism} threads, so the shared scheduler threads are never held by a build.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.submission.archive.jobs.enabled", havingValue = "true", matchIfMissing = true)
+class SubmissionArchiveBuildWorker {
+
+    private static final String ARCHIVE_CONTENT_TYPE = "application/zip";
+
+    private final SubmissionArchiveJobService jobService;
+    private final SubmissionServiceImpl submissionService;
+    private final SubmissionAttachmentService submissionAttachmentService;
+    private final FileAssetApi fileAssetApi;
+    private final SubmissionArchivePrefetchPool prefetchPool;
+    private final ExecutorService builders;
+    private final int buildParallelism;
+    private final AtomicInteger buildsInFlight = new AtomicInteger();
+
+    @Value("${app.submission.archive.jobs.max-builds-per-run:4}")
+    private int maxBuildsPerRun;
+
+    @Value("${app.submission.archive.jobs.build-timeout:PT30M}")
+    private Duration buildTimeout;
+
+    @Value("${app.submission.archive.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.submission.archive.jobs.finished-retention:P30D}")
+    private Duration finishedRetention;
+
+    @Value("${app.submission.archive.prefetch-depth:4}")
+    private int prefetchDepth;
+
+    @Value("${app.submission.archive.prefetch-buffer-bytes:2097152}")
+    private int prefetchBufferBytes;
+
+    SubmissionArchiveBuildWorker(
+        SubmissionArchiveJobService jobService,
+        SubmissionServiceImpl submissionService,
+        SubmissionAttachmentService submissionAttachmentService,
+        FileAssetApi fileAssetApi,
+        SubmissionArchivePrefetchPool prefetchPool,
+        @Value("${app.submission.archive.jobs.build-parallelism:2}") int buildParallelism
+    ) {
+        this.jobService = jobService;
+        this.submissionService = submissionService;
+        this.submissionAttachmentService = submissionAttachmentService;
+        this.fileAssetApi = fileAssetApi;
+        this.prefetchPool = prefetchPool;
+        this.buildParallelism = Math.max(1, buildParallelism);
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.builders = Executors.newFixedThreadPool(this.buildParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "archive-build-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.submission.archive.jobs.poll-interval:5000}")
+    void buildPendingArchives() {
+        jobService.recoverStaleBuilds(buildTimeout, maxAttempts);
+        int claims = Math.min(maxBuildsPerRun, buildParallelism - buildsInFlight.get());
+        for (int i = 0; i < claims; i++) {
+            Optional<SubmissionArchiveJobService.ClaimedBuild> claimed = jobService.claimNext();
+            if (claimed.isEmpty()) {
+                return;
+            }
+            SubmissionArchiveJobService.ClaimedBuild build = claimed.get();
+            buildsInFlight.incrementAndGet();
+            try {
+                builders.execute(() -> {
+                    try {
+                        build(build);
+                    } finally {
+                        buildsInFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                buildsInFlight.decrementAndGet();
+                log.warn("Archive build pool is shut down; job {} is re-queued after its timeout", build.jobId());
+                return;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${app.submission.archive.jobs.purge-cron:0 15 4 * * *}")
+    void purgeFinishedJobs() {
+        int purged = jobService.purgeFinishedBefore(LocalDateTime.now().minus(finishedRetention));
+        if (purged > 0) {
+            log.info("Purged {} finished submissions archive job(s)", purged);
+        }
+    }
+
+    private void build(SubmissionArchiveJobService.ClaimedBuild build) {
+        long startedAt = System.nanoTime();
+        Path tempFile = null;
+        try {
+            ArchiveData data = submissionService.loadArchiveData(build.homeworkId(), build.requestedBy());
+            String filename = ArchiveNamingService.buildArchiveFilename(data.info());
+            tempFile = Files.createTempFile("submissions-archive-", ".zip");
+            ZipArchiveWriter.Prefetch prefetch = new ZipArchiveWriter.Prefetch(prefetchDepth, prefetchBufferBytes);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                ZipArchiveWriter.write(out, data.info(), data.entries(), entry ->
+                    submissionAttachmentService.download(entry.attachmentId(), build.requestedBy()).stream(), prefetch, prefetchPool.executor());
+            }
+            long sizeBytes = Files.size(tempFile);
+            FileAssetView asset = fileAssetApi.ingest(new FileAssetUploadCommand(
+                tempFile, filename, ARCHIVE_CONTENT_TYPE, sizeBytes, build.requestedBy(), FilePolicyKey.GENERATED_ARCHIVE));
+            if (jobService.complete(build, asset.id(), filename, sizeBytes)) {
+                log.info("Built submissions archive: jobId={}, homeworkId={}, entries={}, bytes={}, tookMs={}",
+                    build.jobId(), build.homeworkId(), data.entries().size(), sizeBytes,
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            } else {
+                log.info("Discarding outdated submissions archive: jobId={}, homeworkId={}", build.jobId(), build.homeworkId());
+                discard(asset);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to build submissions archive: jobId={}, homeworkId={} - {}",
+                build.jobId(), build.homeworkId(), e.getMessage());
+            jobService.fail(build, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        builders.shutdownNow();
+    }
+
+    private void discard(FileAssetView asset) {
+        try {
+            fileAssetApi.markDeleted(asset.id());
+        } catch (RuntimeException e) {
+            // Never claimed: the asset expires after the policy retention anyway.
+            log.debug("Could not delete outdated archive asset {}: {}", asset.id(), e.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp archive {}: {}", file, e.getMessage());
+        }
+    }
+}
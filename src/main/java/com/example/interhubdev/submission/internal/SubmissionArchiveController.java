@@ -0,0 +1,59 @@
+package com.example.interhubdev.submission.internal;
+
+import com.example.interhubdev.auth.AuthApi;
+import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.submission.SubmissionApi;
+import com.example.interhubdev.submission.SubmissionsArchiveJobDto;
+import com.example.interhubdev.web.RangedDownloadSupport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Pre-built submissions archives by reference: status polling and download.
+ * Archives are requested via POST /api/homework/{homeworkId}/submissions/archive/jobs.
+ */
+@RestController
+@RequestMapping("/api/submission-archives")
+@RequiredArgsConstructor
+@Tag(name = "Submission archives", description = "Pre-built ZIP archives of homework submissions. Teacher of the lesson or admin/moderator only.")
+class SubmissionArchiveController {
+
+    private final SubmissionApi submissionApi;
+    private final AuthApi authApi;
+
+    @GetMapping("/{archiveId}")
+    @Operation(summary = "Get submissions archive", description = "Status of a pre-built submissions archive. Poll until READY, then download.")
+    public ResponseEntity<SubmissionsArchiveJobDto> get(
+        @PathVariable UUID archiveId,
+        HttpServletRequest request
+    ) {
+        UUID requesterId = authApi.getCurrentUser(request)
+            .map(user -> user.id())
+            .orElseThrow(() -> Errors.unauthorized("Authentication required"));
+        return ResponseEntity.ok(submissionApi.getSubmissionsArchive(archiveId, requesterId));
+    }
+
+    @GetMapping("/{archiveId}/download")
+    @Operation(summary = "Download submissions archive", description = "Streams a READY pre-built archive. Supports Range requests and conditional GET (ETag / If-None-Match). 409 if the archive is not ready.")
+    public void download(
+        @PathVariable UUID archiveId,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        UUID requesterId = authApi.getCurrentUser(request)
+            .map(user -> user.id())
+            .orElseThrow(() -> Errors.unauthorized("Authentication required"));
+        RangedDownloadSupport.write(request, response, submissionApi.openSubmissionsArchiveDownload(archiveId, requesterId));
+    }
+}
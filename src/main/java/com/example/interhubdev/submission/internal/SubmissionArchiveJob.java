@@ -0,0 +1,81 @@
+package com.example.interhubdev.submission.internal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Background build of a homework's submissions ZIP. A READY job references the stored archive
+ * (a GENERATED_ARCHIVE file asset), which is served to every permitted requester until submissions change.
+ * At most one live (PENDING, BUILDING or READY) job exists per homework.
+ */
+@Entity
+@Table(name = "submission_archive_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+class SubmissionArchiveJob {
+
+    /**
+     * Internal job states; PENDING and BUILDING are both reported as BUILDING to clients.
+     */
+    enum State {
+        PENDING,
+        BUILDING,
+        READY,
+        FAILED,
+        STALE
+    }
+
+    @Id
+    private UUID id;
+
+    @Column(name = "homework_id", nullable = false)
+    private UUID homeworkId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 32)
+    private State status;
+
+    /** User whose permissions are used to read the submissions while building. */
+    @Column(name = "requested_by", nullable = false)
+    private UUID requestedBy;
+
+    /** Incremented on every claim; a build may only complete the attempt it claimed. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "file_asset_id")
+    private UUID fileAssetId;
+
+    @Column(name = "filename", length = 512)
+    private String filename;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "failure_message", length = 1000)
+    private String failureMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
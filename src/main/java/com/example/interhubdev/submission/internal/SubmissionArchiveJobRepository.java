@@ -0,0 +1,147 @@
+package com.example.interhubdev.submission.internal;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+interface SubmissionArchiveJobRepository extends JpaRepository<SubmissionArchiveJob, UUID> {
+
+    /**
+     * The live (PENDING, BUILDING or READY) job of a homework, if any.
+     */
+    @Query("""
+        SELECT j FROM SubmissionArchiveJob j
+        WHERE j.homeworkId = :homeworkId
+          AND j.status IN (com.example.interhubdev.submission.internal.SubmissionArchiveJob.State.PENDING,
+                           com.example.interhubdev.submission.internal.SubmissionArchiveJob.State.BUILDING,
+                           com.example.interhubdev.submission.internal.SubmissionArchiveJob.State.READY)
+        """)
+    Optional<SubmissionArchiveJob> findLiveByHomeworkId(@Param("homeworkId") UUID homeworkId);
+
+    /**
+     * Insert a PENDING job unless the homework already has a live one (uk_submission_archive_job_live).
+     *
+     * @return 1 if inserted, 0 if a live job already exists
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO submission_archive_job (id, homework_id, status, requested_by, attempts, created_at)
+        VALUES (:id, :homeworkId, 'PENDING', :requestedBy, 0, :now)
+        ON CONFLICT (homework_id) WHERE status IN ('PENDING', 'BUILDING', 'READY') DO NOTHING
+        """, nativeQuery = true)
+    int insertPendingIfNoLiveJob(
+        @Param("id") UUID id,
+        @Param("homeworkId") UUID homeworkId,
+        @Param("requestedBy") UUID requestedBy,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Lock the oldest PENDING job. FOR UPDATE SKIP LOCKED lets several instances build in parallel.
+     */
+    @Query(value = """
+        SELECT * FROM submission_archive_job
+        WHERE status = 'PENDING'
+        ORDER BY created_at ASC
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    Optional<SubmissionArchiveJob> lockNextPending();
+
+    /**
+     * Complete the claimed build attempt. No-op if the job was invalidated or re-claimed meanwhile.
+     */
+    @Modifying
+    @Query("""
+        UPDATE SubmissionArchiveJob j
+        SET j.status = com.example.interhubdev.submission.internal.SubmissionArchiveJob.State.READY,
+            j.fileAssetId = :fileAssetId, j.filename = :filename, j.sizeBytes = :sizeBytes, j.completedAt = :now
+        WHERE j.id = :id
+          AND j.attempts = :attempt
+          AND j.status = com.example.interhubdev.submission.internal.SubmissionArchiveJob.State.BUILDING
+        """)
+    int markReady(
+        @Param("id") UUID id,
+        @Param("attempt") int attempt,
+        @Param("fileAssetId") UUID fileAssetId,
+        @Param("filename") String filename,
+        @Param("sizeBytes") long sizeBytes,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Fail the claimed build attempt. No-op if the job was invalidated or re-claimed meanwhile.
+     */
+    @Modifying
+    @Query("""
+        UPDATE SubmissionArchiveJob j
+        SET j.status = com.example.interhubdev.submission.internal.SubmissionArchiveJob.State.FAILED,
+            j.failureMessage = :message, j.completedAt = :now
+        WHERE j.id = :id
+          AND j.attempts = :attempt
+          AND j.status = com.example.interhubdev.submission.internal.SubmissionArchiveJob.State.BUILDING
+        """)
+    int markFailed(
+        @Param("id") UUID id,
+        @Param("attempt") int attempt,
+        @Param("message") String message,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Invalidate after submissions changed: a READY archive becomes STALE, a running build is
+     * re-queued so it is rebuilt from current data (its running attempt can no longer complete).
+     *
+     * @return number of affected jobs
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE submission_archive_job
+        SET status = CASE WHEN status = 'READY' THEN 'STALE' ELSE 'PENDING' END,
+            started_at = CASE WHEN status = 'READY' THEN started_at ELSE NULL END
+        WHERE homework_id = :homeworkId
+          AND status IN ('BUILDING', 'READY')
+        """, nativeQuery = true)
+    int invalidateByHomeworkId(@Param("homeworkId") UUID homeworkId);
+
+    /**
+     * Re-queue builds whose worker stopped (no completion within the timeout) while attempts remain.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE submission_archive_job
+        SET status = 'PENDING', started_at = NULL
+        WHERE status = 'BUILDING' AND started_at < :staleBefore AND attempts < :maxAttempts
+        """, nativeQuery = true)
+    int requeueStaleBuilds(@Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Fail builds whose worker stopped and that have no attempts left.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE submission_archive_job
+        SET status = 'FAILED', failure_message = 'Build did not complete', completed_at = :now
+        WHERE status = 'BUILDING' AND started_at < :staleBefore AND attempts >= :maxAttempts
+        """, nativeQuery = true)
+    int failStaleBuilds(
+        @Param("staleBefore") LocalDateTime staleBefore,
+        @Param("maxAttempts") int maxAttempts,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Jobs that are no longer live, completed before the given time (for cleanup).
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM submission_archive_job
+        WHERE status IN ('FAILED', 'STALE') AND COALESCE(completed_at, created_at) < :before
+        """, nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
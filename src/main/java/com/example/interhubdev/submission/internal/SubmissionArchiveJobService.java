@@ -0,0 +1,178 @@
+package com.example.interhubdev.submission.internal;
+
+import com.example.interhubdev.fileasset.FileAssetApi;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
+import com.example.interhubdev.fileasset.FileAssetStatus;
+import com.example.interhubdev.fileasset.FileAssetView;
+import com.example.interhubdev.submission.SubmissionsArchiveJobDto;
+import com.example.interhubdev.submission.SubmissionsArchiveJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * State of pre-built submissions archives: request (reusing the live job of the homework),
+ * claim and completion by {@link SubmissionArchiveBuildWorker}, invalidation when submissions change.
+ * Access checks are done by the caller ({@link SubmissionServiceImpl}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+class SubmissionArchiveJobService {
+
+    private static final int MAX_FAILURE_MESSAGE_LENGTH = 1000;
+
+    private final SubmissionArchiveJobRepository jobRepository;
+    private final FileAssetApi fileAssetApi;
+
+    /**
+     * Build attempt claimed by a worker; only this attempt may complete or fail the job.
+     */
+    record ClaimedBuild(UUID jobId, UUID homeworkId, UUID requestedBy, int attempt) {
+    }
+
+    /**
+     * Return the live archive of the homework, or queue a new build. A READY archive whose stored
+     * file expired is marked STALE and rebuilt.
+     */
+    @Transactional
+    public SubmissionsArchiveJobDto request(UUID homeworkId, UUID requesterId) {
+        Optional<SubmissionArchiveJob> live = jobRepository.findLiveByHomeworkId(homeworkId);
+        if (live.isPresent()) {
+            SubmissionArchiveJob job = live.get();
+            SubmissionsArchiveJobDto dto = toDto(job);
+            if (dto.status() != SubmissionsArchiveJobStatus.STALE) {
+                return dto;
+            }
+            job.setStatus(SubmissionArchiveJob.State.STALE);
+            jobRepository.saveAndFlush(job);
+        }
+        jobRepository.insertPendingIfNoLiveJob(UUID.randomUUID(), homeworkId, requesterId, LocalDateTime.now());
+        // Either our row or the one a concurrent request inserted first.
+        return jobRepository.findLiveByHomeworkId(homeworkId)
+            .map(this::toDto)
+            .orElseThrow(() -> new IllegalStateException("No live submissions archive job for homework " + homeworkId));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<SubmissionArchiveJob> find(UUID jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    /**
+     * Open the stored archive of a READY job.
+     *
+     * @throws com.example.interhubdev.error.AppException CONFLICT if the archive is not (or no longer) available
+     */
+    @Transactional(readOnly = true)
+    public FileAssetDownloadSource openDownloadSource(SubmissionArchiveJob job) {
+        if (job.getStatus() != SubmissionArchiveJob.State.READY || job.getFileAssetId() == null
+            || assetStatus(job.getFileAssetId()) != FileAssetStatus.ACTIVE) {
+            throw SubmissionErrors.archiveNotReady(job.getId());
+        }
+        return fileAssetApi.openDownloadSource(job.getFileAssetId());
+    }
+
+    /**
+     * Submissions of the homework changed: a READY archive becomes STALE, a running build is re-queued.
+     * Runs in the caller's transaction, so it takes effect together with the change itself.
+     */
+    @Transactional
+    public void invalidate(UUID homeworkId) {
+        int affected = jobRepository.invalidateByHomeworkId(homeworkId);
+        if (affected > 0) {
+            log.debug("Invalidated {} submissions archive job(s) for homework {}", affected, homeworkId);
+        }
+    }
+
+    @Transactional
+    public Optional<ClaimedBuild> claimNext() {
+        return jobRepository.lockNextPending().map(job -> {
+            job.setStatus(SubmissionArchiveJob.State.BUILDING);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setStartedAt(LocalDateTime.now());
+            job.setFailureMessage(null);
+            jobRepository.save(job);
+            return new ClaimedBuild(job.getId(), job.getHomeworkId(), job.getRequestedBy(), job.getAttempts());
+        });
+    }
+
+    /**
+     * @return false if the job was invalidated or re-claimed while building (the archive is outdated)
+     */
+    @Transactional
+    public boolean complete(ClaimedBuild build, UUID fileAssetId, String filename, long sizeBytes) {
+        return jobRepository.markReady(build.jobId(), build.attempt(), fileAssetId, filename, sizeBytes, LocalDateTime.now()) > 0;
+    }
+
+    @Transactional
+    public void fail(ClaimedBuild build, String message) {
+        String truncated = message != null && message.length() > MAX_FAILURE_MESSAGE_LENGTH
+            ? message.substring(0, MAX_FAILURE_MESSAGE_LENGTH)
+            : message;
+        jobRepository.markFailed(build.jobId(), build.attempt(), truncated, LocalDateTime.now());
+    }
+
+    /**
+     * Re-queue (or fail, when out of attempts) builds whose worker stopped without completing them.
+     */
+    @Transactional
+    public void recoverStaleBuilds(Duration buildTimeout, int maxAttempts) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(buildTimeout);
+        int requeued = jobRepository.requeueStaleBuilds(staleBefore, maxAttempts);
+        int failed = jobRepository.failStaleBuilds(staleBefore, maxAttempts, now);
+        if (requeued > 0 || failed > 0) {
+            log.warn("Recovered stale submissions archive builds: {} re-queued, {} failed", requeued, failed);
+        }
+    }
+
+    @Transactional
+    public int purgeFinishedBefore(LocalDateTime before) {
+        return jobRepository.deleteFinishedBefore(before);
+    }
+
+    SubmissionsArchiveJobDto toDto(SubmissionArchiveJob job) {
+        SubmissionsArchiveJobStatus status = switch (job.getStatus()) {
+            case PENDING, BUILDING -> SubmissionsArchiveJobStatus.BUILDING;
+            case FAILED -> SubmissionsArchiveJobStatus.FAILED;
+            case STALE -> SubmissionsArchiveJobStatus.STALE;
+            case READY -> readyStatus(job);
+        };
+        boolean ready = status == SubmissionsArchiveJobStatus.READY;
+        return new SubmissionsArchiveJobDto(
+            job.getId(),
+            job.getHomeworkId(),
+            status,
+            ready ? job.getFilename() : null,
+            ready ? job.getSizeBytes() : null,
+            job.getCreatedAt(),
+            job.getCompletedAt(),
+            job.getStatus() == SubmissionArchiveJob.State.FAILED ? job.getFailureMessage() : null
+        );
+    }
+
+    /**
+     * The stored file is activated asynchronously after upload and expires after the policy retention.
+     */
+    private SubmissionsArchiveJobStatus readyStatus(SubmissionArchiveJob job) {
+        FileAssetStatus assetStatus = job.getFileAssetId() != null ? assetStatus(job.getFileAssetId()) : null;
+        if (assetStatus == FileAssetStatus.ACTIVE) {
+            return SubmissionsArchiveJobStatus.READY;
+        }
+        if (assetStatus == null || assetStatus.isTerminal()) {
+            return SubmissionsArchiveJobStatus.STALE;
+        }
+        return SubmissionsArchiveJobStatus.BUILDING;
+    }
+
+    private FileAssetStatus assetStatus(UUID fileAssetId) {
+        return fileAssetApi.get(fileAssetId).map(FileAssetView::status).orElse(null);
+    }
+}
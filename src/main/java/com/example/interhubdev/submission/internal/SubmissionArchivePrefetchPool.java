@@ -0,0 +1,47 @@
+package com.example.interhubdev.submission.internal;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared pool that fetches archive entries ahead of the ZIP writer, for both streamed downloads and
+ * background builds. Threads and queued fetches are bounded; when both are exhausted a fetch is rejected
+ * and the writer reads that entry itself when it gets to it (see
+ * {@link com.example.interhubdev.submission.internal.archive.ZipArchiveWriter}).
+ * Deliberately not an {@link Executor} bean, so it does not replace the application task executor.
+ */
+@Component
+class SubmissionArchivePrefetchPool {
+
+    private final ThreadPoolExecutor pool;
+
+    SubmissionArchivePrefetchPool(
+        @Value("${app.submission.archive.prefetch-threads:16}") int threads,
+        @Value("${app.submission.archive.prefetch-queue-capacity:64}") int queueCapacity
+    ) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                Thread thread = new Thread(runnable, "archive-prefetch-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    Executor executor() {
+        return pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
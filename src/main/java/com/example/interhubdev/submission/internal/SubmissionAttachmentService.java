@@ -4,6 +4,7 @@ import com.example.interhubdev.document.HomeworkApi;
 import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.fileasset.FileAssetApi;
 import com.example.interhubdev.fileasset.FileAssetDownloadHandle;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
 import com.example.interhubdev.fileasset.FileAssetUploadCommand;
 import com.example.interhubdev.fileasset.FileAssetView;
 import com.example.interhubdev.offering.OfferingApi;
@@ -121,6 +122,16 @@ class SubmissionAttachmentService implements SubmissionAttachmentApi {
         return fileAssetApi.openDownload(attachment.getFileAssetId());
     }
 
+    @Override
+    public FileAssetDownloadSource openDownloadSource(UUID attachmentId, UUID requesterId) {
+        SubmissionAttachment attachment = submissionAttachmentRepository.findById(attachmentId)
+            .orElseThrow(() -> Errors.notFound("Submission attachment not found: " + attachmentId));
+        HomeworkSubmission submission = submissionRepository.findById(attachment.getSubmissionId())
+            .orElseThrow(() -> Errors.notFound("Submission not found: " + attachment.getSubmissionId()));
+        ensureCanAccess(submission, requesterId);
+        return fileAssetApi.openDownloadSource(attachment.getFileAssetId());
+    }
+
     private List<SubmissionAttachmentDto> mapDtos(List<SubmissionAttachment> attachments) {
         if (attachments == null || attachments.isEmpty()) {
             return List.of();
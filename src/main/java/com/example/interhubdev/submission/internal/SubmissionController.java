@@ -5,7 +5,10 @@ import com.example.interhubdev.error.Errors;
 import com.example.interhubdev.fileasset.FilePolicyKey;
 import com.example.interhubdev.submission.HomeworkSubmissionDto;
 import com.example.interhubdev.submission.SubmissionApi;
+import com.example.interhubdev.submission.SubmissionSummaryPage;
 import com.example.interhubdev.submission.SubmissionsArchiveHandle;
+import com.example.interhubdev.submission.SubmissionsArchiveJobDto;
+import com.example.interhubdev.submission.SubmissionsArchiveJobStatus;
 import com.example.interhubdev.web.MultipartUploadSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -51,6 +54,21 @@ class SubmissionController {
         return ResponseEntity.ok(list);
     }
 
+    @GetMapping("/{homeworkId}/submissions/summaries")
+    @Operation(summary = "List submission summaries", description = "Page of submissions for a homework with attachment count and total size (no file metadata), newest first. Pass nextCursor from the previous page as cursor. Requires TEACHER or ADMIN role.")
+    public ResponseEntity<SubmissionSummaryPage> listSummariesByHomework(
+            @PathVariable UUID homeworkId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit,
+            HttpServletRequest request
+    ) {
+        UUID requesterId = authApi.getCurrentUser(request)
+                .map(u -> u.id())
+                .orElseThrow(() -> Errors.unauthorized("Authentication required"));
+
+        return ResponseEntity.ok(submissionApi.listSummariesByHomework(homeworkId, cursor, limit, requesterId));
+    }
+
     @PostMapping(value = "/{homeworkId}/submissions", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @Operation(summary = "Submit solution", description = "Create a submission for a homework. Files are optional. Requires STUDENT role.")
     public ResponseEntity<HomeworkSubmissionDto> create(
@@ -94,4 +112,19 @@ class SubmissionController {
         handle.writeTo(response.getOutputStream());
         response.getOutputStream().flush();
     }
+
+    @PostMapping("/{homeworkId}/submissions/archive/jobs")
+    @Operation(summary = "Request pre-built submissions archive", description = "Returns the shared pre-built archive of this homework (200 when READY) or queues a background build (202; poll GET /api/submission-archives/{id}). Requires teacher of the lesson or admin/moderator.")
+    public ResponseEntity<SubmissionsArchiveJobDto> requestArchive(
+            @PathVariable UUID homeworkId,
+            HttpServletRequest request
+    ) {
+        UUID requesterId = authApi.getCurrentUser(request)
+                .map(u -> u.id())
+                .orElseThrow(() -> Errors.unauthorized("Authentication required"));
+
+        SubmissionsArchiveJobDto job = submissionApi.requestSubmissionsArchive(homeworkId, requesterId);
+        HttpStatus status = job.status() == SubmissionsArchiveJobStatus.READY ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(job);
+    }
 }
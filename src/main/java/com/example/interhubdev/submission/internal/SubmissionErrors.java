@@ -27,6 +27,10 @@ public final class SubmissionErrors {
     public static final String CODE_VALIDATION_FAILED = "SUBMISSION_VALIDATION_FAILED";
     /** DB save failed. */
     public static final String CODE_SAVE_FAILED = "SUBMISSION_SAVE_FAILED";
+    /** Submissions archive job not found. */
+    public static final String CODE_ARCHIVE_NOT_FOUND = "SUBMISSION_ARCHIVE_NOT_FOUND";
+    /** Submissions archive is not (or no longer) available for download. */
+    public static final String CODE_ARCHIVE_NOT_READY = "SUBMISSION_ARCHIVE_NOT_READY";
 
     public static AppException submissionNotFound(UUID id) {
         return Errors.of(HttpStatus.NOT_FOUND, CODE_SUBMISSION_NOT_FOUND, "Submission not found: " + id);
@@ -52,4 +56,13 @@ public final class SubmissionErrors {
         return Errors.of(HttpStatus.UNPROCESSABLE_ENTITY, CODE_SAVE_FAILED,
             "Failed to save submission. Please try again.");
     }
+
+    public static AppException archiveNotFound(UUID id) {
+        return Errors.of(HttpStatus.NOT_FOUND, CODE_ARCHIVE_NOT_FOUND, "Submissions archive not found: " + id);
+    }
+
+    public static AppException archiveNotReady(UUID id) {
+        return Errors.of(HttpStatus.CONFLICT, CODE_ARCHIVE_NOT_READY,
+            "Submissions archive is not ready for download: " + id);
+    }
 }
@@ -1,10 +1,14 @@
 package com.example.interhubdev.submission.internal;
 
 import com.example.interhubdev.submission.HomeworkSubmissionDto;
+import com.example.interhubdev.submission.HomeworkSubmissionSummaryDto;
 import com.example.interhubdev.submission.SubmissionAttachmentDto;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Entity to DTO mapping for submissions. No instantiation.
@@ -24,4 +28,23 @@ final class SubmissionMappers {
             attachments != null ? attachments : List.of()
         );
     }
+
+    /**
+     * Map a row of {@link HomeworkSubmissionRepository#findSummariesByHomeworkIdIn}:
+     * [id, homework_id, author_id, submitted_at, attachment_count, attachments_size_bytes].
+     */
+    static HomeworkSubmissionSummaryDto toSummaryDto(Object[] row) {
+        return new HomeworkSubmissionSummaryDto(
+            (UUID) row[0],
+            (UUID) row[1],
+            (UUID) row[2],
+            toLocalDateTime(row[3]),
+            ((Number) row[4]).intValue(),
+            ((Number) row[5]).longValue()
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
 }
@@ -3,6 +3,7 @@ package com.example.interhubdev.submission.internal;
 import com.example.interhubdev.document.HomeworkApi;
 import com.example.interhubdev.document.HomeworkDto;
 import com.example.interhubdev.error.Errors;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
 import com.example.interhubdev.fileasset.FileAssetUploadCommand;
 import com.example.interhubdev.offering.OfferingApi;
 import com.example.interhubdev.program.ProgramApi;
@@ -10,12 +11,16 @@ import com.example.interhubdev.schedule.ScheduleApi;
 import com.example.interhubdev.subject.SubjectApi;
 import com.example.interhubdev.subject.SubjectDto;
 import com.example.interhubdev.submission.HomeworkSubmissionDto;
+import com.example.interhubdev.submission.HomeworkSubmissionSummaryDto;
 import com.example.interhubdev.submission.SubmissionApi;
+import com.example.interhubdev.submission.SubmissionSummaryPage;
 import com.example.interhubdev.submission.SubmissionsArchiveHandle;
+import com.example.interhubdev.submission.SubmissionsArchiveJobDto;
 import com.example.interhubdev.submission.internal.archive.ArchiveData;
 import com.example.interhubdev.submission.internal.archive.ArchiveEntry;
 import com.example.interhubdev.submission.internal.archive.ArchiveInfo;
 import com.example.interhubdev.submission.internal.archive.ArchiveNamingService;
+import com.example.interhubdev.submission.internal.archive.ZipArchiveWriter;
 import com.example.interhubdev.submission.internal.integration.HomeworkSubmissionSubmittedEventPayload;
 import com.example.interhubdev.teacher.TeacherApi;
 import com.example.interhubdev.user.Role;
@@ -27,6 +32,7 @@ import jakarta.persistence.PersistenceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -62,6 +68,14 @@ class SubmissionServiceImpl implements SubmissionApi {
     private final SubjectApi subjectApi;
     private final SubmissionAttachmentService submissionAttachmentService;
     private final OutboxIntegrationEventPublisher outboxPublisher;
+    private final SubmissionArchiveJobService archiveJobService;
+    private final SubmissionArchivePrefetchPool archivePrefetchPool;
+
+    @Value("${app.submission.archive.prefetch-depth:4}")
+    private int archivePrefetchDepth;
+
+    @Value("${app.submission.archive.prefetch-buffer-bytes:2097152}")
+    private int archivePrefetchBufferBytes;
 
     @Override
     @Transactional
@@ -104,6 +118,7 @@ class SubmissionServiceImpl implements SubmissionApi {
                     .payload(eventPayload)
                     .occurredAt(eventPayload.submittedAt())
                     .build());
+            archiveJobService.invalidate(homeworkId);
 
             return SubmissionMappers.toDto(saved, attachments);
         } catch (PersistenceException | DataIntegrityViolationException e) {
@@ -145,6 +160,52 @@ class SubmissionServiceImpl implements SubmissionApi {
             .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SubmissionSummaryPage listSummariesByHomework(UUID homeworkId, String cursor, int limit, UUID requesterId) {
+        validateRequester(requesterId);
+        checkTeacherOrAdmin(requesterId);
+
+        if (homeworkApi.get(homeworkId, requesterId).isEmpty()) {
+            throw SubmissionErrors.homeworkNotFound(homeworkId);
+        }
+        return loadSummaryPage(List.of(homeworkId), SubmissionSummaryCursor.decode(cursor), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SubmissionSummaryPage listSummariesByHomeworkIds(Collection<UUID> homeworkIds, String cursor, int limit, UUID requesterId) {
+        validateRequester(requesterId);
+        checkTeacherOrAdmin(requesterId);
+
+        SubmissionSummaryCursor position = SubmissionSummaryCursor.decode(cursor);
+        if (homeworkIds == null || homeworkIds.isEmpty()) {
+            return new SubmissionSummaryPage(List.of(), null);
+        }
+        return loadSummaryPage(homeworkIds, position, limit);
+    }
+
+    /**
+     * One keyset page: fetches one row more than requested to know whether a next page exists.
+     */
+    private SubmissionSummaryPage loadSummaryPage(Collection<UUID> homeworkIds, SubmissionSummaryCursor position, int limit) {
+        int capped = Math.min(Math.max(1, limit), MAX_SUMMARY_PAGE_SIZE);
+        List<Object[]> rows = position == null
+            ? submissionRepository.findSummariesByHomeworkIdIn(homeworkIds, capped + 1)
+            : submissionRepository.findSummariesByHomeworkIdInAfter(homeworkIds, position.submittedAt(), position.id(), capped + 1);
+        boolean hasMore = rows.size() > capped;
+        List<HomeworkSubmissionSummaryDto> items = rows.stream()
+            .limit(capped)
+            .map(SubmissionMappers::toSummaryDto)
+            .toList();
+        String nextCursor = null;
+        if (hasMore) {
+            HomeworkSubmissionSummaryDto last = items.get(items.size() - 1);
+            nextCursor = new SubmissionSummaryCursor(last.submittedAt(), last.id()).encode();
+        }
+        return new SubmissionSummaryPage(items, nextCursor);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<HomeworkSubmissionDto> get(UUID submissionId, UUID requesterId) {
@@ -187,6 +248,7 @@ class SubmissionServiceImpl implements SubmissionApi {
         }
         submissionAttachmentService.removeAll(submissionId);
         submissionRepository.delete(submission);
+        archiveJobService.invalidate(submission.getHomeworkId());
     }
 
     @Override
@@ -208,7 +270,34 @@ class SubmissionServiceImpl implements SubmissionApi {
         ensureCanDownloadArchiveByHomework(homeworkId, requesterId);
         ArchiveData data = loadArchiveData(homeworkId, requesterId);
         String filename = ArchiveNamingService.buildArchiveFilename(data.info());
-        return new SubmissionsArchiveHandleImpl(filename, data, requesterId, submissionAttachmentService);
+        ZipArchiveWriter.Prefetch prefetch = new ZipArchiveWriter.Prefetch(archivePrefetchDepth, archivePrefetchBufferBytes);
+        return new SubmissionsArchiveHandleImpl(filename, data, requesterId, submissionAttachmentService, prefetch,
+            archivePrefetchPool.executor());
+    }
+
+    @Override
+    public SubmissionsArchiveJobDto requestSubmissionsArchive(UUID homeworkId, UUID requesterId) {
+        validateRequester(requesterId);
+        ensureCanDownloadArchiveByHomework(homeworkId, requesterId);
+        return archiveJobService.request(homeworkId, requesterId);
+    }
+
+    @Override
+    public SubmissionsArchiveJobDto getSubmissionsArchive(UUID archiveId, UUID requesterId) {
+        validateRequester(requesterId);
+        SubmissionArchiveJob job = archiveJobService.find(archiveId)
+            .orElseThrow(() -> SubmissionErrors.archiveNotFound(archiveId));
+        ensureCanDownloadArchiveByHomework(job.getHomeworkId(), requesterId);
+        return archiveJobService.toDto(job);
+    }
+
+    @Override
+    public FileAssetDownloadSource openSubmissionsArchiveDownload(UUID archiveId, UUID requesterId) {
+        validateRequester(requesterId);
+        SubmissionArchiveJob job = archiveJobService.find(archiveId)
+            .orElseThrow(() -> SubmissionErrors.archiveNotFound(archiveId));
+        ensureCanDownloadArchiveByHomework(job.getHomeworkId(), requesterId);
+        return archiveJobService.openDownloadSource(job);
     }
 
     /**
@@ -298,6 +387,7 @@ class SubmissionServiceImpl implements SubmissionApi {
                     f.id(),
                     originalName != null ? originalName : "",
                     extension,
+                    f.declaredContentType(),
                     fileIndex++
                 ));
             }
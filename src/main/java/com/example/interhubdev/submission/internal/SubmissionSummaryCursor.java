@@ -0,0 +1,46 @@
+package com.example.interhubdev.submission.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of a submission summary page: (submittedAt, id) of the last returned row.
+ * Encoded as an opaque URL-safe token so clients cannot depend on its shape.
+ */
+record SubmissionSummaryCursor(LocalDateTime submittedAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = submittedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @return decoded cursor, or null if the token is null or blank (first page)
+     * @throws com.example.interhubdev.error.AppException BAD_REQUEST if the token is malformed
+     */
+    static SubmissionSummaryCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw SubmissionErrors.validationFailed("Invalid cursor");
+            }
+            return new SubmissionSummaryCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw SubmissionErrors.validationFailed("Invalid cursor");
+        }
+    }
+}
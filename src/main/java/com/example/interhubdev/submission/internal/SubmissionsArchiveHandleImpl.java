@@ -8,10 +8,12 @@ import com.example.interhubdev.submission.internal.archive.ZipArchiveWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 /**
  * Implementation of {@link SubmissionsArchiveHandle} that writes ZIP to an output stream
- * using pre-loaded archive data and document API for file content.
+ * using pre-loaded archive data and document API for file content. Attachments are fetched
+ * ahead of the writer on the shared prefetch pool according to the configured {@link ZipArchiveWriter.Prefetch}.
  */
 class SubmissionsArchiveHandleImpl implements SubmissionsArchiveHandle {
 
@@ -19,12 +21,23 @@ class SubmissionsArchiveHandleImpl implements SubmissionsArchiveHandle {
     private final ArchiveData data;
     private final UUID requesterId;
     private final SubmissionAttachmentApi submissionAttachmentApi;
+    private final ZipArchiveWriter.Prefetch prefetch;
+    private final Executor prefetchExecutor;
 
-    SubmissionsArchiveHandleImpl(String filename, ArchiveData data, UUID requesterId, SubmissionAttachmentApi submissionAttachmentApi) {
+    SubmissionsArchiveHandleImpl(
+        String filename,
+        ArchiveData data,
+        UUID requesterId,
+        SubmissionAttachmentApi submissionAttachmentApi,
+        ZipArchiveWriter.Prefetch prefetch,
+        Executor prefetchExecutor
+    ) {
         this.filename = filename;
         this.data = data;
         this.requesterId = requesterId;
         this.submissionAttachmentApi = submissionAttachmentApi;
+        this.prefetch = prefetch;
+        this.prefetchExecutor = prefetchExecutor;
     }
 
     @Override
@@ -35,6 +48,6 @@ class SubmissionsArchiveHandleImpl implements SubmissionsArchiveHandle {
     @Override
     public void writeTo(OutputStream out) throws IOException {
         ZipArchiveWriter.write(out, data.info(), data.entries(), entry ->
-            submissionAttachmentApi.download(entry.attachmentId(), requesterId).stream());
+            submissionAttachmentApi.download(entry.attachmentId(), requesterId).stream(), prefetch, prefetchExecutor);
     }
 }
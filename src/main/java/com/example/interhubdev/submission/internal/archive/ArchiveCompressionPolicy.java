@@ -0,0 +1,106 @@
+package com.example.interhubdev.submission.internal.archive;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Chooses how an archive entry is compressed based on its extension and declared content type.
+ * <p>
+ * Most submissions are already-compressed containers (PDF, Office Open XML, images, video,
+ * archives); deflating them costs CPU for little or no size gain, so they are stored as-is.
+ * Everything else (plain text, source code, CSV, legacy binary Office formats, ...) is deflated.
+ */
+public final class ArchiveCompressionPolicy {
+
+    /**
+     * Compression method for one archive entry.
+     */
+    public enum Method {
+        /** Store without compression. */
+        STORE,
+        /** Deflate at the default level. */
+        DEFLATE
+    }
+
+    private static final Set<String> INCOMPRESSIBLE_EXTENSIONS = Set.of(
+        // documents that are ZIP/Flate containers already
+        "pdf", "docx", "xlsx", "pptx", "odt", "ods", "odp", "epub",
+        // archives
+        "zip", "7z", "rar", "gz", "tgz", "bz2", "xz", "zst", "jar", "apk",
+        // images
+        "jpg", "jpeg", "png", "gif", "webp", "heic", "heif", "avif",
+        // audio / video
+        "mp3", "m4a", "aac", "ogg", "opus", "flac", "mp4", "m4v", "mov", "mkv", "webm", "avi"
+    );
+
+    private static final Set<String> INCOMPRESSIBLE_CONTENT_TYPES = Set.of(
+        "application/pdf",
+        "application/zip",
+        "application/x-zip-compressed",
+        "application/x-7z-compressed",
+        "application/vnd.rar",
+        "application/x-rar-compressed",
+        "application/gzip",
+        "application/x-gzip",
+        "application/x-bzip2",
+        "application/x-xz",
+        "application/zstd",
+        "application/epub+zip",
+        "application/java-archive"
+    );
+
+    /** Compressible exceptions within otherwise compressed image/audio families. */
+    private static final Set<String> COMPRESSIBLE_MEDIA_TYPES = Set.of(
+        "image/svg+xml",
+        "image/bmp",
+        "image/x-ms-bmp",
+        "image/tiff",
+        "audio/wav",
+        "audio/x-wav",
+        "audio/vnd.wave"
+    );
+
+    private ArchiveCompressionPolicy() {
+    }
+
+    /**
+     * Pick the compression method for the entry. The declared content type wins when it is
+     * recognised; otherwise the extension decides; unknown entries are deflated.
+     */
+    public static Method methodFor(ArchiveEntry entry) {
+        String contentType = normalizeContentType(entry.contentType());
+        if (contentType != null) {
+            if (COMPRESSIBLE_MEDIA_TYPES.contains(contentType)) {
+                return Method.DEFLATE;
+            }
+            if (INCOMPRESSIBLE_CONTENT_TYPES.contains(contentType)
+                || contentType.startsWith("image/")
+                || contentType.startsWith("video/")
+                || contentType.startsWith("audio/")
+                || contentType.startsWith("application/vnd.openxmlformats-officedocument.")
+                || contentType.startsWith("application/vnd.oasis.opendocument.")) {
+                return Method.STORE;
+            }
+        }
+        String extension = entry.extension();
+        if (extension != null) {
+            String normalized = extension.strip().toLowerCase(Locale.ROOT);
+            if (normalized.startsWith(".")) {
+                normalized = normalized.substring(1);
+            }
+            if (INCOMPRESSIBLE_EXTENSIONS.contains(normalized)) {
+                return Method.STORE;
+            }
+        }
+        return Method.DEFLATE;
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return null;
+        }
+        int separator = contentType.indexOf(';');
+        String base = separator >= 0 ? contentType.substring(0, separator) : contentType;
+        return base.strip().toLowerCase(Locale.ROOT);
+    }
+}
@@ -13,6 +13,7 @@ import java.util.UUID;
  * @param attachmentId  submission attachment ID
  * @param originalName  original filename (for extension fallback)
  * @param extension     file extension to use in entry name (e.g. "pdf")
+ * @param contentType   declared content type of the stored file (may be null); used to pick the compression method
  * @param fileIndex     index among files of the same submission (for uniqueness when multiple files per student)
  */
 public record ArchiveEntry(
@@ -23,6 +24,7 @@ public record ArchiveEntry(
     UUID attachmentId,
     String originalName,
     String extension,
+    String contentType,
     int fileIndex
 ) {
 }
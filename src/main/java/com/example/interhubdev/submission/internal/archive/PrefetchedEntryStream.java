@@ -0,0 +1,220 @@
+package com.example.interhubdev.submission.internal.archive;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Bounded pipe between a background fetch of one archive entry and the ZIP writer.
+ * <p>
+ * The producer ({@link #fetch()}) opens the source stream and copies it into at most
+ * {@code maxChunks} chunks of {@code chunkSize} bytes; once the buffer is full it waits for the
+ * writer to drain it, so memory per entry never exceeds {@code maxChunks * chunkSize}. The writer
+ * reads this stream like any other {@link InputStream}. When the whole entry fits into the
+ * buffer, its size and CRC are known before the writer starts the ZIP entry
+ * ({@link #awaitFullyBuffered()}). Package-private: used by {@link ZipArchiveWriter}.
+ */
+final class PrefetchedEntryStream extends InputStream {
+
+    private static final byte[] END_OF_STREAM = new byte[0];
+    private static final long OFFER_POLL_MILLIS = 100;
+
+    private final ArchiveEntry entry;
+    private final Function<ArchiveEntry, InputStream> openStream;
+    private final int chunkSize;
+    private final BlockingQueue<byte[]> chunks;
+    private final CompletableFuture<Boolean> opened = new CompletableFuture<>();
+    private final CountDownLatch bufferSettled = new CountDownLatch(1);
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile boolean cancelled;
+    private volatile Exception readFailure;
+    private volatile boolean completeInBuffer;
+
+    private byte[] current;
+    private int position;
+    private boolean finished;
+
+    PrefetchedEntryStream(ArchiveEntry entry, Function<ArchiveEntry, InputStream> openStream, int chunkSize, int maxChunks) {
+        this.entry = entry;
+        this.openStream = openStream;
+        this.chunkSize = chunkSize;
+        this.chunks = new ArrayBlockingQueue<>(maxChunks + 1);
+    }
+
+    ArchiveEntry entry() {
+        return entry;
+    }
+
+    /**
+     * Writer side: take over an entry whose fetch has not started (rejected or still queued), so the
+     * writer can read the source itself. A fetch that runs afterwards does nothing.
+     *
+     * @return true if the fetch had not started and will not run
+     */
+    boolean claimUnstarted() {
+        return started.compareAndSet(false, true);
+    }
+
+    /**
+     * Producer side: open the source and copy it into the bounded buffer. Runs on a prefetch thread;
+     * does nothing if the entry was claimed by the writer or closed before the fetch started.
+     */
+    void fetch() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        InputStream in;
+        try {
+            in = openStream.apply(entry);
+        } catch (Exception e) {
+            opened.completeExceptionally(e);
+            bufferSettled.countDown();
+            return;
+        }
+        if (in == null) {
+            opened.complete(false);
+            bufferSettled.countDown();
+            return;
+        }
+        opened.complete(true);
+        try (in) {
+            while (!cancelled) {
+                byte[] chunk = in.readNBytes(chunkSize);
+                if (chunk.length == 0 || !offer(chunk) || chunk.length < chunkSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            readFailure = e;
+        } finally {
+            boolean settledEarly = bufferSettled.getCount() == 0;
+            if (!settledEarly && chunks.offer(END_OF_STREAM)) {
+                completeInBuffer = readFailure == null && !cancelled;
+                bufferSettled.countDown();
+            } else {
+                bufferSettled.countDown();
+                offer(END_OF_STREAM);
+            }
+        }
+    }
+
+    /**
+     * Writer side: wait until the source was opened.
+     *
+     * @return true if a stream is available, false if the source returned no stream
+     * @throws Exception the failure raised while opening the source
+     */
+    boolean awaitOpened() throws Exception {
+        try {
+            return opened.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * Writer side, after {@link #awaitOpened()} returned true: wait until the producer has either
+     * buffered the whole entry or filled its buffer.
+     *
+     * @return size and CRC-32 of the entry if it fits entirely into the buffer, otherwise null
+     */
+    BufferedContent awaitFullyBuffered() throws InterruptedException {
+        bufferSettled.await();
+        if (!completeInBuffer) {
+            return null;
+        }
+        // Producer has finished; nothing has been taken yet, so the queue holds the whole entry.
+        CRC32 crc = new CRC32();
+        long size = 0;
+        for (byte[] chunk : chunks) {
+            crc.update(chunk);
+            size += chunk.length;
+        }
+        return new BufferedContent(size, crc.getValue());
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = read(one, 0, 1);
+        return n == -1 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextChunkAvailable()) {
+            return -1;
+        }
+        int n = Math.min(length, current.length - position);
+        System.arraycopy(current, position, buffer, offset, n);
+        position += n;
+        return n;
+    }
+
+    /**
+     * Stops the producer and releases buffered chunks.
+     */
+    @Override
+    public void close() {
+        started.set(true);
+        cancelled = true;
+        chunks.clear();
+    }
+
+    private boolean nextChunkAvailable() throws IOException {
+        while (!finished && (current == null || position == current.length)) {
+            try {
+                current = chunks.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for prefetched archive entry data");
+            }
+            position = 0;
+            if (current == END_OF_STREAM) {
+                finished = true;
+            }
+        }
+        if (finished) {
+            Exception failure = readFailure;
+            if (failure != null) {
+                throw failure instanceof IOException io ? io : new IOException(failure);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    record BufferedContent(long sizeBytes, long crc32) {
+    }
+
+    private boolean offer(byte[] chunk) {
+        try {
+            if (chunks.offer(chunk)) {
+                return true;
+            }
+            // Buffer is full: the entry does not fit, let a waiting writer start draining it.
+            bufferSettled.countDown();
+            while (!cancelled) {
+                if (chunks.offer(chunk, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
@@ -5,75 +5,251 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
- * Writes a ZIP archive to an output stream. Streams entry content one-by-one to avoid loading
- * the entire archive into memory. Caller provides a function to open an InputStream for each
- * attachment; the writer closes each stream after copying.
+ * Writes a ZIP archive to an output stream. Streams entry content without loading the entire
+ * archive into memory. Caller provides a function to open an InputStream for each attachment;
+ * the writer closes each stream after copying.
+ * <p>
+ * While one entry is deflated, the next {@link Prefetch#depth()} entries are opened and read
+ * concurrently into bounded per-entry buffers, so object-store latency overlaps with compression
+ * instead of adding up per entry. Entries are still written in list order. Already-compressed
+ * formats are not deflated again (see {@link ArchiveCompressionPolicy}).
+ * <p>
+ * Fetches run on a caller-provided shared, bounded executor. An entry whose fetch was rejected or is
+ * still queued when the writer reaches it is read by the writer itself, so a saturated pool slows
+ * archives down but never blocks them.
  */
 @Slf4j
 public final class ZipArchiveWriter {
 
-    private static final int COPY_BUFFER_SIZE = 8192;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int PREFETCH_CHUNK_SIZE = 64 * 1024;
 
     private ZipArchiveWriter() {
     }
 
+    /**
+     * Prefetch settings for {@link #write(OutputStream, ArchiveInfo, List, Function, Prefetch, Executor)}.
+     * Worst-case buffered memory per archive is {@code (depth + 1) * bufferBytesPerEntry}.
+     *
+     * @param depth               number of entries fetched ahead of the one being written (0 = sequential)
+     * @param bufferBytesPerEntry maximum bytes buffered for one entry before its fetch waits for the writer
+     */
+    public record Prefetch(int depth, int bufferBytesPerEntry) {
+
+        public static final Prefetch DEFAULT = new Prefetch(4, 2 * 1024 * 1024);
+
+        public Prefetch {
+            if (depth < 0) {
+                throw new IllegalArgumentException("depth must be >= 0");
+            }
+            if (bufferBytesPerEntry < PREFETCH_CHUNK_SIZE) {
+                throw new IllegalArgumentException("bufferBytesPerEntry must be >= " + PREFETCH_CHUNK_SIZE);
+            }
+        }
+
+        int maxChunksPerEntry() {
+            return bufferBytesPerEntry / PREFETCH_CHUNK_SIZE;
+        }
+    }
+
+    /**
+     * Same as {@link #write(OutputStream, ArchiveInfo, List, Function, Prefetch, Executor)} with
+     * {@link Prefetch#DEFAULT}.
+     */
+    public static void write(
+        OutputStream out,
+        ArchiveInfo archiveInfo,
+        List<ArchiveEntry> entries,
+        Function<ArchiveEntry, InputStream> openStream,
+        Executor prefetchExecutor
+    ) throws IOException {
+        write(out, archiveInfo, entries, openStream, Prefetch.DEFAULT, prefetchExecutor);
+    }
+
     /**
      * Write ZIP to {@code out} with the given archive-level filename, and one entry per
      * {@link ArchiveEntry}. For each entry, {@code openStream} is called with the entry's
-     * attachmentId; the returned InputStream is read and then closed. If openStream throws or
-     * returns null, the entry is skipped and the error is logged (strategy: skip problematic
-     * files and continue).
+     * attachmentId (usually on a prefetch thread); the returned InputStream is read and then closed. If
+     * openStream throws or returns null, the entry is skipped and the error is logged (strategy:
+     * skip problematic files and continue).
      *
      * @param out          target stream (caller closes)
      * @param archiveInfo  used to build archive filename (for reference; actual filename is set by controller)
      * @param entries      list of entries to add
-     * @param openStream   function to open stream for each stored file (will be closed by writer)
+     * @param openStream   function to open stream for each stored file (will be closed by writer); must be thread-safe
+     * @param prefetch     how many entries to fetch ahead and how much to buffer per entry
+     * @param prefetchExecutor shared bounded executor running the fetches; may reject when saturated
      */
     public static void write(
         OutputStream out,
         ArchiveInfo archiveInfo,
         List<ArchiveEntry> entries,
-        Function<ArchiveEntry, InputStream> openStream
+        Function<ArchiveEntry, InputStream> openStream,
+        Prefetch prefetch,
+        Executor prefetchExecutor
     ) throws IOException {
+        int window = Math.max(1, Math.min(prefetch.depth() + 1, entries.size()));
+        Deque<PrefetchedEntryStream> inFlight = new ArrayDeque<>(window);
+        int next = 0;
         try (ZipOutputStream zos = new ZipOutputStream(out)) {
-            for (ArchiveEntry entry : entries) {
-                String entryName = ArchiveNamingService.buildEntryFilename(entry);
-                InputStream is;
-                try {
-                    is = openStream.apply(entry);
-                } catch (Exception e) {
-                    log.warn("Skip archive entry {}: failed to open attachmentId {} - {}", entryName, entry.attachmentId(), e.getMessage());
-                    continue;
+            while (next < entries.size() || !inFlight.isEmpty()) {
+                while (next < entries.size() && inFlight.size() < window) {
+                    PrefetchedEntryStream pending = new PrefetchedEntryStream(
+                        entries.get(next++), openStream, PREFETCH_CHUNK_SIZE, prefetch.maxChunksPerEntry());
+                    try {
+                        prefetchExecutor.execute(pending::fetch);
+                    } catch (RejectedExecutionException e) {
+                        // Pool saturated: the entry is read directly when its turn comes.
+                    }
+                    inFlight.addLast(pending);
                 }
-                if (is == null) {
-                    log.warn("Skip archive entry {}: no stream for attachmentId {}", entryName, entry.attachmentId());
-                    continue;
+                try (PrefetchedEntryStream current = inFlight.removeFirst()) {
+                    if (current.claimUnstarted()) {
+                        writeEntryDirectly(zos, current.entry(), openStream, prefetch);
+                    } else {
+                        writeEntry(zos, current);
+                    }
                 }
-                ZipEntry ze = new ZipEntry(entryName);
-                ze.setTime(System.currentTimeMillis());
-                zos.putNextEntry(ze);
-                try {
-                    copy(is, zos);
-                } catch (Exception e) {
-                    log.warn("Skip archive entry {}: failed to read attachmentId {} - {}", entryName, entry.attachmentId(), e.getMessage());
-                } finally {
-                    is.close();
-                }
-                zos.closeEntry();
             }
+        } finally {
+            inFlight.forEach(PrefetchedEntryStream::close);
         }
     }
 
-    private static void copy(InputStream in, OutputStream out) throws IOException {
+    private static void writeEntry(ZipOutputStream zos, PrefetchedEntryStream source) throws IOException {
+        ArchiveEntry entry = source.entry();
+        String entryName = ArchiveNamingService.buildEntryFilename(entry);
+        try {
+            if (!source.awaitOpened()) {
+                log.warn("Skip archive entry {}: no stream for attachmentId {}", entryName, entry.attachmentId());
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for archive entry " + entryName, e);
+        } catch (Exception e) {
+            log.warn("Skip archive entry {}: failed to open attachmentId {} - {}", entryName, entry.attachmentId(), e.getMessage());
+            return;
+        }
+        ZipEntry ze = new ZipEntry(entryName);
+        ze.setTime(System.currentTimeMillis());
+        applyCompression(zos, ze, source);
+        zos.putNextEntry(ze);
+        copy(source, zos, entryName, entry);
+        zos.closeEntry();
+    }
+
+    /**
+     * Write an entry that was never prefetched: the source is opened and read on the writer thread,
+     * with the same per-entry buffer bound, so the entry is encoded exactly as a prefetched one.
+     */
+    private static void writeEntryDirectly(ZipOutputStream zos, ArchiveEntry entry,
+                                           Function<ArchiveEntry, InputStream> openStream,
+                                           Prefetch prefetch) throws IOException {
+        String entryName = ArchiveNamingService.buildEntryFilename(entry);
+        InputStream in;
+        try {
+            in = openStream.apply(entry);
+        } catch (Exception e) {
+            log.warn("Skip archive entry {}: failed to open attachmentId {} - {}", entryName, entry.attachmentId(), e.getMessage());
+            return;
+        }
+        if (in == null) {
+            log.warn("Skip archive entry {}: no stream for attachmentId {}", entryName, entry.attachmentId());
+            return;
+        }
+        try (in) {
+            byte[] head;
+            try {
+                head = in.readNBytes(prefetch.maxChunksPerEntry() * PREFETCH_CHUNK_SIZE + 1);
+            } catch (IOException e) {
+                log.warn("Skip archive entry {}: failed to read attachmentId {} - {}", entryName, entry.attachmentId(), e.getMessage());
+                return;
+            }
+            boolean complete = head.length <= prefetch.maxChunksPerEntry() * PREFETCH_CHUNK_SIZE;
+            ZipEntry ze = new ZipEntry(entryName);
+            ze.setTime(System.currentTimeMillis());
+            if (ArchiveCompressionPolicy.methodFor(entry) == ArchiveCompressionPolicy.Method.DEFLATE) {
+                ze.setMethod(ZipEntry.DEFLATED);
+                zos.setLevel(Deflater.DEFAULT_COMPRESSION);
+            } else if (complete) {
+                CRC32 crc = new CRC32();
+                crc.update(head);
+                ze.setMethod(ZipEntry.STORED);
+                ze.setSize(head.length);
+                ze.setCompressedSize(head.length);
+                ze.setCrc(crc.getValue());
+            } else {
+                ze.setMethod(ZipEntry.DEFLATED);
+                zos.setLevel(Deflater.NO_COMPRESSION);
+            }
+            zos.putNextEntry(ze);
+            zos.write(head);
+            if (!complete) {
+                copy(in, zos, entryName, entry);
+            }
+            zos.closeEntry();
+        }
+    }
+
+    /**
+     * Choose the entry method per {@link ArchiveCompressionPolicy}. Incompressible entries that fit
+     * into the prefetch buffer are STORED with size and CRC taken from the buffer; larger ones are
+     * written as DEFLATE at level 0 (stored blocks), which streams without a precomputed CRC.
+     */
+    private static void applyCompression(ZipOutputStream zos, ZipEntry ze, PrefetchedEntryStream source) throws IOException {
+        if (ArchiveCompressionPolicy.methodFor(source.entry()) == ArchiveCompressionPolicy.Method.DEFLATE) {
+            ze.setMethod(ZipEntry.DEFLATED);
+            zos.setLevel(Deflater.DEFAULT_COMPRESSION);
+            return;
+        }
+        PrefetchedEntryStream.BufferedContent buffered;
+        try {
+            buffered = source.awaitFullyBuffered();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while buffering archive entry " + ze.getName(), e);
+        }
+        if (buffered != null) {
+            ze.setMethod(ZipEntry.STORED);
+            ze.setSize(buffered.sizeBytes());
+            ze.setCompressedSize(buffered.sizeBytes());
+            ze.setCrc(buffered.crc32());
+        } else {
+            ze.setMethod(ZipEntry.DEFLATED);
+            zos.setLevel(Deflater.NO_COMPRESSION);
+        }
+    }
+
+    /**
+     * Copy entry content. A failing source read skips the rest of the entry; a failing write to
+     * the archive output propagates, since the archive cannot continue.
+     */
+    private static void copy(InputStream in, OutputStream out, String entryName, ArchiveEntry entry) throws IOException {
         byte[] buf = new byte[COPY_BUFFER_SIZE];
-        int n;
-        while ((n = in.read(buf)) != -1) {
+        while (true) {
+            int n;
+            try {
+                n = in.read(buf);
+            } catch (IOException e) {
+                log.warn("Skip archive entry {}: failed to read attachmentId {} - {}", entryName, entry.attachmentId(), e.getMessage());
+                return;
+            }
+            if (n == -1) {
+                return;
+            }
             out.write(buf, 0, n);
         }
     }
@@ -62,24 +62,29 @@ public interface TeacherApi {
      * Get all teachers.
      *
      * @return list of all teacher profiles
+     * @deprecated unbounded; use {@link #listTeachers(UUID, int, String)} and walk the pages
      */
+    @Deprecated
     List<TeacherDto> findAll();
 
     /**
-     * List teachers with cursor-based pagination. Ordered by id ascending.
+     * List teachers with keyset (cursor) pagination. Ordered by id ascending.
      *
-     * @param cursor optional cursor (last teacher entity id from previous page); null for first page
-     * @param limit  max items per page (will be capped at 30)
+     * @param cursor  optional cursor (last teacher entity id from previous page); null for first page
+     * @param limit   max items per page (capped at 1000)
+     * @param faculty optional filter by faculty; null for any
      * @return page with items and optional next cursor
      */
-    TeacherPage listTeachers(UUID cursor, int limit);
+    TeacherPage listTeachers(UUID cursor, int limit, String faculty);
 
     /**
      * Find teachers by faculty.
      *
      * @param faculty faculty name
      * @return list of teachers in the faculty
+     * @deprecated unbounded; use {@link #listTeachers(UUID, int, String)} with a faculty filter
      */
+    @Deprecated
     List<TeacherDto> findByFaculty(String faculty);
 
     /**
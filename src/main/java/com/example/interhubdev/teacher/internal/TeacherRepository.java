@@ -1,6 +1,9 @@
 package com.example.interhubdev.teacher.internal;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,7 +25,16 @@ interface TeacherRepository extends JpaRepository<Teacher, UUID> {
 
     List<Teacher> findByFaculty(String faculty);
 
-    List<Teacher> findFirst31ByOrderByIdAsc();
-
-    List<Teacher> findFirst31ByIdGreaterThanOrderByIdAsc(UUID after);
+    /**
+     * First directory page ordered by id; faculty filter is optional (null = any).
+     * Callers request limit + 1 to detect a next page.
+     */
+    @Query("SELECT t FROM Teacher t WHERE (:faculty IS NULL OR t.faculty = :faculty) ORDER BY t.id")
+    List<Teacher> findDirectoryPage(@Param("faculty") String faculty, Pageable pageable);
+
+    /**
+     * Next directory page: teachers with id greater than the cursor, same filter as {@link #findDirectoryPage}.
+     */
+    @Query("SELECT t FROM Teacher t WHERE t.id > :after AND (:faculty IS NULL OR t.faculty = :faculty) ORDER BY t.id")
+    List<Teacher> findDirectoryPageAfter(@Param("after") UUID after, @Param("faculty") String faculty, Pageable pageable);
 }
@@ -8,6 +8,7 @@ import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserApi;
 import com.example.interhubdev.user.UserDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +26,9 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 class TeacherServiceImpl implements TeacherApi {
 
+    /** Hard upper bound for one directory page; callers apply their own (smaller) configured limits. */
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TeacherRepository teacherRepository;
     private final UserApi userApi;
 
@@ -69,11 +73,12 @@ class TeacherServiceImpl implements TeacherApi {
     }
 
     @Override
-    public TeacherPage listTeachers(UUID cursor, int limit) {
-        int capped = Math.min(Math.max(1, limit), 30);
+    public TeacherPage listTeachers(UUID cursor, int limit, String faculty) {
+        int capped = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(0, capped + 1);
         List<Teacher> slice = cursor == null
-                ? teacherRepository.findFirst31ByOrderByIdAsc()
-                : teacherRepository.findFirst31ByIdGreaterThanOrderByIdAsc(cursor);
+                ? teacherRepository.findDirectoryPage(faculty, pageable)
+                : teacherRepository.findDirectoryPageAfter(cursor, faculty, pageable);
         boolean hasMore = slice.size() > capped;
         List<Teacher> pageTeachers = hasMore ? slice.subList(0, capped) : slice;
         UUID nextCursor = hasMore ? pageTeachers.get(pageTeachers.size() - 1).getId() : null;
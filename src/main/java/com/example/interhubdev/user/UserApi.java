@@ -36,7 +36,10 @@ public interface UserApi {
 
     /**
      * Get all users.
+     *
+     * @deprecated unbounded; use {@link #listUsers(UUID, int, Role, UserStatus)} and walk the pages
      */
+    @Deprecated
     List<UserDto> findAll();
 
     /**
@@ -165,11 +168,13 @@ public interface UserApi {
     void deleteUser(UUID userId);
 
     /**
-     * List users with cursor-based pagination. Ordered by id ascending.
+     * List users with keyset (cursor) pagination. Ordered by id ascending.
      *
      * @param cursor optional cursor (last user id from previous page); null for first page
-     * @param limit  max items per page (will be capped at 30)
+     * @param limit  max items per page (capped at 1000)
+     * @param role   optional filter: only users having this role; null for any
+     * @param status optional filter: only users with this status; null for any
      * @return page with items and optional next cursor
      */
-    UserPage listUsers(UUID cursor, int limit);
+    UserPage listUsers(UUID cursor, int limit, Role role, UserStatus status);
 }
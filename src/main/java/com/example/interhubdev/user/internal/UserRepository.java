@@ -2,11 +2,13 @@ package com.example.interhubdev.user.internal;
 
 import com.example.interhubdev.user.Role;
 import com.example.interhubdev.user.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,7 +33,27 @@ interface UserRepository extends JpaRepository<User, UUID> {
 
     List<User> findByRolesContainingAndStatus(Role role, UserStatus status);
 
-    List<User> findFirst31ByOrderByIdAsc();
+    /**
+     * Load role names for many users in one query (avoids one role query per user when building a page).
+     *
+     * @return rows of [user_id, role]
+     */
+    @Query(value = "SELECT user_id, role FROM user_roles WHERE user_id IN (:userIds)", nativeQuery = true)
+    List<Object[]> findRoleRowsByUserIds(@Param("userIds") Collection<UUID> userIds);
 
-    List<User> findFirst31ByIdGreaterThanOrderByIdAsc(UUID after);
+    /**
+     * First directory page ordered by id; role and status filters are optional (null = any).
+     * Page size comes from the pageable (callers request limit + 1 to detect a next page).
+     */
+    @Query("SELECT u FROM User u WHERE (:status IS NULL OR u.status = :status) "
+            + "AND (:role IS NULL OR :role MEMBER OF u.roles) ORDER BY u.id")
+    List<User> findDirectoryPage(@Param("role") Role role, @Param("status") UserStatus status, Pageable pageable);
+
+    /**
+     * Next directory page: users with id greater than the cursor, same filters as {@link #findDirectoryPage}.
+     */
+    @Query("SELECT u FROM User u WHERE u.id > :after AND (:status IS NULL OR u.status = :status) "
+            + "AND (:role IS NULL OR :role MEMBER OF u.roles) ORDER BY u.id")
+    List<User> findDirectoryPageAfter(@Param("after") UUID after, @Param("role") Role role,
+                                      @Param("status") UserStatus status, Pageable pageable);
 }
@@ -6,14 +6,18 @@ import com.example.interhubdev.user.UserDto;
 import com.example.interhubdev.user.UserPage;
 import com.example.interhubdev.user.UserStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -24,6 +28,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 class UserServiceImpl implements UserApi {
 
+    /** Hard upper bound for one directory page; callers apply their own (smaller) configured limits. */
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -37,9 +44,7 @@ class UserServiceImpl implements UserApi {
         if (ids == null || ids.isEmpty()) {
             return List.of();
         }
-        return userRepository.findAllById(ids).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(userRepository.findAllById(ids));
     }
 
     @Override
@@ -54,23 +59,17 @@ class UserServiceImpl implements UserApi {
 
     @Override
     public List<UserDto> findAll() {
-        return userRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(userRepository.findAll());
     }
 
     @Override
     public List<UserDto> findByRole(Role role) {
-        return userRepository.findByRolesContaining(role).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(userRepository.findByRolesContaining(role));
     }
 
     @Override
     public List<UserDto> findByStatus(UserStatus status) {
-        return userRepository.findByStatus(status).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(userRepository.findByStatus(status));
     }
 
     @Override
@@ -228,18 +227,16 @@ class UserServiceImpl implements UserApi {
     }
 
     @Override
-    public UserPage listUsers(UUID cursor, int limit) {
-        int capped = Math.min(Math.max(1, limit), 30);
+    public UserPage listUsers(UUID cursor, int limit, Role role, UserStatus status) {
+        int capped = Math.min(Math.max(1, limit), MAX_PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(0, capped + 1);
         List<User> slice = cursor == null
-                ? userRepository.findFirst31ByOrderByIdAsc()
-                : userRepository.findFirst31ByIdGreaterThanOrderByIdAsc(cursor);
+                ? userRepository.findDirectoryPage(role, status, pageable)
+                : userRepository.findDirectoryPageAfter(cursor, role, status, pageable);
         boolean hasMore = slice.size() > capped;
         List<User> pageUsers = hasMore ? slice.subList(0, capped) : slice;
         UUID nextCursor = hasMore ? pageUsers.get(pageUsers.size() - 1).getId() : null;
-        return new UserPage(
-                pageUsers.stream().map(this::toDto).collect(Collectors.toList()),
-                nextCursor
-        );
+        return new UserPage(toDtos(pageUsers), nextCursor);
     }
 
     private UserDto toDto(User user) {
@@ -247,6 +244,26 @@ class UserServiceImpl implements UserApi {
         List<Role> roles = userRepository.findRoleNamesByUserId(user.getId()).stream()
                 .map(Role::valueOf)
                 .toList();
+        return toDto(user, roles);
+    }
+
+    /**
+     * Map many users with their roles loaded in a single user_roles query.
+     */
+    private List<UserDto> toDtos(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<Role>> rolesByUserId = new HashMap<>();
+        for (Object[] row : userRepository.findRoleRowsByUserIds(users.stream().map(User::getId).toList())) {
+            rolesByUserId.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add(Role.valueOf((String) row[1]));
+        }
+        return users.stream()
+                .map(user -> toDto(user, rolesByUserId.getOrDefault(user.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private static UserDto toDto(User user, List<Role> roles) {
         return new UserDto(
                 user.getId(),
                 user.getEmail(),
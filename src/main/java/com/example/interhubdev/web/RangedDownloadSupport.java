@@ -0,0 +1,257 @@
+package com.example.interhubdev.web;
+
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared helper that writes backend-controlled attachment downloads with HTTP validators and
+ * byte-range support.
+ * <p>
+ * Conditional requests ({@code If-None-Match}, {@code If-Modified-Since}) are answered from the
+ * source validators before any bytes are read. Satisfiable {@code Range} requests are mapped onto
+ * ranged storage reads: one range yields {@code 206} with {@code Content-Range}, several ranges
+ * yield {@code multipart/byteranges} with one ranged read per part.
+ */
+public final class RangedDownloadSupport {
+
+    /**
+     * Upper bound for distinct (coalesced) ranges served as multipart; larger sets get the full body.
+     */
+    private static final int MAX_RANGES = 16;
+    private static final String CRLF = "\r\n";
+    private static final String PART_CONTENT_TYPE = MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+    private RangedDownloadSupport() {
+    }
+
+    public static void write(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FileAssetDownloadSource source
+    ) throws IOException {
+        String etag = source.etag();
+        long lastModified = source.lastModified() != null ? source.lastModified().toEpochMilli() : -1;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            // 304 (or 412 for failed If-Match); validators are already set, no storage read happens.
+            return;
+        }
+
+        String safeFilename = FilenameSanitizer.sanitizeForContentDisposition(source.originalName());
+        String encodedFilename = URLEncoder.encode(safeFilename, StandardCharsets.UTF_8).replace("+", "%20");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename*=UTF-8''" + encodedFilename);
+
+        long size = source.sizeBytes();
+        List<ByteSpan> spans;
+        try {
+            spans = resolveRanges(request, etag, lastModified, size);
+        } catch (UnsatisfiableRangeException e) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            return;
+        }
+
+        if (spans.isEmpty()) {
+            writeFull(response, source);
+        } else if (spans.size() == 1) {
+            writeSingleRange(response, source, spans.get(0));
+        } else {
+            writeMultipleRanges(response, source, spans);
+        }
+    }
+
+    private static void writeFull(HttpServletResponse response, FileAssetDownloadSource source) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(PART_CONTENT_TYPE);
+        response.setContentLengthLong(source.sizeBytes());
+        if (source.sizeBytes() == 0) {
+            return;
+        }
+        ServletOutputStream out = response.getOutputStream();
+        try (InputStream in = source.openFull()) {
+            in.transferTo(out);
+        }
+        out.flush();
+    }
+
+    private static void writeSingleRange(
+        HttpServletResponse response,
+        FileAssetDownloadSource source,
+        ByteSpan span
+    ) throws IOException {
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType(PART_CONTENT_TYPE);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, span.contentRange(source.sizeBytes()));
+        response.setContentLengthLong(span.length());
+        ServletOutputStream out = response.getOutputStream();
+        try (InputStream in = source.openRange(span.start(), span.length())) {
+            in.transferTo(out);
+        }
+        out.flush();
+    }
+
+    private static void writeMultipleRanges(
+        HttpServletResponse response,
+        FileAssetDownloadSource source,
+        List<ByteSpan> spans
+    ) throws IOException {
+        String boundary = UUID.randomUUID().toString().replace("-", "");
+        long size = source.sizeBytes();
+
+        List<byte[]> partHeaders = new ArrayList<>(spans.size());
+        long contentLength = 0;
+        for (ByteSpan span : spans) {
+            byte[] header = ("--" + boundary + CRLF
+                + HttpHeaders.CONTENT_TYPE + ": " + PART_CONTENT_TYPE + CRLF
+                + HttpHeaders.CONTENT_RANGE + ": " + span.contentRange(size) + CRLF
+                + CRLF).getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.length + span.length() + CRLF.length();
+        }
+        byte[] closing = ("--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+
+        ServletOutputStream out = response.getOutputStream();
+        for (int i = 0; i < spans.size(); i++) {
+            ByteSpan span = spans.get(i);
+            out.write(partHeaders.get(i));
+            try (InputStream in = source.openRange(span.start(), span.length())) {
+                in.transferTo(out);
+            }
+            out.write(CRLF.getBytes(StandardCharsets.US_ASCII));
+        }
+        out.write(closing);
+        out.flush();
+    }
+
+    /**
+     * Resolve the requested byte spans, sorted and coalesced. Empty list means "send the full body".
+     */
+    private static List<ByteSpan> resolveRanges(
+        HttpServletRequest request,
+        String etag,
+        long lastModified,
+        long size
+    ) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || rangeHeader.isBlank() || !ifRangeMatches(request, etag, lastModified)) {
+            return List.of();
+        }
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            // Syntactically invalid Range header: ignore it and serve the full representation.
+            return List.of();
+        }
+        if (ranges.isEmpty()) {
+            return List.of();
+        }
+
+        List<ByteSpan> spans = new ArrayList<>(ranges.size());
+        for (HttpRange range : ranges) {
+            long start;
+            long end;
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (start <= end && start < size) {
+                spans.add(new ByteSpan(start, end));
+            }
+        }
+        if (spans.isEmpty()) {
+            throw new UnsatisfiableRangeException();
+        }
+
+        List<ByteSpan> coalesced = coalesce(spans);
+        if (coalesced.size() > MAX_RANGES) {
+            return List.of();
+        }
+        if (coalesced.size() == 1 && coalesced.get(0).start() == 0 && coalesced.get(0).length() == size) {
+            return List.of();
+        }
+        return coalesced;
+    }
+
+    private static List<ByteSpan> coalesce(List<ByteSpan> spans) {
+        List<ByteSpan> sorted = new ArrayList<>(spans);
+        sorted.sort(Comparator.comparingLong(ByteSpan::start));
+        List<ByteSpan> result = new ArrayList<>(sorted.size());
+        ByteSpan current = sorted.get(0);
+        for (int i = 1; i < sorted.size(); i++) {
+            ByteSpan next = sorted.get(i);
+            if (next.start() <= current.end() + 1) {
+                current = new ByteSpan(current.start(), Math.max(current.end(), next.end()));
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        result.add(current);
+        return result;
+    }
+
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            // If-Range requires strong comparison; weak validators never match.
+            return value.equals(etag);
+        }
+        if (lastModified < 0) {
+            return false;
+        }
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeDate >= 0 && ifRangeDate / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private record ByteSpan(long start, long end) {
+
+        long length() {
+            return end - start + 1;
+        }
+
+        String contentRange(long size) {
+            return "bytes " + start + "-" + end + "/" + size;
+        }
+    }
+
+    private static final class UnsatisfiableRangeException extends RuntimeException {
+
+        UnsatisfiableRangeException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- =============================================================================
+-- Fileasset: persist the storage ETag of the promoted final object so that
+-- backend-controlled downloads can answer conditional requests (If-None-Match,
+-- If-Range) without a storage round-trip.
+-- =============================================================================
+
+ALTER TABLE file_asset ADD COLUMN final_object_etag VARCHAR(255);
+
+COMMENT ON COLUMN file_asset.final_object_etag IS 'Storage ETag of the final object; strong validator for backend-controlled delivery.';
@@ -0,0 +1,8 @@
+-- =============================================================================
+-- Fileasset: direct (presigned) multipart uploads. The storage upload id is kept
+-- until completion so that expired or abandoned uploads can be aborted.
+-- =============================================================================
+
+ALTER TABLE file_asset ADD COLUMN multipart_upload_id VARCHAR(1024);
+
+COMMENT ON COLUMN file_asset.multipart_upload_id IS 'Internal storage multipart upload id of a pending direct upload; never exposed outside fileasset.';
@@ -0,0 +1,86 @@
+-- =============================================================================
+-- Notification: monthly range partitioning on created_at.
+--
+-- Partitions are named notification_pYYYYMM and are created ahead of time by the
+-- notification retention job, which also detaches and drops partitions older than
+-- the retention period. notification_default only catches rows outside every
+-- monthly partition (the job keeps it empty).
+--
+-- A partitioned table cannot enforce UNIQUE (recipient_user_id, source_event_id)
+-- without created_at in the key; idempotency of the outbox fan-out is therefore
+-- enforced by the insert itself (NOT EXISTS on idx_notification_recipient_source_event,
+-- restricted to partitions since the source event occurred).
+-- =============================================================================
+
+ALTER TABLE notification RENAME TO notification_unpartitioned;
+
+CREATE TABLE notification (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    recipient_user_id UUID NOT NULL,
+    template_key VARCHAR(255) NOT NULL,
+    params_json JSONB NOT NULL,
+    data_json JSONB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    read_at TIMESTAMP,
+    archived_at TIMESTAMP,
+    source_event_id UUID NOT NULL,
+    source_event_type VARCHAR(255) NOT NULL,
+    source_occurred_at TIMESTAMP NOT NULL
+) PARTITION BY RANGE (created_at);
+
+-- One partition per month from the oldest existing notification up to three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month',
+            COALESCE((SELECT MIN(created_at) FROM notification_unpartitioned), CURRENT_TIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF notification FOR VALUES FROM (%L) TO (%L)',
+                       'notification_p' || to_char(month_start, 'YYYYMM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+CREATE TABLE notification_default PARTITION OF notification DEFAULT;
+
+INSERT INTO notification (id, recipient_user_id, template_key, params_json, data_json, created_at,
+                          read_at, archived_at, source_event_id, source_event_type, source_occurred_at)
+SELECT id, recipient_user_id, template_key, params_json, data_json, created_at,
+       read_at, archived_at, source_event_id, source_event_type, source_occurred_at
+FROM notification_unpartitioned;
+
+DROP TABLE notification_unpartitioned;
+
+ALTER TABLE notification ADD CONSTRAINT pk_notification PRIMARY KEY (id, created_at);
+
+-- Inbox (all / unread) ordered by created_at DESC; the partial index also serves unread counts
+CREATE INDEX idx_notification_recipient_created
+    ON notification(recipient_user_id, created_at DESC);
+
+CREATE INDEX idx_notification_recipient_unread_created
+    ON notification(recipient_user_id, created_at DESC)
+    WHERE read_at IS NULL AND archived_at IS NULL;
+
+-- Idempotency check of the outbox fan-out (replaces the unique constraint)
+CREATE INDEX idx_notification_recipient_source_event
+    ON notification(recipient_user_id, source_event_id);
+
+-- Archival of read notifications
+CREATE INDEX idx_notification_read_not_archived
+    ON notification(read_at)
+    WHERE read_at IS NOT NULL AND archived_at IS NULL;
+
+COMMENT ON TABLE notification IS 'In-app notification inbox for users (range-partitioned by created_at, one partition per month)';
+COMMENT ON COLUMN notification.recipient_user_id IS 'User ID who receives this notification';
+COMMENT ON COLUMN notification.template_key IS 'Template key for client-side localization (e.g., attendance.absenceNotice.submitted)';
+COMMENT ON COLUMN notification.params_json IS 'JSON object with parameters for template rendering';
+COMMENT ON COLUMN notification.data_json IS 'JSON object with data for deep-linking and navigation';
+COMMENT ON COLUMN notification.created_at IS 'When the notification was created (partition key)';
+COMMENT ON COLUMN notification.read_at IS 'When the notification was marked as read (null if unread)';
+COMMENT ON COLUMN notification.archived_at IS 'When the read notification was archived out of the inbox (null if not archived)';
+COMMENT ON COLUMN notification.source_event_id IS 'ID of the outbox_event that created this notification';
+COMMENT ON COLUMN notification.source_event_type IS 'Type of the outbox event (for diagnostics/analytics)';
+COMMENT ON COLUMN notification.source_occurred_at IS 'When the source event occurred (for ordering/debugging)';
@@ -0,0 +1,16 @@
+-- =============================================================================
+-- Notification: coalescing of bursty notifications. A notification with a
+-- coalesce key absorbs later notifications with the same recipient and key while
+-- it is unread (latest content wins); coalesced_count tells how many it stands for.
+-- =============================================================================
+
+ALTER TABLE notification ADD COLUMN coalesce_key VARCHAR(255);
+ALTER TABLE notification ADD COLUMN coalesced_count INTEGER NOT NULL DEFAULT 1;
+
+-- Lookup of the unread notification to merge into
+CREATE INDEX idx_notification_recipient_coalesce_key
+    ON notification(recipient_user_id, coalesce_key, created_at DESC)
+    WHERE coalesce_key IS NOT NULL AND read_at IS NULL AND archived_at IS NULL;
+
+COMMENT ON COLUMN notification.coalesce_key IS 'Key under which later notifications for the same recipient are merged into this one while unread (null = never merged)';
+COMMENT ON COLUMN notification.coalesced_count IS 'Number of notifications merged into this row (1 = not coalesced)';
@@ -0,0 +1,13 @@
+-- =============================================================================
+-- Submission summaries: keyset pagination on (submitted_at, id) per homework.
+-- author_id is included so the page itself is cut from the index alone;
+-- attachment counts use uk_submission_attachment_submission_file_asset
+-- (submission_id, file_asset_id), which already covers the join.
+-- =============================================================================
+
+CREATE INDEX idx_homework_submission_homework_submitted
+    ON homework_submission(homework_id, submitted_at DESC, id DESC)
+    INCLUDE (author_id);
+
+-- Prefix of the new index
+DROP INDEX IF EXISTS idx_homework_submission_homework_id;
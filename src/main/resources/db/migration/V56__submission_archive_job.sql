@@ -0,0 +1,39 @@
+-- =============================================================================
+-- Pre-built submissions archives: one background build per homework, shared by
+-- every teacher who downloads it. The built ZIP is a GENERATED_ARCHIVE file asset.
+-- =============================================================================
+
+CREATE TABLE submission_archive_job (
+    id UUID PRIMARY KEY,
+    homework_id UUID NOT NULL REFERENCES homework(id) ON DELETE CASCADE,
+    status VARCHAR(32) NOT NULL,
+    requested_by UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    attempts INT NOT NULL DEFAULT 0,
+    file_asset_id UUID REFERENCES file_asset(id) ON DELETE SET NULL,
+    filename VARCHAR(512),
+    size_bytes BIGINT,
+    failure_message VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+-- At most one live job per homework (arbiter of the insert-if-absent on request)
+CREATE UNIQUE INDEX uk_submission_archive_job_live
+    ON submission_archive_job(homework_id)
+    WHERE status IN ('PENDING', 'BUILDING', 'READY');
+
+-- Worker queue
+CREATE INDEX idx_submission_archive_job_pending
+    ON submission_archive_job(created_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_submission_archive_job_building
+    ON submission_archive_job(started_at)
+    WHERE status = 'BUILDING';
+
+COMMENT ON TABLE submission_archive_job IS 'Background builds of homework submissions ZIP archives; READY rows reference the stored archive';
+COMMENT ON COLUMN submission_archive_job.status IS 'PENDING, BUILDING, READY, FAILED or STALE (submissions changed or archive expired)';
+COMMENT ON COLUMN submission_archive_job.requested_by IS 'User whose permissions are used to read submissions while building';
+COMMENT ON COLUMN submission_archive_job.attempts IS 'Build attempts; only the latest claimed attempt may complete the job';
+COMMENT ON COLUMN submission_archive_job.file_asset_id IS 'Stored archive (GENERATED_ARCHIVE file asset) once READY';
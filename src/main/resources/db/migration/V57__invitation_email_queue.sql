@@ -0,0 +1,38 @@
+-- =============================================================================
+-- Invitation email delivery queue: the invitation row itself is the queue entry.
+-- Creating or resending an invitation sets email_next_attempt_at in the same
+-- transaction; the dispatcher claims due PENDING rows (and SENDING rows whose lease
+-- ran out) with FOR UPDATE SKIP LOCKED and sends them on its own worker pool.
+--
+-- Bulk invitations are grouped into an invitation_run for progress reporting.
+-- =============================================================================
+
+CREATE TABLE invitation_run (
+    id UUID PRIMARY KEY,
+    invited_by_id UUID REFERENCES users(id) ON DELETE SET NULL,
+    total INT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE invitations ADD COLUMN email_next_attempt_at TIMESTAMP;
+ALTER TABLE invitations ADD COLUMN email_last_error VARCHAR(1000);
+ALTER TABLE invitations ADD COLUMN run_id UUID REFERENCES invitation_run(id) ON DELETE SET NULL;
+
+-- Invitations still waiting for their email when the queue is introduced are delivered by the dispatcher
+UPDATE invitations SET email_next_attempt_at = now()
+WHERE status IN ('PENDING', 'SENDING') AND email_next_attempt_at IS NULL;
+
+-- Dispatcher queue (only rows still waiting for delivery)
+CREATE INDEX idx_invitations_email_due
+    ON invitations(email_next_attempt_at)
+    WHERE status IN ('PENDING', 'SENDING') AND email_next_attempt_at IS NOT NULL;
+
+-- Run progress (counts by status)
+CREATE INDEX idx_invitations_run_id
+    ON invitations(run_id, status)
+    WHERE run_id IS NOT NULL;
+
+COMMENT ON TABLE invitation_run IS 'Bulk invitation run; invitations reference it via run_id for delivery progress';
+COMMENT ON COLUMN invitations.email_next_attempt_at IS 'When the dispatcher may (re)try the invitation email; lease end while SENDING; null = not queued';
+COMMENT ON COLUMN invitations.email_last_error IS 'Error of the last failed email attempt';
+COMMENT ON COLUMN invitations.run_id IS 'Bulk invitation run this invitation was created in (null for single invitations)';
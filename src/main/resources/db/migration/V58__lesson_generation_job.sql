@@ -0,0 +1,39 @@
+-- =============================================================================
+-- Semester-wide lesson generation jobs. A job generates lessons for every group
+-- that has offerings; the worker processes groups in parallel chunks (one
+-- transaction per chunk) and records progress on the job row.
+-- =============================================================================
+
+CREATE TABLE lesson_generation_job (
+    id UUID PRIMARY KEY,
+    semester_id UUID NOT NULL REFERENCES semester(id) ON DELETE CASCADE,
+    status VARCHAR(32) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    total_groups INT NOT NULL DEFAULT 0,
+    processed_groups INT NOT NULL DEFAULT 0,
+    failed_groups INT NOT NULL DEFAULT 0,
+    lessons_created INT NOT NULL DEFAULT 0,
+    failure_message VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+-- At most one live job per semester (arbiter of the insert-if-absent on request)
+CREATE UNIQUE INDEX uk_lesson_generation_job_live
+    ON lesson_generation_job(semester_id)
+    WHERE status IN ('PENDING', 'RUNNING');
+
+-- Worker queue
+CREATE INDEX idx_lesson_generation_job_pending
+    ON lesson_generation_job(created_at)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_lesson_generation_job_running
+    ON lesson_generation_job(started_at)
+    WHERE status = 'RUNNING';
+
+COMMENT ON TABLE lesson_generation_job IS 'Background semester-wide lesson generation for all groups with offerings';
+COMMENT ON COLUMN lesson_generation_job.status IS 'PENDING, RUNNING, COMPLETED (failed_groups may be > 0) or FAILED';
+COMMENT ON COLUMN lesson_generation_job.attempts IS 'Run attempts; only the latest claimed attempt may record progress';
+COMMENT ON COLUMN lesson_generation_job.failed_groups IS 'Groups whose chunk transaction failed and was rolled back';
@@ -0,0 +1,22 @@
+-- =============================================================================
+-- iCalendar subscription feeds. A feed is owned by a user (their student and
+-- teacher timetable) or by a group; the token is the credential in the feed URL
+-- that calendar apps poll, so it stays stable until the owner rotates it.
+-- =============================================================================
+
+CREATE TABLE calendar_feed (
+    id UUID PRIMARY KEY,
+    owner_type VARCHAR(16) NOT NULL,
+    owner_id UUID NOT NULL,
+    token VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_calendar_feed_owner_type CHECK (owner_type IN ('USER', 'GROUP')),
+    CONSTRAINT uk_calendar_feed_owner UNIQUE (owner_type, owner_id),
+    CONSTRAINT uk_calendar_feed_token UNIQUE (token)
+);
+
+-- Change detection for feed revalidation (count and max(updated_at) per offering and date range)
+CREATE INDEX idx_lesson_offering_date ON lesson(offering_id, date);
+
+COMMENT ON TABLE calendar_feed IS 'ICS subscription feeds; token is the bearer credential of the feed URL';
+COMMENT ON COLUMN calendar_feed.owner_id IS 'users.id for USER feeds, student_group.id for GROUP feeds';
@@ -0,0 +1,25 @@
+-- =============================================================================
+-- Composite indexes for keyset-paginated directory listings (users, students,
+-- teachers). Pages are ordered by id and optionally filtered by one column, so
+-- (filter, id) lets a page be read as an index range scan instead of sorting
+-- all matching rows. They replace the single-column filter indexes, which are
+-- their prefixes.
+-- Role filter checks user_roles per user via its (user_id, role) primary key;
+-- (role, user_id) serves role-only lookups. Group membership filter uses the
+-- existing uq_student_group_member (student_id, group_id).
+-- =============================================================================
+
+CREATE INDEX idx_users_status_id ON users(status, id);
+DROP INDEX IF EXISTS idx_users_status;
+
+CREATE INDEX idx_user_roles_role_user_id ON user_roles(role, user_id);
+DROP INDEX IF EXISTS idx_user_roles_role;
+
+CREATE INDEX idx_students_faculty_id ON students(faculty, id);
+DROP INDEX IF EXISTS idx_students_faculty;
+
+CREATE INDEX idx_students_group_name_id ON students(group_name, id);
+DROP INDEX IF EXISTS idx_students_group_name;
+
+CREATE INDEX idx_teachers_faculty_id ON teachers(faculty, id);
+DROP INDEX IF EXISTS idx_teachers_faculty;
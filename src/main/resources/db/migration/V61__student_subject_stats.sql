@@ -0,0 +1,31 @@
+-- =============================================================================
+-- Precomputed per-(student, offering, semester) subject statistics for the
+-- student dashboard. Rows are filled on read (live computation on a miss) and
+-- invalidated from outbox events (attendance marks, grade changes, homework
+-- created/deleted, submissions, lesson changes). A row is valid only while it
+-- was computed after the latest invalidation of its (student, offering), so a
+-- computation racing with a write is never served after the write.
+-- =============================================================================
+
+CREATE TABLE student_subject_stats (
+    student_id UUID NOT NULL,
+    offering_id UUID NOT NULL,
+    semester_id UUID NOT NULL,
+    attendance_percent DOUBLE PRECISION,
+    submitted_homework_count INT NOT NULL,
+    total_homework_count INT NOT NULL,
+    total_points NUMERIC(10, 2) NOT NULL,
+    computed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (student_id, semester_id, offering_id)
+);
+
+CREATE TABLE student_subject_stats_invalidation (
+    student_id UUID NOT NULL,
+    offering_id UUID NOT NULL,
+    invalidated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (student_id, offering_id)
+);
+
+COMMENT ON TABLE student_subject_stats IS 'Read model: student dashboard stats per subject; valid while computed_at is after the invalidation';
+COMMENT ON COLUMN student_subject_stats.computed_at IS 'When the computation started (not finished), so writes during it invalidate the row';
+COMMENT ON TABLE student_subject_stats_invalidation IS 'Latest change affecting a student''s stats in an offering (any semester)';
@@ -0,0 +1,36 @@
+-- =============================================================================
+-- Notification: idempotency of the outbox fan-out.
+--
+-- The partitioned notification table cannot carry UNIQUE (recipient_user_id,
+-- source_event_id). This non-partitioned table holds that key instead: the insert
+-- of a notification claims its (recipient, source event) here with
+-- ON CONFLICT DO NOTHING in the same statement, so concurrent workers handling
+-- the same event serialize on the primary key and only one notification is created.
+-- Rows are purged by the retention job together with the expired partitions.
+-- =============================================================================
+
+CREATE TABLE notification_source_event (
+    recipient_user_id UUID NOT NULL,
+    source_event_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_notification_source_event PRIMARY KEY (recipient_user_id, source_event_id)
+);
+
+INSERT INTO notification_source_event (recipient_user_id, source_event_id, created_at)
+SELECT recipient_user_id, source_event_id, MIN(created_at)
+FROM notification
+GROUP BY recipient_user_id, source_event_id;
+
+-- Purge of entries older than the notification retention
+CREATE INDEX idx_notification_source_event_created
+    ON notification_source_event(created_at);
+
+-- The idempotency check no longer reads the notification table
+DROP INDEX IF EXISTS idx_notification_recipient_source_event;
+
+-- Template key analytics (dropped when the table was partitioned in V53)
+CREATE INDEX idx_notification_template_key_created
+    ON notification(template_key, created_at);
+
+COMMENT ON TABLE notification_source_event IS 'Outbox events already turned into a notification per recipient (idempotency of the fan-out)';
+COMMENT ON COLUMN notification_source_event.created_at IS 'When the notification for the event was created (retention)';
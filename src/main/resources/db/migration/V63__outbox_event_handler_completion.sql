@@ -0,0 +1,13 @@
+-- Per-handler completion of outbox events with several handlers: when one handler fails, the handlers
+-- that already succeeded are recorded here and skipped when the event is retried. Rows are written only
+-- on such failures and removed once the event is done.
+
+CREATE TABLE outbox_event_handler_completion (
+    event_id UUID NOT NULL REFERENCES outbox_event (id) ON DELETE CASCADE,
+    handler_name VARCHAR(255) NOT NULL,
+    completed_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (event_id, handler_name)
+);
+
+COMMENT ON TABLE outbox_event_handler_completion IS 'Handlers of a retried outbox event that already completed (skipped on retry)';
+COMMENT ON COLUMN outbox_event_handler_completion.handler_name IS 'Spring bean name of the handler';
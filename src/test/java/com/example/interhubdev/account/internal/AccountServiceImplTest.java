@@ -0,0 +1,113 @@
+package com.example.interhubdev.account.internal;
+
+import com.example.interhubdev.account.StudentListPage;
+import com.example.interhubdev.account.StudentProfileItem;
+import com.example.interhubdev.auth.AuthApi;
+import com.example.interhubdev.invitation.InvitationApi;
+import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.student.StudentDto;
+import com.example.interhubdev.student.StudentPage;
+import com.example.interhubdev.teacher.TeacherApi;
+import com.example.interhubdev.user.Role;
+import com.example.interhubdev.user.UserApi;
+import com.example.interhubdev.user.UserDto;
+import com.example.interhubdev.user.UserPage;
+import com.example.interhubdev.user.UserStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountServiceImpl directory")
+class AccountServiceImplTest {
+
+    @Mock
+    private UserApi userApi;
+    @Mock
+    private AuthApi authApi;
+    @Mock
+    private StudentApi studentApi;
+    @Mock
+    private TeacherApi teacherApi;
+    @Mock
+    private InvitationApi invitationApi;
+
+    @InjectMocks
+    private AccountServiceImpl accountService;
+
+    @Test
+    @DisplayName("listUsers caps the page size and passes filters through")
+    void listUsersCapsPageSize() {
+        UserPage page = new UserPage(List.of(), null);
+        when(userApi.listUsers(null, 100, Role.TEACHER, UserStatus.ACTIVE)).thenReturn(page);
+
+        assertThat(accountService.listUsers(null, 10_000, Role.TEACHER, UserStatus.ACTIVE)).isSameAs(page);
+    }
+
+    @Test
+    @DisplayName("exportUsers walks keyset pages until there is no next cursor")
+    void exportUsersWalksAllPages() {
+        UserDto first = user();
+        UserDto second = user();
+        UserDto third = user();
+        when(userApi.listUsers(null, 500, null, UserStatus.ACTIVE))
+                .thenReturn(new UserPage(List.of(first, second), second.id()));
+        when(userApi.listUsers(second.id(), 500, null, UserStatus.ACTIVE))
+                .thenReturn(new UserPage(List.of(third), null));
+
+        List<UserDto> exported = new ArrayList<>();
+        accountService.exportUsers(null, UserStatus.ACTIVE, exported::add);
+
+        assertThat(exported).containsExactly(first, second, third);
+    }
+
+    @Test
+    @DisplayName("exportStudents enriches each page with display names and keeps the filters")
+    void exportStudentsEnrichesPages() {
+        UUID groupId = UUID.randomUUID();
+        UserDto user = user();
+        StudentDto student = new StudentDto(UUID.randomUUID(), user.id(), "S-1", null, "CS", "1", 2025, null,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(studentApi.listStudents(null, 500, "CS", null, groupId))
+                .thenReturn(new StudentPage(List.of(student), null));
+        when(userApi.findByIds(List.of(user.id()))).thenReturn(List.of(user));
+        when(studentApi.studentDisplayName(eq(student), any())).thenReturn("Ivan Petrov");
+
+        List<StudentProfileItem> exported = new ArrayList<>();
+        accountService.exportStudents("CS", null, groupId, exported::add);
+
+        assertThat(exported).containsExactly(new StudentProfileItem(student, "Ivan Petrov"));
+        verify(studentApi).listStudents(null, 500, "CS", null, groupId);
+    }
+
+    @Test
+    @DisplayName("listStudents returns an empty page without loading users")
+    void listStudentsEmptyPage() {
+        when(studentApi.listStudents(any(), anyInt(), any(), any(), any())).thenReturn(new StudentPage(List.of(), null));
+
+        StudentListPage page = accountService.listStudents(null, 30, null, null, null);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    private static UserDto user() {
+        return new UserDto(UUID.randomUUID(), UUID.randomUUID() + "@example.com", List.of(Role.STUDENT),
+                UserStatus.ACTIVE, "Ivan", "Petrov", null, null, LocalDateTime.now(), null, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.interhubdev.adapter;
+
+import com.example.interhubdev.notification.ResolvedNotificationContent;
+import com.example.interhubdev.notification.ResolvedNotificationItem;
+import com.example.interhubdev.offering.OfferingApi;
+import com.example.interhubdev.offering.OfferingTeacherItemDto;
+import com.example.interhubdev.program.ProgramApi;
+import com.example.interhubdev.schedule.LessonDto;
+import com.example.interhubdev.schedule.ScheduleApi;
+import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.teacher.TeacherApi;
+import com.example.interhubdev.teacher.TeacherDto;
+import com.example.interhubdev.user.UserApi;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationContentResolverAdapter")
+class NotificationContentResolverAdapterTest {
+
+    @Mock
+    private StudentApi studentApi;
+    @Mock
+    private UserApi userApi;
+    @Mock
+    private ScheduleApi scheduleApi;
+    @Mock
+    private OfferingApi offeringApi;
+    @Mock
+    private TeacherApi teacherApi;
+    @Mock
+    private ProgramApi programApi;
+    @InjectMocks
+    private NotificationContentResolverAdapter adapter;
+
+    @Test
+    @DisplayName("resolves an absence notice over many sessions with one batch lookup per kind")
+    void absenceNoticeUsesBatchLookups() {
+        UUID offeringA = UUID.randomUUID();
+        UUID offeringB = UUID.randomUUID();
+        UUID teacherId = UUID.randomUUID();
+        UUID slotTeacherId = UUID.randomUUID();
+        UUID teacherUserId = UUID.randomUUID();
+        UUID slotTeacherUserId = UUID.randomUUID();
+        List<LessonDto> lessons = IntStream.range(0, 25)
+                .mapToObj(i -> lesson(i % 2 == 0 ? offeringA : offeringB))
+                .toList();
+        when(studentApi.findById(any())).thenReturn(Optional.empty());
+        when(scheduleApi.findLessonsByIds(anyList())).thenReturn(lessons);
+        when(offeringApi.findTeachersByOfferingIds(any())).thenReturn(Map.of(
+                offeringA, List.of(new OfferingTeacherItemDto(teacherId, null)),
+                offeringB, List.of(new OfferingTeacherItemDto(teacherId, null),
+                        new OfferingTeacherItemDto(slotTeacherId, "LAB"))));
+        when(teacherApi.findByIds(anyList())).thenReturn(List.of(teacher(teacherId, teacherUserId), teacher(slotTeacherId, slotTeacherUserId)));
+
+        Map<String, Object> payload = Map.of(
+                "noticeId", UUID.randomUUID().toString(),
+                "studentId", UUID.randomUUID().toString(),
+                "type", "ABSENT",
+                "submittedAt", "2025-02-20T10:00:00Z",
+                "sessionIds", lessons.stream().map(l -> l.id().toString()).toList());
+
+        Optional<ResolvedNotificationContent> content = adapter.resolve("attendance.absence_notice.submitted", payload);
+
+        assertThat(content).isPresent();
+        assertThat(content.get().items()).extracting(ResolvedNotificationItem::recipientUserId)
+                .containsExactlyInAnyOrder(teacherUserId, slotTeacherUserId);
+        verify(scheduleApi, times(1)).findLessonsByIds(anyList());
+        verify(offeringApi, times(1)).findTeachersByOfferingIds(any());
+        verify(teacherApi, times(1)).findByIds(anyList());
+        verify(scheduleApi, never()).findLessonById(any());
+        verify(offeringApi, never()).findTeachersByOfferingId(any());
+        verify(teacherApi, never()).findById(any());
+    }
+
+    private static LessonDto lesson(UUID offeringId) {
+        return new LessonDto(UUID.randomUUID(), offeringId, null, LocalDate.of(2025, 2, 20),
+                null, null, null, null, null, "PLANNED", null, null);
+    }
+
+    private static TeacherDto teacher(UUID id, UUID userId) {
+        return new TeacherDto(id, userId, "T-" + id, null, null, null, null, null);
+    }
+}
@@ -43,6 +43,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -121,6 +122,8 @@ class AttendanceOutboxEventsIntegrationTest {
                 2024, "Group1", LocalDateTime.now(), LocalDateTime.now()
         );
         when(studentApi.findByGroupId(GROUP_ID)).thenReturn(List.of(student));
+        when(studentApi.findStudentIdsByGroupId(GROUP_ID)).thenReturn(Set.of(STUDENT_ID));
+        when(studentApi.isGroupMember(STUDENT_ID, GROUP_ID)).thenReturn(true);
         when(studentApi.findById(STUDENT_ID)).thenReturn(Optional.of(student));
 
         UserDto teacher = new UserDto(
@@ -0,0 +1,88 @@
+package com.example.interhubdev.composition.internal.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("XlsxExportWriter")
+class XlsxExportWriterTest {
+
+    @Test
+    @DisplayName("writes a well-formed workbook with typed and escaped cells")
+    void writesWorkbook() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XlsxExportWriter writer = new XlsxExportWriter(out, "Gradebook", List.of("Student", "Points"));
+        writer.row("A & <B> \"C\"\u0001", new BigDecimal("7.50"));
+        writer.row(null, 3);
+        writer.finish();
+
+        Map<String, String> parts = unzip(out.toByteArray());
+        assertThat(parts).containsKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+        parts.values().forEach(XlsxExportWriterTest::assertWellFormed);
+
+        String sheet = parts.get("xl/worksheets/sheet1.xml");
+        assertThat(sheet).contains("<t xml:space=\"preserve\">A &amp; &lt;B&gt; &quot;C&quot;</t>");
+        assertThat(sheet).contains("<c r=\"B2\"><v>7.50</v></c>");
+        assertThat(sheet).contains("<row r=\"3\"><c r=\"B3\"><v>3</v></c></row>");
+    }
+
+    @Test
+    @DisplayName("continues on a new sheet with the header repeated when a sheet is full")
+    void rollsOverToNewSheet() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XlsxExportWriter writer = new XlsxExportWriter(out, "Attendance", List.of("Student"), 3);
+        for (int i = 0; i < 5; i++) {
+            writer.row("S-" + i);
+        }
+        writer.finish();
+
+        Map<String, String> parts = unzip(out.toByteArray());
+        assertThat(parts.get("xl/worksheets/sheet1.xml")).contains("S-0", "S-1").doesNotContain("S-2");
+        assertThat(parts.get("xl/worksheets/sheet2.xml")).contains("Student", "S-2", "S-3");
+        assertThat(parts.get("xl/worksheets/sheet3.xml")).contains("Student", "S-4");
+        assertThat(parts.get("xl/workbook.xml")).contains("name=\"Attendance (3)\"");
+        assertThat(parts.get("[Content_Types].xml")).contains("/xl/worksheets/sheet3.xml");
+    }
+
+    @Test
+    @DisplayName("names columns past Z with two letters")
+    void columnNames() {
+        assertThat(XlsxExportWriter.columnName(0)).isEqualTo("A");
+        assertThat(XlsxExportWriter.columnName(25)).isEqualTo("Z");
+        assertThat(XlsxExportWriter.columnName(26)).isEqualTo("AA");
+        assertThat(XlsxExportWriter.columnName(701)).isEqualTo("ZZ");
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        Map<String, String> parts = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                parts.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return parts;
+    }
+
+    private static void assertWellFormed(String xml) {
+        try {
+            DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                    .parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new AssertionError("Malformed part: " + xml, e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.interhubdev.composition.internal.student;
+
+import com.example.interhubdev.outbox.OutboxEvent;
+import com.example.interhubdev.outbox.OutboxEventHandler;
+import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.student.StudentDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentSubjectStatsEventHandlers")
+class StudentSubjectStatsEventHandlersTest {
+
+    private static final UUID STUDENT_ID = UUID.randomUUID();
+    private static final UUID OFFERING_ID = UUID.randomUUID();
+    private static final UUID LESSON_ID = UUID.randomUUID();
+
+    @Mock
+    private StudentSubjectStatsProjection projection;
+    @Mock
+    private StudentApi studentApi;
+
+    private final StudentSubjectStatsEventHandlers handlers = new StudentSubjectStatsEventHandlers();
+
+    @Test
+    @DisplayName("attendance marks refresh the student in the lesson's offering")
+    void attendanceMarked() throws Exception {
+        when(projection.offeringOfLesson(LESSON_ID)).thenReturn(Optional.of(OFFERING_ID));
+
+        handle(handlers.studentStatsAttendanceMarkedHandler(projection), "attendance.record.marked",
+                Map.of("studentId", STUDENT_ID.toString(), "sessionId", LESSON_ID.toString()));
+
+        verify(projection).studentsChanged(List.of(STUDENT_ID), OFFERING_ID);
+    }
+
+    @Test
+    @DisplayName("submissions resolve the author's student profile and ignore unknown authors")
+    void submission() throws Exception {
+        UUID authorId = UUID.randomUUID();
+        StudentDto student = mock(StudentDto.class);
+        when(student.id()).thenReturn(STUDENT_ID);
+        when(studentApi.findByUserId(authorId)).thenReturn(Optional.of(student));
+        when(projection.offeringOfLesson(LESSON_ID)).thenReturn(Optional.of(OFFERING_ID));
+        OutboxEventHandler handler = handlers.studentStatsSubmissionHandler(projection, studentApi);
+
+        handle(handler, "submission.homework_submission.submitted",
+                Map.of("authorId", authorId.toString(), "lessonId", LESSON_ID.toString()));
+        handle(handler, "submission.homework_submission.submitted",
+                Map.of("authorId", UUID.randomUUID().toString(), "lessonId", LESSON_ID.toString()));
+
+        verify(projection).studentsChanged(List.of(STUDENT_ID), OFFERING_ID);
+    }
+
+    @Test
+    @DisplayName("grade changes refresh every listed student")
+    void gradesChanged() throws Exception {
+        UUID other = UUID.randomUUID();
+
+        handle(handlers.studentStatsGradesHandler(projection), "grades.grade_entry.changed",
+                Map.of("studentIds", List.of(STUDENT_ID.toString(), other.toString()),
+                        "offeringId", OFFERING_ID.toString()));
+
+        verify(projection).studentsChanged(List.of(STUDENT_ID, other), OFFERING_ID);
+    }
+
+    @Test
+    @DisplayName("homework changes refresh the whole offering, unless the lesson is gone")
+    void homeworkChanged() throws Exception {
+        UUID deletedLesson = UUID.randomUUID();
+        when(projection.offeringOfLesson(LESSON_ID)).thenReturn(Optional.of(OFFERING_ID));
+        when(projection.offeringOfLesson(deletedLesson)).thenReturn(Optional.empty());
+
+        handle(handlers.studentStatsHomeworkCreatedHandler(projection), "document.homework.created",
+                Map.of("lessonId", LESSON_ID.toString()));
+        handle(handlers.studentStatsHomeworkDeletedHandler(projection), "document.homework.deleted",
+                Map.of("lessonId", deletedLesson.toString()));
+
+        verify(projection).offeringChanged(OFFERING_ID);
+        verify(projection, never()).studentsChanged(any(), any());
+    }
+
+    @Test
+    @DisplayName("lesson deletions refresh the lesson's offering")
+    void lessonDeleted() throws Exception {
+        handle(handlers.studentStatsLessonDeletedHandler(projection), "schedule.lesson.deleted",
+                Map.of("offeringId", OFFERING_ID.toString()));
+
+        verify(projection).offeringChanged(OFFERING_ID);
+    }
+
+    private static void handle(OutboxEventHandler handler, String eventType, Map<String, Object> payload)
+            throws Exception {
+        assertThat(handler.eventType()).isEqualTo(eventType);
+        handler.handle(new OutboxEvent(UUID.randomUUID(), eventType, payload, Instant.now(), Instant.now(), 0,
+                null, null));
+    }
+}
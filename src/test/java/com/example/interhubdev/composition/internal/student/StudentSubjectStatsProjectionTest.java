@@ -0,0 +1,170 @@
+package com.example.interhubdev.composition.internal.student;
+
+import com.example.interhubdev.academic.SemesterDto;
+import com.example.interhubdev.composition.StudentSubjectStatsDto;
+import com.example.interhubdev.composition.internal.shared.SemesterResolver;
+import com.example.interhubdev.offering.GroupSubjectOfferingDto;
+import com.example.interhubdev.offering.OfferingApi;
+import com.example.interhubdev.schedule.ScheduleApi;
+import com.example.interhubdev.student.StudentApi;
+import com.example.interhubdev.student.StudentDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentSubjectStatsProjection")
+class StudentSubjectStatsProjectionTest {
+
+    private static final UUID STUDENT_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final SemesterDto SEMESTER = new SemesterDto(UUID.randomUUID(), UUID.randomUUID(), 1, "Fall",
+            LocalDate.of(2025, 9, 1), LocalDate.of(2025, 12, 31), null, null, 16, true, null);
+    private static final LocalDateTime DB_NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Mock
+    private StudentSubjectStatsStore store;
+    @Mock
+    private StudentSubjectStatsCalculator calculator;
+    @Mock
+    private OfferingApi offeringApi;
+    @Mock
+    private ScheduleApi scheduleApi;
+    @Mock
+    private StudentApi studentApi;
+    @Mock
+    private SemesterResolver semesterResolver;
+
+    @InjectMocks
+    private StudentSubjectStatsProjection projection;
+
+    @Test
+    @DisplayName("serves valid rows and computes and stores only the misses, stamped with database time")
+    @SuppressWarnings("unchecked")
+    void computesOnlyMisses() {
+        UUID cached = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(store.now()).thenReturn(DB_NOW);
+        when(store.findValid(eq(STUDENT_ID), eq(SEMESTER.id()), eq(List.of(cached, missing)), any()))
+                .thenReturn(List.of(new StudentSubjectStats(STUDENT_ID, cached, SEMESTER.id(), 90.0, 2, 3,
+                        new BigDecimal("12.00"), DB_NOW.minusHours(1))));
+        StudentSubjectStatsDto live = new StudentSubjectStatsDto(null, 0, 1, BigDecimal.ZERO);
+        when(calculator.compute(STUDENT_ID, USER_ID, missing, SEMESTER)).thenReturn(live);
+
+        Map<UUID, StudentSubjectStatsDto> stats = projection.getStats(STUDENT_ID, USER_ID, List.of(cached, missing), SEMESTER);
+
+        assertThat(stats.get(cached)).isEqualTo(new StudentSubjectStatsDto(90.0, 2, 3, new BigDecimal("12.00")));
+        assertThat(stats.get(missing)).isEqualTo(live);
+        verify(calculator, never()).compute(any(), any(), eq(cached), any());
+        ArgumentCaptor<List<StudentSubjectStats>> stored = ArgumentCaptor.forClass(List.class);
+        verify(store).saveAfterRead(stored.capture());
+        assertThat(stored.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.getOfferingId()).isEqualTo(missing);
+            assertThat(row.getComputedAt()).isEqualTo(DB_NOW);
+        });
+    }
+
+    @Test
+    @DisplayName("only accepts rows computed within the max age of the database time")
+    void readsRowsWithinMaxAge() {
+        UUID offeringId = UUID.randomUUID();
+        when(store.now()).thenReturn(DB_NOW);
+        when(store.findValid(STUDENT_ID, SEMESTER.id(), List.of(offeringId), DB_NOW.minusHours(6)))
+                .thenReturn(List.of(new StudentSubjectStats(STUDENT_ID, offeringId, SEMESTER.id(), 50.0, 1, 1,
+                        BigDecimal.ONE, DB_NOW.minusHours(5))));
+
+        assertThat(projection.getStats(STUDENT_ID, USER_ID, List.of(offeringId), SEMESTER))
+                .containsEntry(offeringId, new StudentSubjectStatsDto(50.0, 1, 1, BigDecimal.ONE));
+        verify(calculator, never()).compute(any(), any(), any(), any());
+        verify(store).saveAfterRead(List.of());
+    }
+
+    @Test
+    @DisplayName("a change recomputes the student's current-semester row in the handler, stamped with database time")
+    @SuppressWarnings("unchecked")
+    void studentsChangedRecomputes() {
+        UUID offeringId = UUID.randomUUID();
+        StudentDto student = student(USER_ID);
+        when(semesterResolver.findCurrent()).thenReturn(Optional.of(SEMESTER));
+        when(store.now()).thenReturn(DB_NOW);
+        when(studentApi.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+        when(calculator.compute(STUDENT_ID, USER_ID, offeringId, SEMESTER))
+                .thenReturn(new StudentSubjectStatsDto(75.0, 1, 2, BigDecimal.TEN));
+
+        projection.studentsChanged(List.of(STUDENT_ID), offeringId);
+
+        ArgumentCaptor<List<StudentSubjectStats>> stored = ArgumentCaptor.forClass(List.class);
+        verify(store).save(stored.capture());
+        assertThat(stored.getValue()).singleElement().satisfies(row -> {
+            assertThat(row.getOfferingId()).isEqualTo(offeringId);
+            assertThat(row.getSemesterId()).isEqualTo(SEMESTER.id());
+            assertThat(row.getAttendancePercent()).isEqualTo(75.0);
+            assertThat(row.getComputedAt()).isEqualTo(DB_NOW);
+        });
+        verify(store, never()).invalidate(any(), any());
+    }
+
+    @Test
+    @DisplayName("students whose row cannot be recomputed are invalidated instead")
+    void studentsChangedFallsBackToInvalidation() {
+        UUID offeringId = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        StudentDto student = student(USER_ID);
+        when(semesterResolver.findCurrent()).thenReturn(Optional.of(SEMESTER));
+        when(store.now()).thenReturn(DB_NOW);
+        when(studentApi.findById(STUDENT_ID)).thenReturn(Optional.of(student));
+        when(studentApi.findById(unknown)).thenReturn(Optional.empty());
+        when(calculator.compute(STUDENT_ID, USER_ID, offeringId, SEMESTER)).thenThrow(new IllegalStateException("boom"));
+
+        projection.studentsChanged(List.of(STUDENT_ID, unknown), offeringId);
+
+        verify(store).save(List.of());
+        verify(store).invalidate(List.of(STUDENT_ID, unknown), offeringId);
+    }
+
+    @Test
+    @DisplayName("offering-wide changes outside a semester invalidate every member of the offering's group")
+    void offeringChangedInvalidatesRoster() {
+        UUID offeringId = UUID.randomUUID();
+        UUID groupId = UUID.randomUUID();
+        GroupSubjectOfferingDto offering = mock(GroupSubjectOfferingDto.class);
+        when(offering.groupId()).thenReturn(groupId);
+        when(offeringApi.findOfferingById(offeringId)).thenReturn(Optional.of(offering));
+        Set<UUID> roster = Set.of(STUDENT_ID, UUID.randomUUID());
+        when(studentApi.findStudentIdsByGroupId(groupId)).thenReturn(roster);
+
+        when(semesterResolver.findCurrent()).thenReturn(Optional.empty());
+
+        projection.offeringChanged(offeringId);
+
+        verify(store).invalidate(roster, offeringId);
+        verify(calculator, never()).compute(any(), any(), any(), any());
+    }
+
+    private static StudentDto student(UUID userId) {
+        StudentDto student = mock(StudentDto.class);
+        when(student.userId()).thenReturn(userId);
+        return student;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.interhubdev.composition.internal.student;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the validity rules of the student subject statistics read model.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("StudentSubjectStatsRepository")
+class StudentSubjectStatsRepositoryTest {
+
+    private static final String POSTGRES = "#{environment['spring.datasource.url'].startsWith('jdbc:postgresql:')}";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Autowired
+    private StudentSubjectStatsRepository repository;
+
+    @Autowired
+    private StudentSubjectStatsStore store;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final UUID studentId = UUID.randomUUID();
+    private final UUID semesterId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("returns rows computed after notBefore and after the latest invalidation of their offering")
+    void findValidAppliesInvalidationAndMaxAge() {
+        UUID valid = row(NOW);
+        UUID invalidatedAfter = row(NOW);
+        UUID invalidatedBefore = row(NOW);
+        UUID tooOld = row(NOW.minusHours(7));
+        invalidation(invalidatedAfter, NOW.plusSeconds(1));
+        invalidation(invalidatedBefore, NOW.minusSeconds(1));
+        invalidation(UUID.randomUUID(), NOW.plusHours(1));
+        entityManager.flush();
+
+        List<StudentSubjectStats> rows = repository.findValid(studentId, semesterId,
+                List.of(valid, invalidatedAfter, invalidatedBefore, tooOld), NOW.minusHours(6));
+
+        assertThat(rows).extracting(StudentSubjectStats::getOfferingId)
+                .containsExactlyInAnyOrder(valid, invalidatedBefore);
+    }
+
+    @Test
+    @DisplayName("ignores rows of other semesters and offerings not asked for")
+    void findValidFiltersScope() {
+        UUID offeringId = row(NOW);
+        UUID other = row(NOW);
+        entityManager.flush();
+
+        assertThat(repository.findValid(studentId, UUID.randomUUID(), List.of(offeringId), NOW.minusHours(6))).isEmpty();
+        assertThat(repository.findValid(studentId, semesterId, List.of(offeringId), NOW.minusHours(6)))
+                .extracting(StudentSubjectStats::getOfferingId)
+                .containsExactly(offeringId)
+                .doesNotContain(other);
+    }
+
+    @Test
+    @EnabledIf(expression = POSTGRES, loadContext = true)
+    @DisplayName("an invalidation in database time hides rows computed before it")
+    void invalidateUsesDatabaseTime() {
+        LocalDateTime startedAt = store.now();
+        UUID offeringId = row(startedAt);
+        entityManager.flush();
+
+        store.invalidate(List.of(studentId), offeringId);
+
+        assertThat(store.findValid(studentId, semesterId, List.of(offeringId), startedAt.minusHours(6))).isEmpty();
+    }
+
+    private UUID row(LocalDateTime computedAt) {
+        UUID offeringId = UUID.randomUUID();
+        entityManager.persist(new StudentSubjectStats(studentId, offeringId, semesterId, 75.0, 1, 2,
+                new BigDecimal("5.00"), computedAt));
+        return offeringId;
+    }
+
+    private void invalidation(UUID offeringId, LocalDateTime at) {
+        entityManager.persist(new StudentSubjectStatsInvalidation(studentId, offeringId, at));
+    }
+}
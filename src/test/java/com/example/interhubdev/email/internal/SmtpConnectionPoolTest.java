@@ -0,0 +1,144 @@
+package com.example.interhubdev.email.internal;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for SmtpConnectionPool: connection reuse, replacement and limits.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SmtpConnectionPool")
+class SmtpConnectionPoolTest {
+
+    @Mock
+    private MimeMessage message;
+
+    private final List<Transport> opened = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        opened.clear();
+    }
+
+    private SmtpConnectionPool pool(int maxConnections, int maxMessagesPerConnection) {
+        return new SmtpConnectionPool(() -> {
+            Transport transport = mock(Transport.class);
+            opened.add(transport);
+            return transport;
+        }, maxConnections, maxMessagesPerConnection, Duration.ofSeconds(30), Duration.ofMillis(50), clock::get);
+    }
+
+    @Test
+    @DisplayName("reuses a returned connection instead of connecting again")
+    void reusesConnection() throws Exception {
+        SmtpConnectionPool pool = pool(2, 100);
+
+        try (SmtpConnectionPool.Lease lease = pool.borrow()) {
+            lease.send(message);
+            lease.send(message);
+        }
+        try (SmtpConnectionPool.Lease lease = pool.borrow()) {
+            lease.send(message);
+        }
+
+        assertThat(opened).hasSize(1);
+        verify(opened.get(0), times(3)).sendMessage(any(), any());
+        verify(opened.get(0), never()).close();
+    }
+
+    @Test
+    @DisplayName("replaces a connection after the per-connection message limit")
+    void replacesAfterMessageLimit() throws Exception {
+        SmtpConnectionPool pool = pool(1, 2);
+
+        try (SmtpConnectionPool.Lease lease = pool.borrow()) {
+            lease.send(message);
+            lease.send(message);
+            lease.send(message);
+        }
+
+        assertThat(opened).hasSize(2);
+        verify(opened.get(0)).close();
+        verify(opened.get(1)).sendMessage(any(), any());
+    }
+
+    @Test
+    @DisplayName("closes connections idle longer than the maximum idle time")
+    void closesIdleConnection() throws Exception {
+        SmtpConnectionPool pool = pool(1, 100);
+        try (SmtpConnectionPool.Lease lease = pool.borrow()) {
+            lease.send(message);
+        }
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(pool.evictIdle()).isEqualTo(1);
+        assertThat(pool.idleCount()).isZero();
+        verify(opened.get(0)).close();
+    }
+
+    @Test
+    @DisplayName("retries once on a new connection when a pooled connection was dropped")
+    void retriesDroppedPooledConnection() throws Exception {
+        SmtpConnectionPool pool = pool(1, 100);
+        try (SmtpConnectionPool.Lease lease = pool.borrow()) {
+            lease.send(message);
+        }
+        doThrow(new MessagingException("421 closing connection")).when(opened.get(0)).sendMessage(any(), any());
+
+        try (SmtpConnectionPool.Lease lease = pool.borrow()) {
+            lease.send(message);
+        }
+
+        assertThat(opened).hasSize(2);
+        verify(opened.get(1)).sendMessage(any(), any());
+    }
+
+    @Test
+    @DisplayName("keeps the connection after a rejected recipient")
+    void keepsConnectionOnRejectedRecipient() throws Exception {
+        SmtpConnectionPool pool = pool(1, 100);
+        try (SmtpConnectionPool.Lease lease = pool.borrow()) {
+            doThrow(new SendFailedException("550 no such user")).when(opened.get(0)).sendMessage(any(), any());
+            assertThatThrownBy(() -> lease.send(message)).isInstanceOf(SendFailedException.class);
+        }
+
+        assertThat(pool.idleCount()).isEqualTo(1);
+        verify(opened.get(0), never()).close();
+    }
+
+    @Test
+    @DisplayName("fails to borrow when every connection stays leased past the timeout")
+    void borrowTimesOut() throws Exception {
+        SmtpConnectionPool pool = pool(1, 100);
+
+        try (SmtpConnectionPool.Lease ignored = pool.borrow()) {
+            assertThatThrownBy(pool::borrow)
+                .isInstanceOf(MessagingException.class)
+                .hasMessageContaining("No SMTP connection available");
+        }
+    }
+}
@@ -2,11 +2,14 @@ package com.example.interhubdev.fileasset.internal;
 
 import com.example.interhubdev.error.AppException;
 import com.example.interhubdev.fileasset.FileAssetArchiveProfile;
+import com.example.interhubdev.fileasset.FileAssetDownloadSource;
 import com.example.interhubdev.fileasset.FileAssetSafetyClass;
 import com.example.interhubdev.fileasset.FileAssetStatus;
 import com.example.interhubdev.fileasset.FileAssetView;
 import com.example.interhubdev.fileasset.FileDeliveryProfile;
+import com.example.interhubdev.fileasset.FileDirectUploadSession;
 import com.example.interhubdev.fileasset.FilePolicyKey;
+import com.example.interhubdev.fileasset.FileUploadPart;
 import com.example.interhubdev.fileasset.FileUploadReceipt;
 import com.example.interhubdev.fileasset.internal.policy.FilePolicyRegistry;
 import com.example.interhubdev.fileasset.internal.policy.FileSecurityPolicy;
@@ -19,11 +22,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.security.MessageDigest;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -33,8 +41,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,7 +79,9 @@ class FileAssetServiceImplTest {
             processingEngine,
             storagePort,
             new FileAssetCapacityGate(10L * 1024 * 1024 * 1024, 10L * 1024 * 1024 * 1024),
-            List.of()
+            new FileAssetDirectUploadPlanner(FileAssetDirectUploadPlanner.MIN_PART_SIZE_BYTES, Duration.ofHours(2)),
+            List.of(),
+            TransactionOperations.withoutTransaction()
         );
     }
 
@@ -168,7 +181,9 @@ class FileAssetServiceImplTest {
                 processingEngine,
                 storagePort,
                 new FileAssetCapacityGate(4_096, 2_048),
-                List.of()
+                new FileAssetDirectUploadPlanner(FileAssetDirectUploadPlanner.MIN_PART_SIZE_BYTES, Duration.ofHours(2)),
+                List.of(),
+                TransactionOperations.withoutTransaction()
             );
 
             assertThatThrownBy(() -> limitedService.register(
@@ -271,6 +286,7 @@ class FileAssetServiceImplTest {
                 .thenReturn(new FileAssetProcessingEngine.ProcessingResult(
                     "application/pdf",
                     "fileassets/final/2026/3/" + FILE_ID + "_report.pdf",
+                    "d41d8cd98f00b204e9800998ecf8427e",
                     FileAssetSafetyClass.CONTROLLED_ATTACHMENT_ONLY,
                     FileDeliveryProfile.CONTROLLED_ATTACHMENT_ONLY,
                     FileAssetArchiveProfile.STANDARD,
@@ -285,6 +301,7 @@ class FileAssetServiceImplTest {
             assertThat(entity.getStatus()).isEqualTo(FileAssetStatus.ACTIVE);
             assertThat(entity.getProcessingAttempts()).isEqualTo(1);
             assertThat(entity.getActivatedAt()).isNotNull();
+            assertThat(entity.getFinalObjectEtag()).isEqualTo("d41d8cd98f00b204e9800998ecf8427e");
         }
 
         @Test
@@ -326,19 +343,304 @@ class FileAssetServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("direct upload")
+    class DirectUpload {
+
+        private static final long MIB = 1024 * 1024;
+        private static final String PART_1_ETAG = "0123456789abcdef0123456789abcdef";
+        private static final String PART_2_ETAG = "fedcba9876543210fedcba9876543210";
+
+        @Test
+        @DisplayName("registers asset with multipart upload and presigned part URLs")
+        void registersWithPresignedParts() {
+            when(fileAssetRepository.save(any(FileAsset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(storagePort.createMultipartUpload(any(), any())).thenReturn("upload-1");
+            when(storagePort.presignUploadPart(any(), eq("upload-1"), any(Integer.class), any(Duration.class)))
+                .thenAnswer(invocation -> "https://storage/part/" + invocation.getArgument(2));
+
+            FileDirectUploadSession session = service.registerDirectUpload(
+                FilePolicyKey.CONTROLLED_ATTACHMENT, "lecture.mp4", "video/mp4", MIB, USER_ID);
+
+            assertThat(session.parts()).hasSize(1);
+            assertThat(session.parts().get(0).sizeBytes()).isEqualTo(MIB);
+            assertThat(session.parts().get(0).url()).isEqualTo("https://storage/part/1");
+            assertThat(session.urlsExpireAt()).isNotNull();
+            assertThat(session.asset().status()).isEqualTo(FileAssetStatus.REGISTERED);
+        }
+
+        @Test
+        @DisplayName("splits large files into S3-sized parts with a short last part")
+        void plansParts() {
+            FileAssetDirectUploadPlanner planner = new FileAssetDirectUploadPlanner(
+                FileAssetDirectUploadPlanner.MIN_PART_SIZE_BYTES, Duration.ofHours(2));
+
+            assertThat(planner.plan(12 * MIB)).extracting(FileAssetDirectUploadPlanner.PartSpan::sizeBytes)
+                .containsExactly(5 * MIB, 5 * MIB, 2 * MIB);
+            assertThat(planner.plan(12 * MIB).get(2).offset()).isEqualTo(10 * MIB);
+            assertThat(planner.partSizeFor(100_000 * MIB)).isEqualTo(10 * MIB);
+        }
+
+        @Test
+        @DisplayName("completes upload after verifying ETags and size, then requests processing")
+        void completesAndRequestsProcessing() {
+            FileAsset entity = directUploadAsset(7 * MIB);
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(entity));
+            when(fileAssetRepository.findByIdForUpdate(FILE_ID)).thenReturn(Optional.of(entity));
+            when(fileAssetRepository.save(any(FileAsset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(storagePort.listUploadedParts(entity.getTempObjectKey(), "upload-1")).thenReturn(List.of(
+                new FileAssetStoragePort.UploadedPart(2, "\"" + PART_2_ETAG + "\"", 2 * MIB),
+                new FileAssetStoragePort.UploadedPart(1, "\"" + PART_1_ETAG + "\"", 5 * MIB)
+            ));
+            String compositeEtag = compositeEtag(PART_1_ETAG, PART_2_ETAG);
+            when(storagePort.completeMultipartUpload(eq(entity.getTempObjectKey()), eq("upload-1"), any()))
+                .thenReturn("\"" + compositeEtag + "\"");
+            when(storagePort.stat(entity.getTempObjectKey()))
+                .thenReturn(new FileAssetStoragePort.ObjectStat(7 * MIB, compositeEtag, Instant.now()));
+
+            FileAssetView view = service.completeDirectUpload(FILE_ID, USER_ID, List.of(
+                new FileUploadPart(1, PART_1_ETAG),
+                new FileUploadPart(2, "\"" + PART_2_ETAG.toUpperCase() + "\"")
+            ));
+
+            assertThat(view.status()).isEqualTo(FileAssetStatus.PROCESSING);
+            assertThat(entity.getMultipartUploadId()).isNull();
+            assertThat(entity.getEtag()).isEqualTo("\"" + compositeEtag + "\"");
+            verify(outboxPublisher).publish(any(OutboxEventDraft.class));
+        }
+
+        @Test
+        @DisplayName("rejects completion when a reported part ETag differs from storage")
+        void rejectsEtagMismatch() {
+            FileAsset entity = directUploadAsset(7 * MIB);
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(entity));
+            when(storagePort.listUploadedParts(entity.getTempObjectKey(), "upload-1")).thenReturn(List.of(
+                new FileAssetStoragePort.UploadedPart(1, PART_1_ETAG, 5 * MIB),
+                new FileAssetStoragePort.UploadedPart(2, PART_2_ETAG, 2 * MIB)
+            ));
+
+            assertThatThrownBy(() -> service.completeDirectUpload(FILE_ID, USER_ID, List.of(
+                new FileUploadPart(1, PART_1_ETAG),
+                new FileUploadPart(2, PART_1_ETAG)
+            )))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("ETag of part 2");
+            verify(storagePort, never()).completeMultipartUpload(any(), any(), any());
+            assertThat(entity.getStatus()).isEqualTo(FileAssetStatus.REGISTERED);
+        }
+
+        @Test
+        @DisplayName("rejects completion when uploaded bytes differ from registered size")
+        void rejectsSizeMismatch() {
+            FileAsset entity = directUploadAsset(8 * MIB);
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(entity));
+            when(storagePort.listUploadedParts(entity.getTempObjectKey(), "upload-1")).thenReturn(List.of(
+                new FileAssetStoragePort.UploadedPart(1, PART_1_ETAG, 5 * MIB),
+                new FileAssetStoragePort.UploadedPart(2, PART_2_ETAG, 2 * MIB)
+            ));
+
+            assertThatThrownBy(() -> service.completeDirectUpload(FILE_ID, USER_ID, List.of(
+                new FileUploadPart(1, PART_1_ETAG),
+                new FileUploadPart(2, PART_2_ETAG)
+            )))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("registered " + 8 * MIB);
+        }
+
+        @Test
+        @DisplayName("rejects completion by a different user")
+        void rejectsForeignUser() {
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(directUploadAsset(MIB)));
+
+            assertThatThrownBy(() -> service.completeDirectUpload(FILE_ID, UUID.randomUUID(), List.of(
+                new FileUploadPart(1, PART_1_ETAG)
+            )))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("registered it");
+        }
+
+        @Test
+        @DisplayName("finishes storage calls before locking the asset row")
+        void completesStorageCallsBeforeLocking() {
+            FileAsset entity = directUploadAsset(7 * MIB);
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(entity));
+            when(fileAssetRepository.findByIdForUpdate(FILE_ID)).thenReturn(Optional.of(entity));
+            when(fileAssetRepository.save(any(FileAsset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(storagePort.listUploadedParts(entity.getTempObjectKey(), "upload-1")).thenReturn(List.of(
+                new FileAssetStoragePort.UploadedPart(1, PART_1_ETAG, 5 * MIB),
+                new FileAssetStoragePort.UploadedPart(2, PART_2_ETAG, 2 * MIB)
+            ));
+            String compositeEtag = compositeEtag(PART_1_ETAG, PART_2_ETAG);
+            when(storagePort.completeMultipartUpload(eq(entity.getTempObjectKey()), eq("upload-1"), any()))
+                .thenReturn(compositeEtag);
+            when(storagePort.stat(entity.getTempObjectKey()))
+                .thenReturn(new FileAssetStoragePort.ObjectStat(7 * MIB, compositeEtag, Instant.now()));
+
+            service.completeDirectUpload(FILE_ID, USER_ID, List.of(
+                new FileUploadPart(1, PART_1_ETAG),
+                new FileUploadPart(2, PART_2_ETAG)
+            ));
+
+            InOrder order = inOrder(storagePort, fileAssetRepository);
+            order.verify(storagePort).stat(entity.getTempObjectKey());
+            order.verify(fileAssetRepository, atLeastOnce()).findByIdForUpdate(FILE_ID);
+        }
+
+        @Test
+        @DisplayName("claims a completed direct upload of the same user for binding")
+        void claimsCompletedUpload() {
+            FileAsset entity = completedDirectUpload();
+            when(fileAssetRepository.findByIdForUpdate(FILE_ID)).thenReturn(Optional.of(entity));
+
+            FileAssetView view = service.claimDirectUpload(FILE_ID, FilePolicyKey.CONTROLLED_ATTACHMENT, USER_ID);
+
+            assertThat(view.id()).isEqualTo(FILE_ID);
+        }
+
+        @Test
+        @DisplayName("refuses to claim uploads of another user, unfinished uploads and bound uploads")
+        void refusesInvalidClaims() {
+            FileAsset entity = completedDirectUpload();
+            when(fileAssetRepository.findByIdForUpdate(FILE_ID)).thenReturn(Optional.of(entity));
+
+            assertThatThrownBy(() -> service.claimDirectUpload(FILE_ID, FilePolicyKey.CONTROLLED_ATTACHMENT, UUID.randomUUID()))
+                .isInstanceOf(AppException.class)
+                .extracting(ex -> ((AppException) ex).getCode())
+                .isEqualTo(FileAssetErrors.CODE_DIRECT_UPLOAD_NOT_OWNER);
+
+            entity.setClaimedAt(LocalDateTime.now());
+            assertThatThrownBy(() -> service.claimDirectUpload(FILE_ID, FilePolicyKey.CONTROLLED_ATTACHMENT, USER_ID))
+                .extracting(ex -> ((AppException) ex).getCode())
+                .isEqualTo(FileAssetErrors.CODE_FILE_ASSET_IN_USE);
+
+            entity.setClaimedAt(null);
+            entity.setStatus(FileAssetStatus.REGISTERED);
+            assertThatThrownBy(() -> service.claimDirectUpload(FILE_ID, FilePolicyKey.CONTROLLED_ATTACHMENT, USER_ID))
+                .extracting(ex -> ((AppException) ex).getCode())
+                .isEqualTo(FileAssetErrors.CODE_DIRECT_UPLOAD_NOT_COMPLETED);
+        }
+
+        private FileAsset completedDirectUpload() {
+            FileAsset entity = registeredAsset();
+            entity.setStatus(FileAssetStatus.PROCESSING);
+            entity.setUploadReceiptToken("direct:" + FILE_ID);
+            return entity;
+        }
+
+        private FileAsset directUploadAsset(long sizeBytes) {
+            FileAsset entity = registeredAsset();
+            entity.setSizeBytes(sizeBytes);
+            entity.setTempObjectKey("fileassets/quarantine/" + FILE_ID);
+            entity.setMultipartUploadId("upload-1");
+            return entity;
+        }
+
+        private String compositeEtag(String... partEtags) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("MD5");
+                for (String etag : partEtags) {
+                    digest.update(HexFormat.of().parseHex(etag));
+                }
+                return HexFormat.of().formatHex(digest.digest()) + "-" + partEtags.length;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("openDownloadSource")
+    class OpenDownloadSource {
+
+        @Test
+        @DisplayName("uses persisted final ETag as strong validator without touching storage")
+        void usesPersistedEtag() {
+            FileAsset entity = activeAsset();
+            entity.setFinalObjectKey("fileassets/final/2026/3/" + FILE_ID);
+            entity.setFinalObjectEtag("abc123");
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(entity));
+
+            FileAssetDownloadSource source = service.openDownloadSource(FILE_ID);
+
+            assertThat(source.etag()).isEqualTo("\"abc123\"");
+            assertThat(source.sizeBytes()).isEqualTo(1024);
+            assertThat(source.lastModified()).isNotNull();
+            verify(storagePort, never()).stat(any());
+            verify(storagePort, never()).openStream(any());
+        }
+
+        @Test
+        @DisplayName("falls back to storage stat for assets activated without persisted ETag")
+        void fallsBackToStat() {
+            FileAsset entity = activeAsset();
+            entity.setFinalObjectKey("fileassets/final/2026/3/" + FILE_ID);
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(entity));
+            when(storagePort.stat(entity.getFinalObjectKey()))
+                .thenReturn(new FileAssetStoragePort.ObjectStat(1024, "\"fromstat\"", Instant.now()));
+
+            FileAssetDownloadSource source = service.openDownloadSource(FILE_ID);
+
+            assertThat(source.etag()).isEqualTo("\"fromstat\"");
+        }
+
+        @Test
+        @DisplayName("maps partial reads onto ranged storage GETs")
+        void opensRangedStream() {
+            FileAsset entity = activeAsset();
+            entity.setFinalObjectKey("fileassets/final/2026/3/" + FILE_ID);
+            entity.setFinalObjectEtag("abc123");
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(entity));
+
+            service.openDownloadSource(FILE_ID).openRange(100, 200);
+
+            verify(storagePort).openRangeStream(entity.getFinalObjectKey(), 100, 200);
+        }
+
+        @Test
+        @DisplayName("rejects assets that are not ACTIVE")
+        void rejectsInactive() {
+            when(fileAssetRepository.findById(FILE_ID)).thenReturn(Optional.of(processingAsset()));
+
+            assertThatThrownBy(() -> service.openDownloadSource(FILE_ID))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("not active");
+        }
+    }
+
     @Test
-    @DisplayName("expireStaleAssets moves orphaned assets to EXPIRED")
+    @DisplayName("expireStaleAssetBatch moves orphaned assets to EXPIRED and releases their objects")
     void expireStaleAssets() {
         FileAsset entity = uploadedAsset();
         entity.setExpiresAt(LocalDateTime.now().minusMinutes(5));
-        when(fileAssetRepository.findExpirableAssetsForUpdate(any(Set.class), any(LocalDateTime.class)))
+        when(fileAssetRepository.lockNextExpirableBatch(any(), any(LocalDateTime.class), eq(100)))
             .thenReturn(List.of(entity));
-        when(fileAssetRepository.save(any(FileAsset.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        service.expireStaleAssets(LocalDateTime.now());
+        FileAssetObjectReaper.ReleasedObjects released = service.expireStaleAssetBatch(LocalDateTime.now(), 100);
 
         assertThat(entity.getStatus()).isEqualTo(FileAssetStatus.EXPIRED);
-        verify(storagePort).deleteQuietly("fileassets/quarantine/" + FILE_ID);
+        assertThat(entity.getTempObjectKey()).isNull();
+        assertThat(released.assetCount()).isEqualTo(1);
+        assertThat(released.objectKeys()).containsExactly("fileassets/quarantine/" + FILE_ID);
+        verify(fileAssetRepository).saveAll(List.of(entity));
+        verifyNoInteractions(storagePort);
+    }
+
+    @Test
+    @DisplayName("expireStaleAssetBatch hands pending multipart uploads to the reaper")
+    void expireStaleAssetsReleasesMultipartUploads() {
+        FileAsset entity = registeredAsset();
+        entity.setExpiresAt(LocalDateTime.now().minusMinutes(5));
+        entity.setTempObjectKey("fileassets/quarantine/" + FILE_ID);
+        entity.setMultipartUploadId("upload-1");
+        when(fileAssetRepository.lockNextExpirableBatch(any(), any(LocalDateTime.class), eq(100)))
+            .thenReturn(List.of(entity));
+
+        FileAssetObjectReaper.ReleasedObjects released = service.expireStaleAssetBatch(LocalDateTime.now(), 100);
+
+        assertThat(entity.getMultipartUploadId()).isNull();
+        assertThat(released.multipartUploads()).containsExactly(
+            new FileAssetObjectReaper.PendingMultipartUpload("fileassets/quarantine/" + FILE_ID, "upload-1")
+        );
     }
 
     private static FileAsset registeredAsset() {
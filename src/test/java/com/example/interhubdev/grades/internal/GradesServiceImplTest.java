@@ -5,6 +5,7 @@ import com.example.interhubdev.grades.*;
 import com.example.interhubdev.group.GroupApi;
 import com.example.interhubdev.offering.OfferingApi;
 import com.example.interhubdev.offering.GroupSubjectOfferingDto;
+import com.example.interhubdev.outbox.OutboxIntegrationEventPublisher;
 import com.example.interhubdev.student.StudentApi;
 import com.example.interhubdev.student.StudentDto;
 import com.example.interhubdev.user.Role;
@@ -53,6 +54,8 @@ class GradesServiceImplTest {
     private GroupApi groupApi;
     @Mock
     private UserApi userApi;
+    @Mock
+    private OutboxIntegrationEventPublisher outboxPublisher;
 
     @InjectMocks
     private GradesServiceImpl gradesService;
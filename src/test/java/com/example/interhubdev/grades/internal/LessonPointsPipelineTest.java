@@ -0,0 +1,87 @@
+package com.example.interhubdev.grades.internal;
+
+import com.example.interhubdev.grades.GradeTypeCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LessonPointsPipeline")
+class LessonPointsPipelineTest {
+
+    private static final UUID OFFERING_ID = UUID.randomUUID();
+    private static final UUID TEACHER_ID = UUID.randomUUID();
+    private static final UUID LESSON_ID = UUID.randomUUID();
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Test
+    @DisplayName("creates entries for cells without lesson points")
+    void createsMissing() {
+        UUID studentId = UUID.randomUUID();
+
+        LessonPointsPipeline.Plan plan = LessonPointsPipeline.plan(OFFERING_ID,
+                List.of(new LessonPointsPipeline.Cell(LESSON_ID, studentId, new BigDecimal("5"))), List.of(), TEACHER_ID, NOW);
+
+        assertThat(plan.created()).isEqualTo(1);
+        GradeEntryEntity created = plan.inserts().get(0);
+        assertThat(created.getStudentId()).isEqualTo(studentId);
+        assertThat(created.getLessonId()).isEqualTo(LESSON_ID);
+        assertThat(created.getTypeCode()).isEqualTo(GradeTypeCode.OTHER);
+        assertThat(created.getStatus()).isEqualTo(GradeEntryEntity.STATUS_ACTIVE);
+        assertThat(plan.entries()).containsExactly(created);
+        assertThat(plan.changedStudentIds()).containsExactly(studentId);
+    }
+
+    @Test
+    @DisplayName("updates the latest entry and voids older duplicates")
+    void updatesLatestAndVoidsDuplicates() {
+        UUID studentId = UUID.randomUUID();
+        GradeEntryEntity older = entry(studentId, "3", NOW.minusDays(2));
+        GradeEntryEntity latest = entry(studentId, "4", NOW.minusDays(1));
+
+        LessonPointsPipeline.Plan plan = LessonPointsPipeline.plan(OFFERING_ID,
+                List.of(new LessonPointsPipeline.Cell(LESSON_ID, studentId, new BigDecimal("6"))),
+                List.of(older, latest), TEACHER_ID, NOW);
+
+        assertThat(plan.inserts()).isEmpty();
+        assertThat(plan.updated()).isEqualTo(1);
+        assertThat(plan.voided()).isEqualTo(1);
+        assertThat(latest.getPoints()).isEqualByComparingTo("6");
+        assertThat(older.getStatus()).isEqualTo(GradeEntryEntity.STATUS_VOIDED);
+        assertThat(plan.entries()).containsExactly(latest);
+    }
+
+    @Test
+    @DisplayName("leaves cells that already hold the points unchanged")
+    void countsUnchanged() {
+        UUID studentId = UUID.randomUUID();
+        GradeEntryEntity current = entry(studentId, "5.00", NOW.minusDays(1));
+
+        LessonPointsPipeline.Plan plan = LessonPointsPipeline.plan(OFFERING_ID,
+                List.of(new LessonPointsPipeline.Cell(LESSON_ID, studentId, new BigDecimal("5"))),
+                List.of(current), TEACHER_ID, NOW);
+
+        assertThat(plan.unchanged()).isEqualTo(1);
+        assertThat(plan.updated()).isZero();
+        assertThat(plan.changedStudentIds()).isEmpty();
+    }
+
+    private static GradeEntryEntity entry(UUID studentId, String points, LocalDateTime gradedAt) {
+        return GradeEntryEntity.builder()
+                .id(UUID.randomUUID())
+                .studentId(studentId)
+                .offeringId(OFFERING_ID)
+                .points(new BigDecimal(points))
+                .typeCode(GradeTypeCode.OTHER)
+                .lessonId(LESSON_ID)
+                .gradedBy(TEACHER_ID)
+                .gradedAt(gradedAt)
+                .status(GradeEntryEntity.STATUS_ACTIVE)
+                .build();
+    }
+}
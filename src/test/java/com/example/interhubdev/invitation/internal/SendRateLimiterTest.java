@@ -0,0 +1,65 @@
+package com.example.interhubdev.invitation.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SendRateLimiter: even spacing of sends and of multi-send reservations, no saved-up bursts, unlimited mode.
+ */
+@DisplayName("SendRateLimiter")
+class SendRateLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("spaces back-to-back reservations by the rate interval")
+    void spacesReservations() {
+        AtomicLong clock = new AtomicLong(1_000 * MILLI);
+        SendRateLimiter limiter = new SendRateLimiter(10, clock::get);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(100 * MILLI);
+        assertThat(limiter.reserve()).isEqualTo(200 * MILLI);
+
+        clock.addAndGet(150 * MILLI);
+        assertThat(limiter.reserve()).isEqualTo(150 * MILLI);
+    }
+
+    @Test
+    @DisplayName("a reservation of several sends delays the next caller by as many intervals")
+    void reservesSeveralSlots() {
+        AtomicLong clock = new AtomicLong(0);
+        SendRateLimiter limiter = new SendRateLimiter(10, clock::get);
+
+        assertThat(limiter.reserve(5)).isZero();
+        assertThat(limiter.reserve(2)).isEqualTo(500 * MILLI);
+        assertThat(limiter.reserve()).isEqualTo(700 * MILLI);
+    }
+
+    @Test
+    @DisplayName("does not save up idle time for a burst")
+    void noBurstAfterIdle() {
+        AtomicLong clock = new AtomicLong(0);
+        SendRateLimiter limiter = new SendRateLimiter(10, clock::get);
+        limiter.reserve();
+
+        clock.addAndGet(10_000 * MILLI);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(100 * MILLI);
+    }
+
+    @Test
+    @DisplayName("never waits when the rate is unlimited")
+    void unlimited() {
+        SendRateLimiter limiter = new SendRateLimiter(0, () -> 0L);
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.interhubdev.notification.internal.application;
+
+import com.example.interhubdev.notification.internal.domain.Notification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateNotificationUseCase coalescing")
+class CreateNotificationUseCaseTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String KEY = "attendance.record.marked:session-1";
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+
+    @Mock
+    private NotificationRepository repository;
+    @Mock
+    private NotificationChangePublisher changePublisher;
+    @Mock
+    private UnreadCountCache unreadCountCache;
+    @InjectMocks
+    private CreateNotificationUseCase useCase;
+
+    @Test
+    @DisplayName("merges into the unread notification with the same key: latest content, count + 1")
+    void mergesIntoExisting() {
+        Notification existing = stored(UUID.randomUUID(), "{\"status\":\"ABSENT\"}");
+        Notification later = incoming(UUID.randomUUID(), "{\"status\":\"PRESENT\"}");
+        when(repository.findCoalescible(eq(USER_ID), eq(KEY), any())).thenReturn(Optional.of(existing));
+
+        assertThat(useCase.execute(later, WINDOW)).isTrue();
+
+        assertThat(existing.getParamsJson()).isEqualTo("{\"status\":\"PRESENT\"}");
+        assertThat(existing.getSourceEventId()).isEqualTo(later.getSourceEventId());
+        assertThat(existing.getCoalescedCount()).isEqualTo(2);
+        verify(repository).updateCoalesced(existing);
+        verify(repository, never()).lockCoalesceKey(any(), any());
+        verify(repository, never()).save(any());
+        verify(changePublisher).updated(existing);
+        verify(repository, never()).insertIgnoringDuplicates(anyList());
+        verify(unreadCountCache, never()).adjust(any());
+    }
+
+    @Test
+    @DisplayName("does not merge an event into the notification it already produced")
+    void sameEventIsIdempotent() {
+        UUID eventId = UUID.randomUUID();
+        Notification existing = stored(eventId, "{}");
+        when(repository.findCoalescible(eq(USER_ID), eq(KEY), any())).thenReturn(Optional.of(existing));
+
+        assertThat(useCase.execute(incoming(eventId, "{}"), WINDOW)).isFalse();
+
+        assertThat(existing.getCoalescedCount()).isEqualTo(1);
+        verify(repository, never()).updateCoalesced(any());
+        verify(changePublisher, never()).updated(any());
+    }
+
+    @Test
+    @DisplayName("counts an out-of-order event but keeps the newer content")
+    void olderEventKeepsNewerContent() {
+        Notification existing = stored(UUID.randomUUID(), "{\"status\":\"PRESENT\"}");
+        Notification older = new Notification(USER_ID, "attendance.record.marked", "{\"status\":\"ABSENT\"}", "{}",
+                UUID.randomUUID(), "attendance.record.marked", existing.getSourceOccurredAt().minusSeconds(30), KEY);
+        when(repository.findCoalescible(eq(USER_ID), eq(KEY), any())).thenReturn(Optional.of(existing));
+
+        assertThat(useCase.execute(older, WINDOW)).isTrue();
+
+        assertThat(existing.getParamsJson()).isEqualTo("{\"status\":\"PRESENT\"}");
+        assertThat(existing.getSourceEventId()).isNotEqualTo(older.getSourceEventId());
+        assertThat(existing.getCoalescedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("does not recreate an absorbed event after the merged notification was read")
+    void redeliveryAfterReadIsIdempotent() {
+        Notification redelivered = incoming(UUID.randomUUID(), "{}");
+        when(repository.findCoalescible(eq(USER_ID), eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.insertIgnoringDuplicates(List.of(redelivered))).thenReturn(List.of());
+
+        assertThat(useCase.execute(redelivered, WINDOW)).isFalse();
+
+        verify(changePublisher, never()).created(anyList());
+        verify(unreadCountCache, never()).adjust(any());
+    }
+
+    @Test
+    @DisplayName("creates a new notification when nothing to merge into")
+    void createsWhenNothingToMerge() {
+        Notification incoming = incoming(UUID.randomUUID(), "{}");
+        when(repository.findCoalescible(eq(USER_ID), eq(KEY), any())).thenReturn(Optional.empty());
+        when(repository.insertIgnoringDuplicates(List.of(incoming))).thenReturn(List.of(incoming));
+
+        assertThat(useCase.execute(incoming, WINDOW)).isTrue();
+
+        verify(repository).lockCoalesceKey(USER_ID, KEY);
+        verify(unreadCountCache).adjust(Map.of(USER_ID, 1L));
+        verify(changePublisher).created(List.of(incoming));
+    }
+
+    @Test
+    @DisplayName("merges into a notification another worker created while the key was being locked")
+    void mergesIntoNotificationCreatedConcurrently() {
+        Notification existing = stored(UUID.randomUUID(), "{}");
+        Notification incoming = incoming(UUID.randomUUID(), "{}");
+        when(repository.findCoalescible(eq(USER_ID), eq(KEY), any()))
+                .thenReturn(Optional.empty(), Optional.of(existing));
+
+        assertThat(useCase.execute(incoming, WINDOW)).isTrue();
+
+        assertThat(existing.getCoalescedCount()).isEqualTo(2);
+        verify(repository).lockCoalesceKey(USER_ID, KEY);
+        verify(repository).updateCoalesced(existing);
+        verify(repository, never()).insertIgnoringDuplicates(anyList());
+    }
+
+    private static Notification incoming(UUID sourceEventId, String paramsJson) {
+        return new Notification(USER_ID, "attendance.record.marked", paramsJson, "{}",
+                sourceEventId, "attendance.record.marked", Instant.now(), KEY);
+    }
+
+    private static Notification stored(UUID sourceEventId, String paramsJson) {
+        Instant created = Instant.now().minusSeconds(60);
+        return new Notification(UUID.randomUUID(), USER_ID, "attendance.record.marked", paramsJson, "{}",
+                created, null, null, sourceEventId, "attendance.record.marked", created, KEY, 1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.interhubdev.notification.internal.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetUnreadCountUseCase")
+class GetUnreadCountUseCaseTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private NotificationRepository repository;
+    @Mock
+    private UnreadCountCache unreadCountCache;
+    @InjectMocks
+    private GetUnreadCountUseCase useCase;
+
+    @Test
+    @DisplayName("returns the cached counter without counting in the table")
+    void cacheHit() {
+        when(unreadCountCache.get(USER_ID)).thenReturn(OptionalLong.of(7));
+
+        assertThat(useCase.execute(USER_ID)).isEqualTo(7);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("counts in the table on a cache miss and populates the cache with the version read before counting")
+    void cacheMiss() {
+        when(unreadCountCache.get(USER_ID)).thenReturn(OptionalLong.empty());
+        when(unreadCountCache.version(USER_ID)).thenReturn(4L);
+        when(repository.countUnreadByRecipient(USER_ID)).thenReturn(3L);
+
+        assertThat(useCase.execute(USER_ID)).isEqualTo(3);
+        InOrder order = inOrder(unreadCountCache, repository);
+        order.verify(unreadCountCache).version(USER_ID);
+        order.verify(repository).countUnreadByRecipient(USER_ID);
+        order.verify(unreadCountCache).populate(USER_ID, 3, 4);
+    }
+}
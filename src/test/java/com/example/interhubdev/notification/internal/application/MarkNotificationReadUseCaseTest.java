@@ -0,0 +1,66 @@
+package com.example.interhubdev.notification.internal.application;
+
+import com.example.interhubdev.notification.internal.domain.Notification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MarkNotificationReadUseCase")
+class MarkNotificationReadUseCaseTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID NOTIFICATION_ID = UUID.randomUUID();
+    private static final Instant CREATED_AT = Instant.parse("2025-10-01T12:00:00Z");
+
+    @Mock
+    private NotificationRepository repository;
+    @Mock
+    private NotificationChangePublisher changePublisher;
+    @Mock
+    private UnreadCountCache unreadCountCache;
+    @InjectMocks
+    private MarkNotificationReadUseCase useCase;
+
+    @Test
+    @DisplayName("decrements the counter and publishes once the conditional update marked the row")
+    void marksUnread() {
+        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(notification(null)));
+        when(repository.markRead(eq(NOTIFICATION_ID), eq(CREATED_AT), any())).thenReturn(true);
+
+        useCase.execute(USER_ID, NOTIFICATION_ID);
+
+        verify(unreadCountCache).adjust(Map.of(USER_ID, -1L));
+        verify(changePublisher).read(USER_ID, NOTIFICATION_ID);
+    }
+
+    @Test
+    @DisplayName("leaves counter and stream alone when a concurrent request marked the row first")
+    void lostRace() {
+        when(repository.findById(NOTIFICATION_ID)).thenReturn(Optional.of(notification(null)));
+        when(repository.markRead(eq(NOTIFICATION_ID), eq(CREATED_AT), any())).thenReturn(false);
+
+        useCase.execute(USER_ID, NOTIFICATION_ID);
+
+        verifyNoInteractions(unreadCountCache, changePublisher);
+    }
+
+    private static Notification notification(Instant readAt) {
+        return new Notification(NOTIFICATION_ID, USER_ID, "test.template", "{}", "{}", CREATED_AT, readAt, null,
+                UUID.randomUUID(), "test.event", CREATED_AT, null, 1);
+    }
+}
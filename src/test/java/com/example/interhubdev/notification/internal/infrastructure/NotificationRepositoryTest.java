@@ -1,29 +1,39 @@
 package com.example.interhubdev.notification.internal.infrastructure;
 
+import com.example.interhubdev.notification.internal.application.NotificationCursor;
 import com.example.interhubdev.notification.internal.application.NotificationRepository;
 import com.example.interhubdev.notification.internal.domain.Notification;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for NotificationRepository.
- * Tests CRUD operations, unique constraint, pagination, and unread count.
+ * Tests CRUD operations, idempotent insert, pagination, and unread count.
+ * H2 runs in PostgreSQL mode for the jsonb columns; notification_source_event is not mapped
+ * by JPA and is created here. The batch insert (a data-modifying CTE) only runs against a PostgreSQL datasource.
  */
 @SpringBootTest
 @ActiveProfiles("test")
+@TestPropertySource(properties = "spring.datasource.url="
+        + "jdbc:h2:mem:notificationdb;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1")
 @Transactional
 @DisplayName("NotificationRepository")
 class NotificationRepositoryTest {
@@ -31,11 +41,27 @@ class NotificationRepositoryTest {
     @Autowired
     private NotificationRepository repository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String POSTGRES = "#{environment['spring.datasource.url'].startsWith('jdbc:postgresql:')}";
+
     private static final UUID USER_ID_1 = UUID.randomUUID();
     private static final UUID USER_ID_2 = UUID.randomUUID();
     private static final UUID SOURCE_EVENT_ID_1 = UUID.randomUUID();
     private static final UUID SOURCE_EVENT_ID_2 = UUID.randomUUID();
 
+    @BeforeEach
+    void createSourceEventTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS notification_source_event (
+                    recipient_user_id UUID NOT NULL,
+                    source_event_id UUID NOT NULL,
+                    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                    PRIMARY KEY (recipient_user_id, source_event_id)
+                )""");
+    }
+
     @Nested
     @DisplayName("save")
     class Save {
@@ -54,15 +80,15 @@ class NotificationRepositoryTest {
         }
 
         @Test
-        @DisplayName("throws exception on duplicate (recipientUserId, sourceEventId)")
-        void duplicateThrowsException() {
+        @EnabledIf(expression = POSTGRES, loadContext = true)
+        @DisplayName("insertIgnoringDuplicates skips duplicate (recipientUserId, sourceEventId)")
+        void duplicateSkippedOnInsert() {
             Notification notification1 = createNotification(USER_ID_1, SOURCE_EVENT_ID_1);
-            repository.save(notification1);
+            assertThat(repository.insertIgnoringDuplicates(List.of(notification1))).hasSize(1);
 
             Notification notification2 = createNotification(USER_ID_1, SOURCE_EVENT_ID_1);
 
-            assertThatThrownBy(() -> repository.save(notification2))
-                    .isInstanceOf(DataIntegrityViolationException.class);
+            assertThat(repository.insertIgnoringDuplicates(List.of(notification2))).isEmpty();
         }
 
         @Test
@@ -111,8 +137,7 @@ class NotificationRepositoryTest {
         @Test
         @DisplayName("returns true if exists")
         void exists() {
-            Notification notification = createNotification(USER_ID_1, SOURCE_EVENT_ID_1);
-            repository.save(notification);
+            claimSourceEvent(USER_ID_1, SOURCE_EVENT_ID_1);
 
             boolean exists = repository.existsByRecipientAndSourceEvent(USER_ID_1, SOURCE_EVENT_ID_1);
 
@@ -122,6 +147,8 @@ class NotificationRepositoryTest {
         @Test
         @DisplayName("returns false if not exists")
         void notExists() {
+            claimSourceEvent(USER_ID_2, SOURCE_EVENT_ID_1);
+
             boolean exists = repository.existsByRecipientAndSourceEvent(USER_ID_1, SOURCE_EVENT_ID_1);
             assertThat(exists).isFalse();
         }
@@ -196,6 +223,44 @@ class NotificationRepositoryTest {
             assertThat(user2Notifications).hasSize(1);
             assertThat(user2Notifications.get(0).getRecipientUserId()).isEqualTo(USER_ID_2);
         }
+
+        @Test
+        @DisplayName("continues after the (createdAt, id) cursor")
+        void pagesByCursor() {
+            Instant now = Instant.now();
+            Notification newest = repository.save(createNotification(USER_ID_1, now));
+            Notification middle = repository.save(createNotification(USER_ID_1, now.minusSeconds(60)));
+            Notification oldest = repository.save(createNotification(USER_ID_1, now.minusSeconds(120)));
+
+            List<Notification> first = repository.findByRecipient(USER_ID_1, false, null, 2);
+            Notification last = first.get(first.size() - 1);
+            List<Notification> second = repository.findByRecipient(USER_ID_1, false,
+                    new NotificationCursor(last.getCreatedAt(), last.getId()), 2);
+
+            assertThat(first).extracting(Notification::getId).containsExactly(newest.getId(), middle.getId());
+            assertThat(second).extracting(Notification::getId).containsExactly(oldest.getId());
+        }
+
+        @Test
+        @DisplayName("lists unread notifications older than the inbox window after the window, but not read ones")
+        void appendsOlderUnread() {
+            Instant now = Instant.now();
+            Notification recent = repository.save(createNotification(USER_ID_1, now));
+            Notification olderUnread = repository.save(createNotification(USER_ID_1, now.minus(Duration.ofDays(120))));
+            Notification olderRead = repository.save(createNotification(USER_ID_1, now.minus(Duration.ofDays(100))));
+            olderRead.markRead(now.minus(Duration.ofDays(99)));
+            repository.save(olderRead);
+
+            List<Notification> all = repository.findByRecipient(USER_ID_1, false, null, 10);
+            List<Notification> firstPage = repository.findByRecipient(USER_ID_1, false, null, 1);
+            List<Notification> secondPage = repository.findByRecipient(USER_ID_1, false,
+                    new NotificationCursor(recent.getCreatedAt(), recent.getId()), 1);
+
+            assertThat(all).extracting(Notification::getId).containsExactly(recent.getId(), olderUnread.getId());
+            assertThat(firstPage).extracting(Notification::getId).containsExactly(recent.getId());
+            assertThat(secondPage).extracting(Notification::getId).containsExactly(olderUnread.getId());
+            assertThat(repository.countUnreadByRecipient(USER_ID_1)).isEqualTo(2);
+        }
     }
 
     @Nested
@@ -234,6 +299,25 @@ class NotificationRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("countUnreadByRecipients")
+    class CountUnreadByRecipients {
+
+        @Test
+        @DisplayName("returns unread count per user and omits users without unread notifications")
+        void countsPerUser() {
+            repository.save(createNotification(USER_ID_1, SOURCE_EVENT_ID_1));
+            repository.save(createNotification(USER_ID_1, SOURCE_EVENT_ID_2));
+            Notification read = repository.save(createNotification(USER_ID_2, SOURCE_EVENT_ID_1));
+            read.markRead(Instant.now());
+            repository.save(read);
+
+            Map<UUID, Long> counts = repository.countUnreadByRecipients(List.of(USER_ID_1, USER_ID_2));
+
+            assertThat(counts).containsExactly(Map.entry(USER_ID_1, 2L));
+        }
+    }
+
     @Nested
     @DisplayName("markAllAsRead")
     class MarkAllAsRead {
@@ -271,6 +355,21 @@ class NotificationRepositoryTest {
         }
     }
 
+    /**
+     * What the batch insert records for a created notification (the insert itself needs PostgreSQL).
+     */
+    private void claimSourceEvent(UUID recipientUserId, UUID sourceEventId) {
+        jdbcTemplate.update("INSERT INTO notification_source_event (recipient_user_id, source_event_id) VALUES (?, ?)",
+                recipientUserId, sourceEventId);
+    }
+
+    private Notification createNotification(UUID recipientUserId, Instant at) {
+        // Stored timestamps have microsecond precision; the cursor must match what a fresh read returns
+        Instant createdAt = at.truncatedTo(ChronoUnit.MICROS);
+        return new Notification(null, recipientUserId, "test.template", "{\"key\":\"value\"}", "{\"route\":\"test\"}",
+                createdAt, null, null, UUID.randomUUID(), "test.event", createdAt, null, 1);
+    }
+
     private Notification createNotification(UUID recipientUserId, UUID sourceEventId) {
         return new Notification(
                 recipientUserId,
@@ -0,0 +1,69 @@
+package com.example.interhubdev.notification.internal.infrastructure.handlers;
+
+import com.example.interhubdev.notification.ResolvedNotificationContent;
+import com.example.interhubdev.notification.ResolvedNotificationItem;
+import com.example.interhubdev.notification.internal.application.CreateNotificationsUseCase;
+import com.example.interhubdev.notification.internal.domain.Notification;
+import com.example.interhubdev.outbox.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResolvedNotificationWriter")
+class ResolvedNotificationWriterTest {
+
+    @Mock
+    private CreateNotificationsUseCase createNotificationsUseCase;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @InjectMocks
+    private ResolvedNotificationWriter writer;
+
+    @Test
+    @DisplayName("writes the whole fan-out in one call and serializes shared params once")
+    void writesFanOutOnce() throws Exception {
+        Map<String, Object> params = Map.of("lessonId", "l-1", "date", "2025-02-21");
+        Map<String, Object> data = Map.of("route", "lesson", "lessonId", "l-1");
+        List<ResolvedNotificationItem> items = List.of(
+                new ResolvedNotificationItem(UUID.randomUUID(), "schedule.lesson.rescheduled", Map.copyOf(params), Map.copyOf(data)),
+                new ResolvedNotificationItem(UUID.randomUUID(), "schedule.lesson.rescheduled", Map.copyOf(params), Map.copyOf(data)),
+                new ResolvedNotificationItem(UUID.randomUUID(), "schedule.lesson.rescheduled", Map.copyOf(params), Map.copyOf(data))
+        );
+        Instant occurredAt = Instant.parse("2025-02-20T10:00:00Z");
+        OutboxEvent event = new OutboxEvent(UUID.randomUUID(), "schedule.lesson.rescheduled", Map.of(),
+                occurredAt, occurredAt, 0, null, null);
+        when(createNotificationsUseCase.execute(anyList())).thenReturn(2);
+
+        int created = writer.write(event, new ResolvedNotificationContent(items, occurredAt));
+
+        assertThat(created).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> captor = ArgumentCaptor.forClass(List.class);
+        verify(createNotificationsUseCase).execute(captor.capture());
+        List<Notification> written = captor.getValue();
+        assertThat(written).hasSize(3);
+        assertThat(written).extracting(Notification::getSourceEventId).containsOnly(event.getId());
+        assertThat(written).extracting(Notification::getRecipientUserId)
+                .containsExactlyElementsOf(items.stream().map(ResolvedNotificationItem::recipientUserId).toList());
+        verify(objectMapper, times(1)).writeValueAsString(params);
+        verify(objectMapper, times(1)).writeValueAsString(data);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import com.example.interhubdev.notification.internal.application.NotificationSubscription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@DisplayName("NotificationStreamRegistry")
+class NotificationStreamRegistryTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Test
+    @DisplayName("keeps at most the configured number of streams per user")
+    void capsStreamsPerUser() {
+        NotificationStreamRegistry registry = new NotificationStreamRegistry(2, 60_000);
+        RecordingSubscription oldest = new RecordingSubscription(USER_ID);
+
+        registry.open(oldest, 3);
+        registry.open(new RecordingSubscription(USER_ID), 3);
+        registry.open(new RecordingSubscription(USER_ID), 3);
+        registry.open(new RecordingSubscription(UUID.randomUUID()), 0);
+
+        assertThat(registry.openStreamCount()).isEqualTo(3);
+        assertThat(oldest.closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("delivers to open streams and ignores users without streams")
+    void deliversToOpenStreams() {
+        NotificationStreamRegistry registry = new NotificationStreamRegistry(5, 60_000);
+        RecordingSubscription subscription = new RecordingSubscription(USER_ID);
+        registry.open(subscription, 1);
+
+        assertThatCode(() -> {
+            registry.deliver(NotificationStreamSignal.read(USER_ID, UUID.randomUUID()));
+            registry.deliver(NotificationStreamSignal.allRead(UUID.randomUUID()));
+            registry.heartbeat();
+        }).doesNotThrowAnyException();
+        assertThat(registry.openStreamCount()).isEqualTo(1);
+        assertThat(subscription.events).containsExactly("unread-count", "notification-read", "unread-delta");
+    }
+
+    @Test
+    @DisplayName("drops a stream whose client went away")
+    void dropsFailedStream() {
+        NotificationStreamRegistry registry = new NotificationStreamRegistry(5, 60_000);
+        RecordingSubscription subscription = new RecordingSubscription(USER_ID);
+        registry.open(subscription, 1);
+        subscription.broken = true;
+
+        registry.heartbeat();
+
+        assertThat(registry.openStreamCount()).isZero();
+        assertThat(subscription.closed).isTrue();
+    }
+
+    private static final class RecordingSubscription implements NotificationSubscription {
+
+        private final UUID userId;
+        private final List<String> events = new ArrayList<>();
+        private boolean broken;
+        private boolean closed;
+
+        RecordingSubscription(UUID userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public UUID userId() {
+            return userId;
+        }
+
+        @Override
+        public void send(String name, Object data) throws IOException {
+            heartbeat();
+            events.add(name);
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public void close(Throwable cause) {
+            closed = true;
+        }
+
+        @Override
+        public void onClose(Runnable callback) {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.interhubdev.notification.internal.infrastructure.realtime;
+
+import com.example.interhubdev.notification.NotificationDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisNotificationSignalBus")
+class RedisNotificationSignalBusTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private NotificationStreamRegistry registry;
+
+    @Test
+    @DisplayName("signals published to the channel are delivered unchanged by the receiving instance")
+    void roundTrip() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        RedisNotificationSignalBus bus = new RedisNotificationSignalBus(redisTemplate, registry, objectMapper);
+        UUID userId = UUID.randomUUID();
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), "schedule.lesson.rescheduled",
+                Map.of("lessonId", "l-1"), Map.of("route", "lesson"), Instant.parse("2025-02-20T10:00:00Z"), null, null);
+        NotificationStreamSignal created = NotificationStreamSignal.created(dto, userId);
+        NotificationStreamSignal allRead = NotificationStreamSignal.allRead(userId);
+
+        bus.publish(List.of(created, allRead));
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisNotificationSignalBus.CHANNEL), json.capture());
+        bus.onMessage(new DefaultMessage(
+                RedisNotificationSignalBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                json.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(registry).deliver(created);
+        verify(registry).deliver(allRead);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.interhubdev.offering.internal;
+
+import com.example.interhubdev.academic.AcademicApi;
+import com.example.interhubdev.academic.SemesterDto;
+import com.example.interhubdev.offering.CurriculumSubjectLookupPort;
+import com.example.interhubdev.offering.LessonCreationPort;
+import com.example.interhubdev.offering.LessonCreationPort.LessonCreateCommand;
+import com.example.interhubdev.program.CurriculumSubjectDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LessonGenerationService")
+class LessonGenerationServiceTest {
+
+    @Mock
+    private GroupSubjectOfferingRepository offeringRepository;
+    @Mock
+    private OfferingSlotRepository slotRepository;
+    @Mock
+    private CurriculumSubjectLookupPort curriculumSubjectLookupPort;
+    @Mock
+    private AcademicApi academicApi;
+    @Mock
+    private LessonCreationPort lessonCreationPort;
+    @InjectMocks
+    private LessonGenerationService service;
+
+    @Test
+    @DisplayName("generates several groups with one batch lookup each and a single bulk create")
+    void generatesGroupsInOneBatch() {
+        // Monday 2025-09-01 .. Sunday 2025-09-28 (4 weeks)
+        SemesterDto semester = new SemesterDto(UUID.randomUUID(), UUID.randomUUID(), 1, "Fall",
+                LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 28), null, null, 4, true, null);
+        CurriculumSubjectDto fallSubject = curriculumSubject(1, 16);
+        CurriculumSubjectDto springSubject = curriculumSubject(2, 16);
+        GroupSubjectOffering first = offering(UUID.randomUUID(), fallSubject.id());
+        GroupSubjectOffering second = offering(UUID.randomUUID(), fallSubject.id());
+        GroupSubjectOffering otherSemester = offering(UUID.randomUUID(), springSubject.id());
+        GroupSubjectOffering withoutSlots = offering(UUID.randomUUID(), fallSubject.id());
+        when(offeringRepository.findByGroupIdIn(anyCollection()))
+                .thenReturn(List.of(first, second, otherSemester, withoutSlots));
+        when(curriculumSubjectLookupPort.findByIds(anyCollection())).thenReturn(List.of(fallSubject, springSubject));
+        when(slotRepository.findByOfferingIdInOrderByDayOfWeekAscStartTimeAsc(anyList())).thenReturn(List.of(
+                slot(first.getId(), 1), slot(first.getId(), 3), slot(second.getId(), 5), slot(otherSemester.getId(), 2)));
+        when(lessonCreationPort.createLessonsInBulk(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        int created = service.generateForGroups(List.of(first.getGroupId(), second.getGroupId()), semester);
+
+        assertThat(created).isEqualTo(12);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LessonCreateCommand>> captor = ArgumentCaptor.forClass(List.class);
+        verify(lessonCreationPort, times(1)).createLessonsInBulk(captor.capture());
+        assertThat(captor.getValue()).extracting(LessonCreateCommand::offeringId)
+                .containsOnly(first.getId(), second.getId());
+        assertThat(captor.getValue()).extracting(LessonCreateCommand::date)
+                .allMatch(date -> !date.isBefore(semester.startDate()) && !date.isAfter(semester.endDate()));
+        verify(curriculumSubjectLookupPort, times(0)).findById(any());
+    }
+
+    private static GroupSubjectOffering offering(UUID groupId, UUID curriculumSubjectId) {
+        return GroupSubjectOffering.builder()
+                .id(UUID.randomUUID())
+                .groupId(groupId)
+                .curriculumSubjectId(curriculumSubjectId)
+                .build();
+    }
+
+    private static OfferingSlot slot(UUID offeringId, int dayOfWeek) {
+        return OfferingSlot.builder()
+                .id(UUID.randomUUID())
+                .offeringId(offeringId)
+                .dayOfWeek(dayOfWeek)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(10, 30))
+                .lessonType("LECTURE")
+                .build();
+    }
+
+    private static CurriculumSubjectDto curriculumSubject(int semesterNo, int durationWeeks) {
+        return new CurriculumSubjectDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), semesterNo, 1,
+                durationWeeks, null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+}
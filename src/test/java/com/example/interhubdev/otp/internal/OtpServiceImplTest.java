@@ -11,14 +11,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -34,15 +39,17 @@ class OtpServiceImplTest {
     @Mock
     private StringRedisTemplate redisTemplate;
 
-    @Mock
-    private ValueOperations<String, String> valueOps;
-
     @Mock
     private OtpProperties properties;
 
     @InjectMocks
     private OtpServiceImpl otpService;
 
+    /** Stub the single script call of create/verify with the given script result. */
+    private void scriptReturns(Long result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(result);
+    }
+
     @Nested
     @DisplayName("create")
     class Create {
@@ -50,8 +57,7 @@ class OtpServiceImplTest {
         @Test
         @DisplayName("returns plain code and expiresAt when rate limit not set")
         void success() {
-            when(redisTemplate.opsForValue()).thenReturn(valueOps);
-            when(redisTemplate.hasKey(anyString())).thenReturn(false);
+            scriptReturns(1L);
             when(properties.getDefaultTtlMinutes()).thenReturn(15);
             when(properties.getDefaultCodeLength()).thenReturn(6);
             when(properties.getMinRateLimitSeconds()).thenReturn(60);
@@ -79,7 +85,7 @@ class OtpServiceImplTest {
         @Test
         @DisplayName("throws when rate limit key exists")
         void rateLimit() {
-            when(redisTemplate.hasKey(anyString())).thenReturn(true);
+            scriptReturns(0L);
 
             assertThatThrownBy(() -> otpService.create(PURPOSE, SUBJECT, OtpOptions.defaults()))
                     .isInstanceOf(AppException.class)
@@ -101,9 +107,8 @@ class OtpServiceImplTest {
         @Test
         @DisplayName("returns false when no OTP stored")
         void noStoredOtp() {
-            when(redisTemplate.opsForValue()).thenReturn(valueOps);
             when(properties.getMaxVerifyAttempts()).thenReturn(5);
-            when(valueOps.get(anyString())).thenReturn(null);
+            scriptReturns(0L);
 
             boolean ok = otpService.verifyAndConsume(PURPOSE, SUBJECT, "123456");
             assertThat(ok).isFalse();
@@ -112,16 +117,9 @@ class OtpServiceImplTest {
         @Test
         @DisplayName("returns false when code does not match")
         void wrongCode() {
-            when(redisTemplate.opsForValue()).thenReturn(valueOps);
             when(properties.getMaxVerifyAttempts()).thenReturn(5);
-            // Stored hash is for a different code
-            when(valueOps.get(anyString())).thenAnswer(inv -> {
-                String key = inv.getArgument(0);
-                if (key != null && key.contains("otp:data:")) {
-                    return "a1b2c3d4e5f6"; // any non-matching hash
-                }
-                return "0";
-            });
+            // Script compared the hash against a different stored code and counted the attempt
+            scriptReturns(0L);
 
             boolean ok = otpService.verifyAndConsume(PURPOSE, SUBJECT, "000000");
             assertThat(ok).isFalse();
@@ -129,26 +127,47 @@ class OtpServiceImplTest {
 
         @Test
         @DisplayName("returns true and consumes when code matches")
+        @SuppressWarnings("unchecked")
         void success() {
-            when(redisTemplate.opsForValue()).thenReturn(valueOps);
-            when(redisTemplate.delete(anyString())).thenReturn(Boolean.TRUE);
             when(properties.getMaxVerifyAttempts()).thenReturn(5);
-            // SHA-256("123456") in hex — stored hash returned for data key; null for attempts key
-            String dataKeyPrefix = "otp:data:" + PURPOSE + ":";
-            String attemptsKeyPrefix = "otp:attempts:" + PURPOSE + ":";
-            when(valueOps.get(anyString())).thenAnswer(inv -> {
-                String key = inv.getArgument(0);
-                if (key != null && key.startsWith(dataKeyPrefix)) {
-                    return "8d969eef6ecad3c29a3a629280e686cf0c3f5d5a86aff3ca12020c923adc6c92";
-                }
-                if (key != null && key.startsWith(attemptsKeyPrefix)) {
-                    return null;
-                }
-                return null;
-            });
+            when(properties.getAttemptsWindowMinutes()).thenReturn(15);
+            scriptReturns(1L);
 
             boolean ok = otpService.verifyAndConsume(PURPOSE, SUBJECT, "123456");
             assertThat(ok).isTrue();
+
+            // One round-trip: data and attempts keys, SHA-256("123456") in hex, limit and window
+            ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+            ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+            verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture(), args.capture(), args.capture());
+            assertThat(keys.getValue()).satisfiesExactly(
+                    key -> assertThat(key).startsWith("otp:data:" + PURPOSE + ":"),
+                    key -> assertThat(key).startsWith("otp:attempts:" + PURPOSE + ":"));
+            assertThat(args.getAllValues()).containsExactly(
+                    "8d969eef6ecad3c29a3a629280e686cf0c3f5d5a86aff3ca12020c923adc6c92", "5", "900");
+        }
+
+        @Test
+        @DisplayName("throws when max verify attempts reached")
+        void tooManyAttempts() {
+            when(properties.getMaxVerifyAttempts()).thenReturn(5);
+            scriptReturns(-1L);
+
+            assertThatThrownBy(() -> otpService.verifyAndConsume(PURPOSE, SUBJECT, "123456"))
+                    .isInstanceOf(AppException.class)
+                    .hasMessageContaining("Too many failed attempts");
+        }
+
+        @Test
+        @DisplayName("maps Redis connection failure to service unavailable")
+        void redisUnavailable() {
+            when(properties.getMaxVerifyAttempts()).thenReturn(5);
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                    .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+            assertThatThrownBy(() -> otpService.verifyAndConsume(PURPOSE, SUBJECT, "123456"))
+                    .isInstanceOf(AppException.class)
+                    .hasMessageContaining("temporarily unavailable");
         }
     }
 
@@ -0,0 +1,100 @@
+package com.example.interhubdev.outbox.internal;
+
+import com.example.interhubdev.outbox.OutboxEvent;
+import com.example.interhubdev.outbox.OutboxEventHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for per-handler completion of events with several handlers.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxProcessor handler completion")
+class OutboxProcessorHandlerCompletionTest {
+
+    private static final String TYPE = "test.multi";
+
+    @Mock
+    private OutboxEventRepository repository;
+    @Mock
+    private OutboxHandlerRegistry handlerRegistry;
+    @Mock
+    private OutboxEventMapper mapper;
+
+    @InjectMocks
+    private OutboxProcessor processor;
+
+    private final OutboxEventHandler projection = mock(OutboxEventHandler.class);
+    private final OutboxEventHandler notifier = mock(OutboxEventHandler.class);
+
+    @BeforeEach
+    void setUp() {
+        when(handlerRegistry.getHandlers(TYPE)).thenReturn(List.of(projection, notifier));
+        when(handlerRegistry.nameOf(projection)).thenReturn("projection");
+        when(handlerRegistry.nameOf(notifier)).thenReturn("notifier");
+        when(mapper.toDto(any())).thenAnswer(inv -> new OutboxEvent(UUID.randomUUID(), TYPE, Map.of(),
+                Instant.now(), Instant.now(), 0, null, null));
+    }
+
+    @Test
+    @DisplayName("records handlers that succeeded before another handler failed")
+    void recordsCompletedHandlersOnFailure() throws Exception {
+        OutboxEventEntity entity = event(0);
+        doThrow(new IllegalStateException("mail down")).when(notifier).handle(any());
+
+        processor.processEvents();
+
+        verify(projection).handle(any());
+        verify(repository).markHandlerCompleted(eq(entity.getId()), eq("projection"), any());
+        verify(repository, never()).markHandlerCompleted(eq(entity.getId()), eq("notifier"), any());
+        verify(repository).markFailed(eq(entity.getId()), anyString(), anyInt(), any());
+        verify(repository, never()).findCompletedHandlers(any());
+    }
+
+    @Test
+    @DisplayName("skips handlers that completed in an earlier attempt and clears the records when done")
+    void skipsCompletedHandlersOnRetry() throws Exception {
+        OutboxEventEntity entity = event(1);
+        when(repository.findCompletedHandlers(entity.getId())).thenReturn(List.of("projection"));
+
+        processor.processEvents();
+
+        verify(projection, never()).handle(any());
+        verify(notifier).handle(any());
+        verify(repository).deleteHandlerCompletions(entity.getId());
+        verify(repository).markDone(eq(entity.getId()), any());
+    }
+
+    private OutboxEventEntity event(int attempts) {
+        OutboxEventEntity entity = OutboxEventEntity.builder()
+                .id(UUID.randomUUID())
+                .eventType(TYPE)
+                .payloadJson("{}")
+                .occurredAt(Instant.now())
+                .status(OutboxEventStatus.PROCESSING)
+                .attempts(attempts)
+                .build();
+        when(repository.lockNextBatch(anyInt(), any())).thenReturn(List.of(entity));
+        return entity;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.error.AppException;
+import com.example.interhubdev.schedule.OfferingLookupPort;
+import com.example.interhubdev.schedule.SemesterLookupPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingConflictService")
+class BookingConflictServiceTest {
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(?)";
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 1);
+    private static final LocalTime START = LocalTime.of(10, 0);
+    private static final LocalTime END = LocalTime.of(11, 30);
+
+    @Mock
+    private LessonRepository lessonRepository;
+
+    @Mock
+    private OfferingLookupPort offeringLookupPort;
+
+    @Mock
+    private SemesterLookupPort semesterLookupPort;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private BookingConflictService service;
+
+    private final UUID offeringId = UUID.randomUUID();
+    private final UUID teacherId = UUID.randomUUID();
+    private final UUID roomId = UUID.randomUUID();
+    private final Map<UUID, UUID> offeringTeachers = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new BookingConflictService(lessonRepository, offeringLookupPort, semesterLookupPort, jdbcTemplate);
+        offeringTeachers.put(offeringId, teacherId);
+        when(offeringLookupPort.findTeacherIdsByOfferingIds(anyCollection())).thenAnswer(inv -> {
+            Map<UUID, UUID> found = new HashMap<>();
+            for (Object id : inv.getArgument(0, Collection.class)) {
+                if (offeringTeachers.containsKey(id)) {
+                    found.put((UUID) id, offeringTeachers.get(id));
+                }
+            }
+            return found;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("locks room and teacher of the date before querying stored lessons, and reports a room overlap")
+    void roomConflictUnderLocks() {
+        UUID other = UUID.randomUUID();
+        when(lessonRepository.findBookingsOverlapping(DATE, START, END))
+                .thenReturn(List.<Object[]>of(new Object[]{other, UUID.randomUUID(), null, roomId}));
+
+        assertThatThrownBy(() -> service.assertNoConflict(null, offeringId, null, DATE, START, END, roomId))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("Room " + roomId)
+                .hasMessageContaining(other.toString());
+
+        InOrder order = inOrder(jdbcTemplate, lessonRepository);
+        order.verify(jdbcTemplate, times(2)).query(eq(LOCK_SQL), any(RowCallbackHandler.class), any(Object.class));
+        order.verify(lessonRepository).findBookingsOverlapping(DATE, START, END);
+    }
+
+    @Test
+    @DisplayName("reports a teacher overlap through the slot teacher of another offering's lesson")
+    void teacherConflictViaSlotTeacher() {
+        UUID other = UUID.randomUUID();
+        UUID otherOffering = UUID.randomUUID();
+        UUID otherSlot = UUID.randomUUID();
+        when(lessonRepository.findBookingsOverlapping(DATE, START, END))
+                .thenReturn(List.<Object[]>of(new Object[]{other, otherOffering, otherSlot, UUID.randomUUID()}));
+        when(offeringLookupPort.findTeacherIdsBySlotIds(anyCollection())).thenReturn(Map.of(otherSlot, teacherId));
+
+        assertThatThrownBy(() -> service.assertNoConflict(null, offeringId, null, DATE, START, END, roomId))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("Teacher " + teacherId)
+                .hasMessageContaining(other.toString());
+    }
+
+    @Test
+    @DisplayName("ignores the updated lesson itself and lessons of other rooms and teachers")
+    void ignoresOwnAndUnrelatedLessons() {
+        UUID self = UUID.randomUUID();
+        UUID otherOffering = UUID.randomUUID();
+        when(lessonRepository.findBookingsOverlapping(DATE, START, END)).thenReturn(List.of(
+                new Object[]{self, offeringId, null, roomId},
+                new Object[]{UUID.randomUUID(), otherOffering, null, UUID.randomUUID()}));
+        offeringTeachers.put(otherOffering, UUID.randomUUID());
+
+        assertThatCode(() -> service.assertNoConflict(self, offeringId, null, DATE, START, END, roomId))
+                .doesNotThrowAnyException();
+    }
+}
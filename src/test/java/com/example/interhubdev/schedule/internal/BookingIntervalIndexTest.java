@@ -0,0 +1,71 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.schedule.BookingConflictType;
+import com.example.interhubdev.schedule.internal.BookingIntervalIndex.Booking;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookingIntervalIndex")
+class BookingIntervalIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 9, 1);
+    private final UUID roomId = UUID.randomUUID();
+    private final BookingIntervalIndex index = new BookingIntervalIndex(DATE, DATE.plusDays(6));
+
+    @Test
+    @DisplayName("finds overlapping bookings, including a long earlier one, but not adjacent ones")
+    void findsOverlaps() {
+        Booking longMorning = booking(8, 0, 12, 0);
+        Booking adjacent = booking(12, 0, 13, 30);
+        index.add(BookingConflictType.ROOM, roomId, DATE, longMorning);
+        index.add(BookingConflictType.ROOM, roomId, DATE, booking(9, 0, 9, 45));
+        index.add(BookingConflictType.ROOM, roomId, DATE, adjacent);
+
+        assertThat(index.findOverlaps(BookingConflictType.ROOM, roomId, DATE, LocalTime.of(11, 0), LocalTime.of(12, 0), null))
+                .containsExactly(longMorning);
+        assertThat(index.findOverlaps(BookingConflictType.ROOM, roomId, DATE, LocalTime.of(13, 30), LocalTime.of(15, 0), null))
+                .isEmpty();
+        assertThat(index.findOverlaps(BookingConflictType.TEACHER, roomId, DATE, LocalTime.of(8, 0), LocalTime.of(9, 0), null))
+                .isEmpty();
+        assertThat(index.findOverlaps(BookingConflictType.ROOM, roomId, DATE.plusDays(1), LocalTime.of(8, 0), LocalTime.of(9, 0), null))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("excludes the lesson itself and forgets removed lessons")
+    void excludesAndRemoves() {
+        Booking lesson = booking(10, 0, 11, 30);
+        index.add(BookingConflictType.ROOM, roomId, DATE, lesson);
+
+        assertThat(index.findOverlaps(BookingConflictType.ROOM, roomId, DATE, LocalTime.of(10, 0), LocalTime.of(11, 0), lesson.lessonId()))
+                .isEmpty();
+        index.remove(lesson.lessonId());
+        assertThat(index.findOverlaps(BookingConflictType.ROOM, roomId, DATE, LocalTime.of(10, 0), LocalTime.of(11, 0), null))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("reports every overlapping pair once")
+    void reportsAllOverlapsOnce() {
+        Booking first = booking(9, 0, 10, 30);
+        Booking second = booking(10, 0, 11, 30);
+        Booking sameStart = booking(9, 0, 9, 45);
+        index.add(BookingConflictType.ROOM, roomId, DATE, first);
+        index.add(BookingConflictType.ROOM, roomId, DATE, second);
+        index.add(BookingConflictType.ROOM, roomId, DATE, sameStart);
+        index.add(BookingConflictType.ROOM, roomId, DATE, booking(12, 0, 13, 0));
+
+        assertThat(index.findAllOverlaps()).hasSize(2)
+                .allMatch(o -> o.type() == BookingConflictType.ROOM && o.resourceId().equals(roomId));
+    }
+
+    private static Booking booking(int startHour, int startMinute, int endHour, int endMinute) {
+        return new Booking(UUID.randomUUID(), null, LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+    }
+}
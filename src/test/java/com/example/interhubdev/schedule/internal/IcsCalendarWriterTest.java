@@ -0,0 +1,62 @@
+package com.example.interhubdev.schedule.internal;
+
+import com.example.interhubdev.schedule.LessonDto;
+import com.example.interhubdev.schedule.LessonForScheduleDto;
+import com.example.interhubdev.schedule.RoomSummaryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IcsCalendarWriter")
+class IcsCalendarWriterTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Moscow");
+
+    @Test
+    @DisplayName("renders a lesson as a VEVENT in UTC with escaped text")
+    void rendersEvent() {
+        UUID lessonId = UUID.randomUUID();
+        LessonDto lesson = new LessonDto(lessonId, UUID.randomUUID(), null, LocalDate.of(2025, 9, 1),
+                LocalTime.of(9, 0), LocalTime.of(10, 30), null, null, "Sets; maps, graphs", "CANCELLED",
+                LocalDateTime.of(2025, 8, 20, 12, 0), LocalDateTime.of(2025, 8, 25, 15, 30));
+        LessonForScheduleDto dto = new LessonForScheduleDto(lesson, null, null, List.of(),
+                new RoomSummaryDto(UUID.randomUUID(), "101", "Main"), null, "Discrete math", null);
+
+        String event = IcsCalendarWriter.event(dto, ZONE);
+
+        assertThat(event).startsWith("BEGIN:VEVENT\r\n").endsWith("END:VEVENT\r\n");
+        assertThat(event).contains("UID:" + lessonId + "@interhubdev\r\n");
+        assertThat(event).contains("DTSTART:20250901T060000Z\r\n", "DTEND:20250901T073000Z\r\n");
+        assertThat(event).contains("DTSTAMP:20250825T123000Z\r\n");
+        assertThat(event).contains("SUMMARY:Discrete math\r\n", "LOCATION:Main\\, 101\r\n");
+        assertThat(event).contains("DESCRIPTION:Topic: Sets\\; maps\\, graphs\r\n");
+        assertThat(event).contains("STATUS:CANCELLED\r\n");
+    }
+
+    @Test
+    @DisplayName("folds long lines at 75 octets without splitting multi-byte characters")
+    void foldsLongLines() {
+        StringBuilder out = new StringBuilder();
+        IcsCalendarWriter.line(out, "SUMMARY:" + "Лекция ".repeat(20));
+
+        String[] lines = out.toString().split("\r\n");
+        assertThat(lines).hasSizeGreaterThan(1);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(lines[i].getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+            if (i > 0) {
+                assertThat(lines[i]).startsWith(" ");
+            }
+        }
+        String unfolded = out.toString().replace("\r\n ", "");
+        assertThat(unfolded).isEqualTo("SUMMARY:" + "Лекция ".repeat(20) + "\r\n");
+    }
+}
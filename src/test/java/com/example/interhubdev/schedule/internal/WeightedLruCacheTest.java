@@ -0,0 +1,61 @@
+package com.example.interhubdev.schedule.internal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeightedLruCache")
+class WeightedLruCacheTest {
+
+    private final List<String> evicted = new ArrayList<>();
+    private final WeightedLruCache<String, AtomicLong> cache =
+            new WeightedLruCache<>(100, AtomicLong::get, (key, value) -> evicted.add(key));
+
+    @Test
+    @DisplayName("evicts least recently used entries once the total weight exceeds the budget")
+    void evictsByWeightInAccessOrder() {
+        cache.putIfAbsent("a", new AtomicLong(40));
+        cache.putIfAbsent("b", new AtomicLong(40));
+        cache.get("a");
+        cache.putIfAbsent("c", new AtomicLong(40));
+
+        assertThat(evicted).containsExactly("b");
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.weight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("takes a grown value's weight on reweigh and keeps that entry even if it alone is over budget")
+    void reweighKeepsGrownEntry() {
+        AtomicLong grows = new AtomicLong(10);
+        cache.putIfAbsent("a", new AtomicLong(30));
+        cache.putIfAbsent("b", grows);
+        grows.set(150);
+        cache.reweigh("b");
+
+        assertThat(evicted).containsExactly("a");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.weight()).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("returns the present value instead of replacing it, and removes without notifying")
+    void putIfAbsentAndRemove() {
+        AtomicLong first = new AtomicLong(10);
+        assertThat(cache.putIfAbsent("a", first)).isNull();
+        assertThat(cache.putIfAbsent("a", new AtomicLong(20))).isSameAs(first);
+
+        cache.remove("a");
+        cache.reweigh("a");
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.weight()).isZero();
+        assertThat(evicted).isEmpty();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.interhubdev.student.internal;
+
+import com.example.interhubdev.student.GroupMembershipImportResult;
+import com.example.interhubdev.student.GroupMembershipRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupMembershipImporter")
+class GroupMembershipImporterTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+    @Mock
+    private StudentGroupMemberRepository memberRepository;
+    @Mock
+    private StudentGroupMemberBatchWriter batchWriter;
+    @InjectMocks
+    private GroupMembershipImporter importer;
+
+    @Test
+    @DisplayName("inserts only the delta and reports unknown students per row")
+    void insertsDeltaAndReportsUnknownStudents() {
+        UUID groupId = UUID.randomUUID();
+        UUID existingMember = UUID.randomUUID();
+        UUID newMember = UUID.randomUUID();
+        UUID byNumber = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        List<GroupMembershipRow> rows = List.of(
+                GroupMembershipRow.byId(1, existingMember, groupId),
+                GroupMembershipRow.byId(2, newMember, groupId),
+                GroupMembershipRow.byId(3, unknown, groupId),
+                GroupMembershipRow.byNumber(4, "S-100", groupId),
+                GroupMembershipRow.byId(5, newMember, groupId),
+                GroupMembershipRow.byNumber(6, "S-404", groupId)
+        );
+        when(studentRepository.findExistingIds(anyCollection())).thenReturn(List.of(existingMember, newMember));
+        when(studentRepository.findIdsByStudentNumbers(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{"S-100", byNumber}));
+        when(memberRepository.findPairs(anyCollection(), anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{existingMember, groupId}));
+        when(batchWriter.insertIgnoringExisting(anyList())).thenReturn(2);
+
+        GroupMembershipImportResult result = importer.importRows(rows);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StudentGroupMemberBatchWriter.Membership>> captor = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).insertIgnoringExisting(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new StudentGroupMemberBatchWriter.Membership(newMember, groupId),
+                new StudentGroupMemberBatchWriter.Membership(byNumber, groupId));
+        assertThat(result.total()).isEqualTo(6);
+        assertThat(result.added()).isEqualTo(2);
+        assertThat(result.alreadyMember()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors()).extracting(GroupMembershipImportResult.RowError::row).containsExactly(3, 6);
+        assertThat(result.errors()).extracting(GroupMembershipImportResult.RowError::code)
+                .containsOnly(GroupMembershipImportResult.CODE_STUDENT_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("empty input does not touch the database")
+    void emptyInput() {
+        GroupMembershipImportResult result = importer.importRows(List.of());
+
+        assertThat(result.total()).isZero();
+        verifyNoInteractions(studentRepository, memberRepository, batchWriter);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.interhubdev.student.internal;
+
+import com.example.interhubdev.student.StudentDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupRosterCache")
+class GroupRosterCacheTest {
+
+    private static final UUID GROUP_ID = UUID.randomUUID();
+
+    @Mock
+    private RosterInvalidationBus invalidationBus;
+
+    private final StudentDto student = new StudentDto(UUID.randomUUID(), UUID.randomUUID(), "S-1", null,
+            null, null, null, null, null, null);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Supplier<List<StudentDto>> loader = () -> {
+        loads.incrementAndGet();
+        return List.of(student);
+    };
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("serves the cached roster until the group is invalidated")
+    void cachesUntilInvalidated() {
+        GroupRosterCache cache = new GroupRosterCache(invalidationBus, Duration.ofMinutes(15), 100, Clock.systemUTC());
+
+        GroupRosterCache.Roster first = cache.get(GROUP_ID, loader);
+        GroupRosterCache.Roster second = cache.get(GROUP_ID, loader);
+        assertThat(second).isSameAs(first);
+        assertThat(first.studentIds()).containsExactly(student.id());
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate(List.of(GROUP_ID));
+        cache.get(GROUP_ID, loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("reloads entries older than the TTL")
+    void expiresAfterTtl() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-09-01T08:00:00Z"));
+        GroupRosterCache cache = new GroupRosterCache(invalidationBus, Duration.ofMinutes(15), 100, clock);
+
+        cache.get(GROUP_ID, loader);
+        clock.now = clock.now.plus(Duration.ofMinutes(16));
+        cache.get(GROUP_ID, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("does not serve a roster loaded while the group was being changed")
+    void dropsRosterLoadedDuringWrite() {
+        GroupRosterCache cache = new GroupRosterCache(invalidationBus, Duration.ofMinutes(15), 100, Clock.systemUTC());
+
+        cache.get(GROUP_ID, () -> {
+            cache.invalidate(List.of(GROUP_ID));
+            return loader.get();
+        });
+        cache.get(GROUP_ID, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("bypasses the cache for groups changed in the current transaction and publishes on completion")
+    void invalidatesAfterTransactionCompletion() {
+        GroupRosterCache cache = new GroupRosterCache(invalidationBus, Duration.ofMinutes(15), 100, Clock.systemUTC());
+        cache.get(GROUP_ID, loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.groupsChanged(List.of(GROUP_ID));
+        cache.get(GROUP_ID, loader);
+        cache.get(GROUP_ID, loader);
+        assertThat(loads).hasValue(3);
+        verifyNoInteractions(invalidationBus);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        verify(invalidationBus).publish(Set.of(GROUP_ID));
+        cache.get(GROUP_ID, loader);
+        cache.get(GROUP_ID, loader);
+        assertThat(loads).hasValue(4);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.interhubdev.submission.internal;
+
+import com.example.interhubdev.error.AppException;
+import com.example.interhubdev.fileasset.FileAssetApi;
+import com.example.interhubdev.fileasset.FileAssetStatus;
+import com.example.interhubdev.fileasset.FileAssetView;
+import com.example.interhubdev.submission.SubmissionsArchiveJobDto;
+import com.example.interhubdev.submission.SubmissionsArchiveJobStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SubmissionArchiveJobService: reuse of the live archive, rebuild of expired archives,
+ * status mapping and download guard.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmissionArchiveJobService")
+class SubmissionArchiveJobServiceTest {
+
+    private static final UUID HOMEWORK_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID ASSET_ID = UUID.randomUUID();
+
+    @Mock
+    private SubmissionArchiveJobRepository jobRepository;
+
+    @Mock
+    private FileAssetApi fileAssetApi;
+
+    @InjectMocks
+    private SubmissionArchiveJobService service;
+
+    @Test
+    @DisplayName("request returns the ready archive without queueing a build")
+    void requestReusesReadyArchive() {
+        SubmissionArchiveJob ready = job(SubmissionArchiveJob.State.READY, ASSET_ID);
+        when(jobRepository.findLiveByHomeworkId(HOMEWORK_ID)).thenReturn(Optional.of(ready));
+        assetWithStatus(FileAssetStatus.ACTIVE);
+
+        SubmissionsArchiveJobDto dto = service.request(HOMEWORK_ID, USER_ID);
+
+        assertThat(dto.id()).isEqualTo(ready.getId());
+        assertThat(dto.status()).isEqualTo(SubmissionsArchiveJobStatus.READY);
+        assertThat(dto.filename()).isEqualTo("Math - HW1 - 2026-02-01.zip");
+        assertThat(dto.sizeBytes()).isEqualTo(1024L);
+        verify(jobRepository, never()).insertPendingIfNoLiveJob(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("request marks an archive whose stored file expired as stale and queues a new build")
+    void requestRebuildsExpiredArchive() {
+        SubmissionArchiveJob expired = job(SubmissionArchiveJob.State.READY, ASSET_ID);
+        SubmissionArchiveJob pending = job(SubmissionArchiveJob.State.PENDING, null);
+        when(jobRepository.findLiveByHomeworkId(HOMEWORK_ID)).thenReturn(Optional.of(expired), Optional.of(pending));
+        assetWithStatus(FileAssetStatus.EXPIRED);
+
+        SubmissionsArchiveJobDto dto = service.request(HOMEWORK_ID, USER_ID);
+
+        assertThat(expired.getStatus()).isEqualTo(SubmissionArchiveJob.State.STALE);
+        verify(jobRepository).saveAndFlush(expired);
+        verify(jobRepository).insertPendingIfNoLiveJob(any(), eq(HOMEWORK_ID), eq(USER_ID), any());
+        assertThat(dto.id()).isEqualTo(pending.getId());
+        assertThat(dto.status()).isEqualTo(SubmissionsArchiveJobStatus.BUILDING);
+    }
+
+    @Test
+    @DisplayName("archive stored but not yet activated is still reported as building")
+    void readyJobWithProcessingAssetIsBuilding() {
+        assetWithStatus(FileAssetStatus.PROCESSING);
+
+        SubmissionsArchiveJobDto dto = service.toDto(job(SubmissionArchiveJob.State.READY, ASSET_ID));
+
+        assertThat(dto.status()).isEqualTo(SubmissionsArchiveJobStatus.BUILDING);
+        assertThat(dto.filename()).isNull();
+        assertThat(dto.sizeBytes()).isNull();
+    }
+
+    @Test
+    @DisplayName("download of an archive that is not ready is rejected")
+    void openDownloadRejectsNotReady() {
+        SubmissionArchiveJob stale = job(SubmissionArchiveJob.State.STALE, ASSET_ID);
+
+        assertThatThrownBy(() -> service.openDownloadSource(stale))
+            .isInstanceOf(AppException.class)
+            .extracting(e -> ((AppException) e).getCode())
+            .isEqualTo(SubmissionErrors.CODE_ARCHIVE_NOT_READY);
+        verify(fileAssetApi, never()).openDownloadSource(any());
+    }
+
+    private void assetWithStatus(FileAssetStatus status) {
+        FileAssetView asset = mock(FileAssetView.class);
+        when(asset.status()).thenReturn(status);
+        when(fileAssetApi.get(ASSET_ID)).thenReturn(Optional.of(asset));
+    }
+
+    private static SubmissionArchiveJob job(SubmissionArchiveJob.State state, UUID fileAssetId) {
+        return SubmissionArchiveJob.builder()
+            .id(UUID.randomUUID())
+            .homeworkId(HOMEWORK_ID)
+            .status(state)
+            .requestedBy(USER_ID)
+            .attempts(state == SubmissionArchiveJob.State.PENDING ? 0 : 1)
+            .fileAssetId(fileAssetId)
+            .filename(fileAssetId != null ? "Math - HW1 - 2026-02-01.zip" : null)
+            .sizeBytes(fileAssetId != null ? 1024L : null)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
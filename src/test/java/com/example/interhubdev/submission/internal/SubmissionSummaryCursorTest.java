@@ -0,0 +1,48 @@
+package com.example.interhubdev.submission.internal;
+
+import com.example.interhubdev.error.AppException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SubmissionSummaryCursor: opaque keyset token round trip and validation.
+ */
+@DisplayName("SubmissionSummaryCursor")
+class SubmissionSummaryCursorTest {
+
+    @Test
+    @DisplayName("decodes what it encodes, keeping microsecond precision")
+    void roundTrip() {
+        SubmissionSummaryCursor cursor = new SubmissionSummaryCursor(
+            LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "/", "+", "=");
+        assertThat(SubmissionSummaryCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("null or blank token means first page")
+    void emptyTokenIsFirstPage() {
+        assertThat(SubmissionSummaryCursor.decode(null)).isNull();
+        assertThat(SubmissionSummaryCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("rejects malformed tokens with a validation error")
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> SubmissionSummaryCursor.decode("not a cursor!"))
+            .isInstanceOf(AppException.class)
+            .extracting(e -> ((AppException) e).getCode())
+            .isEqualTo(SubmissionErrors.CODE_VALIDATION_FAILED);
+        assertThatThrownBy(() -> SubmissionSummaryCursor.decode("MjAyNi0wMy0xNA"))
+            .isInstanceOf(AppException.class);
+    }
+}
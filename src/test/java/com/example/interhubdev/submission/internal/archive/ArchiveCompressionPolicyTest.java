@@ -0,0 +1,47 @@
+package com.example.interhubdev.submission.internal.archive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ArchiveCompressionPolicy: already-compressed formats are stored, the rest deflated.
+ */
+@DisplayName("ArchiveCompressionPolicy")
+class ArchiveCompressionPolicyTest {
+
+    @Test
+    @DisplayName("stores already-compressed formats recognised by extension")
+    void storesCompressedExtensions() {
+        assertThat(ArchiveCompressionPolicy.methodFor(entry("pdf", null))).isEqualTo(ArchiveCompressionPolicy.Method.STORE);
+        assertThat(ArchiveCompressionPolicy.methodFor(entry("DOCX", null))).isEqualTo(ArchiveCompressionPolicy.Method.STORE);
+        assertThat(ArchiveCompressionPolicy.methodFor(entry(".jpg", null))).isEqualTo(ArchiveCompressionPolicy.Method.STORE);
+    }
+
+    @Test
+    @DisplayName("declared content type takes precedence over the extension")
+    void contentTypeWins() {
+        assertThat(ArchiveCompressionPolicy.methodFor(entry("bin", "video/mp4; codecs=avc1")))
+            .isEqualTo(ArchiveCompressionPolicy.Method.STORE);
+        assertThat(ArchiveCompressionPolicy.methodFor(entry("png", "image/svg+xml")))
+            .isEqualTo(ArchiveCompressionPolicy.Method.DEFLATE);
+    }
+
+    @Test
+    @DisplayName("deflates text and unknown formats")
+    void deflatesCompressible() {
+        assertThat(ArchiveCompressionPolicy.methodFor(entry("txt", "text/plain"))).isEqualTo(ArchiveCompressionPolicy.Method.DEFLATE);
+        assertThat(ArchiveCompressionPolicy.methodFor(entry("java", "application/octet-stream")))
+            .isEqualTo(ArchiveCompressionPolicy.Method.DEFLATE);
+        assertThat(ArchiveCompressionPolicy.methodFor(entry("", null))).isEqualTo(ArchiveCompressionPolicy.Method.DEFLATE);
+    }
+
+    private static ArchiveEntry entry(String extension, String contentType) {
+        return new ArchiveEntry(UUID.randomUUID(), "S", "H", LocalDate.of(2025, 1, 1),
+            UUID.randomUUID(), "file", extension, contentType, 0);
+    }
+}
@@ -93,6 +93,7 @@ class ArchiveNamingServiceTest {
                 java.util.UUID.randomUUID(),
                 "file.pdf",
                 "pdf",
+                "application/pdf",
                 0
             );
             String name = ArchiveNamingService.buildEntryFilename(entry);
@@ -114,6 +115,7 @@ class ArchiveNamingServiceTest {
                 java.util.UUID.randomUUID(),
                 "a.pdf",
                 "pdf",
+                "application/pdf",
                 2
             );
             String name = ArchiveNamingService.buildEntryFilename(entry);
@@ -132,6 +134,7 @@ class ArchiveNamingServiceTest {
                 java.util.UUID.randomUUID(),
                 "file",
                 "",
+                null,
                 0
             );
             String name = ArchiveNamingService.buildEntryFilename(entry);
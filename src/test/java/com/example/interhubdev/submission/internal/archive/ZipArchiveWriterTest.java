@@ -9,6 +9,10 @@ import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.zip.ZipInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -19,15 +23,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("ZipArchiveWriter")
 class ZipArchiveWriterTest {
 
+    private static final ExecutorService PREFETCH = Executors.newFixedThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "test-archive-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Test
     @DisplayName("writes valid ZIP with expected entry names")
     void writesValidZipWithEntryNames() throws IOException {
         ArchiveInfo info = new ArchiveInfo("Math", "HW1", LocalDate.of(2025, 2, 21));
         UUID studentId = UUID.randomUUID();
         ArchiveEntry e1 = new ArchiveEntry(studentId, "Ivanov", "HW1", LocalDate.of(2025, 2, 21),
-            UUID.randomUUID(), "a.pdf", "pdf", 0);
+            UUID.randomUUID(), "a.pdf", "pdf", "application/pdf", 0);
         ArchiveEntry e2 = new ArchiveEntry(studentId, "Ivanov", "HW1", LocalDate.of(2025, 2, 21),
-            UUID.randomUUID(), "b.pdf", "pdf", 1);
+            UUID.randomUUID(), "b.pdf", "pdf", "application/pdf", 1);
 
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         ZipArchiveWriter.write(out, info, List.of(e1, e2), entry -> {
@@ -45,7 +55,7 @@ class ZipArchiveWriterTest {
                     return -1;
                 }
             };
-        });
+        }, PREFETCH);
 
         byte[] zipBytes = out.toByteArray();
         assertThat(zipBytes.length).isGreaterThan(0);
@@ -70,13 +80,162 @@ class ZipArchiveWriterTest {
     void skipsEntryWhenStreamNull() throws IOException {
         ArchiveInfo info = new ArchiveInfo("S", "H", LocalDate.of(2025, 1, 1));
         ArchiveEntry entry = new ArchiveEntry(UUID.randomUUID(), "N", "H", LocalDate.of(2025, 1, 1),
-            UUID.randomUUID(), "f", "txt", 0);
+            UUID.randomUUID(), "f", "txt", null, 0);
 
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        ZipArchiveWriter.write(out, info, List.of(entry), e -> null);
+        ZipArchiveWriter.write(out, info, List.of(entry), e -> null, PREFETCH);
+
+        try (ZipInputStream zis = new ZipInputStream(new java.io.ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(zis.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("keeps entry order and content when entries are fetched ahead concurrently")
+    void keepsOrderAndContentWithPrefetch() throws IOException {
+        ArchiveInfo info = new ArchiveInfo("S", "H", LocalDate.of(2025, 1, 1));
+        List<ArchiveEntry> entries = java.util.stream.IntStream.range(0, 6)
+            .mapToObj(i -> new ArchiveEntry(UUID.randomUUID(), "N" + i, "H", LocalDate.of(2025, 1, 1),
+                UUID.randomUUID(), "f" + i, "bin", null, i))
+            .toList();
+        // Larger than the per-entry buffer, so fetches must wait for the writer to drain them.
+        int size = 300 * 1024;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ZipArchiveWriter.write(out, info, entries, entry -> {
+            try {
+                Thread.sleep(entries.size() * 5L - entry.fileIndex() * 5L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] content = new byte[size];
+            java.util.Arrays.fill(content, (byte) entry.fileIndex());
+            return new java.io.ByteArrayInputStream(content);
+        }, new ZipArchiveWriter.Prefetch(3, 128 * 1024), PREFETCH);
+
+        try (ZipInputStream zis = new ZipInputStream(new java.io.ByteArrayInputStream(out.toByteArray()))) {
+            for (ArchiveEntry expected : entries) {
+                java.util.zip.ZipEntry ze = zis.getNextEntry();
+                assertThat(ze).isNotNull();
+                assertThat(ze.getName()).isEqualTo(ArchiveNamingService.buildEntryFilename(expected));
+                byte[] content = zis.readAllBytes();
+                assertThat(content).hasSize(size);
+                assertThat(content[size - 1]).isEqualTo((byte) expected.fileIndex());
+            }
+            assertThat(zis.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("skips entry when openStream throws and continues with the rest")
+    void skipsEntryWhenOpenFails() throws IOException {
+        ArchiveInfo info = new ArchiveInfo("S", "H", LocalDate.of(2025, 1, 1));
+        ArchiveEntry broken = new ArchiveEntry(UUID.randomUUID(), "A", "H", LocalDate.of(2025, 1, 1),
+            UUID.randomUUID(), "a", "txt", null, 0);
+        ArchiveEntry ok = new ArchiveEntry(UUID.randomUUID(), "B", "H", LocalDate.of(2025, 1, 1),
+            UUID.randomUUID(), "b", "txt", null, 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ZipArchiveWriter.write(out, info, List.of(broken, ok), entry -> {
+            if (entry.equals(broken)) {
+                throw new IllegalStateException("storage unavailable");
+            }
+            return new java.io.ByteArrayInputStream("hello".getBytes());
+        }, PREFETCH);
 
         try (ZipInputStream zis = new ZipInputStream(new java.io.ByteArrayInputStream(out.toByteArray()))) {
+            java.util.zip.ZipEntry ze = zis.getNextEntry();
+            assertThat(ze.getName()).isEqualTo(ArchiveNamingService.buildEntryFilename(ok));
+            assertThat(new String(zis.readAllBytes())).isEqualTo("hello");
             assertThat(zis.getNextEntry()).isNull();
         }
     }
+
+    @Test
+    @DisplayName("stores incompressible entries with CRC and deflates the rest")
+    void picksCompressionPerEntry() throws IOException {
+        assertCompressionPerEntry(PREFETCH);
+        // Entries the writer reads itself are encoded the same way.
+        assertCompressionPerEntry(runnable -> {
+            throw new RejectedExecutionException("saturated");
+        });
+    }
+
+    private static void assertCompressionPerEntry(Executor executor) throws IOException {
+        ArchiveInfo info = new ArchiveInfo("S", "H", LocalDate.of(2025, 1, 1));
+        ArchiveEntry pdf = new ArchiveEntry(UUID.randomUUID(), "A", "H", LocalDate.of(2025, 1, 1),
+            UUID.randomUUID(), "a.pdf", "pdf", "application/pdf", 0);
+        ArchiveEntry largePdf = new ArchiveEntry(UUID.randomUUID(), "B", "H", LocalDate.of(2025, 1, 1),
+            UUID.randomUUID(), "b.pdf", "pdf", "application/pdf", 0);
+        ArchiveEntry text = new ArchiveEntry(UUID.randomUUID(), "C", "H", LocalDate.of(2025, 1, 1),
+            UUID.randomUUID(), "c.txt", "txt", "text/plain", 0);
+        byte[] small = "%PDF-1.7 small".getBytes();
+        byte[] large = new byte[200 * 1024];
+        new java.util.Random(1).nextBytes(large);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ZipArchiveWriter.write(out, info, List.of(pdf, largePdf, text), entry -> {
+            if (entry.equals(pdf)) {
+                return new java.io.ByteArrayInputStream(small);
+            }
+            if (entry.equals(largePdf)) {
+                return new java.io.ByteArrayInputStream(large);
+            }
+            return new java.io.ByteArrayInputStream("hello hello hello".getBytes());
+        }, new ZipArchiveWriter.Prefetch(2, 128 * 1024), executor);
+
+        try (ZipInputStream zis = new ZipInputStream(new java.io.ByteArrayInputStream(out.toByteArray()))) {
+            java.util.zip.ZipEntry first = zis.getNextEntry();
+            assertThat(first.getMethod()).isEqualTo(java.util.zip.ZipEntry.STORED);
+            assertThat(zis.readAllBytes()).isEqualTo(small);
+
+            // Larger than the prefetch buffer: streamed as DEFLATE without compression.
+            java.util.zip.ZipEntry second = zis.getNextEntry();
+            assertThat(second.getMethod()).isEqualTo(java.util.zip.ZipEntry.DEFLATED);
+            assertThat(zis.readAllBytes()).isEqualTo(large);
+
+            java.util.zip.ZipEntry third = zis.getNextEntry();
+            assertThat(third.getMethod()).isEqualTo(java.util.zip.ZipEntry.DEFLATED);
+            assertThat(new String(zis.readAllBytes())).isEqualTo("hello hello hello");
+        }
+    }
+
+    @Test
+    @DisplayName("completes when the shared pool is saturated or rejects fetches")
+    void completesWithSaturatedPool() throws IOException {
+        ArchiveInfo info = new ArchiveInfo("S", "H", LocalDate.of(2025, 1, 1));
+        List<ArchiveEntry> entries = java.util.stream.IntStream.range(0, 5)
+            .mapToObj(i -> new ArchiveEntry(UUID.randomUUID(), "N" + i, "H", LocalDate.of(2025, 1, 1),
+                UUID.randomUUID(), "f" + i, "bin", null, i))
+            .toList();
+        int size = 300 * 1024;
+        java.util.function.Function<ArchiveEntry, InputStream> open = entry -> {
+            byte[] content = new byte[size];
+            java.util.Arrays.fill(content, (byte) entry.fileIndex());
+            return new java.io.ByteArrayInputStream(content);
+        };
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        Executor rejecting = runnable -> {
+            throw new RejectedExecutionException("saturated");
+        };
+        try {
+            for (Executor executor : List.of(singleThread, rejecting)) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ZipArchiveWriter.write(out, info, entries, open, new ZipArchiveWriter.Prefetch(3, 128 * 1024), executor);
+
+                try (ZipInputStream zis = new ZipInputStream(new java.io.ByteArrayInputStream(out.toByteArray()))) {
+                    for (ArchiveEntry expected : entries) {
+                        java.util.zip.ZipEntry ze = zis.getNextEntry();
+                        assertThat(ze.getName()).isEqualTo(ArchiveNamingService.buildEntryFilename(expected));
+                        byte[] content = zis.readAllBytes();
+                        assertThat(content).hasSize(size);
+                        assertThat(content[0]).isEqualTo((byte) expected.fileIndex());
+                    }
+                    assertThat(zis.getNextEntry()).isNull();
+                }
+            }
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
 }